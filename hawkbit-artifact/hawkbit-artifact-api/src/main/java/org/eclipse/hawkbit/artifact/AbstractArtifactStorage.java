@@ -82,6 +82,33 @@ public abstract class AbstractArtifactStorage implements ArtifactStorage {
         }
     }
 
+    @Override
+    public File createStagingFile() {
+        return createStoreTempFile();
+    }
+
+    @Override
+    public StoredArtifactInfo store(
+            final String tenant, final File file, final String contentType, final ArtifactHashes hashes,
+            final ArtifactHashes providedHashes) {
+        checkHashes(providedHashes, hashes.sha1(), hashes.md5(), hashes.sha256());
+        try {
+            final long fileSize = file.length(); // store could change (move) the file
+            if (existsBySha1(tenant, hashes.sha1())) {
+                deleteTempFile(file);
+            } else {
+                store(sanitizeTenant(tenant), hashes, contentType, file);
+                if (file.exists()) {
+                    deleteTempFile(file);
+                }
+            }
+            return new StoredArtifactInfo(contentType, fileSize, hashes);
+        } catch (final IOException e) {
+            // the file is kept, so the caller could retry
+            throw new ArtifactStoreException(e.getMessage(), e);
+        }
+    }
+
     protected static String sanitizeTenant(final String tenant) {
         return tenant.trim().toUpperCase();
     }
@@ -95,7 +122,7 @@ public abstract class AbstractArtifactStorage implements ArtifactStorage {
     }
 
     protected File storeTempFile(final InputStream content) throws IOException {
-        final File file = createTempFile(false);
+        final File file = createStoreTempFile();
         try (final OutputStream outputstream = new BufferedOutputStream(new FileOutputStream(file))) {
             content.transferTo(outputstream);
             outputstream.flush();
@@ -103,40 +130,63 @@ public abstract class AbstractArtifactStorage implements ArtifactStorage {
         return file;
     }
 
+    /**
+     * Creates the temp file the content is written to (while computing the hashes) before passed to
+     * {@link #store(String, ArtifactHashes, String, File)}. Implementations that move the temp file to its final location shall
+     * override it in order to create the temp file on the same file system - then the move is just a rename and the content is
+     * written to the disk only once.
+     *
+     * @return the temp file
+     */
+    protected File createStoreTempFile() {
+        return createTempFile(false);
+    }
+
     protected abstract void store(
             final String tenant, final ArtifactHashes base16Hashes, final String contentType, final File tempFile) throws IOException;
 
-    // java:S1066 - more readable with separate "if" statements
-    // java:S4042 - delete reason is not needed
-    @SuppressWarnings({ "java:S1066", "java:S4042" })
     public static File createTempFile(final boolean directory) {
         try {
-            final File file = (directory
+            return restrictToOwner((directory
                     ? Files.createTempDirectory(TEMP_FILE_PREFIX)
-                    : Files.createTempFile(TEMP_FILE_PREFIX, TEMP_FILE_SUFFIX)).toFile();
-            file.deleteOnExit();
-            if (!file.setReadable(true, true) || !file.setWritable(true, true)) {
-                if (file.delete()) { // try to delete immediately, if failed - on exit
-                    throw new IOException("Can't set proper permissions!");
-                } else {
-                    throw new IOException("Can't set proper permissions (failed to delete the file immediately(!");
-                }
-            }
-            // try, if not supported - ok
-            if (!file.setExecutable(false)) {
-                log.debug("Can't remove executable permissions for temp file {}", file);
-            }
-            if (directory) {
-                if (!file.setExecutable(true, true)) {
-                    log.debug("Can't set executable permissions for temp directory {} for the owner", file);
-                }
-            }
-            return file;
+                    : Files.createTempFile(TEMP_FILE_PREFIX, TEMP_FILE_SUFFIX)).toFile(), directory);
         } catch (final IOException e) {
             throw new ArtifactStoreException("Cannot create temp file", e);
         }
     }
 
+    /**
+     * Marks a newly created temp file or directory to be deleted on exit and restricts its permissions to the owner.
+     *
+     * @param file the temp file or directory
+     * @param directory if the file is a directory
+     * @return the file
+     * @throws IOException if the permissions could not be set (then the file is deleted)
+     */
+    // java:S1066 - more readable with separate "if" statements
+    // java:S4042 - delete reason is not needed
+    @SuppressWarnings({ "java:S1066", "java:S4042" })
+    protected static File restrictToOwner(final File file, final boolean directory) throws IOException {
+        file.deleteOnExit();
+        if (!file.setReadable(true, true) || !file.setWritable(true, true)) {
+            if (file.delete()) { // try to delete immediately, if failed - on exit
+                throw new IOException("Can't set proper permissions!");
+            } else {
+                throw new IOException("Can't set proper permissions (failed to delete the file immediately(!");
+            }
+        }
+        // try, if not supported - ok
+        if (!file.setExecutable(false)) {
+            log.debug("Can't remove executable permissions for temp file {}", file);
+        }
+        if (directory) {
+            if (!file.setExecutable(true, true)) {
+                log.debug("Can't set executable permissions for temp directory {} for the owner", file);
+            }
+        }
+        return file;
+    }
+
     private static void checkHashes(
             final ArtifactHashes providedHashes, final String sha1Hash16, final String md5Hash16, final String sha256Hash16) {
         if (providedHashes == null) {
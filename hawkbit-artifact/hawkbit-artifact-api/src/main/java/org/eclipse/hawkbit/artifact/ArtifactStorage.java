@@ -9,7 +9,12 @@
  */
 package org.eclipse.hawkbit.artifact;
 
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
 
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
@@ -42,6 +47,44 @@ public interface ArtifactStorage {
             @NotEmpty String tenant, @NotNull InputStream content, @NotEmpty String filename,
             String contentType, ArtifactHashes hash);
 
+    /**
+     * Creates a temp file to stage content that is stored later via {@link #store(String, File, String, ArtifactHashes, ArtifactHashes)},
+     * e.g. the chunks of a resumable upload. Implementations that move the file to its final location shall create it on the same file
+     * system, so the content is written to the disk only once.
+     *
+     * @return the temp file, readable and writable by the owner only
+     * @throws ArtifactStoreException if the file could not be created
+     */
+    default File createStagingFile() {
+        return AbstractArtifactStorage.createTempFile(false);
+    }
+
+    /**
+     * Stores the (already hashed) content of a staged file (see {@link #createStagingFile()}). If stored successfully the file is moved
+     * into the repository (or removed, if the implementation copies it), otherwise it is kept - so the caller could retry.
+     *
+     * @param tenant the tenant to store the artifact
+     * @param file the staged file
+     * @param contentType the content type of the artifact
+     * @param hashes the hashes of the file content
+     * @param providedHashes the hashes to check against the hashes of the file content, might be {@code null}
+     * @return the stored artifact
+     * @throws ArtifactStoreException in case storing of the artifact was not successful
+     * @throws HashNotMatchException in case {@code providedHashes} are not matching the hashes of the file content
+     */
+    default StoredArtifactInfo store(
+            @NotEmpty final String tenant, @NotNull final File file, final String contentType,
+            @NotNull final ArtifactHashes hashes, final ArtifactHashes providedHashes) {
+        // the content is hashed and checked again while streamed
+        try (final InputStream content = new BufferedInputStream(new FileInputStream(file))) {
+            final StoredArtifactInfo artifact = store(tenant, content, file.getName(), contentType, providedHashes);
+            Files.deleteIfExists(file.toPath());
+            return artifact;
+        } catch (final IOException e) {
+            throw new ArtifactStoreException(e.getMessage(), e);
+        }
+    }
+
     /**
      * Retrieves a {@link StoredArtifactInfo} from the store by its SHA1 hash. Throws {@link ArtifactBinaryNotFoundException} if not found.
      * The caller is responsible to close the InputStream.
@@ -38,6 +38,9 @@ import org.springframework.validation.annotation.Validated;
 @Validated
 public class FileArtifactStorage extends AbstractArtifactStorage {
 
+    // not a valid (sanitized - upper case) tenant directory name
+    private static final String TEMP_DIRECTORY = ".tmp";
+
     private final FileArtifactProperties artifactResourceProperties;
 
     public FileArtifactStorage(final FileArtifactProperties artifactResourceProperties) {
@@ -72,6 +75,18 @@ public class FileArtifactStorage extends AbstractArtifactStorage {
         return getFile(tenant, sha1).exists();
     }
 
+    @Override
+    protected File createStoreTempFile() {
+        // in the base directory, so the move to the final location is a rename and not a copy (as it could be from the system temp)
+        final Path tempDirectory = Paths.get(artifactResourceProperties.getPath(), TEMP_DIRECTORY);
+        try {
+            Files.createDirectories(tempDirectory);
+            return restrictToOwner(Files.createTempFile(tempDirectory, null, null).toFile(), false);
+        } catch (final IOException e) {
+            throw new ArtifactStoreException("Cannot create temp file in " + tempDirectory, e);
+        }
+    }
+
     @Override
     protected void store(final String tenant, final ArtifactHashes base16Hashes, final String contentType, final File tempFile)
             throws IOException {
@@ -16,13 +16,20 @@ import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
+import java.nio.file.attribute.PosixFilePermission;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.Random;
 
 import lombok.extern.slf4j.Slf4j;
 import org.assertj.core.api.Assertions;
 import org.eclipse.hawkbit.artifact.AbstractArtifactStorage;
 import org.eclipse.hawkbit.artifact.exception.ArtifactBinaryNotFoundException;
+import org.eclipse.hawkbit.artifact.exception.HashNotMatchException;
+import org.eclipse.hawkbit.artifact.model.ArtifactHashes;
 import org.eclipse.hawkbit.artifact.model.StoredArtifactInfo;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
@@ -75,6 +82,54 @@ class FileArtifactStorageTest {
         }
     }
 
+    /**
+     * Verifies that the temp file of the stored artifact is written in (and removed from) the base directory of the repository, so it is
+     * moved to its final location by rename
+     */
+    @Test
+    void storeWritesTempFileInBaseDirectory() throws IOException {
+        final File tempFile = artifactFilesystemRepository.createStoreTempFile();
+        assertThat(tempFile.toPath()).startsWith(new File(artifactResourceProperties.getPath()).toPath());
+        Files.delete(tempFile.toPath());
+
+        storeRandomArtifact(randomBytes());
+        assertThat(tempFile.getParentFile().list()).isEmpty();
+    }
+
+    /**
+     * Verifies that the staging file is created in the base directory, accessible by the owner only, and is moved into the repository
+     * when stored. If the provided hashes doesn't match it is kept.
+     */
+    @Test
+    void storeStagedFile() throws IOException, NoSuchAlgorithmException {
+        final File stagingFile = artifactFilesystemRepository.createStagingFile();
+        assertThat(stagingFile.toPath()).startsWith(new File(artifactResourceProperties.getPath()).toPath());
+        if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            assertThat(Files.getPosixFilePermissions(stagingFile.toPath()))
+                    .containsExactlyInAnyOrder(PosixFilePermission.OWNER_READ, PosixFilePermission.OWNER_WRITE);
+        }
+
+        final byte[] fileContent = randomBytes();
+        Files.write(stagingFile.toPath(), fileContent);
+        final HexFormat hexFormat = HexFormat.of().withLowerCase();
+        final ArtifactHashes hashes = new ArtifactHashes(
+                hexFormat.formatHex(MessageDigest.getInstance("SHA1").digest(fileContent)),
+                hexFormat.formatHex(MessageDigest.getInstance("MD5").digest(fileContent)),
+                hexFormat.formatHex(MessageDigest.getInstance("SHA-256").digest(fileContent)));
+
+        final ArtifactHashes wrongHashes = new ArtifactHashes(hashes.md5(), null, null);
+        assertThatExceptionOfType(HashNotMatchException.class).isThrownBy(() -> artifactFilesystemRepository.store(
+                TENANT, stagingFile, "application/txt", hashes, wrongHashes));
+        assertThat(stagingFile).exists();
+
+        final StoredArtifactInfo artifact = artifactFilesystemRepository.store(TENANT, stagingFile, "application/txt", hashes, hashes);
+        assertThat(artifact.getSize()).isEqualTo(fileContent.length);
+        assertThat(stagingFile).doesNotExist();
+        try (final InputStream is = artifactFilesystemRepository.getBySha1(TENANT, hashes.sha1())) {
+            assertThat(is.readAllBytes()).isEqualTo(fileContent);
+        }
+    }
+
     /**
      * Verifies that an artifact can be successfully stored in the file-system repository
      */
@@ -10,18 +10,18 @@
 package org.eclipse.hawkbit.autoconfigure.scheduling;
 
 import java.util.Locale;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
-import java.util.concurrent.ThreadPoolExecutor;
-import java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
-import lombok.extern.slf4j.Slf4j;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.eclipse.hawkbit.context.AccessContext;
+import org.eclipse.hawkbit.utils.InstrumentedThreadPoolExecutor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
@@ -30,13 +30,12 @@ import org.springframework.core.task.TaskExecutor;
 import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.concurrent.ConcurrentTaskExecutor;
 import org.springframework.scheduling.concurrent.ConcurrentTaskScheduler;
-import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
 import org.springframework.security.concurrent.DelegatingSecurityContextScheduledExecutorService;
 
 /**
- * Central event processors inside update server.
+ * Central event processors inside update server. The executors are named and bounded {@link InstrumentedThreadPoolExecutor}s which run
+ * the tasks in the (tenant) context of the submitter and expose queue depth, active threads and rejections as metrics.
  */
-@Slf4j
 @Configuration
 @EnableConfigurationProperties(ExecutorProperties.class)
 public class ExecutorAutoConfiguration {
@@ -51,9 +50,23 @@ public class ExecutorAutoConfiguration {
      * @return ExecutorService with security context availability in thread execution.
      */
     @Bean(name = "asyncExecutor", destroyMethod = "shutdown")
-    @ConditionalOnMissingBean
-    public ExecutorService asyncExecutor() {
-        return new DelegatingSecurityContextExecutorService(threadPoolExecutor());
+    @ConditionalOnMissingBean(name = "asyncExecutor")
+    public InstrumentedThreadPoolExecutor asyncExecutor() {
+        return new InstrumentedThreadPoolExecutor("central-executor-pool",
+                executorProperties.getCoreThreads(), executorProperties.getMaxThreads(), executorProperties.getIdleTimeout(),
+                executorProperties.getQueueSize(), AccessContext::withCurrentContext);
+    }
+
+    /**
+     * @return ExecutorService for loading entities in partitions in parallel, with security context availability in thread execution.
+     */
+    @Bean(name = "partitionExecutor", destroyMethod = "shutdown")
+    @ConditionalOnMissingBean(name = "partitionExecutor")
+    public InstrumentedThreadPoolExecutor partitionExecutor() {
+        final ExecutorProperties.Partition partition = executorProperties.getPartition();
+        return new InstrumentedThreadPoolExecutor("partition-executor-pool",
+                partition.getCoreThreads(), partition.getMaxThreads(), partition.getIdleTimeout(),
+                partition.getQueueSize(), AccessContext::withCurrentContext);
     }
 
     /**
@@ -93,26 +106,29 @@ public class ExecutorAutoConfiguration {
         };
     }
 
-    /**
-     * @return central ThreadPoolExecutor for general purpose multithreaded operations. Tries an orderly shutdown when destroyed.
-     */
-    private ThreadPoolExecutor threadPoolExecutor() {
-        final BlockingQueue<Runnable> blockingQueue = new ArrayBlockingQueue<>(executorProperties.getQueueSize());
-        return new ThreadPoolExecutor(executorProperties.getCoreThreads(),
-                executorProperties.getMaxThreads(), executorProperties.getIdleTimeout(),
-                TimeUnit.MILLISECONDS, blockingQueue,
-                threadFactory("central-executor-pool-%d"),
-                new PoolSizeExceededPolicy());
-    }
-
-    private static class PoolSizeExceededPolicy extends CallerRunsPolicy {
+    @Configuration
+    @ConditionalOnClass(MeterBinder.class)
+    static class ExecutorMetricsConfiguration {
 
-        @Override
-        public void rejectedExecution(final Runnable r, final ThreadPoolExecutor executor) {
-            log.warn(
-                    "Caller has to run on its own instead of centralExecutorService, reached limit of queue size {}",
-                    executor.getQueue().size());
-            super.rejectedExecution(r, executor);
+        /**
+         * @return binder of the metrics of the {@link InstrumentedThreadPoolExecutor}s, tagged with the executor name
+         */
+        @Bean
+        MeterBinder executorMetrics(final ObjectProvider<InstrumentedThreadPoolExecutor> executors) {
+            return registry -> executors.orderedStream().forEach(executor -> {
+                Gauge.builder("hawkbit.executor.queue.size", executor, InstrumentedThreadPoolExecutor::getQueueSize)
+                        .tag("name", executor.getName()).register(registry);
+                Gauge.builder("hawkbit.executor.queue.capacity", executor, InstrumentedThreadPoolExecutor::getQueueCapacity)
+                        .tag("name", executor.getName()).register(registry);
+                Gauge.builder("hawkbit.executor.active", executor, InstrumentedThreadPoolExecutor::getActiveCount)
+                        .tag("name", executor.getName()).register(registry);
+                Gauge.builder("hawkbit.executor.pool.size", executor, InstrumentedThreadPoolExecutor::getPoolSize)
+                        .tag("name", executor.getName()).register(registry);
+                FunctionCounter.builder("hawkbit.executor.rejected", executor, InstrumentedThreadPoolExecutor::getRejectedCount)
+                        .tag("name", executor.getName()).register(registry);
+                FunctionCounter.builder("hawkbit.executor.completed", executor, InstrumentedThreadPoolExecutor::getCompletedTaskCount)
+                        .tag("name", executor.getName()).register(registry);
+            });
         }
     }
-}
\ No newline at end of file
+}
@@ -44,4 +44,37 @@ public class ExecutorProperties {
      * time that excess idle threads will wait for new tasks before terminating.
      */
     private Long idleTimeout = 10000L;
+
+    /**
+     * Executor for loading entities in partitions, in parallel (e.g. the targets of the DMF assignment events).
+     */
+    private Partition partition = new Partition();
+
+    /**
+     * Properties of the partition executor. It does blocking database work, so it is bounded separately from the central event executor.
+     */
+    @Data
+    public static class Partition {
+
+        /**
+         * Max queue size for partition executor.
+         */
+        private Integer queueSize = 100;
+
+        /**
+         * Core processing threads for partition executor.
+         */
+        private Integer coreThreads = 2;
+
+        /**
+         * Maximum thread pool size for partition executor.
+         */
+        private Integer maxThreads = 8;
+
+        /**
+         * When the number of threads is greater than the core, this is the maximum
+         * time that excess idle threads will wait for new tasks before terminating.
+         */
+        private Long idleTimeout = 10000L;
+    }
 }
\ No newline at end of file
@@ -12,6 +12,7 @@ package org.eclipse.hawkbit.autoconfigure.security;
 import java.util.Optional;
 
 import org.eclipse.hawkbit.audit.AuditLoggingAspect;
+import org.eclipse.hawkbit.audit.AuditProperties;
 import org.eclipse.hawkbit.auth.SpRole;
 import org.eclipse.hawkbit.context.AccessContext;
 import org.eclipse.hawkbit.repository.RepositoryConfiguration;
@@ -36,7 +37,8 @@ import org.springframework.security.web.authentication.logout.SimpleUrlLogoutSuc
  * {@link EnableAutoConfiguration Auto-configuration} for security.
  */
 @Configuration
-@EnableConfigurationProperties({ SecurityProperties.class, HawkbitSecurityProperties.class, TenantAwareUserProperties.class })
+@EnableConfigurationProperties({
+        SecurityProperties.class, HawkbitSecurityProperties.class, TenantAwareUserProperties.class, AuditProperties.class })
 @Import(RepositoryConfiguration.class)
 public class SecurityAutoConfiguration {
 
@@ -53,8 +55,8 @@ public class SecurityAutoConfiguration {
 
     @Bean
     @ConditionalOnMissingBean
-    public AuditLoggingAspect auditLoggingAspect() {
-        return new AuditLoggingAspect();
+    public AuditLoggingAspect auditLoggingAspect(final AuditProperties auditProperties) {
+        return new AuditLoggingAspect(auditProperties);
     }
 
     @Bean
@@ -0,0 +1,116 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.audit;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.audit.AuditProperties.OverflowPolicy;
+
+/**
+ * Writes the audit logs asynchronously - the writes are put in a bounded queue and are run by a single (daemon) thread in the
+ * order of submission. If the queue is full the caller either waits ({@link OverflowPolicy#BLOCK}) or the write is dropped
+ * ({@link OverflowPolicy#DROP}). On {@link #close()} the queued writes are flushed.
+ */
+@Slf4j
+class AuditLogWriter implements AutoCloseable {
+
+    private static final long POLL_TIMEOUT_MS = 100;
+    private static final long CLOSE_TIMEOUT_MS = 10_000;
+
+    private final int queueSize;
+    private final BlockingQueue<Runnable> queue;
+    private final OverflowPolicy overflowPolicy;
+    private final Thread worker;
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile boolean closed;
+
+    AuditLogWriter(final int queueSize, final OverflowPolicy overflowPolicy) {
+        this.queueSize = queueSize;
+        queue = new ArrayBlockingQueue<>(queueSize);
+        this.overflowPolicy = overflowPolicy;
+        worker = Thread.ofPlatform().name("audit-log-writer").daemon().start(this::run);
+    }
+
+    void write(final Runnable write) {
+        if (closed) {
+            runSafe(write);
+        } else if (overflowPolicy == OverflowPolicy.DROP) {
+            if (!queue.offer(write)) {
+                final long droppedCount = dropped.incrementAndGet();
+                if (droppedCount % 1000 == 1) {
+                    log.warn("Audit log queue is full (size {}), {} audit logs dropped so far", queueSize, droppedCount);
+                }
+            }
+        } else {
+            try {
+                queue.put(write);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                runSafe(write);
+            }
+        }
+    }
+
+    /**
+     * @return the number of the audit logs dropped so far because of full queue
+     */
+    long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * @return the number of the audit logs waiting to be written
+     */
+    int getQueueSize() {
+        return queue.size();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            worker.join(CLOSE_TIMEOUT_MS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // flush whatever is left (e.g. put after the worker has finished)
+        Runnable write;
+        while ((write = queue.poll()) != null) {
+            runSafe(write);
+        }
+    }
+
+    private void run() {
+        while (!closed || !queue.isEmpty()) {
+            try {
+                final Runnable write = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (write != null) {
+                    runSafe(write);
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private static void runSafe(final Runnable write) {
+        try {
+            write.run();
+        } catch (final RuntimeException e) {
+            // should never fail!
+            log.debug("Failed to write audit log", e);
+        }
+    }
+}
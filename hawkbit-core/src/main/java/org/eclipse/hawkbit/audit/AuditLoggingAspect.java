@@ -9,9 +9,10 @@
  */
 package org.eclipse.hawkbit.audit;
 
+import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.IntStream;
 
 import lombok.Builder;
@@ -21,13 +22,35 @@ import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 
+/**
+ * Audit logs the calls of the methods annotated with {@link AuditLog}.
+ * <p/>
+ * The logged parameters are rendered on the calling thread with bounded cost (see {@link AuditProperties.Params}), while the
+ * formatting and writing of the audit logs is, by default, done asynchronously (see {@link AuditProperties.Async}).
+ */
 @Slf4j
 @Aspect
 @Component
-public class AuditLoggingAspect {
+public class AuditLoggingAspect implements DisposableBean {
+
+    private final AuditParamsRenderer renderer;
+    // null if the audit logs are written synchronously
+    private final AuditLogWriter writer;
+    private final Map<Method, LoggedParams> loggedParamsCache = new ConcurrentHashMap<>();
+
+    public AuditLoggingAspect() {
+        this(new AuditProperties());
+    }
+
+    public AuditLoggingAspect(final AuditProperties auditProperties) {
+        renderer = new AuditParamsRenderer(auditProperties.getParams());
+        final AuditProperties.Async async = auditProperties.getAsync();
+        writer = async.isEnabled() ? new AuditLogWriter(async.getQueueSize(), async.getOverflowPolicy()) : null;
+    }
 
     /**
      * Provides around advice for methods annotated with {@code @AuditLog}.
@@ -66,50 +89,41 @@ public class AuditLoggingAspect {
         }
     }
 
+    @Override
+    public void destroy() {
+        if (writer != null) {
+            writer.close();
+        }
+    }
+
     /**
      * Logs both the request details and the response.
      */
     private void logAudit(
             final JoinPoint joinPoint,
             final AuditLog auditLog, final String resultMessage, final String paramsToLog, final AuditLog.Level logLevel) {
-        final String methodName = joinPoint.getSignature().getName();
-
-        final String logMessage = String.format(
-                "Type: %s, Method: %s - Description: %s - Parameters: %s - Response: %s",
-                auditLog.type(), methodName, auditLog.description(), paramsToLog, resultMessage
-        );
-
-        switch (logLevel) {
-            case INFO:
-                AuditLogger.info(auditLog.entity(), logMessage);
-                break;
-            case WARN:
-                AuditLogger.warn(auditLog.entity(), logMessage);
-                break;
-            case ERROR:
-                AuditLogger.error(auditLog.entity(), logMessage);
-                break;
+        // capture the context of the calling thread, the write could be done by another thread
+        final AuditContextProvider.AuditContext auditContext = AuditContextProvider.getAuditContext();
+        final AuditEntry auditEntry = new AuditEntry(
+                auditContext, auditLog, joinPoint.getSignature().getName(), paramsToLog, resultMessage, logLevel);
+        if (writer == null) {
+            auditEntry.write();
+        } else {
+            writer.write(auditEntry::write);
         }
     }
 
     private String getParamsToLog(final JoinPoint joinPoint, final AuditLog auditLog) {
-        final Object[] args = joinPoint.getArgs();
-        final String[] logParams = auditLog.logParams();
-
-        if (isLogAll(logParams)) {
-            return Arrays.deepToString(args);
-        } else {
-            final MethodSignature methodSignature = (MethodSignature) joinPoint.getSignature();
-            final String[] paramNames = methodSignature.getParameterNames();
-            final Map<String, Object> paramMap = IntStream.range(0, paramNames.length)
-                    .boxed()
-                    .collect(Collectors.toMap(i -> paramNames[i], i -> args[i]));
-
-            return Arrays.stream(logParams)
-                    .filter(paramMap::containsKey)
-                    .map(name -> name + "=" + paramMap.get(name))
-                    .collect(Collectors.joining(", "));
+        final MethodSignature methodSignature = (MethodSignature) joinPoint.getSignature();
+        final LoggedParams loggedParams = loggedParamsCache.computeIfAbsent(
+                methodSignature.getMethod(), method -> LoggedParams.of(methodSignature, auditLog));
+        if (loggedParams.names().length == 0) {
+            return "";
         }
+
+        final Object[] args = joinPoint.getArgs();
+        final Object[] values = Arrays.stream(loggedParams.indexes()).mapToObj(i -> args[i]).toArray();
+        return renderer.render(loggedParams.names(), values);
     }
 
     private ResultMessage getResultMessage(final Object result, final AuditLog auditLog) {
@@ -119,29 +133,71 @@ public class AuditLoggingAspect {
             if (statusCode >= 200 && statusCode < 300) {
                 resultMessageBuilder.level(AuditLog.Level.INFO);
                 if (auditLog.logResponse()) {
-                    resultMessageBuilder.message(result.toString());
+                    resultMessageBuilder.message(renderer.render(result));
                 } else {
                     resultMessageBuilder.message("OK - " + statusCode);
                 }
             } else {
                 resultMessageBuilder.level(AuditLog.Level.WARN);
                 if (auditLog.logResponse()) {
-                    resultMessageBuilder.message(result.toString());
+                    resultMessageBuilder.message(renderer.render(result));
                 } else {
                     resultMessageBuilder.message("FAILED - " + statusCode);
                 }
             }
             return resultMessageBuilder.build();
         }
-        resultMessageBuilder.message(result != null ? result.toString() : "null");
+        resultMessageBuilder.message(renderer.render(result));
         resultMessageBuilder.level(auditLog.level());
         return resultMessageBuilder.build();
     }
 
-    private boolean isLogAll(final String[] logParams) {
-        return Arrays.asList(logParams).contains("*");
-    }
-
     @Builder
     private record ResultMessage(String message, AuditLog.Level level) {}
-}
\ No newline at end of file
+
+    /**
+     * The names and the indexes of the logged parameters of a method.
+     */
+    private record LoggedParams(String[] names, int[] indexes) {
+
+        private static LoggedParams of(final MethodSignature methodSignature, final AuditLog auditLog) {
+            final String[] paramNames = methodSignature.getParameterNames() == null
+                    ? IntStream.range(0, methodSignature.getParameterTypes().length).mapToObj(i -> "arg" + i).toArray(String[]::new)
+                    : methodSignature.getParameterNames();
+            final String[] logParams = auditLog.logParams();
+            if (Arrays.asList(logParams).contains("*")) {
+                return new LoggedParams(paramNames, IntStream.range(0, paramNames.length).toArray());
+            } else {
+                final int[] indexes = Arrays.stream(logParams)
+                        .mapToInt(name -> Arrays.asList(paramNames).indexOf(name))
+                        .filter(index -> index >= 0)
+                        .toArray();
+                return new LoggedParams(Arrays.stream(indexes).mapToObj(i -> paramNames[i]).toArray(String[]::new), indexes);
+            }
+        }
+    }
+
+    private record AuditEntry(
+            AuditContextProvider.AuditContext auditContext, AuditLog auditLog, String methodName,
+            String paramsToLog, String resultMessage, AuditLog.Level logLevel) {
+
+        private void write() {
+            final String logMessage = String.format(
+                    "Type: %s, Method: %s - Description: %s - Parameters: %s - Response: %s",
+                    auditLog.type(), methodName, auditLog.description(), paramsToLog, resultMessage
+            );
+
+            switch (logLevel) {
+                case INFO:
+                    AuditLogger.info(auditContext.tenant(), auditContext.username(), auditLog.entity(), logMessage);
+                    break;
+                case WARN:
+                    AuditLogger.warn(auditContext.tenant(), auditContext.username(), auditLog.entity(), logMessage);
+                    break;
+                case ERROR:
+                    AuditLogger.error(auditContext.tenant(), auditContext.username(), auditLog.entity(), logMessage);
+                    break;
+            }
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.audit;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Renders the logged parameters as <code>name=value</code> pairs with bounded cost - of the collections, arrays and maps only the
+ * first elements are rendered (followed by the number of the skipped ones), the single values and the whole result are truncated.
+ * So, bulk calls with thousands of ids or large bodies don't make the audit logging expensive.
+ */
+class AuditParamsRenderer {
+
+    private static final String TRUNCATED = "...";
+
+    private final int maxItems;
+    private final int maxValueLength;
+    private final int maxLength;
+
+    AuditParamsRenderer(final AuditProperties.Params params) {
+        maxItems = params.getMaxItems();
+        maxValueLength = params.getMaxValueLength();
+        maxLength = params.getMaxLength();
+    }
+
+    String render(final String[] names, final Object[] values) {
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < names.length && sb.length() < maxLength; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(names[i]).append('=');
+            appendValue(sb, values[i], true);
+        }
+        return truncate(sb, maxLength);
+    }
+
+    String render(final Object value) {
+        final StringBuilder sb = new StringBuilder();
+        if (value instanceof Collection<?> || value instanceof Map<?, ?> || (value != null && value.getClass().isArray())) {
+            appendValue(sb, value, true);
+        } else {
+            sb.append(value);
+        }
+        return truncate(sb, maxLength);
+    }
+
+    private void appendValue(final StringBuilder sb, final Object value, final boolean expand) {
+        if (value == null) {
+            sb.append("null");
+        } else if (expand && value instanceof Collection<?> collection) {
+            appendItems(sb, collection.iterator(), collection.size());
+        } else if (expand && value instanceof Map<?, ?> map) {
+            appendItems(sb, map.entrySet().iterator(), map.size());
+        } else if (expand && value.getClass().isArray()) {
+            final int length = Array.getLength(value);
+            sb.append('[');
+            for (int i = 0; i < Math.min(length, maxItems); i++) {
+                if (i > 0) {
+                    sb.append(", ");
+                }
+                appendValue(sb, Array.get(value, i), false);
+            }
+            appendSkipped(sb, length);
+            sb.append(']');
+        } else if (value instanceof Map.Entry<?, ?> entry) {
+            appendValue(sb, entry.getKey(), false);
+            sb.append('=');
+            appendValue(sb, entry.getValue(), false);
+        } else {
+            final String string = String.valueOf(value);
+            if (string.length() > maxValueLength) {
+                sb.append(string, 0, maxValueLength).append(TRUNCATED);
+            } else {
+                sb.append(string);
+            }
+        }
+    }
+
+    private void appendItems(final StringBuilder sb, final Iterator<?> iterator, final int size) {
+        sb.append('[');
+        for (int i = 0; i < maxItems && iterator.hasNext(); i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            appendValue(sb, iterator.next(), false);
+        }
+        appendSkipped(sb, size);
+        sb.append(']');
+    }
+
+    private void appendSkipped(final StringBuilder sb, final int size) {
+        if (size > maxItems) {
+            sb.append(", ").append(TRUNCATED).append(" (").append(size - maxItems).append(" more)");
+        }
+    }
+
+    private static String truncate(final StringBuilder sb, final int maxLength) {
+        if (sb.length() > maxLength) {
+            sb.setLength(maxLength);
+            sb.append(TRUNCATED);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,79 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.audit;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Audit logging related hawkBit configuration.
+ */
+@Data
+@ConfigurationProperties("hawkbit.audit")
+public class AuditProperties {
+
+    private final Async async = new Async();
+    private final Params params = new Params();
+
+    /**
+     * Configuration of the asynchronous writing of the audit logs.
+     */
+    @Data
+    public static class Async {
+
+        /**
+         * If the audit logs shall be written asynchronously, off the request thread. If disabled, they are written by the
+         * request thread.
+         */
+        private boolean enabled = true;
+        /**
+         * Max number of the audit logs waiting to be written.
+         */
+        private int queueSize = 10_000;
+        /**
+         * What to do if the queue is full.
+         */
+        private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+    }
+
+    /**
+     * Configuration of the rendering of the logged parameters.
+     */
+    @Data
+    public static class Params {
+
+        /**
+         * Max number of the logged elements of a collection, array or map parameter.
+         */
+        private int maxItems = 20;
+        /**
+         * Max length of a single rendered parameter value.
+         */
+        private int maxValueLength = 256;
+        /**
+         * Max length of all rendered parameters of a call.
+         */
+        private int maxLength = 2048;
+    }
+
+    /**
+     * Behaviour if the queue of the audit logs is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * The request thread waits until there is space in the queue - no audit log is lost.
+         */
+        BLOCK,
+        /**
+         * The audit log is dropped (and counted) - the request thread is never slowed down.
+         */
+        DROP
+    }
+}
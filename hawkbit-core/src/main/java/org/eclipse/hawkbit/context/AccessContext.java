@@ -181,6 +181,23 @@ public class AccessContext {
         }
     }
 
+    /**
+     * Captures the current context - security context (with the tenant) and the overridden actor, and returns a {@link Runnable} which
+     * runs the given one in it. Serves as task decorator of the executors, so the tasks run in the context they have been submitted in.
+     *
+     * @param runnable the runnable to run in the current context
+     * @return the runnable bound to the current context
+     */
+    public static Runnable withCurrentContext(final Runnable runnable) {
+        Objects.requireNonNull(runnable);
+        final SecurityContext securityContext = SecurityContextHolder.getContext();
+        final String actor = ACTOR_OVERRIDE.get();
+        return () -> withSecurityContext(securityContext, () -> {
+            asActor(actor, runnable);
+            return null;
+        });
+    }
+
     /**
      * Runs a given {@link Runnable} within a system security context, which is permitted to call secured system code. Often the system needs
      * to call secured methods by its own without relying on the current security context e.g. if the current security context does not contain
@@ -0,0 +1,101 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.utils;
+
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * A named and bounded {@link ThreadPoolExecutor} for the blocking (e.g. database or messaging) work of the server.
+ * <ul>
+ *     <li>the tasks are decorated on submission - e.g. to run in the (tenant) context of the submitter</li>
+ *     <li>if the pool and the queue are full the task is run by the caller - so the submitters are slowed down instead of piling up
+ *     work, and the rejections are counted</li>
+ *     <li>the queue depth, the active threads and the rejections are exposed for the metrics</li>
+ * </ul>
+ */
+@Slf4j
+public final class InstrumentedThreadPoolExecutor extends ThreadPoolExecutor {
+
+    @Getter
+    private final String name;
+    @Getter
+    private final int queueCapacity;
+    private final TaskDecorator taskDecorator;
+    private final AtomicLong rejected = new AtomicLong();
+
+    /**
+     * Creates the executor.
+     *
+     * @param name the name of the executor, used as prefix of the thread names and as metrics tag
+     * @param coreThreads the number of the core threads
+     * @param maxThreads the max number of the threads
+     * @param idleTimeout time in milliseconds that excess idle threads wait for new tasks before terminating
+     * @param queueCapacity the capacity of the queue
+     * @param taskDecorator the decorator applied to each task on submission
+     */
+    public InstrumentedThreadPoolExecutor(
+            final String name, final int coreThreads, final int maxThreads, final long idleTimeout, final int queueCapacity,
+            final TaskDecorator taskDecorator) {
+        super(coreThreads, maxThreads, idleTimeout, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity),
+                threadFactory(name + "-%d"));
+        this.name = name;
+        this.queueCapacity = queueCapacity;
+        this.taskDecorator = taskDecorator;
+        setRejectedExecutionHandler(this::callerRuns);
+    }
+
+    @Override
+    public void execute(final Runnable command) {
+        super.execute(taskDecorator.decorate(command));
+    }
+
+    /**
+     * @return the number of the tasks in the queue
+     */
+    public int getQueueSize() {
+        return getQueue().size();
+    }
+
+    /**
+     * @return the number of the tasks which have been rejected (and run by the caller) so far
+     */
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+    private void callerRuns(final Runnable runnable, final ThreadPoolExecutor executor) {
+        if (executor.isShutdown()) {
+            log.debug("Executor {} is shut down, task discarded", name);
+            return;
+        }
+        rejected.incrementAndGet();
+        log.warn("Caller has to run on its own instead of executor {}, reached limit of queue size {}", name, queueCapacity);
+        runnable.run();
+    }
+
+    private static ThreadFactory threadFactory(final String format) {
+        final AtomicLong count = new AtomicLong(0);
+        return runnable -> {
+            final Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+            thread.setName(String.format(Locale.ROOT, format, count.getAndIncrement()));
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,53 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.audit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Feature: Unit Tests - Audit<br/>
+ * Story: Asynchronous audit log writing
+ */
+class AuditLogWriterTest {
+
+    /**
+     * Verifies that with drop policy the audit logs are dropped instead of blocking the caller if the queue is full.
+     */
+    @Test
+    void dropsIfQueueIsFull() {
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger written = new AtomicInteger();
+        try (final AuditLogWriter writer = new AuditLogWriter(1, AuditProperties.OverflowPolicy.DROP)) {
+            writer.write(() -> await(release));
+            while (writer.getQueueSize() > 0) {
+                Thread.onSpinWait(); // wait until the worker is blocked
+            }
+            writer.write(written::incrementAndGet); // queued
+            writer.write(written::incrementAndGet); // dropped
+            assertThat(writer.getDroppedCount()).isEqualTo(1);
+            release.countDown();
+        }
+        // flushed on close
+        assertThat(written.get()).isEqualTo(1);
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
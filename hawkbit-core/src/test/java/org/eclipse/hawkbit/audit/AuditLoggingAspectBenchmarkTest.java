@@ -0,0 +1,87 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.audit;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Benchmark of the overhead of the {@link AuditLoggingAspect} on an audited bulk call, with synchronous and asynchronous writing of
+ * the audit logs.
+ * <p/>
+ * The number of the ids and the calls could be raised via the <code>hawkbit.test.audit.ids</code> and
+ * <code>hawkbit.test.audit.calls</code> system properties. The durations are only logged, the bounded rendering and the overflow
+ * policy are verified by {@link AuditParamsRendererTest} and {@link AuditLogWriterTest}. Run with <code>-Pbenchmark</code>.
+ */
+@Slf4j
+@Tag("benchmark")
+class AuditLoggingAspectBenchmarkTest {
+
+    private static final int IDS = Integer.getInteger("hawkbit.test.audit.ids", 10_000);
+    private static final int CALLS = Integer.getInteger("hawkbit.test.audit.calls", 1_000);
+
+    /**
+     * Measures the duration of audited bulk calls with synchronous and asynchronous writing of the audit logs.
+     */
+    @Test
+    void auditedBulkCallOverhead() {
+        final List<String> controllerIds = controllerIds();
+
+        final BulkResource plain = new BulkResource();
+        final long plainMs = time(plain, controllerIds);
+
+        final AuditProperties syncProperties = new AuditProperties();
+        syncProperties.getAsync().setEnabled(false);
+        final AuditLoggingAspect syncAspect = new AuditLoggingAspect(syncProperties);
+        final long syncMs = time(proxy(syncAspect), controllerIds);
+
+        final AuditLoggingAspect asyncAspect = new AuditLoggingAspect(new AuditProperties());
+        final long asyncMs = time(proxy(asyncAspect), controllerIds);
+        final long flushStart = System.nanoTime();
+        asyncAspect.destroy();
+        final long flushMs = (System.nanoTime() - flushStart) / 1_000_000;
+
+        log.info("Audited bulk calls with {} ids, {} calls: {} ms without audit, {} ms with sync audit, {} ms with async audit "
+                + "(+{} ms flush)", IDS, CALLS, plainMs, syncMs, asyncMs, flushMs);
+    }
+
+    private static long time(final BulkResource resource, final List<String> controllerIds) {
+        final long start = System.nanoTime();
+        for (int i = 0; i < CALLS; i++) {
+            resource.assignTargets(1L, controllerIds);
+        }
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    private static BulkResource proxy(final AuditLoggingAspect aspect) {
+        final AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new BulkResource());
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(aspect);
+        return proxyFactory.getProxy();
+    }
+
+    private static List<String> controllerIds() {
+        return IntStream.range(0, IDS).mapToObj(i -> "target-" + i).toList();
+    }
+
+    public static class BulkResource {
+
+        @AuditLog(entity = "DistributionSet", type = AuditLog.Type.UPDATE, description = "Assign Targets To Distribution Set")
+        public ResponseEntity<Void> assignTargets(final Long distributionSetId, final List<String> controllerIds) {
+            return ResponseEntity.ok().build();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.audit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Feature: Unit Tests - Audit<br/>
+ * Story: Audit parameters rendering
+ */
+class AuditParamsRendererTest {
+
+    private static final int IDS = 100;
+
+    /**
+     * Verifies that the large parameters are rendered bounded.
+     */
+    @Test
+    void rendersBoundedParameters() {
+        final AuditParamsRenderer renderer = new AuditParamsRenderer(new AuditProperties.Params());
+        final List<String> controllerIds = IntStream.range(0, IDS).mapToObj(i -> "target-" + i).toList();
+        final String rendered = renderer.render(
+                new String[] { "controllerIds", "attributes", "data", "body" },
+                new Object[] { controllerIds, Map.of("key", "value"), new int[] { 1, 2, 3 }, "x".repeat(1_000) });
+
+        assertThat(rendered)
+                .startsWith("controllerIds=[target-0, target-1,")
+                .contains(", ... (" + (IDS - 20) + " more)], attributes=[key=value], data=[1, 2, 3], body=xxx")
+                .contains("x".repeat(256) + "...")
+                .doesNotContain("x".repeat(257))
+                .doesNotContain("target-20,");
+        assertThat(rendered.length()).isLessThanOrEqualTo(new AuditProperties.Params().getMaxLength() + 3);
+    }
+}
@@ -0,0 +1,141 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.hawkbit.context.AccessContext.asActor;
+import static org.eclipse.hawkbit.context.AccessContext.asSystemAsTenant;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.context.AccessContext;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the {@link InstrumentedThreadPoolExecutor}.
+ */
+@Slf4j
+class InstrumentedThreadPoolExecutorTest {
+
+    /**
+     * Verifies that the tasks run in the tenant context and with the actor of the submitter.
+     */
+    @Test
+    void runsTasksInTheContextOfTheSubmitter() throws Exception {
+        final InstrumentedThreadPoolExecutor executor = executor("context", 1, 1, 10);
+        try {
+            final Future<String> tenant = asSystemAsTenant("my_tenant", () -> executor.submit(AccessContext::tenant));
+            assertThat(tenant.get()).isEqualTo("my_tenant");
+            final Future<String> actor = asSystemAsTenant(
+                    "my_tenant", () -> asActor("my_actor", () -> executor.submit(AccessContext::actor)));
+            assertThat(actor.get()).isEqualTo("my_actor");
+            // the context is not leaked to the next task of the (same) thread
+            assertThat(executor.submit(AccessContext::tenant).get()).isNull();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Verifies that if the pool and the queue are full the task is run by the caller and the rejection is counted.
+     */
+    @Test
+    void rejectedTasksAreRunByTheCaller() throws InterruptedException, ExecutionException {
+        final InstrumentedThreadPoolExecutor executor = executor("reject", 1, 1, 1);
+        final CountDownLatch release = new CountDownLatch(1);
+        try {
+            final Future<?> blocking = executor.submit(() -> await(release));
+            final Future<?> queued = executor.submit(() -> {});
+            assertThat(executor.getQueueSize()).isEqualTo(1);
+
+            final Future<String> rejected = executor.submit(() -> Thread.currentThread().getName());
+            assertThat(rejected.get()).isEqualTo(Thread.currentThread().getName());
+            assertThat(executor.getRejectedCount()).isEqualTo(1);
+
+            release.countDown();
+            blocking.get();
+            queued.get();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Stress test - producers flood an executor with blocking (e.g. partition loading) tasks. The blocking tasks are all run, the
+     * producers are slowed down by running the rejected tasks on their own and the queue doesn't grow over its capacity.
+     */
+    @Test
+    void allTasksAreRunUnderLoad() throws InterruptedException, ExecutionException {
+        final int producers = Integer.getInteger("hawkbit.test.executor.producers", 8);
+        final int tasks = Integer.getInteger("hawkbit.test.executor.tasks", 50);
+
+        final InstrumentedThreadPoolExecutor partitionExecutor = executor("partition", 2, 4, 8);
+        final ExecutorService producerExecutor = Executors.newFixedThreadPool(producers);
+        try {
+            final AtomicInteger completed = new AtomicInteger();
+            final AtomicInteger maxQueueSize = new AtomicInteger();
+            final List<Future<?>> load = new ArrayList<>();
+            for (int i = 0; i < producers; i++) {
+                load.add(producerExecutor.submit(() -> {
+                    for (int j = 0; j < tasks; j++) {
+                        partitionExecutor.execute(() -> {
+                            sleep(5);
+                            completed.incrementAndGet();
+                        });
+                        maxQueueSize.accumulateAndGet(partitionExecutor.getQueueSize(), Math::max);
+                    }
+                }));
+            }
+            for (final Future<?> producer : load) {
+                producer.get();
+            }
+            partitionExecutor.shutdown();
+            assertThat(partitionExecutor.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+
+            log.info("Load: {} blocking tasks ({} run by the producers, max queue size {})",
+                    completed.get(), partitionExecutor.getRejectedCount(), maxQueueSize.get());
+            assertThat(completed.get()).isEqualTo(producers * tasks);
+            assertThat(maxQueueSize.get()).isLessThanOrEqualTo(partitionExecutor.getQueueCapacity());
+            assertThat(partitionExecutor.getRejectedCount()).isPositive();
+        } finally {
+            partitionExecutor.shutdownNow();
+            producerExecutor.shutdownNow();
+        }
+    }
+
+    private static InstrumentedThreadPoolExecutor executor(final String name, final int core, final int max, final int queue) {
+        return new InstrumentedThreadPoolExecutor(name, core, max, 1_000, queue, AccessContext::withCurrentContext);
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
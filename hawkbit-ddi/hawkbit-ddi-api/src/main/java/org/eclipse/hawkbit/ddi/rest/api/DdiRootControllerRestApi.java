@@ -9,6 +9,7 @@
  */
 package org.eclipse.hawkbit.ddi.rest.api;
 
+import static org.eclipse.hawkbit.rest.ApiResponsesConstants.ACCEPTED_202;
 import static org.eclipse.hawkbit.rest.ApiResponsesConstants.GONE_410;
 import static org.eclipse.hawkbit.rest.ApiResponsesConstants.INTERNAL_SERVER_ERROR_500;
 import static org.eclipse.hawkbit.rest.ApiResponsesConstants.METHOD_NOT_ALLOWED_405;
@@ -112,6 +113,11 @@ public interface DdiRootControllerRestApi {
      * {@link DdiRootControllerRestApi#getControllerDeploymentBaseAction}, {@link DdiRootControllerRestApi#getConfirmationBaseAction}.
      */
     String NO_ACTION_HISTORY = "0";
+    /**
+     * Header of the idempotency key of a feedback - if the feedback is processed asynchronously, a feedback retried with the same key is
+     * applied only once (unless it has failed). If not sent by the device, the server generates one and returns it in the response.
+     */
+    String IDEMPOTENCY_KEY = "Idempotency-Key";
 
     /**
      * Root resource for an individual {@link Target}.
@@ -252,6 +258,9 @@ public interface DdiRootControllerRestApi {
             """)
     @PostUpdateResponses
     @ApiResponses(value = {
+            @ApiResponse(responseCode = ACCEPTED_202, description = """
+                    Progress feedback (which doesn't finish the action) accepted for asynchronous processing (if enabled on the
+                    server and for the tenant). The idempotency key of the feedback is returned in the Idempotency-Key header."""),
             @ApiResponse(responseCode = GONE_410, description = "Action is not active anymore.",
                     content = @Content(mediaType = "application/json", schema = @Schema(hidden = true)))
     })
@@ -276,6 +285,11 @@ public interface DdiRootControllerRestApi {
             information that will allow the server to identify the device on a hardware level (e.g. hardware revision,
             mac address, serial number etc.).""")
     @PutResponses
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = ACCEPTED_202, description = """
+                    Accepted for asynchronous processing (if enabled on the server and for the tenant). The idempotency key of
+                    the feedback is returned in the Idempotency-Key header.""")
+    })
     @PutMapping(value = CONTROLLER_V1 + "/{controllerId}/" + CONFIG_DATA,
             consumes = { APPLICATION_JSON_VALUE, MEDIA_TYPE_APPLICATION_CBOR })
     ResponseEntity<Void> putConfigData(
@@ -317,6 +331,9 @@ public interface DdiRootControllerRestApi {
             e.g. the canceled actions have been started already.""")
     @PostUpdateResponses
     @ApiResponses(value = {
+            @ApiResponse(responseCode = ACCEPTED_202, description = """
+                    Progress feedback (which doesn't finish the action) accepted for asynchronous processing (if enabled on the
+                    server and for the tenant). The idempotency key of the feedback is returned in the Idempotency-Key header."""),
             @ApiResponse(responseCode = METHOD_NOT_ALLOWED_405, description = "The action is not cancelable / force quitable", content = @Content(mediaType = "application/json", schema = @Schema(hidden = true)))
     })
     @PostMapping(value = CONTROLLER_V1 + "/{controllerId}/" + CANCEL_ACTION + "/{actionId}/" +
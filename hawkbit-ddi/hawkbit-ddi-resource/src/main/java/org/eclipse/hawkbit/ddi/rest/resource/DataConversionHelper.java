@@ -9,6 +9,7 @@
  */
 package org.eclipse.hawkbit.ddi.rest.resource;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 
@@ -27,10 +28,10 @@ import org.eclipse.hawkbit.ddi.json.model.DdiControllerBase;
 import org.eclipse.hawkbit.ddi.json.model.DdiMetadata;
 import org.eclipse.hawkbit.ddi.json.model.DdiPolling;
 import org.eclipse.hawkbit.ddi.rest.api.DdiRootControllerRestApi;
-import org.eclipse.hawkbit.repository.ControllerManagement;
 import org.eclipse.hawkbit.repository.SystemManagement;
 import org.eclipse.hawkbit.repository.model.Action;
-import org.eclipse.hawkbit.repository.model.Artifact;
+import org.eclipse.hawkbit.repository.model.DistributionSetGraph;
+import org.eclipse.hawkbit.repository.model.DistributionSetGraph.ModuleArtifact;
 import org.eclipse.hawkbit.repository.model.SoftwareModule;
 import org.eclipse.hawkbit.repository.model.Target;
 import org.eclipse.hawkbit.repository.model.TenantMetaData;
@@ -39,6 +40,7 @@ import org.springframework.hateoas.Link;
 import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
 import org.springframework.http.HttpRequest;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.DigestUtils;
 
 /**
  * Utility class for the DDI API.
@@ -126,21 +128,60 @@ public final class DataConversionHelper {
         return result;
     }
 
+    /**
+     * Calculates a strong ETag of the {@link DdiControllerBase} (see {@link #fromTarget(Target, Action, Action, String)}) without building
+     * it. It reflects all the state the response is built of - the target (opt lock revision), the active action (incl. a force switch or
+     * maintenance window change), the installed action and the polling time.
+     *
+     * @param requestUrl the request URL - the links are built upon it
+     * @param target the target
+     * @param installedAction the installed action, could be <code>null</code>
+     * @param activeAction the active action, could be <code>null</code>
+     * @param pollingTime the polling time
+     * @return the ETag
+     */
+    static String controllerBaseETag(
+            final String requestUrl, final Target target, final Action installedAction, final Action activeAction,
+            final String pollingTime) {
+        final StringBuilder key = new StringBuilder(requestUrl)
+                .append('|').append(target.getId()).append(':').append(target.getOptLockRevision())
+                .append('|').append(pollingTime);
+        if (activeAction != null) {
+            key.append("|active:").append(activeAction.getId()).append(':').append(calculateEtag(activeAction));
+        }
+        if (installedAction != null) {
+            key.append("|installed:").append(installedAction.getId()).append(':').append(installedAction.getOptLockRevision());
+        }
+        return eTag(key);
+    }
+
+    /**
+     * Calculates a strong ETag of the deployment (without the action history) of an action without building it. It reflects the action
+     * (incl. a force switch or maintenance window change) and the distribution set graph.
+     *
+     * @param requestUrl the request URL - the links are built upon it
+     * @param action the action
+     * @param graph the distribution set graph of the action
+     * @return the ETag
+     */
+    static String deploymentBaseETag(final String requestUrl, final Action action, final DistributionSetGraph graph) {
+        return eTag(new StringBuilder(requestUrl)
+                .append('|').append(action.getId()).append(':').append(calculateEtag(action))
+                .append('|').append(graph.id()).append(':').append(graph.hashCode()));
+    }
+
     static List<DdiChunk> createChunks(
-            final Target target, final Action uAction,
-            final ArtifactUrlResolver artifactUrlHandler, final SystemManagement systemManagement,
-            final HttpRequest request, final ControllerManagement controllerManagement) {
-        final Map<Long, Map<String, String>> metadata = controllerManagement
-                .findTargetVisibleMetaDataBySoftwareModuleId(uAction.getDistributionSet().getModules().stream()
-                        .map(SoftwareModule::getId).toList());
-
-        return new ResponseList<>(uAction.getDistributionSet().getModules().stream()
-                .map(module -> new DdiChunk(mapChunkLegacyKeys(module.getType().getKey()), module.getVersion(),
-                        module.getName(), module.isEncrypted() ? Boolean.TRUE : null,
-                        createArtifacts(target, module, artifactUrlHandler, systemManagement, request),
-                        mapMetadata(metadata.get(module.getId()))))
+            final Target target, final DistributionSetGraph graph,
+            final ArtifactUrlResolver artifactUrlHandler, final SystemManagement systemManagement, final HttpRequest request) {
+        return new ResponseList<>(graph.modules().stream()
+                .map(module -> new DdiChunk(mapChunkLegacyKeys(module.typeKey()), module.version(),
+                        module.name(), module.encrypted() ? Boolean.TRUE : null,
+                        new ResponseList<>(module.artifacts().stream()
+                                .map(artifact -> createArtifact(
+                                        target, artifactUrlHandler, module.id(), artifact, systemManagement, request))
+                                .toList()),
+                        mapMetadata(module.metadata())))
                 .toList());
-
     }
 
     static List<DdiArtifact> createArtifacts(final Target target, final SoftwareModule module,
@@ -148,17 +189,18 @@ public final class DataConversionHelper {
             final HttpRequest request) {
 
         return new ResponseList<>(module.getArtifacts().stream()
-                .map(artifact -> createArtifact(target, artifactUrlHandler, artifact, systemManagement, request))
+                .map(artifact -> createArtifact(
+                        target, artifactUrlHandler, module.getId(), ModuleArtifact.of(artifact), systemManagement, request))
                 .toList());
     }
 
-    private static List<DdiMetadata> mapMetadata(final Map<String, String> metadata) {
+    static List<DdiMetadata> mapMetadata(final Map<String, String> metadata) {
         return CollectionUtils.isEmpty(metadata)
                 ? null
                 : metadata.entrySet().stream().map(md -> new DdiMetadata(md.getKey(), md.getValue())).toList();
     }
 
-    private static String mapChunkLegacyKeys(final String key) {
+    static String mapChunkLegacyKeys(final String key) {
         if ("application".equals(key)) {
             return "bApp";
         }
@@ -170,23 +212,26 @@ public final class DataConversionHelper {
 
     private static DdiArtifact createArtifact(
             final Target target, final ArtifactUrlResolver artifactUrlHandler,
-            final Artifact artifact, final SystemManagement systemManagement, final HttpRequest request) {
+            final long moduleId, final ModuleArtifact artifact, final SystemManagement systemManagement, final HttpRequest request) {
         final DdiArtifact file = new DdiArtifact(
-                artifact.getFilename(),
-                new DdiArtifactHash(artifact.getSha1Hash(), artifact.getMd5Hash(), artifact.getSha256Hash()),
-                artifact.getSize());
+                artifact.filename(),
+                new DdiArtifactHash(artifact.sha1Hash(), artifact.md5Hash(), artifact.sha256Hash()),
+                artifact.size());
 
         final TenantMetaData tenantMetadata = systemManagement.getTenantMetadataWithoutDetails();
         artifactUrlHandler
                 .getUrls(new DownloadDescriptor(
-                                tenantMetadata.getTenant(), target.getControllerId(),
-                                artifact.getSoftwareModule().getId(), artifact.getFilename(), artifact.getSha1Hash()),
+                                tenantMetadata.getTenant(), target.getControllerId(), moduleId, artifact.filename(), artifact.sha1Hash()),
                         ArtifactUrlResolver.ApiType.DDI, request.getURI())
                 .forEach(entry -> file.add(Link.of(entry.ref()).withRel(entry.rel()).expand()));
 
         return file;
     }
 
+    private static String eTag(final CharSequence key) {
+        return '"' + DigestUtils.md5DigestAsHex(key.toString().getBytes(StandardCharsets.UTF_8)) + '"';
+    }
+
     /**
      * Calculates an etag for the given {@link Action} based on the entities hashcode and the {@link Action#isHitAutoForceTime(long)}
      * to reflect a force switch.
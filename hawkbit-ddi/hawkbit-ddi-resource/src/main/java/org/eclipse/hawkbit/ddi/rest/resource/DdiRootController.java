@@ -14,6 +14,7 @@ import static org.eclipse.hawkbit.repository.RepositoryConstants.SERVER_MESSAGE_
 import static org.eclipse.hawkbit.rest.util.RequestResponseContextHolder.getHttpServletRequest;
 import static org.eclipse.hawkbit.rest.util.RequestResponseContextHolder.getHttpServletResponse;
 import static org.springframework.http.HttpHeaders.IF_MATCH;
+import static org.springframework.http.HttpHeaders.IF_NONE_MATCH;
 import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
 import static org.springframework.http.HttpStatus.PRECONDITION_FAILED;
 
@@ -26,6 +27,8 @@ import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import jakarta.servlet.http.HttpServletResponse;
@@ -59,9 +62,9 @@ import org.eclipse.hawkbit.ddi.rest.api.DdiRootControllerRestApi;
 import org.eclipse.hawkbit.repository.ArtifactManagement;
 import org.eclipse.hawkbit.repository.ConfirmationManagement;
 import org.eclipse.hawkbit.repository.ControllerManagement;
+import org.eclipse.hawkbit.repository.PrimaryPinned;
 import org.eclipse.hawkbit.repository.SystemManagement;
 import org.eclipse.hawkbit.repository.UpdateMode;
-import org.eclipse.hawkbit.repository.event.remote.DownloadProgressEvent;
 import org.eclipse.hawkbit.repository.exception.CancelActionNotAllowedException;
 import org.eclipse.hawkbit.repository.exception.EntityNotFoundException;
 import org.eclipse.hawkbit.repository.exception.InvalidConfirmationFeedbackException;
@@ -72,6 +75,7 @@ import org.eclipse.hawkbit.repository.model.Action.ActionStatusCreate.ActionStat
 import org.eclipse.hawkbit.repository.model.Action.Status;
 import org.eclipse.hawkbit.repository.model.ActionStatus;
 import org.eclipse.hawkbit.repository.model.Artifact;
+import org.eclipse.hawkbit.repository.model.DistributionSetGraph;
 import org.eclipse.hawkbit.repository.model.SoftwareModule;
 import org.eclipse.hawkbit.repository.model.Target;
 import org.eclipse.hawkbit.rest.util.FileStreamingUtil;
@@ -80,7 +84,6 @@ import org.eclipse.hawkbit.security.HawkbitSecurityProperties;
 import org.eclipse.hawkbit.utils.IpUtil;
 import org.jspecify.annotations.Nullable;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Scope;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -98,11 +101,13 @@ import org.springframework.web.context.WebApplicationContext;
  * Transactional (read-write) as all queries at least update the last poll time.
  */
 @Slf4j
+@PrimaryPinned
 @RestController
 @Scope(value = WebApplicationContext.SCOPE_REQUEST)
 public class DdiRootController implements DdiRootControllerRestApi {
 
     private static final String GIVEN_ACTION_IS_NOT_ASSIGNED_TO_GIVEN_TARGET = "given action ({}) is not assigned to given target ({}).";
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 128;
     private static final String FALLBACK_REMARK = "Initiated using the Device Direct Integration API without providing a remark.";
 
     private final ControllerManagement controllerManagement;
@@ -110,7 +115,9 @@ public class DdiRootController implements DdiRootControllerRestApi {
     private final ArtifactManagement artifactManagement;
     private final ArtifactUrlResolver artifactUrlHandler;
     private final SystemManagement systemManagement;
-    private final ApplicationEventPublisher eventPublisher;
+    private final DownloadProgressAggregator downloadProgressAggregator;
+    private final DeploymentTemplateCache deploymentTemplateCache;
+    private final FeedbackQueue feedbackQueue;
     private final HawkbitSecurityProperties securityProperties;
     private final Set<String> skipArtifactAccessCheckTenants;
     private final boolean skipArtifactAccessCheck; // disable check for all tenants
@@ -119,7 +126,8 @@ public class DdiRootController implements DdiRootControllerRestApi {
     public DdiRootController(
             final ControllerManagement controllerManagement, final ConfirmationManagement confirmationManagement,
             final ArtifactManagement artifactManagement, final ArtifactUrlResolver artifactUrlHandler,
-            final SystemManagement systemManagement, final ApplicationEventPublisher eventPublisher,
+            final SystemManagement systemManagement, final DownloadProgressAggregator downloadProgressAggregator,
+            final DeploymentTemplateCache deploymentTemplateCache, final FeedbackQueue feedbackQueue,
             final HawkbitSecurityProperties securityProperties,
             @Value("${hawkbit.ddi.skip-artifact-access-check.tenants:}") final String skipArtifactAccessCheckTenants) {
         this.controllerManagement = controllerManagement;
@@ -127,7 +135,9 @@ public class DdiRootController implements DdiRootControllerRestApi {
         this.artifactManagement = artifactManagement;
         this.artifactUrlHandler = artifactUrlHandler;
         this.systemManagement = systemManagement;
-        this.eventPublisher = eventPublisher;
+        this.downloadProgressAggregator = downloadProgressAggregator;
+        this.deploymentTemplateCache = deploymentTemplateCache;
+        this.feedbackQueue = feedbackQueue;
         this.securityProperties = securityProperties;
         skipArtifactAccessCheck = "*".equals(skipArtifactAccessCheckTenants);
         this.skipArtifactAccessCheckTenants = skipArtifactAccessCheck || ObjectUtils.isEmpty(skipArtifactAccessCheckTenants)
@@ -149,14 +159,17 @@ public class DdiRootController implements DdiRootControllerRestApi {
 
         checkAndCancelExpiredAction(activeAction);
 
+        final String pollingTime = activeAction == null
+                ? controllerManagement.getPollingTime(target)
+                : controllerManagement.getPollingTimeForAction(target, activeAction);
+        final String eTag = DataConversionHelper.controllerBaseETag(
+                getHttpServletRequest().getRequestURL().toString(), target, installedAction, activeAction, pollingTime);
+        if (isNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+
         // activeAction
-        return new ResponseEntity<>(DataConversionHelper.fromTarget(
-                target,
-                installedAction, activeAction,
-                activeAction == null
-                        ? controllerManagement.getPollingTime(target)
-                        : controllerManagement.getPollingTimeForAction(target, activeAction)),
-                HttpStatus.OK);
+        return ResponseEntity.ok().eTag(eTag).body(DataConversionHelper.fromTarget(target, installedAction, activeAction, pollingTime));
     }
 
     @Override
@@ -219,8 +232,8 @@ public class DdiRootController implements DdiRootControllerRestApi {
                         getHttpServletRequest(), getHttpServletResponse(),
                         (length, shippedSinceLastEvent, total) -> {
                             if (actionStatus != null) {
-                                eventPublisher.publishEvent(
-                                        new DownloadProgressEvent(AccessContext.tenant(), actionStatus.getId(), shippedSinceLastEvent));
+                                downloadProgressAggregator.progress(
+                                        AccessContext.tenant(), actionStatus.getId(), shippedSinceLastEvent, total >= length);
                             }
                         });
             }
@@ -267,11 +280,18 @@ public class DdiRootController implements DdiRootControllerRestApi {
         checkAndCancelExpiredAction(action);
 
         if (!action.isCancelingOrCanceled() && !action.isWaitingConfirmation()) {
-            final DdiDeploymentBase base = generateDdiDeploymentBase(target, action, actionHistoryMessageCount);
+            final DistributionSetGraph graph = controllerManagement.getDistributionSetGraph(action.getDistributionSet().getId());
+            final String eTag = deploymentBaseETag(action, graph, actionHistoryMessageCount);
+            if (eTag != null && isNotModified(eTag)) {
+                // the device has already retrieved the (same) deployment
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+            }
+
+            final DdiDeploymentBase base = generateDdiDeploymentBase(target, action, graph, actionHistoryMessageCount);
             log.debug("Found an active UpdateAction for target {}. returning deployment: {}", controllerId, base);
             controllerManagement.registerRetrieved(
                     action.getId(), SERVER_MESSAGE_PREFIX + "Target retrieved update action and should start now the download.");
-            return new ResponseEntity<>(base, HttpStatus.OK);
+            return eTag == null ? ResponseEntity.ok(base) : ResponseEntity.ok().eTag(eTag).body(base);
         }
 
         return ResponseEntity.notFound().build();
@@ -294,13 +314,27 @@ public class DdiRootController implements DdiRootControllerRestApi {
             return new ResponseEntity<>(HttpStatus.GONE);
         }
 
-        controllerManagement.addUpdateActionStatus(generateUpdateStatus(feedback, controllerId, actionId));
+        final ActionStatusCreate actionStatus = generateUpdateStatus(feedback, controllerId, actionId);
+        if (feedbackQueue.isQueueable(actionStatus.getStatus())) {
+            return enqueue(idempotencyKey -> feedbackQueue.submitUpdateActionStatus(controllerId, idempotencyKey, actionStatus));
+        }
+        if (!feedbackQueue.awaitQueued(actionId)) {
+            // the queued feedback of the action is still not applied - the device shall retry later
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).build();
+        }
+        controllerManagement.addUpdateActionStatus(actionStatus);
 
         return ResponseEntity.ok().build();
     }
 
     @Override
     public ResponseEntity<Void> putConfigData(final DdiConfigData configData, final String tenant, final String controllerId) {
+        if (feedbackQueue.isEnabled()) {
+            final UpdateMode updateMode = getUpdateMode(configData);
+            final long targetId = findTargetOrThrow(controllerId).getId();
+            return enqueue(idempotencyKey -> feedbackQueue.submitConfigData(
+                    controllerId, idempotencyKey, targetId, configData.getData(), updateMode));
+        }
         controllerManagement.updateControllerAttributes(controllerId, configData.getData(), getUpdateMode(configData));
         return ResponseEntity.ok().build();
     }
@@ -329,8 +363,15 @@ public class DdiRootController implements DdiRootControllerRestApi {
         log.debug("provideCancelActionFeedback for target [{}]: {}", controllerId, feedback);
 
         final Target target = findTargetOrThrow(controllerId);
-        controllerManagement.addCancelActionStatus(
-                generateActionCancelStatus(feedback, target, getTargetActionByIdOrThrow(target, actionId).getId()));
+        final ActionStatusCreate actionStatus = generateActionCancelStatus(
+                feedback, target, getTargetActionByIdOrThrow(target, actionId).getId());
+        if (feedbackQueue.isQueueable(actionStatus.getStatus())) {
+            return enqueue(idempotencyKey -> feedbackQueue.submitCancelActionStatus(controllerId, idempotencyKey, actionStatus));
+        }
+        if (!feedbackQueue.awaitQueued(actionStatus.getActionId())) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).build();
+        }
+        controllerManagement.addCancelActionStatus(actionStatus);
         return ResponseEntity.ok().build();
     }
 
@@ -346,10 +387,16 @@ public class DdiRootController implements DdiRootControllerRestApi {
             return ResponseEntity.notFound().build();
         }
 
-        final DdiDeploymentBase base = generateDdiDeploymentBase(target, action, actionHistoryMessageCount);
+        final DistributionSetGraph graph = controllerManagement.getDistributionSetGraph(action.getDistributionSet().getId());
+        final String eTag = deploymentBaseETag(action, graph, actionHistoryMessageCount);
+        if (eTag != null && isNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+
+        final DdiDeploymentBase base = generateDdiDeploymentBase(target, action, graph, actionHistoryMessageCount);
 
         log.debug("Found an installed UpdateAction for target {}. returning deployment: {}", controllerId, base);
-        return new ResponseEntity<>(base, HttpStatus.OK);
+        return eTag == null ? ResponseEntity.ok(base) : ResponseEntity.ok().eTag(eTag).body(base);
 
     }
 
@@ -692,6 +739,22 @@ public class DdiRootController implements DdiRootControllerRestApi {
         return status;
     }
 
+    // queues the feedback - with the idempotency key of the request (or a generated one)
+    private ResponseEntity<Void> enqueue(final Function<String, FeedbackQueue.Result> submit) {
+        final String idempotencyKey = Optional.ofNullable(getHttpServletRequest().getHeader(IDEMPOTENCY_KEY))
+                .filter(key -> !ObjectUtils.isEmpty(key))
+                .orElseGet(() -> UUID.randomUUID().toString());
+        if (idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        final HttpStatus status = switch (submit.apply(idempotencyKey)) {
+            case ACCEPTED, DUPLICATE -> HttpStatus.ACCEPTED;
+            case REJECTED -> HttpStatus.TOO_MANY_REQUESTS;
+        };
+        return ResponseEntity.status(status).header(IDEMPOTENCY_KEY, idempotencyKey).build();
+    }
+
     private Target findTargetOrThrow(final String controllerId) {
         return controllerManagement.findByControllerId(controllerId).orElseThrow(() -> new EntityNotFoundException(Target.class, controllerId));
     }
@@ -721,23 +784,46 @@ public class DdiRootController implements DdiRootControllerRestApi {
         }
     }
 
-    private DdiDeploymentBase generateDdiDeploymentBase(final Target target, final Action action, final Integer actionHistoryMessageCount) {
+    /**
+     * Checks the <code>If-None-Match</code> header of the request against the (strong) ETag of the current state of the resource.
+     *
+     * @param eTag the ETag of the resource
+     * @return <code>true</code> if the device has the current state already, i.e. <code>304 Not Modified</code> shall be returned
+     */
+    private static boolean isNotModified(final String eTag) {
+        final String ifNoneMatch = getHttpServletRequest().getHeader(IF_NONE_MATCH);
+        return ifNoneMatch != null && HttpUtil.matchesHttpHeader(ifNoneMatch, eTag);
+    }
+
+    /**
+     * @return the ETag of the deployment base or <code>null</code> if the action history is requested - it could be changed by the
+     *         feedback of the device without change of the action
+     */
+    private static String deploymentBaseETag(
+            final Action action, final DistributionSetGraph graph, final Integer actionHistoryMessageCount) {
+        return actionHistoryMessageCount == null || actionHistoryMessageCount == 0
+                ? DataConversionHelper.deploymentBaseETag(getHttpServletRequest().getRequestURL().toString(), action, graph)
+                : null;
+    }
+
+    private DdiDeploymentBase generateDdiDeploymentBase(
+            final Target target, final Action action, final DistributionSetGraph graph, final Integer actionHistoryMessageCount) {
         final DdiActionHistory actionHistory = generateDdiActionHistory(action, actionHistoryMessageCount).orElse(null);
-        final DdiDeployment ddiDeployment = generateDdiDeployment(target, action);
+        final DdiDeployment ddiDeployment = generateDdiDeployment(target, action, graph);
         return new DdiDeploymentBase(Long.toString(action.getId()), ddiDeployment, actionHistory);
     }
 
     private DdiConfirmationBaseAction generateDdiConfirmationBase(
             final Target target, final Action action, final Integer actionHistoryMessageCount) {
         final DdiActionHistory actionHistory = generateDdiActionHistory(action, actionHistoryMessageCount).orElse(null);
-        final DdiDeployment ddiDeployment = generateDdiDeployment(target, action);
+        final DdiDeployment ddiDeployment = generateDdiDeployment(
+                target, action, controllerManagement.getDistributionSetGraph(action.getDistributionSet().getId()));
         return new DdiConfirmationBaseAction(Long.toString(action.getId()), ddiDeployment, actionHistory);
     }
 
-    private DdiDeployment generateDdiDeployment(final Target target, final Action action) {
-        final List<DdiChunk> chunks = DataConversionHelper.createChunks(
-                target, action, artifactUrlHandler, systemManagement,
-                new ServletServerHttpRequest(getHttpServletRequest()), controllerManagement);
+    private DdiDeployment generateDdiDeployment(final Target target, final Action action, final DistributionSetGraph graph) {
+        final List<DdiChunk> chunks = deploymentTemplateCache.createChunks(
+                target, graph, new ServletServerHttpRequest(getHttpServletRequest()));
         final HandlingType downloadType = calculateDownloadType(action);
         final HandlingType updateType = calculateUpdateType(action, downloadType);
         final DdiMaintenanceWindowStatus maintenanceWindow = calculateMaintenanceWindow(action);
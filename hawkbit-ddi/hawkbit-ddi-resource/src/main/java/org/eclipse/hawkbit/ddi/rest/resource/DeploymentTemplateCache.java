@@ -0,0 +1,189 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.ddi.rest.resource;
+
+import static org.eclipse.hawkbit.context.AccessContext.asTenant;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.eclipse.hawkbit.artifact.urlresolver.ArtifactUrl;
+import org.eclipse.hawkbit.artifact.urlresolver.ArtifactUrlResolver;
+import org.eclipse.hawkbit.artifact.urlresolver.ArtifactUrlResolver.DownloadDescriptor;
+import org.eclipse.hawkbit.ddi.json.model.DdiArtifact;
+import org.eclipse.hawkbit.ddi.json.model.DdiArtifactHash;
+import org.eclipse.hawkbit.ddi.json.model.DdiChunk;
+import org.eclipse.hawkbit.ddi.json.model.DdiMetadata;
+import org.eclipse.hawkbit.repository.SystemManagement;
+import org.eclipse.hawkbit.repository.event.remote.DistributionSetDeletedEvent;
+import org.eclipse.hawkbit.repository.event.remote.SoftwareModuleDeletedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.DistributionSetUpdatedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.SoftwareModuleUpdatedEvent;
+import org.eclipse.hawkbit.repository.model.DistributionSetGraph;
+import org.eclipse.hawkbit.repository.model.DistributionSetGraph.ModuleArtifact;
+import org.eclipse.hawkbit.repository.model.Target;
+import org.eclipse.hawkbit.rest.json.model.ResponseList;
+import org.eclipse.hawkbit.tenancy.TenantAwareCacheManager;
+import org.springframework.cache.Cache;
+import org.springframework.context.event.EventListener;
+import org.springframework.hateoas.Link;
+import org.springframework.http.HttpRequest;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cache of the (resolved) deployment chunks of the <b>locked</b> distribution sets. The chunks of a locked distribution set are the same
+ * for all the devices it is deployed to - except the artifact download links, which contain the controller id. So, the chunks are
+ * resolved once per distribution set (and request scheme, host and port) into a template with the controller id as a placeholder in the
+ * links, and for every request only the links are rendered (late bound) with the controller id of the device. The scheme, host and port
+ * come from the (client supplied) request, so only the templates of the few (8) most used ones are kept per distribution set.
+ * <p/>
+ * The links are templated only if the {@link ArtifactUrlResolver} resolves them by plain substitution of the controller id (as the
+ * default property based one does). Otherwise, (e.g. signed or encoded links) the chunks are resolved for every request.
+ * <p/>
+ * The cache is tenant aware (see {@link TenantAwareCacheManager}, configured via <code>hawkbit.cache.DdiDeploymentTemplate.spec</code>)
+ * and entries are evicted on all nodes via the remote events on distribution set update or deletion, and on software module update or
+ * deletion (evicts all the tenant entries) - the same way as the {@link DistributionSetGraph} cache.
+ */
+@Component
+public class DeploymentTemplateCache {
+
+    private static final String CACHE_NAME = "DdiDeploymentTemplate";
+    // controller id placeholders - the second one is used to check if the links are resolved by plain substitution
+    private static final String CONTROLLER_ID = "ctrl0id0a4f3d9e7b";
+    private static final String CONTROLLER_ID_CHECK = "ctrl0id0c6b1e8f25";
+    // max number of the request scheme, host and port combinations with a template per distribution set
+    private static final int MAX_REQUEST_BASES = 8;
+
+    private static final TenantAwareCacheManager CACHE_MANAGER = TenantAwareCacheManager.getInstance();
+
+    private final ArtifactUrlResolver artifactUrlHandler;
+    private final SystemManagement systemManagement;
+
+    public DeploymentTemplateCache(final ArtifactUrlResolver artifactUrlHandler, final SystemManagement systemManagement) {
+        this.artifactUrlHandler = artifactUrlHandler;
+        this.systemManagement = systemManagement;
+    }
+
+    /**
+     * Returns the deployment chunks of the distribution set for the target. For locked distribution sets the chunks are rendered from
+     * the cached template, otherwise they are resolved.
+     *
+     * @param target the target the chunks are for
+     * @param graph the graph of the distribution set
+     * @param request the request (its scheme, host and port could be used for the artifact links)
+     * @return the chunks
+     */
+    public List<DdiChunk> createChunks(final Target target, final DistributionSetGraph graph, final HttpRequest request) {
+        if (!graph.locked()) {
+            return DataConversionHelper.createChunks(target, graph, artifactUrlHandler, systemManagement, request);
+        }
+
+        final Cache cache = getCache();
+        Template template = cache.get(graph.id(), Template.class);
+        if (template == null || (template.graph() != graph && !template.graph().equals(graph))) {
+            template = new Template(
+                    graph, Caffeine.newBuilder().maximumSize(MAX_REQUEST_BASES).<String, Optional<List<ChunkTemplate>>> build().asMap());
+            cache.put(graph.id(), template);
+        }
+        final URI requestUri = request.getURI();
+        return template.chunks()
+                .computeIfAbsent(requestUri.getScheme() + "://" + requestUri.getAuthority(), base -> resolve(graph, requestUri))
+                .map(chunks -> render(chunks, target.getControllerId()))
+                .orElseGet(() -> DataConversionHelper.createChunks(target, graph, artifactUrlHandler, systemManagement, request));
+    }
+
+    @EventListener(classes = DistributionSetUpdatedEvent.class)
+    public void invalidateOnDistributionSetUpdate(final DistributionSetUpdatedEvent event) {
+        asTenant(event.getTenant(), DeploymentTemplateCache::getCache).evict(event.getEntityId());
+    }
+
+    @EventListener(classes = DistributionSetDeletedEvent.class)
+    public void invalidateOnDistributionSetDelete(final DistributionSetDeletedEvent event) {
+        asTenant(event.getTenant(), DeploymentTemplateCache::getCache).evict(event.getEntityId());
+    }
+
+    @EventListener(classes = SoftwareModuleUpdatedEvent.class)
+    public void invalidateOnSoftwareModuleUpdate(final SoftwareModuleUpdatedEvent event) {
+        asTenant(event.getTenant(), DeploymentTemplateCache::getCache).clear();
+    }
+
+    @EventListener(classes = SoftwareModuleDeletedEvent.class)
+    public void invalidateOnSoftwareModuleDelete(final SoftwareModuleDeletedEvent event) {
+        asTenant(event.getTenant(), DeploymentTemplateCache::getCache).clear();
+    }
+
+    // returns empty if the links are not resolved by plain substitution of the controller id
+    private Optional<List<ChunkTemplate>> resolve(final DistributionSetGraph graph, final URI requestUri) {
+        final String tenant = systemManagement.getTenantMetadataWithoutDetails().getTenant();
+        final List<ChunkTemplate> chunks = new ArrayList<>(graph.modules().size());
+        for (final DistributionSetGraph.Module module : graph.modules()) {
+            final List<ArtifactTemplate> artifacts = new ArrayList<>(module.artifacts().size());
+            for (final ModuleArtifact artifact : module.artifacts()) {
+                final List<ArtifactUrl> urls = getUrls(tenant, CONTROLLER_ID, module.id(), artifact, requestUri);
+                if (!urls.equals(getUrls(tenant, CONTROLLER_ID_CHECK, module.id(), artifact, requestUri).stream()
+                        .map(url -> new ArtifactUrl(url.protocol(), url.rel(), url.ref().replace(CONTROLLER_ID_CHECK, CONTROLLER_ID)))
+                        .toList())) {
+                    return Optional.empty();
+                }
+                artifacts.add(new ArtifactTemplate(
+                        artifact.filename(), new DdiArtifactHash(artifact.sha1Hash(), artifact.md5Hash(), artifact.sha256Hash()),
+                        artifact.size(), urls));
+            }
+            chunks.add(new ChunkTemplate(
+                    DataConversionHelper.mapChunkLegacyKeys(module.typeKey()), module.version(), module.name(),
+                    module.encrypted() ? Boolean.TRUE : null, artifacts, DataConversionHelper.mapMetadata(module.metadata())));
+        }
+        return Optional.of(chunks);
+    }
+
+    private List<ArtifactUrl> getUrls(
+            final String tenant, final String controllerId, final long moduleId, final ModuleArtifact artifact, final URI requestUri) {
+        return artifactUrlHandler.getUrls(
+                new DownloadDescriptor(tenant, controllerId, moduleId, artifact.filename(), artifact.sha1Hash()),
+                ArtifactUrlResolver.ApiType.DDI, requestUri);
+    }
+
+    // the chunks and artifacts (links) are mutable, so they are created for every request - only the immutable parts are shared
+    private static List<DdiChunk> render(final List<ChunkTemplate> chunks, final String controllerId) {
+        return new ResponseList<>(chunks.stream()
+                .map(chunk -> new DdiChunk(chunk.part(), chunk.version(), chunk.name(), chunk.encrypted(),
+                        new ResponseList<>(chunk.artifacts().stream().map(artifact -> render(artifact, controllerId)).toList()),
+                        chunk.metadata()))
+                .toList());
+    }
+
+    private static DdiArtifact render(final ArtifactTemplate artifact, final String controllerId) {
+        final DdiArtifact file = new DdiArtifact(artifact.filename(), artifact.hashes(), artifact.size());
+        artifact.urls().forEach(url -> file.add(Link.of(url.ref().replace(CONTROLLER_ID, controllerId)).withRel(url.rel()).expand()));
+        return file;
+    }
+
+    private static Cache getCache() {
+        return Objects.requireNonNull(CACHE_MANAGER.getCache(CACHE_NAME), "Cache '" + CACHE_NAME + "' is null!");
+    }
+
+    /**
+     * The template of the chunks of a distribution set.
+     *
+     * @param graph the graph the template is created for
+     * @param chunks the chunk templates per request scheme, host and port (bounded) - empty if the links could not be templated
+     */
+    private record Template(DistributionSetGraph graph, Map<String, Optional<List<ChunkTemplate>>> chunks) {}
+
+    private record ChunkTemplate(
+            String part, String version, String name, Boolean encrypted, List<ArtifactTemplate> artifacts, List<DdiMetadata> metadata) {}
+
+    private record ArtifactTemplate(String filename, DdiArtifactHash hashes, long size, List<ArtifactUrl> urls) {}
+}
@@ -0,0 +1,130 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.ddi.rest.resource;
+
+import static org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationProperties.TenantConfigurationKey.DOWNLOAD_PROGRESS_AGGREGATION_INTERVAL;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.repository.event.ApplicationEventSubscribers;
+import org.eclipse.hawkbit.repository.event.remote.DownloadProgressEvent;
+import org.eclipse.hawkbit.repository.helper.TenantConfigHelper;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Node local aggregator of the download progress of the actions. The progress updates of an action are coalesced and published as a
+ * single {@link DownloadProgressEvent} (with the bytes shipped since the last event) per time window (the tenant configuration
+ * <code>download.progress.aggregation.interval</code>), or when the download is complete. If the window is 0 (default) every progress
+ * update is published as it is.
+ * <p/>
+ * The events are created only if there is a subscriber for them.
+ */
+@Slf4j
+@Component
+public class DownloadProgressAggregator {
+
+    private static final String PROP_FLUSH_INTERVAL = "${hawkbit.ddi.download-progress.flush-interval:1000}";
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final ApplicationEventSubscribers subscribers;
+    // action status id -> the open window
+    private final Map<Long, Window> windows = new ConcurrentHashMap<>();
+
+    public DownloadProgressAggregator(
+            final ApplicationEventPublisher eventPublisher, final ObjectProvider<ApplicationEventSubscribers> subscribers) {
+        this.eventPublisher = eventPublisher;
+        this.subscribers = subscribers.getIfAvailable(() -> event -> true);
+    }
+
+    /**
+     * Records a download progress.
+     *
+     * @param tenant the tenant
+     * @param actionStatusId of the action status the download belongs to
+     * @param shippedBytesSinceLast the bytes shipped since the last progress update
+     * @param complete if the download is complete
+     */
+    public void progress(final String tenant, final Long actionStatusId, final long shippedBytesSinceLast, final boolean complete) {
+        final DownloadProgressEvent event = new DownloadProgressEvent(tenant, actionStatusId, shippedBytesSinceLast);
+        if (!subscribers.hasSubscribers(event)) {
+            windows.remove(actionStatusId);
+            return;
+        }
+
+        final long interval = TenantConfigHelper.getAsSystem(DOWNLOAD_PROGRESS_AGGREGATION_INTERVAL, Long.class);
+        if (interval <= 0 && !windows.containsKey(actionStatusId)) {
+            eventPublisher.publishEvent(event);
+            return;
+        }
+
+        final long now = System.currentTimeMillis();
+        final Window[] closed = new Window[1];
+        windows.compute(actionStatusId, (id, window) -> {
+            final Window current = window == null ? new Window(tenant, now + interval) : window;
+            current.shippedBytes += shippedBytesSinceLast;
+            if (complete || now >= current.due) {
+                closed[0] = current;
+                return null;
+            }
+            return current;
+        });
+        if (closed[0] != null) {
+            publish(actionStatusId, closed[0]);
+        }
+    }
+
+    /**
+     * Publishes the windows which are due but not closed by a progress update (e.g. stalled or aborted downloads).
+     */
+    @Scheduled(initialDelayString = PROP_FLUSH_INTERVAL, fixedDelayString = PROP_FLUSH_INTERVAL)
+    public void flush() {
+        final long now = System.currentTimeMillis();
+        windows.keySet().forEach(actionStatusId -> {
+            final Window[] closed = new Window[1];
+            windows.computeIfPresent(actionStatusId, (id, window) -> {
+                if (now >= window.due) {
+                    closed[0] = window;
+                    return null;
+                }
+                return window;
+            });
+            if (closed[0] != null) {
+                publish(actionStatusId, closed[0]);
+            }
+        });
+    }
+
+    int getOpenWindows() {
+        return windows.size();
+    }
+
+    private void publish(final Long actionStatusId, final Window window) {
+        log.trace("Publish download progress of action status {}: {} bytes", actionStatusId, window.shippedBytes);
+        eventPublisher.publishEvent(new DownloadProgressEvent(window.tenant, actionStatusId, window.shippedBytes));
+    }
+
+    // modified only in the map (compute) methods, i.e. exclusively
+    private static class Window {
+
+        private final String tenant;
+        private final long due;
+        private long shippedBytes;
+
+        private Window(final String tenant, final long due) {
+            this.tenant = tenant;
+            this.due = due;
+        }
+    }
+}
@@ -0,0 +1,391 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.ddi.rest.resource;
+
+import static org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationProperties.TenantConfigurationKey.DDI_FEEDBACK_ASYNC_ENABLED;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.context.AccessContext;
+import org.eclipse.hawkbit.repository.ControllerManagement;
+import org.eclipse.hawkbit.repository.UpdateMode;
+import org.eclipse.hawkbit.repository.helper.TenantConfigHelper;
+import org.eclipse.hawkbit.repository.model.Action.ActionStatusCreate;
+import org.eclipse.hawkbit.repository.model.Action.Status;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Node local queue for the asynchronous (accept and queue) processing of the DDI progress feedback - started on the node via
+ * <code>hawkbit.ddi.feedback.async.enabled</code> and used only for the tenants which have opted in via the tenant configuration
+ * <code>ddi.feedback.async.enabled</code>. The feedback is put in one of a number of bounded queues - selected by an order key (e.g. the
+ * action id), so the feedback with the same order key is applied in the order of submission. Each queue is drained in batches by a single
+ * (daemon) worker thread, in the (tenant and security) context of the submitter.
+ * <p/>
+ * <b>The queue is not durable</b> - it is in memory only, so the queued (already accepted) feedback is lost if the node crashes. That's why
+ * it is opt-in per tenant, and only the feedback which doesn't change the state of the action (see {@link #isQueueable(Status)}) and the
+ * config data are queued. The feedback which finishes (or could finish) an action shall be applied synchronously - the device won't resend
+ * it after it has been accepted. In order not to overtake the still queued progress feedback of the same action (which would then be
+ * applied after the final one), the synchronous feedback shall wait for it (see {@link #awaitQueued(long)}).
+ * <p/>
+ * Each feedback has an idempotency key - the outcomes of the accepted feedback are kept for a while (see {@link #getOutcome}), so a
+ * feedback retried with the same key is not applied twice, while a feedback which has failed could be retried with the same key. If the
+ * queue is full the feedback is rejected (and not remembered) so the device could retry later.
+ * <p/>
+ * The queue depends on the {@link ControllerManagement}, so on shutdown it is closed (and the remaining feedback is applied) before the
+ * repository is destroyed.
+ */
+@Slf4j
+@Component
+public class FeedbackQueue implements AutoCloseable {
+
+    private static final long POLL_TIMEOUT_MS = 100;
+    private static final long CLOSE_TIMEOUT_MS = 10_000;
+    private static final Set<Status> QUEUEABLE_STATUSES = EnumSet.of(Status.RUNNING, Status.WARNING, Status.DOWNLOAD, Status.RETRIEVED);
+
+    /**
+     * The result of a feedback submission.
+     */
+    public enum Result {
+        /**
+         * The feedback is queued.
+         */
+        ACCEPTED,
+        /**
+         * A feedback with the same idempotency key has already been accepted, the feedback is skipped.
+         */
+        DUPLICATE,
+        /**
+         * The queue is full, the feedback is not queued.
+         */
+        REJECTED
+    }
+
+    /**
+     * The outcome of an accepted feedback.
+     *
+     * @param state the state of the feedback
+     * @param failure the failure message if the feedback has failed, <code>null</code> otherwise
+     */
+    public record Outcome(State state, String failure) {
+
+        /**
+         * The state of an accepted feedback.
+         */
+        public enum State {
+            /**
+             * The feedback is waiting to be applied.
+             */
+            QUEUED,
+            /**
+             * The feedback is applied.
+             */
+            APPLIED,
+            /**
+             * The feedback has failed to be applied, it could be retried with the same idempotency key.
+             */
+            FAILED
+        }
+
+        private static final Outcome QUEUED = new Outcome(State.QUEUED, null);
+        private static final Outcome APPLIED = new Outcome(State.APPLIED, null);
+    }
+
+    private final boolean enabled;
+    private final ControllerManagement controllerManagement;
+    private final int batchSize;
+    private final long awaitTimeout;
+    private final List<BlockingQueue<Runnable>> queues;
+    private final List<Thread> workers;
+    // tenant:controllerId:idempotency key of the accepted feedback -> outcome
+    private final Cache<String, Outcome> outcomes;
+    // tenant:actionId -> completed when the last queued feedback of the action is applied
+    private final Map<String, CompletableFuture<Void>> lastQueued = new ConcurrentHashMap<>();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private volatile boolean closed;
+
+    @SuppressWarnings("java:S107")
+    public FeedbackQueue(
+            final ControllerManagement controllerManagement,
+            @Value("${hawkbit.ddi.feedback.async.enabled:false}") final boolean enabled,
+            @Value("${hawkbit.ddi.feedback.async.workers:4}") final int workers,
+            @Value("${hawkbit.ddi.feedback.async.queue-size:10000}") final int queueSize,
+            @Value("${hawkbit.ddi.feedback.async.batch-size:100}") final int batchSize,
+            @Value("${hawkbit.ddi.feedback.async.idempotency-keys.max-size:100000}") final long idempotencyKeysMaxSize,
+            @Value("${hawkbit.ddi.feedback.async.idempotency-keys.ttl:3600000}") final long idempotencyKeysTtl,
+            @Value("${hawkbit.ddi.feedback.async.await-timeout:10000}") final long awaitTimeout) {
+        this.controllerManagement = controllerManagement;
+        this.enabled = enabled;
+        this.batchSize = Math.max(1, batchSize);
+        this.awaitTimeout = awaitTimeout;
+        final int workerCount = enabled ? Math.max(1, workers) : 0;
+        final int workerQueueSize = Math.max(1, queueSize / Math.max(1, workerCount));
+        queues = new ArrayList<>(workerCount);
+        this.workers = new ArrayList<>(workerCount);
+        for (int i = 0; i < workerCount; i++) {
+            final BlockingQueue<Runnable> queue = new ArrayBlockingQueue<>(workerQueueSize);
+            queues.add(queue);
+            this.workers.add(Thread.ofPlatform().name("ddi-feedback-" + i).daemon().start(() -> run(queue)));
+        }
+        outcomes = Caffeine.newBuilder()
+                .maximumSize(idempotencyKeysMaxSize)
+                .expireAfterWrite(idempotencyKeysTtl, TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    /**
+     * Checks if the feedback of the current tenant shall be queued - i.e. the queue is enabled on the node and the tenant has opted in.
+     *
+     * @return <code>true</code> if the feedback of the current tenant shall be queued
+     */
+    public boolean isEnabled() {
+        return enabled && Boolean.TRUE.equals(TenantConfigHelper.getAsSystem(DDI_FEEDBACK_ASYNC_ENABLED, Boolean.class));
+    }
+
+    /**
+     * Checks if a feedback with the given status of the current tenant could be queued - i.e. the queue is {@link #isEnabled() enabled}
+     * and the feedback doesn't finish the action.
+     *
+     * @param status the status of the feedback
+     * @return <code>true</code> if the feedback could be queued, <code>false</code> if it shall be applied synchronously
+     */
+    public boolean isQueueable(final Status status) {
+        return QUEUEABLE_STATUSES.contains(status) && isEnabled();
+    }
+
+    /**
+     * Waits (up to <code>hawkbit.ddi.feedback.async.await-timeout</code> ms) until the already queued feedback of the action is applied.
+     * Shall be called before the synchronous processing of a feedback of the action, so it doesn't overtake the queued one.
+     *
+     * @param actionId the id of the action
+     * @return <code>true</code> if there is no (more) queued feedback of the action, <code>false</code> if the wait has timed out
+     */
+    public boolean awaitQueued(final long actionId) {
+        final CompletableFuture<Void> last = lastQueued.get(orderKey(actionId));
+        if (last == null) {
+            return true;
+        }
+        try {
+            last.get(awaitTimeout, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (final TimeoutException e) {
+            log.warn("Queued feedback of action {} is not applied in {} ms", actionId, awaitTimeout);
+            return false;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (final ExecutionException e) {
+            // never completed exceptionally, the failures are recorded as outcomes
+            return true;
+        }
+    }
+
+    /**
+     * Submits an update action status for asynchronous processing, ordered by the action.
+     *
+     * @param controllerId the controller id of the device which sent the feedback
+     * @param idempotencyKey the idempotency key of the feedback
+     * @param actionStatus the action status, shall be {@link #isQueueable(Status) queueable}
+     * @return the result of the submission
+     */
+    public Result submitUpdateActionStatus(final String controllerId, final String idempotencyKey, final ActionStatusCreate actionStatus) {
+        return submit(controllerId, idempotencyKey, actionStatus.getActionId(), actionStatus.getStatus(),
+                () -> controllerManagement.addUpdateActionStatus(actionStatus));
+    }
+
+    /**
+     * Submits a cancel action status for asynchronous processing, ordered by the action.
+     *
+     * @param controllerId the controller id of the device which sent the feedback
+     * @param idempotencyKey the idempotency key of the feedback
+     * @param actionStatus the action status, shall be {@link #isQueueable(Status) queueable}
+     * @return the result of the submission
+     */
+    public Result submitCancelActionStatus(final String controllerId, final String idempotencyKey, final ActionStatusCreate actionStatus) {
+        return submit(controllerId, idempotencyKey, actionStatus.getActionId(), actionStatus.getStatus(),
+                () -> controllerManagement.addCancelActionStatus(actionStatus));
+    }
+
+    /**
+     * Submits a config data update for asynchronous processing, ordered by the target.
+     *
+     * @param controllerId the controller id of the device which sent the config data
+     * @param idempotencyKey the idempotency key of the config data
+     * @param targetId the id of the target
+     * @param attributes the attributes
+     * @param updateMode the update mode
+     * @return the result of the submission
+     */
+    public Result submitConfigData(
+            final String controllerId, final String idempotencyKey, final long targetId, final Map<String, String> attributes,
+            final UpdateMode updateMode) {
+        return submit(controllerId, idempotencyKey, targetId, null,
+                () -> controllerManagement.updateControllerAttributes(controllerId, attributes, updateMode));
+    }
+
+    /**
+     * Returns the outcome of an accepted feedback of the current tenant (if still known).
+     *
+     * @param controllerId the controller id of the device which sent the feedback
+     * @param idempotencyKey the idempotency key of the feedback
+     * @return the outcome, empty if the feedback is not accepted or its outcome has expired
+     */
+    public Optional<Outcome> getOutcome(final String controllerId, final String idempotencyKey) {
+        return Optional.ofNullable(outcomes.getIfPresent(key(controllerId, idempotencyKey)));
+    }
+
+    /**
+     * @return the number of the feedbacks waiting to be applied
+     */
+    public int getQueueSize() {
+        return queues.stream().mapToInt(BlockingQueue::size).sum();
+    }
+
+    /**
+     * @return the number of the feedbacks rejected so far because of full queue
+     */
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+    /**
+     * @return the number of the accepted feedbacks which have failed to be applied so far
+     */
+    public long getFailedCount() {
+        return failed.get();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        for (final Thread worker : workers) {
+            try {
+                worker.join(CLOSE_TIMEOUT_MS);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        // flush whatever is left (e.g. put after the workers have finished)
+        for (final BlockingQueue<Runnable> queue : queues) {
+            Runnable feedback;
+            while ((feedback = queue.poll()) != null) {
+                feedback.run();
+            }
+        }
+    }
+
+    private Result submit(
+            final String controllerId, final String idempotencyKey, final long orderKey, final Status status, final Runnable feedback) {
+        if (!enabled) {
+            throw new IllegalStateException("Asynchronous feedback processing is not enabled");
+        }
+        if (status != null && !QUEUEABLE_STATUSES.contains(status)) {
+            throw new IllegalArgumentException("Feedback with status " + status + " shall not be queued");
+        }
+
+        final String key = key(controllerId, idempotencyKey);
+        final boolean[] accepted = new boolean[1];
+        outcomes.asMap().compute(key, (k, outcome) -> {
+            // a failed feedback could be retried with the same key
+            if (outcome == null || outcome.state() == Outcome.State.FAILED) {
+                accepted[0] = true;
+                return Outcome.QUEUED;
+            }
+            return outcome;
+        });
+        if (!accepted[0]) {
+            log.debug("Feedback of {} with idempotency key {} has already been accepted", controllerId, idempotencyKey);
+            return Result.DUPLICATE;
+        }
+
+        final BlockingQueue<Runnable> queue = queues.get(Math.floorMod(Long.hashCode(orderKey), queues.size()));
+        final boolean queued;
+        if (status == null) {
+            queued = !closed && queue.offer(AccessContext.withCurrentContext(() -> apply(key, feedback)));
+        } else {
+            // action feedback - queued and registered as the last queued feedback of the action atomically
+            final String actionKey = orderKey(orderKey);
+            final CompletableFuture<Void> applied = new CompletableFuture<>();
+            final Runnable task = AccessContext.withCurrentContext(() -> {
+                try {
+                    apply(key, feedback);
+                } finally {
+                    applied.complete(null);
+                    lastQueued.remove(actionKey, applied);
+                }
+            });
+            queued = lastQueued.compute(actionKey, (k, last) -> !closed && queue.offer(task) ? applied : last) == applied;
+        }
+        if (!queued) {
+            outcomes.invalidate(key);
+            final long rejectedCount = rejected.incrementAndGet();
+            if (rejectedCount % 1000 == 1) {
+                log.warn("Feedback queue is full, {} feedbacks rejected so far", rejectedCount);
+            }
+            return Result.REJECTED;
+        }
+        return Result.ACCEPTED;
+    }
+
+    private void apply(final String key, final Runnable feedback) {
+        try {
+            feedback.run();
+            outcomes.put(key, Outcome.APPLIED);
+        } catch (final RuntimeException e) {
+            failed.incrementAndGet();
+            outcomes.put(key, new Outcome(Outcome.State.FAILED, e.getClass().getSimpleName() + ": " + e.getMessage()));
+            log.warn("Failed to apply queued feedback {}: {}", key, e.getMessage());
+            log.debug("Failed to apply queued feedback", e);
+        }
+    }
+
+    private void run(final BlockingQueue<Runnable> queue) {
+        final List<Runnable> batch = new ArrayList<>(batchSize);
+        while (!closed || !queue.isEmpty()) {
+            try {
+                final Runnable feedback = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (feedback != null) {
+                    batch.add(feedback);
+                    queue.drainTo(batch, batchSize - 1);
+                    batch.forEach(Runnable::run);
+                    batch.clear();
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private static String orderKey(final long actionId) {
+        return AccessContext.tenant() + ":" + actionId;
+    }
+
+    private static String key(final String controllerId, final String idempotencyKey) {
+        return AccessContext.tenant() + ":" + controllerId + ":" + idempotencyKey;
+    }
+}
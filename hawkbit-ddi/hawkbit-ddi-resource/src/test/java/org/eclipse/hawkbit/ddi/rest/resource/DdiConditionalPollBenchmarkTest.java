@@ -0,0 +1,91 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.ddi.rest.resource;
+
+import static org.eclipse.hawkbit.context.AccessContext.tenant;
+import static org.springframework.http.HttpHeaders.ETAG;
+import static org.springframework.http.HttpHeaders.IF_NONE_MATCH;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.repository.model.Action;
+import org.eclipse.hawkbit.repository.model.DistributionSet;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+/**
+ * Benchmark of the conditional (<code>If-None-Match</code>) polls of the controller base and deployment base
+ * resources - the bytes and CPU time per poll with full responses and with <code>304 Not Modified</code> responses.
+ * <p/>
+ * The number of polls could be raised via the <code>hawkbit.test.conditionalPoll.polls</code> system property. The bytes and CPU times
+ * are only logged, the conditional polls are verified by {@link DdiRootControllerTest#unchangedResourcesAreNotModified()}.
+ * <p/>
+ * Feature: Component Tests - Direct Device Integration API<br/>
+ * Story: Root Poll Resource
+ */
+@Slf4j
+@Tag("benchmark")
+class DdiConditionalPollBenchmarkTest extends AbstractDDiApiIntegrationTest {
+
+    private static final int POLLS = Integer.getInteger("hawkbit.test.conditionalPoll.polls", 200);
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+    /**
+     * Measures the full and the not modified polls of the controller base and deployment base.
+     */
+    @Test
+    void conditionalPolls() throws Exception {
+        final String controllerId = "conditional";
+        testdataFactory.createTarget(controllerId);
+        final DistributionSet ds = testdataFactory.createDistributionSet("conditional");
+        assignDistributionSet(ds.getId(), controllerId);
+        final Action action = deploymentManagement.findActiveActionsByTarget(controllerId, PAGE).getContent().get(0);
+
+        poll("deployment base", get(DEPLOYMENT_BASE, tenant(), controllerId, action.getId()));
+        poll("controller base", get(CONTROLLER_BASE, tenant(), controllerId));
+    }
+
+    private void poll(final String resource, final MockHttpServletRequestBuilder request) throws Exception {
+        request.accept(MediaTypes.HAL_JSON);
+        // the first poll could change the state - e.g. registers the target address or the retrieval of the deployment
+        mvc.perform(request);
+        final String eTag = mvc.perform(request).andReturn().getResponse().getHeader(ETAG);
+
+        long bytes = 0;
+        long start = THREAD_MX_BEAN.getCurrentThreadCpuTime();
+        for (int i = 0; i < POLLS; i++) {
+            bytes += mvc.perform(request).andReturn().getResponse().getContentAsByteArray().length;
+        }
+        final long fullCpuNs = THREAD_MX_BEAN.getCurrentThreadCpuTime() - start;
+        final long fullBytes = bytes;
+
+        request.header(IF_NONE_MATCH, eTag);
+        int notModified = 0;
+        bytes = 0;
+        start = THREAD_MX_BEAN.getCurrentThreadCpuTime();
+        for (int i = 0; i < POLLS; i++) {
+            final MockHttpServletResponse response = mvc.perform(request).andReturn().getResponse();
+            notModified += response.getStatus() == HttpStatus.NOT_MODIFIED.value() ? 1 : 0;
+            bytes += response.getContentAsByteArray().length;
+        }
+        final long notModifiedCpuNs = THREAD_MX_BEAN.getCurrentThreadCpuTime() - start;
+
+        log.info("{} - {} polls: full response {} bytes / {} us CPU per poll, conditional ({} not modified) {} bytes / {} us CPU per poll",
+                resource, POLLS, fullBytes / POLLS, fullCpuNs / POLLS / 1_000,
+                notModified, bytes / POLLS, notModifiedCpuNs / POLLS / 1_000);
+    }
+}
@@ -23,11 +23,14 @@ import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.http.HttpHeaders.ETAG;
+import static org.springframework.http.HttpHeaders.IF_NONE_MATCH;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -72,6 +75,7 @@ import org.springframework.hateoas.MediaTypes;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 
 /**
  * Test the root controller resources.
@@ -681,6 +685,44 @@ class DdiRootControllerTest extends AbstractDDiApiIntegrationTest {
                 .andExpect(jsonPath("$.deployment.maintenanceWindow", equalTo("available")));
     }
 
+    /**
+     * Verifies that the unchanged controller base, deployment base and installed base are answered with <code>304 Not Modified</code>
+     * (and no body) to a conditional poll with their ETag, that the ETag changes with the state of the action and that no ETag is
+     * calculated if the action history is requested.
+     */
+    @Test
+    void unchangedResourcesAreNotModified() throws Exception {
+        final String controllerId = "conditional";
+        final Target target = testdataFactory.createTarget(controllerId);
+        final DistributionSet ds = testdataFactory.createDistributionSet("conditional");
+        assignDistributionSet(ds.getId(), controllerId);
+        final Action action = deploymentManagement.findActiveActionsByTarget(controllerId, PAGE).getContent().get(0);
+
+        final String controllerBaseETag = assertNotModified(get(CONTROLLER_BASE, AccessContext.tenant(), controllerId));
+        final String deploymentBaseETag = assertNotModified(get(DEPLOYMENT_BASE, AccessContext.tenant(), controllerId, action.getId()));
+
+        // the ETags reflect the state - e.g. the action switch from soft to forced
+        deploymentManagement.forceTargetAction(action.getId());
+        mvc.perform(get(CONTROLLER_BASE, AccessContext.tenant(), controllerId)
+                        .accept(MediaTypes.HAL_JSON).header(IF_NONE_MATCH, controllerBaseETag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(ETAG, not(equalTo(controllerBaseETag))));
+        mvc.perform(get(DEPLOYMENT_BASE, AccessContext.tenant(), controllerId, action.getId())
+                        .accept(MediaTypes.HAL_JSON).header(IF_NONE_MATCH, deploymentBaseETag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deployment.update", equalTo("forced")))
+                .andExpect(header().string(ETAG, not(equalTo(deploymentBaseETag))));
+
+        // with the action history requested no ETag is calculated - the history could change without change of the action
+        mvc.perform(get(DEPLOYMENT_BASE + "?actionHistory=-1", AccessContext.tenant(), controllerId, action.getId())
+                        .accept(MediaTypes.HAL_JSON).header(IF_NONE_MATCH, deploymentBaseETag))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(ETAG));
+
+        sendDeploymentActionFeedback(target, action, "closed", "success").andExpect(status().isOk());
+        assertNotModified(get(INSTALLED_BASE, AccessContext.tenant(), controllerId, action.getId()));
+    }
+
     /**
      * The system should not create a new target because of a too long controller id.
      */
@@ -736,6 +778,22 @@ class DdiRootControllerTest extends AbstractDDiApiIntegrationTest {
         return sendDeploymentActionFeedback(target, action, execution, finished, null);
     }
 
+    // returns the ETag of the resource after checking that a poll with it is answered with 304 Not Modified
+    private String assertNotModified(final MockHttpServletRequestBuilder request) throws Exception {
+        request.accept(MediaTypes.HAL_JSON);
+        // the first poll could change the state - e.g. registers the target address or the retrieval of the deployment
+        mvc.perform(request).andExpect(status().isOk());
+        final String eTag = mvc.perform(request)
+                .andExpect(status().isOk())
+                .andExpect(header().exists(ETAG))
+                .andReturn().getResponse().getHeader(ETAG);
+        mvc.perform(request.header(IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(ETAG, eTag))
+                .andExpect(content().bytes(new byte[0]));
+        return eTag;
+    }
+
     private void withPollingTime(final String pollingTime, final Callable<Void> runnable) throws Exception {
         getAs(withUser("tenantadmin", TENANT_CONFIGURATION),
                 () -> {
@@ -0,0 +1,95 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.ddi.rest.resource;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.function.Function;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.artifact.urlresolver.ArtifactUrlResolver;
+import org.eclipse.hawkbit.ddi.json.model.DdiChunk;
+import org.eclipse.hawkbit.repository.model.DistributionSet;
+import org.eclipse.hawkbit.repository.model.DistributionSetGraph;
+import org.eclipse.hawkbit.repository.model.Target;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+/**
+ * Benchmark of the creation of the deployment chunks of a locked distribution set with and without the
+ * {@link DeploymentTemplateCache} - the latency and the allocated bytes per request.
+ * <p/>
+ * The number of requests could be raised via the <code>hawkbit.test.deploymentTemplate.requests</code> system property. The latencies
+ * and allocations are only logged, the templated chunks are verified by {@link DeploymentTemplateCacheTest}. Run with
+ * <code>-Pbenchmark</code>.
+ * <p/>
+ * Feature: Component Tests - Direct Device Integration API<br/>
+ * Story: Deployment Action Resource
+ */
+@Slf4j
+@Tag("benchmark")
+class DeploymentTemplateCacheBenchmarkTest extends AbstractDDiApiIntegrationTest {
+
+    private static final int REQUESTS = Integer.getInteger("hawkbit.test.deploymentTemplate.requests", 2_000);
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Autowired
+    private DeploymentTemplateCache deploymentTemplateCache;
+    @Autowired
+    private ArtifactUrlResolver artifactUrlResolver;
+
+    /**
+     * Measures the latency and the allocations of the resolved and the templated chunks.
+     */
+    @Test
+    void resolvedAndTemplatedChunks() {
+        final DistributionSet ds = testdataFactory.createDistributionSet("template");
+        ds.getModules().forEach(module -> testdataFactory.createArtifacts(module.getId()));
+        distributionSetManagement.lock(ds);
+        final Target target1 = testdataFactory.createTarget("template1");
+        final Target target2 = testdataFactory.createTarget("template2");
+        final HttpRequest request = new ServletServerHttpRequest(new MockHttpServletRequest());
+
+        final DistributionSetGraph graph = controllerManagement.getDistributionSetGraph(ds.getId());
+        final Measurement resolved = measure(target -> resolve(target, graph, request), target1, target2);
+        final Measurement templated = measure(target -> deploymentTemplateCache.createChunks(target, graph, request), target1, target2);
+        log.info("Deployment chunks of {} modules, {} requests: resolved - {} ns and {} bytes per request, " +
+                        "templated - {} ns and {} bytes per request",
+                graph.modules().size(), REQUESTS, resolved.nanos(), resolved.bytes(), templated.nanos(), templated.bytes());
+    }
+
+    private List<DdiChunk> resolve(final Target target, final DistributionSetGraph graph, final HttpRequest request) {
+        return DataConversionHelper.createChunks(target, graph, artifactUrlResolver, systemManagement, request);
+    }
+
+    private static Measurement measure(final Function<Target, List<DdiChunk>> createChunks, final Target target1, final Target target2) {
+        // warm up
+        for (int i = 0; i < REQUESTS; i++) {
+            createChunks.apply(i % 2 == 0 ? target1 : target2);
+        }
+
+        final long threadId = Thread.currentThread().threadId();
+        final long startBytes = THREAD_MX_BEAN.getThreadAllocatedBytes(threadId);
+        final long start = System.nanoTime();
+        for (int i = 0; i < REQUESTS; i++) {
+            createChunks.apply(i % 2 == 0 ? target1 : target2);
+        }
+        return new Measurement(
+                (System.nanoTime() - start) / REQUESTS,
+                (THREAD_MX_BEAN.getThreadAllocatedBytes(threadId) - startBytes) / REQUESTS);
+    }
+
+    private record Measurement(long nanos, long bytes) {}
+}
@@ -0,0 +1,93 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.ddi.rest.resource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.eclipse.hawkbit.artifact.urlresolver.ArtifactUrlResolver;
+import org.eclipse.hawkbit.ddi.json.model.DdiChunk;
+import org.eclipse.hawkbit.repository.model.DistributionSet;
+import org.eclipse.hawkbit.repository.model.DistributionSetGraph;
+import org.eclipse.hawkbit.repository.model.SoftwareModule.MetadataValueCreate;
+import org.eclipse.hawkbit.repository.model.Target;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+/**
+ * Test class for the {@link DeploymentTemplateCache}.
+ * <p/>
+ * Feature: Component Tests - Direct Device Integration API<br/>
+ * Story: Deployment Action Resource
+ */
+class DeploymentTemplateCacheTest extends AbstractDDiApiIntegrationTest {
+
+    @Autowired
+    private DeploymentTemplateCache deploymentTemplateCache;
+    @Autowired
+    private ArtifactUrlResolver artifactUrlResolver;
+
+    /**
+     * Verifies that the chunks rendered from the template are the same as the resolved ones (for every target), and that the template is
+     * invalidated on software module change.
+     */
+    @Test
+    void templatedChunksAreTheSameAsResolved() {
+        final DistributionSet ds = testdataFactory.createDistributionSet("template");
+        ds.getModules().forEach(module -> testdataFactory.createArtifacts(module.getId()));
+        distributionSetManagement.lock(ds);
+        final Target target1 = testdataFactory.createTarget("template1");
+        final Target target2 = testdataFactory.createTarget("template2");
+        final HttpRequest request = new ServletServerHttpRequest(new MockHttpServletRequest());
+
+        DistributionSetGraph graph = controllerManagement.getDistributionSetGraph(ds.getId());
+        assertThat(graph.locked()).isTrue();
+        for (final Target target : List.of(target1, target2, target1)) {
+            assertThat(deploymentTemplateCache.createChunks(target, graph, request)).isEqualTo(resolve(target, graph, request));
+        }
+
+        // the target visible metadata could be changed even for locked software modules
+        softwareModuleManagement.createMetadata(getOsModule(ds), "templateVisible", new MetadataValueCreate("withValue", true));
+        graph = controllerManagement.getDistributionSetGraph(ds.getId());
+        final List<DdiChunk> chunks = deploymentTemplateCache.createChunks(target2, graph, request);
+        assertThat(chunks).isEqualTo(resolve(target2, graph, request));
+        assertThat(chunks).anyMatch(chunk -> chunk.getMetadata() != null);
+    }
+
+    /**
+     * Verifies that the chunks are the same as the resolved ones for requests with many (more than the templates kept per
+     * distribution set) different hosts - the evicted templates are resolved again.
+     */
+    @Test
+    void chunksAreTheSameAsResolvedForManyRequestHosts() {
+        final DistributionSet ds = testdataFactory.createDistributionSet("templateHosts");
+        ds.getModules().forEach(module -> testdataFactory.createArtifacts(module.getId()));
+        distributionSetManagement.lock(ds);
+        final Target target = testdataFactory.createTarget("templateHosts");
+        final DistributionSetGraph graph = controllerManagement.getDistributionSetGraph(ds.getId());
+
+        for (int round = 0; round < 2; round++) {
+            for (int i = 0; i < 20; i++) {
+                final MockHttpServletRequest servletRequest = new MockHttpServletRequest();
+                servletRequest.setServerName("host" + i + ".example.com");
+                final HttpRequest request = new ServletServerHttpRequest(servletRequest);
+                assertThat(deploymentTemplateCache.createChunks(target, graph, request)).isEqualTo(resolve(target, graph, request));
+            }
+        }
+    }
+
+    private List<DdiChunk> resolve(final Target target, final DistributionSetGraph graph, final HttpRequest request) {
+        return DataConversionHelper.createChunks(target, graph, artifactUrlResolver, systemManagement, request);
+    }
+}
@@ -0,0 +1,135 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.ddi.rest.resource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.eclipse.hawkbit.context.AccessContext.tenant;
+import static org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationProperties.TenantConfigurationKey.DOWNLOAD_PROGRESS_AGGREGATION_INTERVAL;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.ddi.rest.resource.DownloadProgressAggregatorTest.ListenerConfiguration;
+import org.eclipse.hawkbit.repository.event.remote.DownloadProgressEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+
+/**
+ * Load test of the {@link DownloadProgressAggregator} - a download wave (all the devices progress simultaneously, as reported by
+ * the file streaming - every 10 percent) with and without aggregation of the download progress.
+ * <p/>
+ * The number of downloads could be raised via the <code>hawkbit.test.downloadProgress.downloads</code> system property. The
+ * published events and the durations are logged.
+ * <p/>
+ * Feature: Component Tests - Direct Device Integration API<br/>
+ * Story: Artifact Download Resource
+ */
+@Slf4j
+@SpringBootTest(classes = { ListenerConfiguration.class })
+class DownloadProgressAggregatorTest extends AbstractDDiApiIntegrationTest {
+
+    private static final int DOWNLOADS = Integer.getInteger("hawkbit.test.downloadProgress.downloads", 1_000);
+    private static final int UPDATES = 10;
+    private static final long CHUNK = 100_000;
+
+    private static final AtomicInteger events = new AtomicInteger();
+    private static final AtomicLong shippedBytes = new AtomicLong();
+
+    @Autowired
+    private DownloadProgressAggregator downloadProgressAggregator;
+
+    @BeforeEach
+    void reset() {
+        events.set(0);
+        shippedBytes.set(0);
+    }
+
+    @AfterEach
+    void resetConfiguration() {
+        tenantConfigurationManagement().deleteConfiguration(DOWNLOAD_PROGRESS_AGGREGATION_INTERVAL);
+    }
+
+    /**
+     * Verifies that with aggregation the download progress is published as a single event per download (instead of one per
+     * progress update) and no shipped bytes are lost.
+     */
+    @Test
+    void aggregationReducesTheDownloadProgressEvents() {
+        final int notAggregated = downloadWave(0, 0);
+        assertThat(notAggregated).isEqualTo(DOWNLOADS * UPDATES);
+
+        final int aggregated = downloadWave(60_000, DOWNLOADS);
+        assertThat(aggregated).isEqualTo(DOWNLOADS);
+        assertThat(downloadProgressAggregator.getOpenWindows()).isZero();
+        log.info("Download progress events of {} downloads: {} without aggregation, {} with aggregation ({}x less)",
+                DOWNLOADS, notAggregated, aggregated, notAggregated / aggregated);
+    }
+
+    /**
+     * Verifies that the progress of a stalled (not completed) download is published when the window is due.
+     */
+    @Test
+    void progressOfStalledDownloadIsPublishedWhenDue() {
+        tenantConfigurationManagement().addOrUpdateConfiguration(DOWNLOAD_PROGRESS_AGGREGATION_INTERVAL, 10L);
+        downloadProgressAggregator.progress(tenant(), -1L, CHUNK, false);
+        downloadProgressAggregator.progress(tenant(), -1L, CHUNK, false);
+
+        await().untilAsserted(() -> {
+            downloadProgressAggregator.flush();
+            assertThat(downloadProgressAggregator.getOpenWindows()).isZero();
+            assertThat(events.get()).isEqualTo(1);
+            assertThat(shippedBytes.get()).isEqualTo(2 * CHUNK);
+        });
+    }
+
+    private int downloadWave(final long interval, final long actionStatusIdOffset) {
+        tenantConfigurationManagement().addOrUpdateConfiguration(DOWNLOAD_PROGRESS_AGGREGATION_INTERVAL, interval);
+        reset();
+
+        final long start = System.nanoTime();
+        for (int update = 1; update <= UPDATES; update++) {
+            for (int download = 0; download < DOWNLOADS; download++) {
+                downloadProgressAggregator.progress(tenant(), actionStatusIdOffset + download, CHUNK, update == UPDATES);
+            }
+        }
+        final long durationMs = (System.nanoTime() - start) / 1_000_000;
+
+        await().untilAsserted(() -> assertThat(shippedBytes.get()).isEqualTo(DOWNLOADS * UPDATES * CHUNK));
+        log.info("Download wave of {} downloads (aggregation interval {} ms): {} events, {} ms", DOWNLOADS, interval, events.get(),
+                durationMs);
+        return events.get();
+    }
+
+    @Configuration
+    static class ListenerConfiguration {
+
+        @Bean
+        Listener downloadProgressListener() {
+            return new Listener();
+        }
+    }
+
+    private static class Listener {
+
+        @EventListener(classes = DownloadProgressEvent.class)
+        void listen(final DownloadProgressEvent event) {
+            events.incrementAndGet();
+            shippedBytes.addAndGet(event.getShippedBytesSinceLast());
+        }
+    }
+}
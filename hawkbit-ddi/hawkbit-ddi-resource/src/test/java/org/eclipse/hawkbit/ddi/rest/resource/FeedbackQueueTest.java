@@ -0,0 +1,252 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.ddi.rest.resource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.eclipse.hawkbit.context.AccessContext.tenant;
+import static org.eclipse.hawkbit.ddi.rest.api.DdiRootControllerRestApi.IDEMPOTENCY_KEY;
+import static org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationProperties.TenantConfigurationKey.DDI_FEEDBACK_ASYNC_ENABLED;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.ddi.json.model.DdiResult;
+import org.eclipse.hawkbit.ddi.json.model.DdiStatus;
+import org.eclipse.hawkbit.ddi.rest.resource.FeedbackQueue.Outcome;
+import org.eclipse.hawkbit.repository.ControllerManagement;
+import org.eclipse.hawkbit.repository.model.Action;
+import org.eclipse.hawkbit.repository.model.Action.ActionStatusCreate;
+import org.eclipse.hawkbit.repository.model.DistributionSet;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+/**
+ * Test of the asynchronous (accept and queue) processing of the DDI feedback - the progress feedback is accepted with an idempotency key
+ * and applied in order, the retried feedback is applied once, and the feedback finishing the action is applied synchronously (after the
+ * queued feedback of the action).
+ * <p/>
+ * The number of feedbacks could be raised via the <code>hawkbit.test.feedbackQueue.feedbacks</code> system property. The durations
+ * are logged.
+ * <p/>
+ * Feature: Component Tests - Direct Device Integration API<br/>
+ * Story: Deployment Action Resource
+ */
+@Slf4j
+@TestPropertySource(properties = "hawkbit.ddi.feedback.async.enabled=true")
+class FeedbackQueueTest extends AbstractDDiApiIntegrationTest {
+
+    private static final int FEEDBACKS = Integer.getInteger("hawkbit.test.feedbackQueue.feedbacks", 50);
+
+    @MockitoSpyBean
+    private FeedbackQueue feedbackQueue;
+
+    @BeforeEach
+    void optIn() {
+        tenantConfigurationManagement().addOrUpdateConfiguration(DDI_FEEDBACK_ASYNC_ENABLED, true);
+    }
+
+    @AfterEach
+    void resetConfiguration() {
+        tenantConfigurationManagement().deleteConfiguration(DDI_FEEDBACK_ASYNC_ENABLED);
+    }
+
+    /**
+     * Verifies that the progress feedback is accepted (with the idempotency key), that a retry with the same key is not applied again,
+     * that the feedback of an action is applied in the order of submission and that the final feedback is applied synchronously.
+     */
+    @Test
+    void feedbackIsAcceptedAndAppliedInOrder() throws Exception {
+        final String controllerId = "queued";
+        testdataFactory.createTarget(controllerId);
+        final DistributionSet ds = testdataFactory.createDistributionSet("queued");
+        assignDistributionSet(ds.getId(), controllerId);
+        final Long actionId = deploymentManagement.findActiveActionsByTarget(controllerId, PAGE).getContent().get(0).getId();
+        final long initialStatuses = countStatuses(actionId);
+
+        final String proceeding = getJsonActionFeedback(
+                DdiStatus.ExecutionStatus.PROCEEDING, DdiResult.FinalResult.NONE, List.of("running"));
+        final MockHttpServletResponse accepted = mvc.perform(post(DEPLOYMENT_FEEDBACK, tenant(), controllerId, actionId)
+                        .content(proceeding).contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isAccepted())
+                .andReturn().getResponse();
+        final String generatedKey = accepted.getHeader(IDEMPOTENCY_KEY);
+        assertThat(generatedKey).isNotBlank();
+
+        // retries with the same idempotency key are accepted but applied once
+        for (int i = 0; i < 3; i++) {
+            mvc.perform(post(DEPLOYMENT_FEEDBACK, tenant(), controllerId, actionId)
+                            .header(IDEMPOTENCY_KEY, generatedKey).content(proceeding).contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isAccepted())
+                    .andExpect(header().string(IDEMPOTENCY_KEY, generatedKey));
+        }
+        await().pollInSameThread().untilAsserted(() -> assertThat(countStatuses(actionId)).isEqualTo(initialStatuses + 1));
+
+        // a burst of progress feedback - applied in order
+        final long start = System.nanoTime();
+        for (int i = 0; i < FEEDBACKS; i++) {
+            mvc.perform(post(DEPLOYMENT_FEEDBACK, tenant(), controllerId, actionId)
+                            .header(IDEMPOTENCY_KEY, "progress-" + i).content(proceeding).contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isAccepted());
+        }
+        log.info("Accepted {} feedbacks in {} ms", FEEDBACKS, (System.nanoTime() - start) / 1_000_000);
+        await().pollInSameThread().untilAsserted(() -> assertThat(countStatuses(actionId)).isEqualTo(initialStatuses + 1 + FEEDBACKS));
+        assertThat(feedbackQueue.getOutcome(controllerId, "progress-" + (FEEDBACKS - 1)))
+                .get().extracting(Outcome::state).isEqualTo(Outcome.State.APPLIED);
+
+        // the final feedback is not queued (it would be lost on crash) but applied synchronously
+        mvc.perform(post(DEPLOYMENT_FEEDBACK, tenant(), controllerId, actionId)
+                        .header(IDEMPOTENCY_KEY, "closed")
+                        .content(getJsonActionFeedback(DdiStatus.ExecutionStatus.CLOSED, DdiResult.FinalResult.SUCCESS, List.of("done")))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+        assertThat(deploymentManagement.findAction(actionId).map(Action::getStatus)).contains(Action.Status.FINISHED);
+        assertThat(countStatuses(actionId)).isEqualTo(initialStatuses + 1 + FEEDBACKS + 1);
+    }
+
+    /**
+     * Verifies that the feedback of a tenant which hasn't opted in is applied synchronously, even if the queue is enabled on the node.
+     */
+    @Test
+    void feedbackIsAppliedSynchronouslyIfTenantHasNotOptedIn() throws Exception {
+        tenantConfigurationManagement().addOrUpdateConfiguration(DDI_FEEDBACK_ASYNC_ENABLED, false);
+        final String controllerId = "notOptedIn";
+        testdataFactory.createTarget(controllerId);
+        final DistributionSet ds = testdataFactory.createDistributionSet("notOptedIn");
+        assignDistributionSet(ds.getId(), controllerId);
+        final Long actionId = deploymentManagement.findActiveActionsByTarget(controllerId, PAGE).getContent().get(0).getId();
+        final long initialStatuses = countStatuses(actionId);
+
+        mvc.perform(post(DEPLOYMENT_FEEDBACK, tenant(), controllerId, actionId)
+                        .content(getJsonActionFeedback(
+                                DdiStatus.ExecutionStatus.PROCEEDING, DdiResult.FinalResult.NONE, List.of("running")))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(IDEMPOTENCY_KEY));
+        assertThat(countStatuses(actionId)).isEqualTo(initialStatuses + 1);
+    }
+
+    /**
+     * Verifies that the synchronous (final) feedback waits for the queued feedback of the same action, so it is not overtaken by it.
+     */
+    @Test
+    void finalFeedbackWaitsForQueuedFeedbackOfTheAction() throws Exception {
+        final ControllerManagement controllerManagementMock = mock(ControllerManagement.class);
+        final CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await(10, TimeUnit.SECONDS);
+            return null;
+        }).when(controllerManagementMock).addUpdateActionStatus(any());
+        try (final FeedbackQueue queue = new FeedbackQueue(controllerManagementMock, true, 1, 10, 10, 100, 60_000, 200)) {
+            final ActionStatusCreate running = ActionStatusCreate.builder().actionId(1).status(Action.Status.RUNNING).build();
+            assertThat(queue.submitUpdateActionStatus("waiting", "running", running)).isEqualTo(FeedbackQueue.Result.ACCEPTED);
+
+            // the queued feedback of the action is blocked - the wait times out, the other actions don't wait
+            assertThat(queue.awaitQueued(1)).isFalse();
+            assertThat(queue.awaitQueued(2)).isTrue();
+
+            release.countDown();
+            assertThat(queue.awaitQueued(1)).isTrue();
+            // the queued feedback is applied when the wait is over
+            assertThat(queue.getOutcome("waiting", "running")).get().extracting(Outcome::state).isEqualTo(Outcome.State.APPLIED);
+            verify(controllerManagementMock).addUpdateActionStatus(running);
+        }
+    }
+
+    /**
+     * Verifies that a progress feedback is rejected with 429 (and could be retried) if the queue is full.
+     */
+    @Test
+    void feedbackIsRejectedIfQueueIsFull() throws Exception {
+        final String controllerId = "queueFull";
+        testdataFactory.createTarget(controllerId);
+        final DistributionSet ds = testdataFactory.createDistributionSet("queueFull");
+        assignDistributionSet(ds.getId(), controllerId);
+        final Long actionId = deploymentManagement.findActiveActionsByTarget(controllerId, PAGE).getContent().get(0).getId();
+        final long initialStatuses = countStatuses(actionId);
+        final String proceeding = getJsonActionFeedback(
+                DdiStatus.ExecutionStatus.PROCEEDING, DdiResult.FinalResult.NONE, List.of("running"));
+
+        doReturn(FeedbackQueue.Result.REJECTED).when(feedbackQueue).submitUpdateActionStatus(any(), any(), any());
+        mvc.perform(post(DEPLOYMENT_FEEDBACK, tenant(), controllerId, actionId)
+                        .header(IDEMPOTENCY_KEY, "rejected").content(proceeding).contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isTooManyRequests());
+        assertThat(feedbackQueue.getOutcome(controllerId, "rejected")).isEmpty();
+        assertThat(countStatuses(actionId)).isEqualTo(initialStatuses);
+    }
+
+    /**
+     * Verifies that the config data is accepted and applied.
+     */
+    @Test
+    void configDataIsAcceptedAndApplied() throws Exception {
+        final String controllerId = "queuedConfig";
+        testdataFactory.createTarget(controllerId);
+
+        mvc.perform(put(CONTROLLER_BASE + "/configData", tenant(), controllerId)
+                        .content(JsonBuilder.configData(Map.of("hwRevision", "2")).toString()).contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isAccepted())
+                .andExpect(header().exists(IDEMPOTENCY_KEY));
+
+        await().pollInSameThread()
+                .untilAsserted(() -> assertThat(targetManagement.getControllerAttributes(controllerId)).containsEntry("hwRevision", "2"));
+    }
+
+    /**
+     * Verifies that a queued feedback which fails to be applied has a recorded outcome and could be retried with the same idempotency key.
+     */
+    @Test
+    void failedFeedbackIsRecordedAndCouldBeRetried() throws Exception {
+        final String controllerId = "queuedFailed";
+        testdataFactory.createTarget(controllerId);
+        final Map<String, String> tooMany = new HashMap<>();
+        for (int i = 0; i <= quotaManagement.getMaxAttributeEntriesPerTarget(); i++) {
+            tooMany.put("attribute" + i, "value");
+        }
+
+        mvc.perform(put(CONTROLLER_BASE + "/configData", tenant(), controllerId).header(IDEMPOTENCY_KEY, "config")
+                        .content(JsonBuilder.configData(tooMany).toString()).contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isAccepted());
+        await().pollInSameThread().untilAsserted(() -> assertThat(feedbackQueue.getOutcome(controllerId, "config"))
+                .get().extracting(Outcome::state).isEqualTo(Outcome.State.FAILED));
+        assertThat(feedbackQueue.getOutcome(controllerId, "config").map(Outcome::failure)).get().asString().isNotBlank();
+        assertThat(feedbackQueue.getFailedCount()).isPositive();
+
+        // retry with the same key
+        mvc.perform(put(CONTROLLER_BASE + "/configData", tenant(), controllerId).header(IDEMPOTENCY_KEY, "config")
+                        .content(JsonBuilder.configData(Map.of("hwRevision", "3")).toString()).contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isAccepted());
+        await().pollInSameThread()
+                .untilAsserted(() -> assertThat(targetManagement.getControllerAttributes(controllerId)).containsEntry("hwRevision", "3"));
+        assertThat(feedbackQueue.getOutcome(controllerId, "config")).get().extracting(Outcome::state).isEqualTo(Outcome.State.APPLIED);
+    }
+
+    private long countStatuses(final Long actionId) {
+        return deploymentManagement.findActionStatusByAction(actionId, PAGE).getTotalElements();
+    }
+}
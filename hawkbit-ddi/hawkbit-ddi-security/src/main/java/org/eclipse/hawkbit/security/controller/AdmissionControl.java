@@ -0,0 +1,326 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.security.controller;
+
+import static org.eclipse.hawkbit.context.AccessContext.asTenant;
+import static org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationProperties.TenantConfigurationKey.DDI_RATE_LIMIT_CONTROLLER;
+import static org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationProperties.TenantConfigurationKey.DDI_RATE_LIMIT_TENANT;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.repository.helper.TenantConfigHelper;
+
+/**
+ * Lightweight, node local admission control of the DDI requests - a token bucket per tenant and a token bucket per controller, with
+ * limits configured via the tenant configuration (see {@link
+ * org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationProperties.TenantConfigurationKey#DDI_RATE_LIMIT_TENANT} and {@link
+ * org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationProperties.TenantConfigurationKey#DDI_RATE_LIMIT_CONTROLLER}). The
+ * capacity of a bucket is its limit per time unit (i.e. the requests per second of a tenant and the requests per minute of a
+ * controller could come as a burst), and it is refilled evenly.
+ * <p/>
+ * The admission is in two steps. Before the authentication the request is only {@link #check checked} against the already known
+ * (previously authenticated) tenant and controller buckets, without consuming their tokens and without creating any state - so a device
+ * polling too often is rejected without the database lookup of its authentication, while requests with made-up tenants or invalid
+ * credentials neither create state nor consume the budget of the tenant and controller they claim to be. The tokens are consumed by the
+ * {@link #admit admission} after the successful authentication. The tenant state (limits, bucket) is kept for a bounded number of
+ * tenants and the statistics (and metrics) are created only for authenticated tenants.
+ * <p/>
+ * The controller bucket is checked first - so a misbehaving device is stopped by its own bucket before consuming the tokens of its
+ * tenant. If the tenant bucket rejects the request the token of the controller is given back. A bucket is a single {@link AtomicLong}
+ * (the theoretical arrival time of the next request), so the admission of a request costs a few CAS operations. The tenant limits are
+ * re-read from the tenant configuration periodically.
+ */
+@Slf4j
+public class AdmissionControl {
+
+    private static final long LIMITS_REFRESH_INTERVAL = TimeUnit.SECONDS.toNanos(10);
+    private static final long CONTROLLER_BUCKET_EXPIRY_MINUTES = 10;
+    private static final long TENANT_STATE_EXPIRY_MINUTES = 60;
+
+    private final LongSupplier nanoClock;
+    private final Cache<String, TenantState> tenants;
+    // authenticated tenants only - kept even if the tenant state is evicted, so the (metric) counters are not reset
+    private final Map<String, TenantStats> tenantStats = new ConcurrentHashMap<>();
+    // tenant:controllerId -> bucket
+    private final Cache<String, Bucket> controllers;
+    private final List<Consumer<TenantStats>> tenantListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Creates the admission control.
+     *
+     * @param maxTenants max number of tenants with tracked limits and buckets, the least recently used ones are evicted
+     * @param maxControllers max number of controllers with tracked buckets, the least recently used ones are evicted
+     */
+    public AdmissionControl(final long maxTenants, final long maxControllers) {
+        this(maxTenants, maxControllers, System::nanoTime);
+    }
+
+    AdmissionControl(final long maxTenants, final long maxControllers, final LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        tenants = Caffeine.newBuilder()
+                .maximumSize(maxTenants)
+                .expireAfterAccess(TENANT_STATE_EXPIRY_MINUTES, TimeUnit.MINUTES)
+                .build();
+        controllers = Caffeine.newBuilder()
+                .maximumSize(maxControllers)
+                .expireAfterAccess(CONTROLLER_BUCKET_EXPIRY_MINUTES, TimeUnit.MINUTES)
+                .build();
+    }
+
+    /**
+     * Checks (before the authentication) if a request of a controller could be admitted. Only the known buckets of the tenant and of
+     * the controller are checked - no tokens are consumed, no state is created and the limits are not read.
+     *
+     * @param tenant the (not yet authenticated) tenant of the controller
+     * @param controllerId the (not yet authenticated) controller id
+     * @return 0 if the request could be admitted, otherwise the time in milliseconds after which the request could be retried
+     */
+    public long check(final String tenant, final String controllerId) {
+        final String tenantKey = tenant.toUpperCase(Locale.ROOT);
+        final TenantState state = tenants.getIfPresent(tenantKey);
+        if (state == null) {
+            return 0;
+        }
+
+        final long now = nanoClock.getAsLong();
+        long wait = 0;
+        final Bucket controllerBucket = controllers.getIfPresent(tenantKey + ":" + controllerId);
+        if (controllerBucket != null && controllerBucket.limit == state.controllerLimit) {
+            wait = controllerBucket.peek(now);
+        }
+        final Bucket tenantBucket = state.bucket;
+        if (wait == 0 && tenantBucket != null) {
+            wait = tenantBucket.peek(now);
+        }
+        return toMillis(wait);
+    }
+
+    /**
+     * Admits a request of a controller, consuming the tokens of its tenant and controller buckets. Shall be called only for
+     * authenticated requests.
+     *
+     * @param tenant the (authenticated) tenant of the controller
+     * @param controllerId the (authenticated) controller id
+     * @return 0 if the request is admitted, otherwise the time in milliseconds after which the request could be retried
+     */
+    public long admit(final String tenant, final String controllerId) {
+        final long now = nanoClock.getAsLong();
+        final TenantState state = getTenantState(tenant.toUpperCase(Locale.ROOT), now);
+
+        long wait = 0;
+        Bucket controllerBucket = null;
+        final long controllerLimit = state.controllerLimit;
+        if (controllerLimit > 0) {
+            final String key = state.stats.getTenant() + ":" + controllerId;
+            Bucket bucket = controllers.get(key, k -> new Bucket(controllerLimit, TimeUnit.MINUTES, now));
+            if (bucket.limit != controllerLimit) {
+                bucket = new Bucket(controllerLimit, TimeUnit.MINUTES, now);
+                controllers.put(key, bucket);
+            }
+            wait = bucket.acquire(now);
+            if (wait > 0) {
+                state.stats.rejectedByController.increment();
+            } else {
+                controllerBucket = bucket;
+            }
+        }
+        final Bucket tenantBucket = state.bucket;
+        if (wait == 0 && tenantBucket != null) {
+            wait = tenantBucket.acquire(now);
+            if (wait > 0) {
+                state.stats.rejectedByTenant.increment();
+                if (controllerBucket != null) {
+                    // not admitted - the controller token is not spent
+                    controllerBucket.release();
+                }
+            }
+        }
+
+        if (wait == 0) {
+            state.stats.admitted.increment();
+        }
+        return toMillis(wait);
+    }
+
+    /**
+     * Registers a listener which is notified with the statistics of every (authenticated) tenant - the already known ones immediately,
+     * the others on their first admitted request (e.g. to register them as metrics).
+     *
+     * @param listener the listener
+     */
+    public void onTenant(final Consumer<TenantStats> listener) {
+        tenantListeners.add(listener);
+        tenantStats.values().forEach(listener);
+    }
+
+    private TenantState getTenantState(final String tenant, final long now) {
+        final TenantState state = tenants.get(tenant, t -> new TenantState(getTenantStats(t), now));
+        if (state.refreshAt - now <= 0) {
+            state.refresh(now);
+        }
+        return state;
+    }
+
+    private TenantStats getTenantStats(final String tenant) {
+        TenantStats stats = tenantStats.get(tenant);
+        if (stats == null) {
+            final TenantStats[] created = new TenantStats[1];
+            stats = tenantStats.computeIfAbsent(tenant, t -> created[0] = new TenantStats(t));
+            if (created[0] != null) {
+                tenantListeners.forEach(listener -> listener.accept(created[0]));
+            }
+        }
+        return stats;
+    }
+
+    private static long toMillis(final long waitNanos) {
+        return waitNanos > 0 ? Math.max(1, TimeUnit.NANOSECONDS.toMillis(waitNanos)) : 0;
+    }
+
+    /**
+     * The admission statistics of a tenant.
+     */
+    public static final class TenantStats {
+
+        @Getter
+        private final String tenant;
+        private final LongAdder admitted = new LongAdder();
+        private final LongAdder rejectedByTenant = new LongAdder();
+        private final LongAdder rejectedByController = new LongAdder();
+
+        private TenantStats(final String tenant) {
+            this.tenant = tenant;
+        }
+
+        /**
+         * @return the number of the admitted requests
+         */
+        public long getAdmitted() {
+            return admitted.sum();
+        }
+
+        /**
+         * @return the number of the requests rejected because of the tenant limit
+         */
+        public long getRejectedByTenant() {
+            return rejectedByTenant.sum();
+        }
+
+        /**
+         * @return the number of the requests rejected because of the controller limit
+         */
+        public long getRejectedByController() {
+            return rejectedByController.sum();
+        }
+    }
+
+    private static final class TenantState {
+
+        private final TenantStats stats;
+        private volatile long refreshAt;
+        private volatile long controllerLimit;
+        private volatile Bucket bucket;
+        private volatile boolean initialized;
+
+        private TenantState(final TenantStats stats, final long now) {
+            this.stats = stats;
+            // refreshed (loaded) on first use
+            refreshAt = now;
+        }
+
+        // races are benign - at worst the limits are read more than once
+        private void refresh(final long now) {
+            refreshAt = now + LIMITS_REFRESH_INTERVAL;
+            try {
+                final long tenantLimit = getLimit(DDI_RATE_LIMIT_TENANT);
+                controllerLimit = getLimit(DDI_RATE_LIMIT_CONTROLLER);
+                final Bucket current = bucket;
+                if (tenantLimit <= 0) {
+                    bucket = null;
+                } else if (current == null || current.limit != tenantLimit) {
+                    bucket = new Bucket(tenantLimit, TimeUnit.SECONDS, now);
+                }
+                initialized = true;
+            } catch (final RuntimeException e) {
+                if (!initialized) {
+                    // fail open
+                    controllerLimit = 0;
+                    bucket = null;
+                }
+                log.warn("Failed to read the DDI rate limits of tenant {}: {}", stats.getTenant(), e.getMessage());
+            }
+        }
+
+        private long getLimit(final String key) {
+            final Long limit = asTenant(stats.getTenant(), () -> TenantConfigHelper.getAsSystem(key, Long.class));
+            return limit == null ? 0 : limit;
+        }
+    }
+
+    /**
+     * Token bucket as generic cell rate algorithm - the state is the theoretical arrival time of the next request, each request moves it
+     * by the emission interval and is admitted if it is not ahead of the current time with more than the burst tolerance.
+     */
+    private static final class Bucket {
+
+        private final long limit;
+        // nanos per token
+        private final long interval;
+        // (capacity - 1) * interval
+        private final long tolerance;
+        private final AtomicLong theoreticalArrivalTime;
+
+        private Bucket(final long limit, final TimeUnit unit, final long now) {
+            this.limit = limit;
+            interval = Math.max(1, unit.toNanos(1) / limit);
+            tolerance = (limit - 1) * interval;
+            theoreticalArrivalTime = new AtomicLong(now);
+        }
+
+        // returns 0 if a token could be acquired, otherwise the nanos to wait - without acquiring it
+        private long peek(final long now) {
+            final long current = theoreticalArrivalTime.get();
+            return Math.max(0, (current - now > 0 ? current : now) - tolerance - now);
+        }
+
+        // returns 0 if acquired, otherwise the nanos to wait
+        private long acquire(final long now) {
+            while (true) {
+                final long current = theoreticalArrivalTime.get();
+                final long base = current - now > 0 ? current : now;
+                final long wait = base - tolerance - now;
+                if (wait > 0) {
+                    return wait;
+                }
+                if (theoreticalArrivalTime.compareAndSet(current, base + interval)) {
+                    return 0;
+                }
+            }
+        }
+
+        // gives back an acquired token
+        private void release() {
+            theoreticalArrivalTime.addAndGet(-interval);
+        }
+    }
+}
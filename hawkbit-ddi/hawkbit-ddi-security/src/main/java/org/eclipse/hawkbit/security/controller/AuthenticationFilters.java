@@ -14,6 +14,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -22,6 +23,8 @@ import jakarta.servlet.http.HttpServletResponse;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -43,6 +46,12 @@ public class AuthenticationFilters {
                 final GatewayTokenAuthenticator authenticator, final DdiSecurityProperties ddiSecurityProperties) {
             super(authenticator, ddiSecurityProperties);
         }
+
+        public GatewayTokenAuthenticationFilter(
+                final GatewayTokenAuthenticator authenticator, final DdiSecurityProperties ddiSecurityProperties,
+                final AdmissionControl admissionControl) {
+            super(authenticator, ddiSecurityProperties, admissionControl);
+        }
     }
 
     public static class SecurityHeaderAuthenticationFilter extends AbstractAuthenticationFilter {
@@ -51,6 +60,12 @@ public class AuthenticationFilters {
                 final SecurityHeaderAuthenticator authenticator, final DdiSecurityProperties ddiSecurityProperties) {
             super(authenticator, ddiSecurityProperties);
         }
+
+        public SecurityHeaderAuthenticationFilter(
+                final SecurityHeaderAuthenticator authenticator, final DdiSecurityProperties ddiSecurityProperties,
+                final AdmissionControl admissionControl) {
+            super(authenticator, ddiSecurityProperties, admissionControl);
+        }
     }
 
     public static class SecurityTokenAuthenticationFilter extends AbstractAuthenticationFilter {
@@ -59,6 +74,12 @@ public class AuthenticationFilters {
                 final SecurityTokenAuthenticator authenticator, final DdiSecurityProperties ddiSecurityProperties) {
             super(authenticator, ddiSecurityProperties);
         }
+
+        public SecurityTokenAuthenticationFilter(
+                final SecurityTokenAuthenticator authenticator, final DdiSecurityProperties ddiSecurityProperties,
+                final AdmissionControl admissionControl) {
+            super(authenticator, ddiSecurityProperties, admissionControl);
+        }
     }
 
     /**
@@ -80,10 +101,24 @@ public class AuthenticationFilters {
         private final AntPathMatcher pathExtractor = new AntPathMatcher();
         private final Authenticator authenticator;
         private final List<String> authorizedSourceIps;
+        // could be null - no admission control
+        private final AdmissionControl admissionControl;
 
         protected AbstractAuthenticationFilter(final Authenticator authenticator, final DdiSecurityProperties ddiSecurityProperties) {
+            this(authenticator, ddiSecurityProperties, null);
+        }
+
+        /**
+         * @param admissionControl admission control of the requests (by tenant and controller id from the path) - checked before and
+         *         charged after their authentication, the requests rejected by it are answered with <code>429 Too Many Requests</code>,
+         *         or <code>null</code> if the requests shall not be rate limited
+         */
+        protected AbstractAuthenticationFilter(
+                final Authenticator authenticator, final DdiSecurityProperties ddiSecurityProperties,
+                final AdmissionControl admissionControl) {
             this.authenticator = authenticator;
             authorizedSourceIps = ddiSecurityProperties.getRp().getTrustedIPs();
+            this.admissionControl = admissionControl;
         }
 
         @Override
@@ -94,8 +129,20 @@ public class AuthenticationFilters {
                 if (currentAuthentication == null || !currentAuthentication.isAuthenticated()) {
                     final ControllerSecurityToken securityToken = createTenantSecurityTokenVariables(request);
                     if (securityToken != null) {
+                        // admission is checked (without consuming tokens) before the (e.g. database backed) authentication, so the
+                        // requests of the already limited controllers are cheap, and charged only for the authenticated requests
+                        if (admissionControl != null
+                                && rejected(admissionControl.check(securityToken.getTenant(), securityToken.getControllerId()),
+                                securityToken, response)) {
+                            return;
+                        }
                         final Authentication authentication = authenticator.authenticate(securityToken);
                         if (authentication != null) {
+                            if (admissionControl != null
+                                    && rejected(admissionControl.admit(securityToken.getTenant(), securityToken.getControllerId()),
+                                    securityToken, response)) {
+                                return;
+                            }
                             SecurityContext context = this.securityContextHolderStrategy.createEmptyContext();
                             context.setAuthentication(authentication);
                             this.securityContextHolderStrategy.setContext(context);
@@ -109,6 +156,19 @@ public class AuthenticationFilters {
             chain.doFilter(request, response);
         }
 
+        // returns true (and sends 429 with retry after) if the request is not admitted
+        private boolean rejected(
+                final long retryAfterMs, final ControllerSecurityToken securityToken, final HttpServletResponse response) {
+            if (retryAfterMs == 0) {
+                return false;
+            }
+            authenticator.log().debug("Request of controller {} (tenant {}) is rejected by the admission control, retry after {} ms",
+                    securityToken.getControllerId(), securityToken.getTenant(), retryAfterMs);
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(TimeUnit.MILLISECONDS.toSeconds(retryAfterMs + 999)));
+            return true;
+        }
+
         /**
          * Extracts tenant and controllerId from the request URI as path variables.
          *
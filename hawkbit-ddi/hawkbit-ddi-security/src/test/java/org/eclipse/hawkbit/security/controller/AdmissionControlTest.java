@@ -0,0 +1,241 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.security.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationProperties.TenantConfigurationKey.DDI_RATE_LIMIT_CONTROLLER;
+import static org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationProperties.TenantConfigurationKey.DDI_RATE_LIMIT_TENANT;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.context.AccessContext;
+import org.eclipse.hawkbit.repository.TenantConfigurationManagement;
+import org.eclipse.hawkbit.repository.helper.TenantConfigHelper;
+import org.eclipse.hawkbit.repository.model.TenantConfigurationValue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Test of the DDI admission control - the tenant and controller limits and the isolation of the tenants under load. The clock is frozen,
+ * so the buckets are not refilled while the load is generated.
+ * <p/>
+ * The number of requests of the flooding tenant could be raised via the <code>hawkbit.test.admissionControl.requests</code> system
+ * property. The admission rate is logged.
+ * <p/>
+ * Feature: Unit Tests - Security<br/>
+ * Story: DDI admission control
+ */
+@Slf4j
+@ExtendWith(MockitoExtension.class)
+class AdmissionControlTest {
+
+    private static final int REQUESTS = Integer.getInteger("hawkbit.test.admissionControl.requests", 100_000);
+    private static final int THREADS = 8;
+
+    // tenant -> { tenant limit, controller limit }
+    private final Map<String, long[]> limits = new ConcurrentHashMap<>();
+    private final AtomicLong clock = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+
+    @Mock
+    private TenantConfigurationManagement tenantConfigurationManagementMock;
+
+    @BeforeEach
+    void before() {
+        TenantConfigHelper.setTenantConfigurationManagement(tenantConfigurationManagementMock);
+    }
+
+    /**
+     * Verifies that a tenant flooding the server (from many threads) is limited to its capacity and doesn't affect the other tenants.
+     */
+    @Test
+    void floodingTenantDoesNotAffectOtherTenants() throws Exception {
+        mockLimits();
+        limits.put("NOISY", new long[] { 100, 0 });
+        limits.put("QUIET", new long[] { 100, 0 });
+        final AdmissionControl admissionControl = new AdmissionControl(100, 10_000, clock::get);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            final CountDownLatch start = new CountDownLatch(1);
+            final List<Future<Long>> noisy = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                final int thread = i;
+                noisy.add(executor.submit(() -> {
+                    start.await();
+                    long admitted = 0;
+                    for (int j = 0; j < REQUESTS / THREADS; j++) {
+                        if (admissionControl.admit("noisy", "controller-" + thread + "-" + (j % 100)) == 0) {
+                            admitted++;
+                        }
+                    }
+                    return admitted;
+                }));
+            }
+            final Future<Long> quiet = executor.submit(() -> {
+                start.await();
+                long admitted = 0;
+                for (int j = 0; j < 50; j++) {
+                    if (admissionControl.admit("quiet", "controller-" + j) == 0) {
+                        admitted++;
+                    }
+                }
+                return admitted;
+            });
+
+            final long startNanos = System.nanoTime();
+            start.countDown();
+            long noisyAdmitted = 0;
+            for (final Future<Long> future : noisy) {
+                noisyAdmitted += future.get();
+            }
+            final long durationNanos = System.nanoTime() - startNanos;
+
+            assertThat(noisyAdmitted).isEqualTo(100);
+            assertThat(quiet.get()).isEqualTo(50);
+            log.info("Admission control of {} requests from {} threads - {} ns per request", REQUESTS, THREADS, durationNanos / REQUESTS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        final Map<String, AdmissionControl.TenantStats> stats = new ConcurrentHashMap<>();
+        admissionControl.onTenant(tenantStats -> stats.put(tenantStats.getTenant(), tenantStats));
+        assertThat(stats.get("NOISY").getAdmitted()).isEqualTo(100);
+        assertThat(stats.get("NOISY").getRejectedByTenant()).isEqualTo(REQUESTS / THREADS * THREADS - 100L);
+        assertThat(stats.get("QUIET").getAdmitted()).isEqualTo(50);
+        assertThat(stats.get("QUIET").getRejectedByTenant()).isZero();
+    }
+
+    /**
+     * Verifies that a flooding controller is limited by its own limit and doesn't consume the tenant budget of the other controllers, and
+     * that the retry after is the time until the bucket is refilled.
+     */
+    @Test
+    void floodingControllerDoesNotConsumeTenantBudget() {
+        mockLimits();
+        limits.put("DEFAULT", new long[] { 10, 5 });
+        final AdmissionControl admissionControl = new AdmissionControl(100, 10_000, clock::get);
+
+        long noisyAdmitted = 0;
+        long lastRetryAfter = 0;
+        for (int i = 0; i < 100; i++) {
+            lastRetryAfter = admissionControl.admit("DEFAULT", "noisy");
+            if (lastRetryAfter == 0) {
+                noisyAdmitted++;
+            }
+        }
+        assertThat(noisyAdmitted).isEqualTo(5);
+        // a token per 12 seconds (5 per minute)
+        assertThat(lastRetryAfter).isEqualTo(12_000);
+
+        // the rest of the tenant budget is left for the other controllers
+        for (int i = 0; i < 5; i++) {
+            assertThat(admissionControl.admit("DEFAULT", "quiet-" + i)).isZero();
+        }
+        assertThat(admissionControl.admit("DEFAULT", "quiet-5")).isPositive();
+
+        // refilled
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(12));
+        assertThat(admissionControl.admit("DEFAULT", "noisy")).isZero();
+        assertThat(admissionControl.admit("DEFAULT", "noisy")).isPositive();
+    }
+
+    /**
+     * Verifies that a request rejected by the tenant limit doesn't consume the token of its controller.
+     */
+    @Test
+    void rejectedByTenantDoesNotConsumeControllerToken() {
+        mockLimits();
+        limits.put("DEFAULT", new long[] { 1, 2 });
+        final AdmissionControl admissionControl = new AdmissionControl(100, 10_000, clock::get);
+
+        assertThat(admissionControl.admit("DEFAULT", "first")).isZero();
+        // the tenant budget is used up
+        assertThat(admissionControl.admit("DEFAULT", "second")).isPositive();
+
+        // the controller still has its whole budget (2 per minute) when the tenant bucket is refilled
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertThat(admissionControl.admit("DEFAULT", "second")).isZero();
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertThat(admissionControl.admit("DEFAULT", "second")).isZero();
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertThat(admissionControl.admit("DEFAULT", "second")).isPositive();
+    }
+
+    /**
+     * Verifies that the requests are not limited with the default (0) limits, and that the changed limits are applied after the refresh.
+     */
+    @Test
+    void unlimitedByDefaultAndLimitsAreRefreshed() {
+        mockLimits();
+        limits.put("DEFAULT", new long[] { 0, 0 });
+        final AdmissionControl admissionControl = new AdmissionControl(100, 10_000, clock::get);
+
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(admissionControl.admit("DEFAULT", "controller")).isZero();
+        }
+
+        limits.put("DEFAULT", new long[] { 0, 1 });
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        assertThat(admissionControl.admit("DEFAULT", "controller")).isZero();
+        assertThat(admissionControl.admit("DEFAULT", "controller")).isEqualTo(TimeUnit.MINUTES.toMillis(1));
+    }
+
+    /**
+     * Verifies that the check before the authentication doesn't create state (nor reads the limits) for unknown tenants and doesn't
+     * consume tokens - only the admission does.
+     */
+    @Test
+    void checkDoesNotCreateStateNorConsumeTokens() {
+        mockLimits();
+        limits.put("DEFAULT", new long[] { 0, 1 });
+        final AdmissionControl admissionControl = new AdmissionControl(100, 10_000, clock::get);
+        final List<String> tenants = new ArrayList<>();
+        admissionControl.onTenant(tenantStats -> tenants.add(tenantStats.getTenant()));
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(admissionControl.check("made-up-" + i, "controller")).isZero();
+        }
+        assertThat(tenants).isEmpty();
+
+        assertThat(admissionControl.admit("DEFAULT", "controller")).isZero();
+        assertThat(tenants).containsExactly("DEFAULT");
+        // the used up controller is rejected by the check, the others are not
+        assertThat(admissionControl.check("DEFAULT", "controller")).isEqualTo(TimeUnit.MINUTES.toMillis(1));
+        for (int i = 0; i < 10; i++) {
+            assertThat(admissionControl.check("DEFAULT", "other")).isZero();
+        }
+        assertThat(admissionControl.admit("DEFAULT", "other")).isZero();
+    }
+
+    private void mockLimits() {
+        when(tenantConfigurationManagementMock.getConfigurationValue(DDI_RATE_LIMIT_TENANT, Long.class))
+                .thenAnswer(invocation -> value(limits.get(AccessContext.tenant())[0]));
+        when(tenantConfigurationManagementMock.getConfigurationValue(DDI_RATE_LIMIT_CONTROLLER, Long.class))
+                .thenAnswer(invocation -> value(limits.get(AccessContext.tenant())[1]));
+    }
+
+    private static TenantConfigurationValue<Long> value(final long value) {
+        return TenantConfigurationValue.<Long> builder().value(value).build();
+    }
+}
@@ -0,0 +1,178 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.security.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationProperties.TenantConfigurationKey.AUTHENTICATION_TARGET_SECURITY_TOKEN_ENABLED;
+import static org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationProperties.TenantConfigurationKey.DDI_RATE_LIMIT_CONTROLLER;
+import static org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationProperties.TenantConfigurationKey.DDI_RATE_LIMIT_TENANT;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+
+import org.eclipse.hawkbit.repository.ControllerManagement;
+import org.eclipse.hawkbit.repository.TenantConfigurationManagement;
+import org.eclipse.hawkbit.repository.helper.TenantConfigHelper;
+import org.eclipse.hawkbit.repository.model.Target;
+import org.eclipse.hawkbit.repository.model.TenantConfigurationValue;
+import org.eclipse.hawkbit.security.controller.AuthenticationFilters.GatewayTokenAuthenticationFilter;
+import org.eclipse.hawkbit.security.controller.AuthenticationFilters.SecurityTokenAuthenticationFilter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Tests the admission control of the DDI authentication filters.
+ * <p/>
+ * Feature: Unit Tests - Security<br/>
+ * Story: DDI admission control
+ */
+@ExtendWith(MockitoExtension.class)
+class AuthenticationFiltersTest {
+
+    private static final String CONTROLLER_ID = "controller";
+    private static final String SECURITY_TOKEN = "token";
+
+    private final AtomicLong clock = new AtomicLong(1);
+
+    @Mock
+    private TenantConfigurationManagement tenantConfigurationManagementMock;
+    @Mock
+    private ControllerManagement controllerManagementMock;
+
+    @BeforeEach
+    void before() {
+        TenantConfigHelper.setTenantConfigurationManagement(tenantConfigurationManagementMock);
+        when(tenantConfigurationManagementMock.getConfigurationValue(DDI_RATE_LIMIT_TENANT, Long.class)).thenReturn(value(0L));
+        when(tenantConfigurationManagementMock.getConfigurationValue(DDI_RATE_LIMIT_CONTROLLER, Long.class)).thenReturn(value(1L));
+    }
+
+    @AfterEach
+    void after() {
+        SecurityContextHolder.clearContext();
+    }
+
+    /**
+     * Verifies that a request rejected by the admission control is answered with 429 before its (database backed) authentication.
+     */
+    @Test
+    void rejectedRequestIsNotAuthenticated() throws ServletException, IOException {
+        mockTarget();
+        final SecurityTokenAuthenticationFilter filter = new SecurityTokenAuthenticationFilter(
+                new SecurityTokenAuthenticator(controllerManagementMock), new DdiSecurityProperties(),
+                new AdmissionControl(10, 100, clock::get));
+
+        final MockFilterChain admittedChain = new MockFilterChain();
+        final MockHttpServletResponse admitted = new MockHttpServletResponse();
+        filter.doFilter(request(), admitted, admittedChain);
+        assertThat(admitted.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(admittedChain.getRequest()).isNotNull();
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+        SecurityContextHolder.clearContext();
+
+        final MockFilterChain rejectedChain = new MockFilterChain();
+        final MockHttpServletResponse rejected = new MockHttpServletResponse();
+        filter.doFilter(request(), rejected, rejectedChain);
+        assertThat(rejected.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        assertThat(rejected.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("60");
+        assertThat(rejectedChain.getRequest()).isNull();
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+
+        verify(controllerManagementMock, times(1)).findByControllerId(CONTROLLER_ID);
+    }
+
+    /**
+     * Verifies that a request passing through more authentication filters is admitted (and consumes a token) only once.
+     */
+    @Test
+    void requestIsAdmittedOnceByTheFilters() throws ServletException, IOException {
+        mockTarget();
+        final AdmissionControl admissionControl = new AdmissionControl(10, 100, clock::get);
+        final DdiSecurityProperties ddiSecurityProperties = new DdiSecurityProperties();
+        final GatewayTokenAuthenticationFilter gatewayTokenFilter = new GatewayTokenAuthenticationFilter(
+                new GatewayTokenAuthenticator(), ddiSecurityProperties, admissionControl);
+        final SecurityTokenAuthenticationFilter securityTokenFilter = new SecurityTokenAuthenticationFilter(
+                new SecurityTokenAuthenticator(controllerManagementMock), ddiSecurityProperties, admissionControl);
+
+        final MockFilterChain chain = new MockFilterChain();
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        final FilterChain filters = (request, resp) -> securityTokenFilter.doFilter(request, resp, chain);
+        gatewayTokenFilter.doFilter(request(), response, filters);
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+    }
+
+    /**
+     * Verifies that the requests with invalid credentials don't consume the tokens of the controller they claim to be.
+     */
+    @Test
+    void invalidCredentialsDoNotConsumeTokens() throws ServletException, IOException {
+        mockTarget();
+        final SecurityTokenAuthenticationFilter filter = new SecurityTokenAuthenticationFilter(
+                new SecurityTokenAuthenticator(controllerManagementMock), new DdiSecurityProperties(),
+                new AdmissionControl(10, 100, clock::get));
+
+        for (int i = 0; i < 5; i++) {
+            final MockHttpServletRequest invalid = request();
+            invalid.removeHeader(ControllerSecurityToken.AUTHORIZATION_HEADER);
+            invalid.addHeader(ControllerSecurityToken.AUTHORIZATION_HEADER,
+                    SecurityTokenAuthenticator.TARGET_SECURITY_TOKEN_AUTH_SCHEME + "invalid");
+            final MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(invalid, response, new MockFilterChain());
+            assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+            assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        }
+
+        // the (1 per minute) token of the controller is still there
+        final MockHttpServletResponse admitted = new MockHttpServletResponse();
+        filter.doFilter(request(), admitted, new MockFilterChain());
+        assertThat(admitted.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+    }
+
+    private void mockTarget() {
+        when(tenantConfigurationManagementMock.getConfigurationValue(AUTHENTICATION_TARGET_SECURITY_TOKEN_ENABLED, Boolean.class))
+                .thenReturn(TenantConfigurationValue.<Boolean> builder().value(true).build());
+        final Target target = Mockito.mock(Target.class);
+        when(target.getControllerId()).thenReturn(CONTROLLER_ID);
+        when(target.getSecurityToken()).thenReturn(SECURITY_TOKEN);
+        when(controllerManagementMock.findByControllerId(CONTROLLER_ID)).thenReturn(Optional.of(target));
+    }
+
+    private static MockHttpServletRequest request() {
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/DEFAULT/controller/v1/" + CONTROLLER_ID);
+        request.addHeader(
+                ControllerSecurityToken.AUTHORIZATION_HEADER, SecurityTokenAuthenticator.TARGET_SECURITY_TOKEN_AUTH_SCHEME + SECURITY_TOKEN);
+        return request;
+    }
+
+    private static TenantConfigurationValue<Long> value(final long value) {
+        return TenantConfigurationValue.<Long> builder().value(value).build();
+    }
+}
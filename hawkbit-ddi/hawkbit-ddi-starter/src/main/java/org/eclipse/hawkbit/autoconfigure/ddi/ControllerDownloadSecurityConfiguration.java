@@ -18,6 +18,7 @@ import org.eclipse.hawkbit.repository.ControllerManagement;
 import org.eclipse.hawkbit.rest.SecurityManagedConfiguration;
 import org.eclipse.hawkbit.rest.security.DosFilter;
 import org.eclipse.hawkbit.security.HawkbitSecurityProperties;
+import org.eclipse.hawkbit.security.controller.AdmissionControl;
 import org.eclipse.hawkbit.security.controller.AuthenticationFilters;
 import org.eclipse.hawkbit.security.controller.DdiSecurityProperties;
 import org.eclipse.hawkbit.security.controller.GatewayTokenAuthenticator;
@@ -76,7 +77,7 @@ class ControllerDownloadSecurityConfiguration {
 
     @Bean
     @Order(300) // higher priority than HawkBit DDI security, so that the DDI DL security is applied first
-    protected SecurityFilterChain filterChainDDIDL(final HttpSecurity http) {
+    protected SecurityFilterChain filterChainDDIDL(final HttpSecurity http, final AdmissionControl admissionControl) {
         http
                 .securityMatcher(DDI_DL_ANT_MATCHER)
                 .authorizeHttpRequests(amrmRegistry -> amrmRegistry.anyRequest().authenticated())
@@ -84,13 +85,13 @@ class ControllerDownloadSecurityConfiguration {
                 .csrf(AbstractHttpConfigurer::disable)
                 .addFilterBefore(new AuthenticationFilters.SecurityHeaderAuthenticationFilter(
                         new SecurityHeaderAuthenticator(ddiSecurityConfiguration.getRp()),
-                        ddiSecurityConfiguration), AuthorizationFilter.class)
+                        ddiSecurityConfiguration, admissionControl), AuthorizationFilter.class)
                 .addFilterBefore(new AuthenticationFilters.SecurityTokenAuthenticationFilter(
                         new SecurityTokenAuthenticator(controllerManagement),
-                        ddiSecurityConfiguration), AuthorizationFilter.class)
+                        ddiSecurityConfiguration, admissionControl), AuthorizationFilter.class)
                 .addFilterBefore(new AuthenticationFilters.GatewayTokenAuthenticationFilter(
                         new GatewayTokenAuthenticator(),
-                        ddiSecurityConfiguration), AuthorizationFilter.class)
+                        ddiSecurityConfiguration, admissionControl), AuthorizationFilter.class)
                 .exceptionHandling(configurer -> configurer.authenticationEntryPoint(
                         (request, response, authException) -> response.setStatus(HttpStatus.UNAUTHORIZED.value())))
                 .sessionManagement(configurer -> configurer.sessionCreationPolicy(SessionCreationPolicy.STATELESS));
@@ -11,6 +11,8 @@ package org.eclipse.hawkbit.autoconfigure.ddi;
 
 import java.util.List;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.hawkbit.context.Mdc;
 import org.eclipse.hawkbit.ddi.rest.api.DdiRootControllerRestApi;
@@ -18,13 +20,17 @@ import org.eclipse.hawkbit.repository.ControllerManagement;
 import org.eclipse.hawkbit.rest.SecurityManagedConfiguration;
 import org.eclipse.hawkbit.rest.security.DosFilter;
 import org.eclipse.hawkbit.security.HawkbitSecurityProperties;
+import org.eclipse.hawkbit.security.controller.AdmissionControl;
 import org.eclipse.hawkbit.security.controller.AuthenticationFilters;
 import org.eclipse.hawkbit.security.controller.DdiSecurityProperties;
 import org.eclipse.hawkbit.security.controller.GatewayTokenAuthenticator;
 import org.eclipse.hawkbit.security.controller.SecurityHeaderAuthenticator;
 import org.eclipse.hawkbit.security.controller.SecurityTokenAuthenticator;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
@@ -80,11 +86,31 @@ class ControllerSecurityConfiguration {
         return filterRegBean;
     }
 
+    /**
+     * Admission control (rate limiting) of the DDI requests - per tenant and per controller, with limits configured via the tenant
+     * configuration. Only if enabled via <code>hawkbit.ddi.admission.enabled</code>, otherwise the DDI requests are not rate limited
+     * and there is no admission work at all.
+     *
+     * @param maxTenants max number of tenants with tracked rate limit state (per node)
+     * @param maxControllers max number of controllers with tracked rate limit state (per node)
+     * @return the admission control applied by the DDI authentication filters
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "hawkbit.ddi.admission", name = "enabled")
+    AdmissionControl ddiAdmissionControl(
+            @Value("${hawkbit.ddi.admission.max-tenants:10000}") final long maxTenants,
+            @Value("${hawkbit.ddi.admission.max-controllers:100000}") final long maxControllers) {
+        return new AdmissionControl(maxTenants, maxControllers);
+    }
+
     @Bean
     @Order(301)
     protected SecurityFilterChain filterChainDDI(
-            final HttpSecurity http,
+            final HttpSecurity http, final ObjectProvider<AdmissionControl> admissionControlProvider,
             @Value("${hawkbit.server.security.cors.disable-for-ddi-api:false}") final boolean disableCorsForDdiApi) {
+        // null - no admission control
+        final AdmissionControl admissionControl = admissionControlProvider.getIfAvailable();
         http
                 .securityMatcher(DDI_ANT_MATCHERS)
                 .authorizeHttpRequests(amrmRegistry -> amrmRegistry.anyRequest().authenticated())
@@ -92,14 +118,16 @@ class ControllerSecurityConfiguration {
                 .csrf(AbstractHttpConfigurer::disable)
                 .addFilterBefore(
                         new AuthenticationFilters.SecurityHeaderAuthenticationFilter(
-                                new SecurityHeaderAuthenticator(ddiSecurityConfiguration.getRp()), ddiSecurityConfiguration),
+                                new SecurityHeaderAuthenticator(ddiSecurityConfiguration.getRp()), ddiSecurityConfiguration,
+                                admissionControl),
                         AuthorizationFilter.class)
                 .addFilterBefore(
                         new AuthenticationFilters.SecurityTokenAuthenticationFilter(
-                                new SecurityTokenAuthenticator(controllerManagement), ddiSecurityConfiguration),
+                                new SecurityTokenAuthenticator(controllerManagement), ddiSecurityConfiguration, admissionControl),
                         AuthorizationFilter.class)
                 .addFilterBefore(
-                        new AuthenticationFilters.GatewayTokenAuthenticationFilter(new GatewayTokenAuthenticator(), ddiSecurityConfiguration),
+                        new AuthenticationFilters.GatewayTokenAuthenticationFilter(
+                                new GatewayTokenAuthenticator(), ddiSecurityConfiguration, admissionControl),
                         AuthorizationFilter.class)
                 .exceptionHandling(configurer -> configurer.authenticationEntryPoint(
                         (request, response, authException) -> response.setStatus(HttpStatus.UNAUTHORIZED.value())))
@@ -117,4 +145,25 @@ class ControllerSecurityConfiguration {
 
         return http.build();
     }
+
+    @Configuration
+    @ConditionalOnClass(MeterBinder.class)
+    static class AdmissionControlMetricsConfiguration {
+
+        /**
+         * @return binder of the metrics of the DDI {@link AdmissionControl} (if enabled), tagged with the tenant (registered on the first
+         *         authenticated request of the tenant)
+         */
+        @Bean
+        MeterBinder ddiAdmissionControlMetrics(final ObjectProvider<AdmissionControl> admissionControlProvider) {
+            return registry -> admissionControlProvider.ifAvailable(admissionControl -> admissionControl.onTenant(stats -> {
+                FunctionCounter.builder("hawkbit.ddi.admission.admitted", stats, AdmissionControl.TenantStats::getAdmitted)
+                        .tag("tenant", stats.getTenant()).register(registry);
+                FunctionCounter.builder("hawkbit.ddi.admission.rejected", stats, AdmissionControl.TenantStats::getRejectedByTenant)
+                        .tag("tenant", stats.getTenant()).tag("limit", "tenant").register(registry);
+                FunctionCounter.builder("hawkbit.ddi.admission.rejected", stats, AdmissionControl.TenantStats::getRejectedByController)
+                        .tag("tenant", stats.getTenant()).tag("limit", "controller").register(registry);
+            }));
+        }
+    }
 }
\ No newline at end of file
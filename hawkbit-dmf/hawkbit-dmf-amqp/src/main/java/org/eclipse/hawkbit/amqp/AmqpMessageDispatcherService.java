@@ -18,13 +18,13 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
-import java.util.function.Supplier;
 import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.IterableUtils;
@@ -44,9 +44,9 @@ import org.eclipse.hawkbit.dmf.json.model.DmfDownloadAndUpdateRequest;
 import org.eclipse.hawkbit.dmf.json.model.DmfMetadata;
 import org.eclipse.hawkbit.dmf.json.model.DmfSoftwareModule;
 import org.eclipse.hawkbit.dmf.json.model.DmfTarget;
+import org.eclipse.hawkbit.repository.ControllerManagement;
 import org.eclipse.hawkbit.repository.DeploymentManagement;
-import org.eclipse.hawkbit.repository.DistributionSetManagement;
-import org.eclipse.hawkbit.repository.SoftwareModuleManagement;
+import org.eclipse.hawkbit.repository.PrimaryPinned;
 import org.eclipse.hawkbit.repository.SystemManagement;
 import org.eclipse.hawkbit.repository.TargetManagement;
 import org.eclipse.hawkbit.repository.event.remote.CancelTargetAssignmentEvent;
@@ -57,12 +57,12 @@ import org.eclipse.hawkbit.repository.event.remote.service.CancelTargetAssignmen
 import org.eclipse.hawkbit.repository.event.remote.service.TargetAssignDistributionSetServiceEvent;
 import org.eclipse.hawkbit.repository.event.remote.service.TargetAttributesRequestedServiceEvent;
 import org.eclipse.hawkbit.repository.event.remote.service.TargetDeletedServiceEvent;
+import org.eclipse.hawkbit.repository.exception.EntityNotFoundException;
 import org.eclipse.hawkbit.repository.helper.TenantConfigHelper;
 import org.eclipse.hawkbit.repository.model.Action;
 import org.eclipse.hawkbit.repository.model.ActionProperties;
-import org.eclipse.hawkbit.repository.model.Artifact;
-import org.eclipse.hawkbit.repository.model.DistributionSet;
-import org.eclipse.hawkbit.repository.model.SoftwareModule;
+import org.eclipse.hawkbit.repository.model.DistributionSetGraph;
+import org.eclipse.hawkbit.repository.model.DistributionSetGraph.ModuleArtifact;
 import org.eclipse.hawkbit.repository.model.Target;
 import org.eclipse.hawkbit.repository.model.TenantMetaData;
 import org.eclipse.hawkbit.utils.IpUtil;
@@ -71,8 +71,6 @@ import org.springframework.amqp.core.MessageBuilder;
 import org.springframework.amqp.core.MessageProperties;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.context.event.EventListener;
-import org.springframework.security.core.context.SecurityContext;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.util.CollectionUtils;
 
 /**
@@ -81,6 +79,7 @@ import org.springframework.util.CollectionUtils;
  * Additionally, the dispatcher listener/subscribe for some target events e.g. assignment.
  */
 @Slf4j
+@PrimaryPinned
 public class AmqpMessageDispatcherService extends BaseAmqpService {
 
     private static final int MAX_PROCESSING_SIZE = 1000;
@@ -89,9 +88,9 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
     private final AmqpMessageSenderService amqpSenderService;
     private final SystemManagement systemManagement;
     private final TargetManagement<? extends Target> targetManagement;
-    private final SoftwareModuleManagement<? extends SoftwareModule> softwareModuleManagement;
-    private final DistributionSetManagement<? extends DistributionSet> distributionSetManagement;
+    private final ControllerManagement controllerManagement;
     private final DeploymentManagement deploymentManagement;
+    private final Executor partitionExecutor;
 
     @SuppressWarnings("java:S107")
     protected AmqpMessageDispatcherService(
@@ -99,17 +98,17 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
             final AmqpMessageSenderService amqpSenderService, final ArtifactUrlResolver artifactUrlHandler,
             final SystemManagement systemManagement,
             final TargetManagement<? extends Target> targetManagement,
-            final SoftwareModuleManagement<? extends SoftwareModule> softwareModuleManagement,
-            final DistributionSetManagement<? extends DistributionSet> distributionSetManagement,
-            final DeploymentManagement deploymentManagement) {
+            final ControllerManagement controllerManagement,
+            final DeploymentManagement deploymentManagement,
+            final Executor partitionExecutor) {
         super(rabbitTemplate);
         this.artifactUrlHandler = artifactUrlHandler;
         this.amqpSenderService = amqpSenderService;
         this.systemManagement = systemManagement;
         this.targetManagement = targetManagement;
-        this.softwareModuleManagement = softwareModuleManagement;
-        this.distributionSetManagement = distributionSetManagement;
+        this.controllerManagement = controllerManagement;
         this.deploymentManagement = deploymentManagement;
+        this.partitionExecutor = partitionExecutor;
     }
 
     public boolean isBatchAssignmentsEnabled() {
@@ -134,16 +133,16 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
 
     protected void sendUpdateMessageToTarget(
             final ActionProperties actionsProps, final Target target,
-            final Map<SoftwareModule, Map<String, String>> softwareModules) {
+            final DistributionSetGraph distributionSet) {
         final Map<String, ActionProperties> actionProp = new HashMap<>();
         actionProp.put(target.getControllerId(), actionsProps);
-        sendUpdateMessageToTargets(actionProp, Collections.singletonList(target), softwareModules);
+        sendUpdateMessageToTargets(actionProp, Collections.singletonList(target), distributionSet);
     }
 
     protected DmfDownloadAndUpdateRequest createDownloadAndUpdateRequest(
-            final Target target, final Long actionId, final Map<SoftwareModule, Map<String, String>> softwareModules) {
+            final Target target, final Long actionId, final DistributionSetGraph distributionSet) {
         return new DmfDownloadAndUpdateRequest(
-                actionId, asSystem(target::getSecurityToken), convertToAmqpSoftwareModules(target, softwareModules));
+                actionId, asSystem(target::getSecurityToken), convertToAmqpSoftwareModules(target, distributionSet));
     }
 
     /**
@@ -208,8 +207,8 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
     }
 
     protected DmfConfirmRequest createConfirmRequest(
-            final Target target, final Long actionId, final Map<SoftwareModule, Map<String, String>> softwareModules) {
-        return new DmfConfirmRequest(actionId, asSystem(target::getSecurityToken), convertToAmqpSoftwareModules(target, softwareModules));
+            final Target target, final Long actionId, final DistributionSetGraph distributionSet) {
+        return new DmfConfirmRequest(actionId, asSystem(target::getSecurityToken), convertToAmqpSoftwareModules(target, distributionSet));
     }
 
     /**
@@ -229,33 +228,28 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
                 : EventTopic.DOWNLOAD_AND_INSTALL;
     }
 
-    private static <T, R> List<R> partitionedParallelExecution(
+    private <T, R> List<R> partitionedParallelExecution(
             final Collection<T> controllerIds, final Function<Collection<T>, List<R>> loadingFunction) {
         // Ensure not exceeding the max value of MAX_PROCESSING_SIZE
         if (controllerIds.size() > MAX_PROCESSING_SIZE) {
-            // Split the provided collection
-            final Iterable<List<T>> partitions = ListUtils.partition(IterableUtils.toList(controllerIds), MAX_PROCESSING_SIZE);
-            // Preserve the security context because it gets lost when executing
-            // loading calls in new threads
-            final SecurityContext context = SecurityContextHolder.getContext();
-            // Handling remote request in parallel streams
-            return StreamSupport.stream(partitions.spliterator(), true) //
-                    .flatMap(partition -> withSecurityContext(() -> loadingFunction.apply(partition), context).stream())
+            // Split the provided collection and load the partitions in parallel, in the (bounded) partition executor.
+            // The executor binds the tasks to the current (security) context since it gets lost when executing loading calls in new threads
+            final List<CompletableFuture<List<R>>> partitions = ListUtils
+                    .partition(IterableUtils.toList(controllerIds), MAX_PROCESSING_SIZE).stream()
+                    .map(partition -> CompletableFuture.supplyAsync(() -> loadingFunction.apply(partition), partitionExecutor))
                     .toList();
+            try {
+                return partitions.stream().flatMap(partition -> partition.join().stream()).toList();
+            } catch (final CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
         }
         return loadingFunction.apply(controllerIds);
     }
 
-    private static <T> T withSecurityContext(final Supplier<T> callable, final SecurityContext securityContext) {
-        final SecurityContext oldContext = SecurityContextHolder.getContext();
-        try {
-            SecurityContextHolder.setContext(securityContext);
-            return callable.get();
-        } finally {
-            SecurityContextHolder.setContext(oldContext);
-        }
-    }
-
     private static MessageProperties createConnectorMessagePropertiesEvent(
             final String tenant, final String controllerId, final EventTopic topic) {
         final MessageProperties messageProperties = createConnectorMessageProperties(tenant, controllerId);
@@ -312,27 +306,32 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
 
     private void sendUpdateMessageToTargets(
             final Long dsId, final Map<String, ActionProperties> actionsPropsByTargetId, final List<Target> targets) {
-        distributionSetManagement.find(dsId).ifPresent(ds -> {
-            final Map<SoftwareModule, Map<String, String>> softwareModules = getSoftwareModulesWithMetadata(ds);
-            sendUpdateMessageToTargets(actionsPropsByTargetId, targets, softwareModules);
-        });
+        final DistributionSetGraph distributionSet;
+        try {
+            // locked distribution sets graphs are served from cache - shared by all the targets and the DDI API
+            distributionSet = controllerManagement.getDistributionSetGraph(dsId);
+        } catch (final EntityNotFoundException e) {
+            log.debug("Distribution set {} doesn't exist anymore. Will not send update messages.", dsId, e);
+            return;
+        }
+        sendUpdateMessageToTargets(actionsPropsByTargetId, targets, distributionSet);
     }
 
     private void sendUpdateMessageToTargets(
             final Map<String, ActionProperties> actionsPropsByTargetId,
-            final List<Target> targets, final Map<SoftwareModule, Map<String, String>> softwareModules) {
+            final List<Target> targets, final DistributionSetGraph distributionSet) {
         if (!targets.isEmpty() && isBatchAssignmentsEnabled()) {
-            sendBatchUpdateMessage(actionsPropsByTargetId, targets, softwareModules);
+            sendBatchUpdateMessage(actionsPropsByTargetId, targets, distributionSet);
         } else {
             targets.forEach(target -> {
                 final ActionProperties actionProp = actionsPropsByTargetId.get(target.getControllerId());
-                sendSingleUpdateMessage(actionProp, target, softwareModules);
+                sendSingleUpdateMessage(actionProp, target, distributionSet);
             });
         }
     }
 
     private void sendSingleUpdateMessage(
-            final ActionProperties action, final Target target, final Map<SoftwareModule, Map<String, String>> modules) {
+            final ActionProperties action, final Target target, final DistributionSetGraph distributionSet) {
         final String tenant = action.getTenant();
 
         final URI targetAddress = IpUtil.addressToUri(target.getAddress());
@@ -344,9 +343,9 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
         if (action.isWaitingConfirmation()) {
             // For the moment the confirmation request is the same as download and update request.
             // It can be modified not to expose all the software modules in the future.
-            request = createConfirmRequest(target, action.getId(), modules);
+            request = createConfirmRequest(target, action.getId(), distributionSet);
         } else {
-            request = createDownloadAndUpdateRequest(target, action.getId(), modules);
+            request = createDownloadAndUpdateRequest(target, action.getId(), distributionSet);
         }
 
         final Message message = getMessageConverter().toMessage(
@@ -384,69 +383,54 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
         amqpSenderService.sendMessage(message, URI.create(targetAddress));
     }
 
-    private List<DmfSoftwareModule> convertToAmqpSoftwareModules(
-            final Target target, final Map<SoftwareModule, Map<String, String>> softwareModules) {
-        return Optional.ofNullable(softwareModules)
-                .map(Map::entrySet)
-                .map(Set::stream)
-                .map(stream -> stream.map(entry -> convertToAmqpSoftwareModule(target, entry)).toList())
+    private List<DmfSoftwareModule> convertToAmqpSoftwareModules(final Target target, final DistributionSetGraph distributionSet) {
+        return Optional.ofNullable(distributionSet)
+                .map(DistributionSetGraph::modules)
+                .map(modules -> modules.stream().map(module -> convertToAmqpSoftwareModule(target, module)).toList())
                 .orElse(null);
     }
 
-    private DmfSoftwareModule convertToAmqpSoftwareModule(final Target target, final Entry<SoftwareModule, Map<String, String>> entry) {
+    private DmfSoftwareModule convertToAmqpSoftwareModule(final Target target, final DistributionSetGraph.Module module) {
         return new DmfSoftwareModule(
-                entry.getKey().getId(),
-                entry.getKey().getType().getKey(),
-                entry.getKey().getVersion(),
-                entry.getKey().isEncrypted() ? Boolean.TRUE : null,
-                convertArtifacts(target, entry.getKey().getArtifacts()),
-                CollectionUtils.isEmpty(entry.getValue()) ? null : convertMetadata(entry.getValue()));
+                module.id(),
+                module.typeKey(),
+                module.version(),
+                module.encrypted() ? Boolean.TRUE : null,
+                convertArtifacts(target, module.id(), module.artifacts()),
+                CollectionUtils.isEmpty(module.metadata()) ? null : convertMetadata(module.metadata()));
     }
 
     private List<DmfMetadata> convertMetadata(final Map<String, String> metadata) {
         return metadata.entrySet().stream().map(md -> new DmfMetadata(md.getKey(), md.getValue())).toList();
     }
 
-    private List<DmfArtifact> convertArtifacts(final Target target, final List<Artifact> artifacts) {
+    private List<DmfArtifact> convertArtifacts(final Target target, final long moduleId, final List<ModuleArtifact> artifacts) {
         if (artifacts.isEmpty()) {
             return Collections.emptyList();
         }
 
-        return artifacts.stream().map(artifact -> convertArtifact(target, artifact)).toList();
+        return artifacts.stream().map(artifact -> convertArtifact(target, moduleId, artifact)).toList();
     }
 
-    private DmfArtifact convertArtifact(final Target target, final Artifact artifact) {
+    private DmfArtifact convertArtifact(final Target target, final long moduleId, final ModuleArtifact artifact) {
         final TenantMetaData tenantMetadata = systemManagement.getTenantMetadataWithoutDetails();
         return new DmfArtifact(
-                artifact.getFilename(),
-                new DmfArtifactHash(artifact.getSha1Hash(), artifact.getMd5Hash()),
-                artifact.getSize(),
-                artifact.getLastModifiedAt(),
+                artifact.filename(),
+                new DmfArtifactHash(artifact.sha1Hash(), artifact.md5Hash()),
+                artifact.size(),
+                artifact.lastModifiedAt(),
                 artifactUrlHandler
                         .getUrls(new DownloadDescriptor(
                                         tenantMetadata.getTenant(), target.getControllerId(),
-                                        artifact.getSoftwareModule().getId(), artifact.getFilename(), artifact.getSha1Hash()),
+                                        moduleId, artifact.filename(), artifact.sha1Hash()),
                                 ArtifactUrlResolver.ApiType.DMF)
                         .stream()
                         .collect(Collectors.toMap(ArtifactUrl::protocol, ArtifactUrl::ref))
         );
     }
 
-    private Map<SoftwareModule, Map<String, String>> getSoftwareModulesWithMetadata(final DistributionSet distributionSet) {
-        final Map<Long, Map<String, String>> softwareModuleMetadata =
-                softwareModuleManagement.findMetaDataBySoftwareModuleIdsAndTargetVisible(
-                        distributionSet.getModules().stream()
-                                .map(SoftwareModule::getId)
-                                .toList());
-        return distributionSet.getModules().stream()
-                .collect(Collectors.toMap(
-                        Function.identity(),
-                        module -> softwareModuleMetadata.getOrDefault(module.getId(), Collections.emptyMap())));
-    }
-
     private void sendBatchUpdateMessage(
-            final Map<String, ActionProperties> actions, final List<Target> targets,
-            final Map<SoftwareModule, Map<String, String>> modules) {
+            final Map<String, ActionProperties> actions, final List<Target> targets, final DistributionSetGraph distributionSet) {
         final List<DmfTarget> dmfTargets = targets.stream()
                 .filter(target -> IpUtil.isAmqpUri(IpUtil.addressToUri(target.getAddress())))
                 // as system - the security token is sent to DMF receiver
@@ -458,11 +442,7 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
         final DmfBatchDownloadAndUpdateRequest batchRequest = new DmfBatchDownloadAndUpdateRequest(
                 System.currentTimeMillis(),
                 dmfTargets,
-                Optional.ofNullable(modules)
-                        .map(Map::entrySet)
-                        .map(Set::stream)
-                        .map(stream -> stream.map(entry -> convertToAmqpSoftwareModule(firstTarget, entry)).toList())
-                        .orElse(null));
+                convertToAmqpSoftwareModules(firstTarget, distributionSet));
 
         // we use only the first action when constructing message as AccessContext and action type are the same
         // since all actions have the same trigger
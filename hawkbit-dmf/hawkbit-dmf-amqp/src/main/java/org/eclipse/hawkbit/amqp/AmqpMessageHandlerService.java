@@ -11,13 +11,9 @@ package org.eclipse.hawkbit.amqp;
 
 import java.net.URI;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import jakarta.validation.constraints.NotNull;
 
@@ -36,6 +32,7 @@ import org.eclipse.hawkbit.dmf.json.model.DmfCreateThing;
 import org.eclipse.hawkbit.dmf.json.model.DmfUpdateMode;
 import org.eclipse.hawkbit.repository.ConfirmationManagement;
 import org.eclipse.hawkbit.repository.ControllerManagement;
+import org.eclipse.hawkbit.repository.PrimaryPinned;
 import org.eclipse.hawkbit.repository.RepositoryConstants;
 import org.eclipse.hawkbit.repository.UpdateMode;
 import org.eclipse.hawkbit.repository.exception.AssignmentQuotaExceededException;
@@ -45,8 +42,6 @@ import org.eclipse.hawkbit.repository.model.Action.ActionStatusCreate;
 import org.eclipse.hawkbit.repository.model.Action.ActionStatusCreate.ActionStatusCreateBuilder;
 import org.eclipse.hawkbit.repository.model.Action.Status;
 import org.eclipse.hawkbit.repository.model.ActionProperties;
-import org.eclipse.hawkbit.repository.model.DistributionSet;
-import org.eclipse.hawkbit.repository.model.SoftwareModule;
 import org.eclipse.hawkbit.repository.model.Target;
 import org.eclipse.hawkbit.utils.IpUtil;
 import org.springframework.amqp.AmqpRejectAndDontRequeueException;
@@ -68,6 +63,7 @@ import org.springframework.util.StringUtils;
  * queue which is configured for the property hawkbit.dmf.rabbitmq.receiverQueue.
  */
 @Slf4j
+@PrimaryPinned
 public class AmqpMessageHandlerService extends BaseAmqpService {
 
     private static final String THING_ID_NULL = "ThingId is null";
@@ -320,18 +316,11 @@ public class AmqpMessageHandlerService extends BaseAmqpService {
                     target.getTenant(), target.getControllerId(), action.getId(), IpUtil.addressToUri(target.getAddress()));
         } else {
             amqpMessageDispatcherService.sendUpdateMessageToTarget(
-                    new ActionProperties(action), action.getTarget(), getSoftwareModulesWithMetadata(action.getDistributionSet()));
+                    new ActionProperties(action), action.getTarget(),
+                    controllerManagement.getDistributionSetGraph(action.getDistributionSet().getId()));
         }
     }
 
-    private Map<SoftwareModule, Map<String, String>> getSoftwareModulesWithMetadata(final DistributionSet distributionSet) {
-        final List<Long> smIds = distributionSet.getModules().stream().map(SoftwareModule::getId).toList();
-        final Map<Long, Map<String, String>> metadata = controllerManagement.findTargetVisibleMetaDataBySoftwareModuleId(smIds);
-        return distributionSet.getModules().stream().collect(Collectors.toMap(
-                Function.identity(), sm -> metadata.getOrDefault(sm.getId(), Collections.emptyMap())));
-
-    }
-
     /**
      * Method to handle the different topics to an event.
      *
@@ -13,6 +13,7 @@ import java.sql.SQLException;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.regex.Pattern;
 
 import lombok.ToString;
@@ -22,12 +23,8 @@ import org.eclipse.hawkbit.dmf.DmfMessageConverter;
 import org.eclipse.hawkbit.repository.ConfirmationManagement;
 import org.eclipse.hawkbit.repository.ControllerManagement;
 import org.eclipse.hawkbit.repository.DeploymentManagement;
-import org.eclipse.hawkbit.repository.DistributionSetManagement;
-import org.eclipse.hawkbit.repository.SoftwareModuleManagement;
 import org.eclipse.hawkbit.repository.SystemManagement;
 import org.eclipse.hawkbit.repository.TargetManagement;
-import org.eclipse.hawkbit.repository.model.DistributionSet;
-import org.eclipse.hawkbit.repository.model.SoftwareModule;
 import org.eclipse.hawkbit.repository.model.Target;
 import org.springframework.amqp.listener.ConditionalRejectingErrorHandler;
 import org.springframework.amqp.listener.FatalExceptionStrategy;
@@ -37,6 +34,7 @@ import org.springframework.amqp.rabbit.listener.RabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
 import org.springframework.amqp.support.converter.JacksonJsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.amqp.autoconfigure.SimpleRabbitListenerContainerFactoryConfigurer;
@@ -184,12 +182,13 @@ public class DmfApiConfiguration {
             final AmqpMessageSenderService amqpSenderService, final ArtifactUrlResolver artifactUrlHandler,
             final SystemManagement systemManagement,
             final TargetManagement<? extends Target> targetManagement,
-            final DistributionSetManagement<? extends DistributionSet> distributionSetManagement,
-            final SoftwareModuleManagement<? extends SoftwareModule> softwareModuleManagement,
-            final DeploymentManagement deploymentManagement) {
+            final ControllerManagement controllerManagement,
+            final DeploymentManagement deploymentManagement,
+            @Qualifier("partitionExecutor") final ObjectProvider<Executor> partitionExecutor) {
+        // if there is no partition executor the partitions are loaded sequentially, in the caller thread
         return new AmqpMessageDispatcherService(rabbitTemplate, amqpSenderService, artifactUrlHandler,
-                systemManagement, targetManagement, softwareModuleManagement, distributionSetManagement,
-                deploymentManagement);
+                systemManagement, targetManagement, controllerManagement, deploymentManagement,
+                partitionExecutor.getIfAvailable(() -> Runnable::run));
     }
 
     @ToString
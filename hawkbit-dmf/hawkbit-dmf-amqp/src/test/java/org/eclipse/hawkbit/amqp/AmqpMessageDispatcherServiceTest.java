@@ -113,7 +113,7 @@ class AmqpMessageDispatcherServiceTest extends AbstractIntegrationTest {
         amqpMessageDispatcherService = new AmqpMessageDispatcherService(
                 rabbitTemplate, senderService,
                 artifactUrlHandlerMock, systemManagement, targetManagement,
-                softwareModuleManagement, distributionSetManagement, deploymentManagement);
+                controllerManagement, deploymentManagement, Runnable::run);
 
     }
 
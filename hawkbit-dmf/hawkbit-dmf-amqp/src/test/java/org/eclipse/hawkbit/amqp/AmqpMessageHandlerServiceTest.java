@@ -14,6 +14,7 @@ import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -21,6 +22,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.net.URI;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -43,6 +45,7 @@ import org.eclipse.hawkbit.repository.helper.TenantConfigHelper;
 import org.eclipse.hawkbit.repository.model.Action;
 import org.eclipse.hawkbit.repository.model.ActionProperties;
 import org.eclipse.hawkbit.repository.model.DistributionSet;
+import org.eclipse.hawkbit.repository.model.DistributionSetGraph;
 import org.eclipse.hawkbit.repository.model.Target;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -434,6 +437,8 @@ class AmqpMessageHandlerServiceTest {
         when(controllerManagementMock.addUpdateActionStatus(any())).thenReturn(action);
         // for the test the same action can be used
         when(controllerManagementMock.findActiveActionWithHighestWeight(any())).thenReturn(Optional.of(action));
+        final DistributionSetGraph distributionSetGraph = new DistributionSetGraph(1L, true, List.of());
+        when(controllerManagementMock.getDistributionSetGraph(anyLong())).thenReturn(distributionSetGraph);
 
         final MessageProperties messageProperties = createMessageProperties(MessageType.EVENT);
         messageProperties.setHeader(MessageHeaderKey.TOPIC, EventTopic.UPDATE_ACTION_STATUS.name());
@@ -447,7 +452,7 @@ class AmqpMessageHandlerServiceTest {
         final ArgumentCaptor<Target> targetCaptor = ArgumentCaptor.forClass(Target.class);
 
         verify(amqpMessageDispatcherServiceMock, times(1))
-                .sendUpdateMessageToTarget(actionPropertiesCaptor.capture(), targetCaptor.capture(), any(Map.class));
+                .sendUpdateMessageToTarget(actionPropertiesCaptor.capture(), targetCaptor.capture(), eq(distributionSetGraph));
         final ActionProperties actionProperties = actionPropertiesCaptor.getValue();
         assertThat(actionProperties).isNotNull();
         assertThat(actionProperties.getTenant()).as("event has tenant").isEqualTo("DEFAULT");
@@ -644,6 +649,7 @@ class AmqpMessageHandlerServiceTest {
         final DistributionSet distributionSetMock = mock(DistributionSet.class);
 
         when(actionMock.getDistributionSet()).thenReturn(distributionSetMock);
+        lenient().when(distributionSetMock.getId()).thenReturn(1L);
         when(actionMock.getId()).thenReturn(targetId);
         when(actionMock.getTenant()).thenReturn("DEFAULT");
         when(actionMock.getTarget()).thenReturn(targetMock);
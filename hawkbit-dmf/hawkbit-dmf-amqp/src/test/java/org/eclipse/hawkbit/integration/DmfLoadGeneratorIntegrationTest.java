@@ -0,0 +1,101 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.eclipse.hawkbit.amqp.AmqpMessageHandlerService;
+import org.eclipse.hawkbit.repository.model.Action;
+import org.eclipse.hawkbit.repository.model.TargetUpdateStatus;
+import org.eclipse.hawkbit.repository.test.util.SecurityContextSwitch;
+import org.eclipse.hawkbit.sdk.Tenant;
+import org.eclipse.hawkbit.sdk.dmf.DmfLoadGenerator;
+import org.eclipse.hawkbit.sdk.dmf.DmfTenant;
+import org.eclipse.hawkbit.sdk.dmf.amqp.Amqp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.amqp.rabbit.junit.BrokerRunningSupport;
+import org.springframework.boot.amqp.autoconfigure.RabbitProperties;
+
+/**
+ * Drives the real {@link AmqpMessageHandlerService} with the messages generated by the SDK {@link DmfLoadGenerator} - the THING_CREATED
+ * and UPDATE_ACTION_STATUS messages are published in batches over the broker and the update requests of the server are received and
+ * answered by the virtual things.
+ * <p/>
+ * Feature: Component Tests - Device Management Federation API<br/>
+ * Story: DMF load generator
+ */
+class DmfLoadGeneratorIntegrationTest extends AbstractAmqpServiceIntegrationTest {
+
+    private static final String PREFIX = "load";
+    private static final int THINGS = 20;
+
+    private Amqp amqp;
+    private DmfLoadGenerator loadGenerator;
+
+    @BeforeEach
+    void startLoadGenerator() {
+        final BrokerRunningSupport broker = BrokerRunningSupport.isRunning();
+        final RabbitProperties rabbitProperties = new RabbitProperties();
+        rabbitProperties.setHost(broker.getHostName());
+        rabbitProperties.setPort(broker.getPort());
+        rabbitProperties.setUsername(broker.getUser());
+        rabbitProperties.setPassword(broker.getPassword());
+        rabbitProperties.setVirtualHost(getVirtualHost());
+        amqp = new Amqp(rabbitProperties, new org.eclipse.hawkbit.sdk.dmf.amqp.AmqpProperties());
+
+        final Tenant tenant = new Tenant();
+        tenant.setTenantId(TENANT_EXIST);
+        loadGenerator = new DmfLoadGenerator(new DmfTenant(tenant, amqp))
+                .setPublishers(2)
+                .setBatchSize(5)
+                .start();
+    }
+
+    @AfterEach
+    void stopLoadGenerator() {
+        loadGenerator.close();
+        amqp.stop();
+    }
+
+    /**
+     * Verifies that the registered things are created and that their updates are finished, or failed, according to the profile.
+     */
+    @Test
+    void registeredThingsAreCreatedAndUpdated() {
+        loadGenerator.register(PREFIX, 0, THINGS);
+        assertUpdateStatusCount(TargetUpdateStatus.REGISTERED, THINGS);
+        final List<String> controllerIds = IntStream.range(0, THINGS).mapToObj(i -> String.format("%s%06d", PREFIX, i)).toList();
+
+        loadGenerator.setProfile(new DmfLoadGenerator.Profile(Duration.ZERO, Duration.ofMillis(100), 0, true));
+        assignDistributionSet(testdataFactory.createDistributionSet("load").getId(), controllerIds, Action.ActionType.FORCED);
+        assertUpdateStatusCount(TargetUpdateStatus.IN_SYNC, THINGS);
+
+        loadGenerator.setProfile(new DmfLoadGenerator.Profile(Duration.ZERO, Duration.ofMillis(100), 1, false));
+        final List<String> failing = controllerIds.subList(0, THINGS / 2);
+        assignDistributionSet(testdataFactory.createDistributionSet("load-failing").getId(), failing, Action.ActionType.FORCED);
+        assertUpdateStatusCount(TargetUpdateStatus.ERROR, failing.size());
+        assertUpdateStatusCount(TargetUpdateStatus.IN_SYNC, THINGS / 2);
+
+        // THING_CREATED, RUNNING and FINISHED of all the things and ERROR of the half of them
+        assertThat(loadGenerator.report()).contains("published: " + (THINGS * 3 + THINGS / 2) + ", failed: 0");
+        Mockito.verifyNoInteractions(getDeadletterListener());
+    }
+
+    private void assertUpdateStatusCount(final TargetUpdateStatus status, final int count) {
+        await().untilAsserted(() -> SecurityContextSwitch.asPrivileged(() -> assertThat(findByUpdateStatus(status, PAGE)).hasSize(count)));
+    }
+}
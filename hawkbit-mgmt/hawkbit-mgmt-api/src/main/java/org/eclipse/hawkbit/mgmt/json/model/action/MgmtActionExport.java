@@ -0,0 +1,68 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.mgmt.json.model.action;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.experimental.Accessors;
+import org.eclipse.hawkbit.mgmt.json.model.distributionset.MgmtActionType;
+
+/**
+ * A json annotated flat (without links and maintenance window) rest model for Action used for the line by line export
+ * (<code>application/x-ndjson</code>) of actions. The referenced target and distribution set are given by their ids.
+ */
+@Data
+@Accessors(chain = true)
+@JsonInclude(Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Schema(example = """
+        {"id":7,"target":"target137","distributionSet":1,"type":"update","active":false,"status":"finished","forceType":"forced",\
+        "rollout":1,"rolloutName":"rollout","createdBy":"bumlux","createdAt":1682408571231,"lastModifiedBy":"bumlux",\
+        "lastModifiedAt":1682408571265}""")
+public class MgmtActionExport {
+
+    @Schema(description = "ID of the action, the export is ordered by it", example = "7")
+    private Long id;
+    @Schema(description = "Controller ID of the target of the action", example = "target137")
+    private String target;
+    @Schema(description = "ID of the distribution set of the action", example = "1")
+    private Long distributionSet;
+    @Schema(description = "Type of action", example = "update")
+    private String type;
+    @Schema(description = "If acton is active")
+    private boolean active;
+    @Schema(description = "Status of action")
+    private String status;
+    @Schema(example = "1691065903238")
+    private Long forceTime;
+    private MgmtActionType forceType;
+    @Schema(description = "Weight of the action showing the importance of the update", example = "600")
+    private Integer weight;
+    @Schema(description = "The ID of the rollout this action was created for", example = "1")
+    private Long rollout;
+    @Schema(description = "The name of the rollout this action was created for", example = "rollout")
+    private String rolloutName;
+    @Schema(description = "(Optional) Code provided as part of the last status update that was sent by the device.", example = "200")
+    private Integer lastStatusCode;
+    @Schema(description = "If created by external system this field contains the external reference for the action")
+    private String externalRef;
+
+    @Schema(description = "Entity was originally created by (User, AMQP-Controller, anonymous etc.)", example = "bumlux")
+    private String createdBy;
+    @Schema(description = "Entity was originally created at (timestamp UTC in milliseconds)", example = "1682408571231")
+    private Long createdAt;
+    @Schema(description = "Entity was last modified by (User, AMQP-Controller, anonymous etc.)", example = "bumlux")
+    private String lastModifiedBy;
+    @Schema(description = "Entity was last modified at (timestamp UTC in milliseconds)", example = "1682408571265")
+    private Long lastModifiedAt;
+}
@@ -0,0 +1,52 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.mgmt.json.model.artifact;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+/**
+ * A json annotated rest model for a resumable (chunked) artifact upload. The chunks are appended at the {@link #getOffset()} -
+ * after a broken connection the client gets the upload in order to find out from where to resume.
+ */
+@Data
+@Accessors(chain = true)
+@JsonInclude(Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Schema(example = """
+        {
+          "id" : "0b0a4e4e-3f3a-4b8c-9e36-5a2a0a7b0f1c",
+          "filename" : "image.swu",
+          "offset" : 104857600,
+          "size" : 4294967296,
+          "expiresAt" : 1682412171231
+        }""")
+public class MgmtArtifactUpload {
+
+    @Schema(description = "Id of the upload", example = "0b0a4e4e-3f3a-4b8c-9e36-5a2a0a7b0f1c")
+    private String id;
+
+    @Schema(description = "Filename of the artifact that is created when the upload is completed", example = "image.swu")
+    private String filename;
+
+    @Schema(description = "Number of the bytes received so far, the next chunk shall start at this offset", example = "104857600")
+    private long offset;
+
+    @Schema(description = "(Optional) Total size of the artifact, if announced when the upload has been started", example = "4294967296")
+    private Long size;
+
+    @Schema(description = "Time (timestamp UTC in milliseconds) the upload expires at if no further chunk is received",
+            example = "1682412171231")
+    private long expiresAt;
+}
@@ -0,0 +1,67 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.mgmt.json.model.target;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+/**
+ * A json annotated flat (without links, poll status and security token) rest model for Target used for the line by line export
+ * (<code>application/x-ndjson</code>) of targets.
+ */
+@Data
+@Accessors(chain = true)
+@JsonInclude(Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Schema(example = """
+        {"id":11,"controllerId":"123","name":"123","description":"Description","group":"Europe/East","updateStatus":"in_sync",\
+        "lastControllerRequestAt":1691065941102,"installedAt":1691065941155,"address":"http://127.0.0.1","requestAttributes":true,\
+        "targetType":19,"targetTypeName":"defaultType","createdBy":"bumlux","createdAt":1691065938576,"lastModifiedBy":"bumlux",\
+        "lastModifiedAt":1691065941155}""")
+public class MgmtTargetExport {
+
+    @Schema(description = "Technical ID of the target, the export is ordered by it", example = "11")
+    private Long id;
+    @Schema(description = "Controller ID", example = "123")
+    private String controllerId;
+    @Schema(description = "The name of the target", example = "123")
+    private String name;
+    @Schema(description = "The description of the target", example = "Description")
+    private String description;
+    @Schema(description = "Target group", example = "Europe/East")
+    private String group;
+    @Schema(description = "If the target is in sync", example = "in_sync")
+    private String updateStatus;
+    @Schema(description = "Timestamp of the last controller request", example = "1691065941102")
+    private Long lastControllerRequestAt;
+    @Schema(description = "Install timestamp", example = "1691065941155")
+    private Long installedAt;
+    @Schema(description = "The last known address URI of the target", example = "http://127.0.0.1")
+    private String address;
+    @Schema(description = "Request re-transmission of target attributes", example = "true")
+    private boolean requestAttributes;
+    @Schema(description = "ID of the target type", example = "19")
+    private Long targetType;
+    @Schema(description = "Name of the target type", example = "defaultType")
+    private String targetTypeName;
+
+    @Schema(description = "Entity was originally created by (User, AMQP-Controller, anonymous etc.)", example = "bumlux")
+    private String createdBy;
+    @Schema(description = "Entity was originally created at (timestamp UTC in milliseconds)", example = "1691065938576")
+    private Long createdAt;
+    @Schema(description = "Entity was last modified by (User, AMQP-Controller, anonymous etc.)", example = "bumlux")
+    private String lastModifiedBy;
+    @Schema(description = "Entity was last modified at (timestamp UTC in milliseconds)", example = "1691065941155")
+    private Long lastModifiedAt;
+}
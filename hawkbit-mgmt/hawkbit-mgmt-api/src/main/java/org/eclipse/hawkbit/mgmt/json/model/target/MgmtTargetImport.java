@@ -0,0 +1,66 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.mgmt.json.model.target;
+
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.ToString;
+import lombok.experimental.Accessors;
+
+/**
+ * A line (NDJSON) or row (CSV) of a target import. For CSV the header row names the columns - <code>controllerId</code>,
+ * <code>name</code>, <code>description</code>, <code>securityToken</code>, <code>address</code>, <code>group</code>,
+ * <code>targetType</code>, <code>tags</code> (tag ids separated by <code>;</code>) and <code>attributes.&lt;key&gt;</code> per
+ * attribute.
+ */
+@Data
+@Accessors(chain = true)
+@ToString
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Schema(example = """
+        {"controllerId":"123","name":"controllerName","group":"Europe/East","targetType":10,"tags":[1,2],\
+        "attributes":{"hwRevision":"2"}}""")
+public class MgmtTargetImport {
+
+    @JsonProperty(required = true)
+    @Schema(description = "Controller ID", example = "123")
+    private String controllerId;
+
+    @Schema(description = "The name of the entity, the controller id if not set", example = "controllerName")
+    private String name;
+
+    @Schema(description = "The description of the entity", example = "Example description of a target")
+    private String description;
+
+    @ToString.Exclude
+    @Schema(description = "Pre-Shared key that allows targets to authenticate at Direct Device Integration API if " +
+            "enabled in the tenant settings, generated if not set", example = "2345678DGGDGFTDzztgf")
+    private String securityToken;
+
+    @Schema(description = "The last known address URI of the target", example = "https://192.168.0.1")
+    private String address;
+
+    @Schema(description = "Target group", example = "Europe/East")
+    private String group;
+
+    @Schema(description = "ID of the target type", example = "10")
+    private Long targetType;
+
+    @Schema(description = "IDs of the target tags to assign", example = "[1, 2]")
+    private List<Long> tags;
+
+    @Schema(description = "Controller attributes of the target", example = "{\"hwRevision\":\"2\"}")
+    private Map<String, String> attributes;
+}
@@ -0,0 +1,38 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.mgmt.json.model.target;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+/**
+ * Result of the import of a single line (NDJSON) or row (CSV) of a target import.
+ */
+@Data
+@Accessors(chain = true)
+@JsonInclude(Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Schema(example = """
+        {"line":3,"controllerId":"123","status":"already_exists","message":"Target already exists"}""")
+public class MgmtTargetImportResult {
+
+    @Schema(description = "Number of the line in the import (for CSV including the header line)", example = "3")
+    private long line;
+    @Schema(description = "Controller ID", example = "123")
+    private String controllerId;
+    @Schema(description = "Import status - created, already_exists or invalid", example = "already_exists")
+    private String status;
+    @Schema(description = "Reason if the target has not been imported", example = "Target already exists")
+    private String message;
+}
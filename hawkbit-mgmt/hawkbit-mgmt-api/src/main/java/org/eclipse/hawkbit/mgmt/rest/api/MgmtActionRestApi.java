@@ -22,6 +22,7 @@ import static org.eclipse.hawkbit.rest.ApiResponsesConstants.GetResponses;
 import static org.eclipse.hawkbit.rest.ApiResponsesConstants.METHOD_NOT_ALLOWED_405;
 import static org.springframework.hateoas.MediaTypes.HAL_JSON_VALUE;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
 
 import java.util.List;
 
@@ -89,6 +90,23 @@ public interface MgmtActionRestApi {
                     """)
             String representationModeParam);
 
+    /**
+     * Handles the GET request of exporting all actions as newline delimited JSON (<code>application/x-ndjson</code>), one action per line.
+     *
+     * @param rsqlParam the search parameter in the request URL, syntax {@code q=distributionSet.id==1}
+     * @return status OK, the actions are streamed (ordered by id) directly to the response. In any failure before the streaming
+     *         has started the JsonResponseExceptionHandler is handling the response.
+     */
+    @Operation(summary = "Export actions", description = "Streams all actions matching the (optional) filter as newline delimited " +
+            "JSON (application/x-ndjson), one action per line ordered by id. In contrast to the paged retrieval no count is made, the " +
+            "server memory footprint doesn't depend on the number of actions and the streaming is stopped if the client disconnects.")
+    @GetIfExistResponses
+    @GetMapping(value = ACTIONS_V1 + "/export", produces = APPLICATION_NDJSON_VALUE)
+    ResponseEntity<Void> exportActions(
+            @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_SEARCH, required = false)
+            @Schema(description = "Query fields based on the Feed Item Query Language (FIQL). See Entity Definitions for available fields.")
+            String rsqlParam);
+
     /**
      * Handles the GET request of retrieving a specific {@link MgmtAction} by its <code>actionId</code>.
      *
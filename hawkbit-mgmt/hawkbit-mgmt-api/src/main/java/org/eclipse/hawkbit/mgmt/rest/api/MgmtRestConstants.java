@@ -30,6 +30,10 @@ public final class MgmtRestConstants {
      * The base URL mapping of the rest V1 resources.
      */
     public static final String REST_V1 = REST + "/" + API_VERSION_1;
+    /**
+     * The media type of CSV (comma separated values) request bodies.
+     */
+    public static final String TEXT_CSV_VALUE = "text/csv";
 
     /**
      * The request parameter for searching. The value of the search parameter must be in the FIQL syntax.
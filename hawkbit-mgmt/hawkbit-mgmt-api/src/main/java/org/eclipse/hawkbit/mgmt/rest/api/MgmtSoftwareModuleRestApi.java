@@ -16,6 +16,7 @@ import static org.eclipse.hawkbit.mgmt.rest.api.MgmtRestConstants.REQUEST_PARAME
 import static org.eclipse.hawkbit.mgmt.rest.api.MgmtRestConstants.REQUEST_PARAMETER_PAGING_LIMIT;
 import static org.eclipse.hawkbit.mgmt.rest.api.MgmtRestConstants.REQUEST_PARAMETER_PAGING_OFFSET;
 import static org.eclipse.hawkbit.mgmt.rest.api.MgmtRestConstants.SOFTWARE_MODULE_ORDER;
+import static org.eclipse.hawkbit.rest.ApiResponsesConstants.CONFLICT_409;
 import static org.eclipse.hawkbit.rest.ApiResponsesConstants.DeleteResponses;
 import static org.eclipse.hawkbit.rest.ApiResponsesConstants.GetIfExistResponses;
 import static org.eclipse.hawkbit.rest.ApiResponsesConstants.GetResponses;
@@ -26,6 +27,7 @@ import static org.eclipse.hawkbit.rest.ApiResponsesConstants.PostCreateResponses
 import static org.eclipse.hawkbit.rest.ApiResponsesConstants.PutResponses;
 import static org.springframework.hateoas.MediaTypes.HAL_JSON_VALUE;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_OCTET_STREAM_VALUE;
 import static org.springframework.http.MediaType.MULTIPART_FORM_DATA_VALUE;
 
 import java.util.List;
@@ -40,6 +42,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.eclipse.hawkbit.mgmt.json.model.PagedList;
 import org.eclipse.hawkbit.mgmt.json.model.artifact.MgmtArtifact;
+import org.eclipse.hawkbit.mgmt.json.model.artifact.MgmtArtifactUpload;
 import org.eclipse.hawkbit.mgmt.json.model.softwaremodule.MgmtSoftwareModule;
 import org.eclipse.hawkbit.mgmt.json.model.softwaremodule.MgmtSoftwareModuleMetadata;
 import org.eclipse.hawkbit.mgmt.json.model.softwaremodule.MgmtSoftwareModuleMetadataBodyPut;
@@ -53,6 +56,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.ResponseBody;
@@ -68,6 +72,7 @@ public interface MgmtSoftwareModuleRestApi {
 
     String SOFTWAREMODULES_V1 = MgmtRestConstants.REST_V1 + "/softwaremodules";
     String REQUEST_PARAMETER_USE_ARTIFACT_URL_HANDLER = "useartifacturlhandler";
+    String UPLOAD_OFFSET_HEADER = "Upload-Offset";
 
     /**
      * Handles POST request for artifact upload.
@@ -101,6 +106,157 @@ public interface MgmtSoftwareModuleRestApi {
             @RequestParam(value = "sha1sum", required = false) String sha1Sum,
             @RequestParam(value = "sha256sum", required = false) String sha256Sum);
 
+    /**
+     * Handles POST request for artifact upload streamed as raw request body (<code>application/octet-stream</code>). The body is streamed
+     * directly into the (hashing) artifact storage - without being spooled to disk as multipart file before.
+     *
+     * @param softwareModuleId of the parent SoftwareModule
+     * @param fileName the filename of the artifact
+     * @param md5Sum checksum for uploaded content check
+     * @param sha1Sum checksum for uploaded content check
+     * @param sha256Sum checksum for uploaded content check
+     * @return In case the artifact could be successfully created the ResponseEntity with status code 201 - Created. In any failure the
+     *         JsonResponseExceptionHandler is handling the response.
+     */
+    @Operation(summary = "Upload artifact as stream", description = "Handles POST request for artifact upload with the artifact binary " +
+            "as raw (application/octet-stream) request body. The body is streamed directly into the artifact storage. " +
+            "Required Permission: CREATE_REPOSITORY",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(content = @Content(
+                    mediaType = APPLICATION_OCTET_STREAM_VALUE, schema = @Schema(type = "string", format = "binary"))))
+    @PostCreateResponses
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = NOT_FOUND_404, description = "Software Module not found",
+                    content = @Content(mediaType = "application/json", schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = LOCKED_423, description = "Software module is locked",
+                    content = @Content(mediaType = "application/json", schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = INTERNAL_SERVER_ERROR_500, description = "Upload / store to storage or encryption failed",
+                    content = @Content(mediaType = "application/json", schema = @Schema(hidden = true)))
+    })
+    @PostMapping(value = SOFTWAREMODULES_V1 + "/{softwareModuleId}/artifacts/stream",
+            consumes = APPLICATION_OCTET_STREAM_VALUE, produces = { HAL_JSON_VALUE, APPLICATION_JSON_VALUE })
+    ResponseEntity<MgmtArtifact> uploadArtifactStream(
+            @PathVariable("softwareModuleId") Long softwareModuleId,
+            @RequestParam(value = "filename") String fileName,
+            @RequestParam(value = "md5sum", required = false) String md5Sum,
+            @RequestParam(value = "sha1sum", required = false) String sha1Sum,
+            @RequestParam(value = "sha256sum", required = false) String sha256Sum);
+
+    /**
+     * Handles POST request for starting of a resumable (chunked) artifact upload.
+     *
+     * @param softwareModuleId of the parent SoftwareModule
+     * @param fileName the filename of the artifact
+     * @param size (optional) total size of the artifact, if set the upload is limited to it
+     * @return the started upload with status code 201 - Created
+     */
+    @Operation(summary = "Start resumable artifact upload", description = "Starts a resumable artifact upload. The artifact binary " +
+            "is then sent in chunks (PUT with Upload-Offset header) and the artifact is created when the upload is completed. After a " +
+            "broken connection the upload could be resumed from the offset returned by the GET of the upload. Not completed uploads " +
+            "expire after a period without chunks. Required Permission: CREATE_REPOSITORY")
+    @PostCreateResponses
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = NOT_FOUND_404, description = "Software Module not found",
+                    content = @Content(mediaType = "application/json", schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = LOCKED_423, description = "Software module is locked",
+                    content = @Content(mediaType = "application/json", schema = @Schema(hidden = true)))
+    })
+    @PostMapping(value = SOFTWAREMODULES_V1 + "/{softwareModuleId}/artifacts/uploads",
+            produces = { HAL_JSON_VALUE, APPLICATION_JSON_VALUE })
+    ResponseEntity<MgmtArtifactUpload> startArtifactUpload(
+            @PathVariable("softwareModuleId") Long softwareModuleId,
+            @RequestParam(value = "filename") String fileName,
+            @RequestParam(value = "size", required = false) Long size);
+
+    /**
+     * Handles GET request of a resumable artifact upload - e.g. to find out the offset to resume from.
+     *
+     * @param softwareModuleId of the parent SoftwareModule
+     * @param uploadId the id of the upload
+     * @return the upload with status OK
+     */
+    @Operation(summary = "Return resumable artifact upload", description = "Returns the state (offset) of a resumable artifact upload. " +
+            "Required Permission: CREATE_REPOSITORY")
+    @GetResponses
+    @GetMapping(value = SOFTWAREMODULES_V1 + "/{softwareModuleId}/artifacts/uploads/{uploadId}",
+            produces = { HAL_JSON_VALUE, APPLICATION_JSON_VALUE })
+    ResponseEntity<MgmtArtifactUpload> getArtifactUpload(
+            @PathVariable("softwareModuleId") Long softwareModuleId,
+            @PathVariable("uploadId") String uploadId);
+
+    /**
+     * Handles PUT request for appending of a chunk, sent as raw request body (<code>application/octet-stream</code>), to a resumable
+     * artifact upload.
+     *
+     * @param softwareModuleId of the parent SoftwareModule
+     * @param uploadId the id of the upload
+     * @param offset the offset of the chunk, shall be equal to the current offset of the upload
+     * @return the upload with the new offset with status OK, or with the current offset and status 409 - Conflict if the offset doesn't
+     *         match
+     */
+    @Operation(summary = "Append chunk to resumable artifact upload", description = "Appends the raw (application/octet-stream) request " +
+            "body to a resumable artifact upload. The Upload-Offset header shall match the current offset of the upload, otherwise the " +
+            "chunk is rejected with 409 - Conflict and the current upload state. Required Permission: CREATE_REPOSITORY",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(content = @Content(
+                    mediaType = APPLICATION_OCTET_STREAM_VALUE, schema = @Schema(type = "string", format = "binary"))))
+    @PutResponses
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = CONFLICT_409, description = "Upload offset doesn't match",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = MgmtArtifactUpload.class)))
+    })
+    @PutMapping(value = SOFTWAREMODULES_V1 + "/{softwareModuleId}/artifacts/uploads/{uploadId}",
+            consumes = APPLICATION_OCTET_STREAM_VALUE, produces = { HAL_JSON_VALUE, APPLICATION_JSON_VALUE })
+    ResponseEntity<MgmtArtifactUpload> appendArtifactUpload(
+            @PathVariable("softwareModuleId") Long softwareModuleId,
+            @PathVariable("uploadId") String uploadId,
+            @RequestHeader(value = UPLOAD_OFFSET_HEADER) long offset);
+
+    /**
+     * Handles POST request for completion of a resumable artifact upload - creates the artifact from the received chunks.
+     *
+     * @param softwareModuleId of the parent SoftwareModule
+     * @param uploadId the id of the upload
+     * @param md5Sum checksum for uploaded content check
+     * @param sha1Sum checksum for uploaded content check
+     * @param sha256Sum checksum for uploaded content check
+     * @return In case the artifact could be successfully created the ResponseEntity with status code 201 - Created. In any failure the
+     *         JsonResponseExceptionHandler is handling the response.
+     */
+    @Operation(summary = "Complete resumable artifact upload", description = "Completes a resumable artifact upload - creates the " +
+            "artifact from the received chunks. The upload is removed afterwards, if the creation fails (e.g. wrong hashes) it is kept. " +
+            "Required Permission: CREATE_REPOSITORY")
+    @PostCreateResponses
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = NOT_FOUND_404, description = "Software Module or upload not found",
+                    content = @Content(mediaType = "application/json", schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = LOCKED_423, description = "Software module is locked",
+                    content = @Content(mediaType = "application/json", schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = INTERNAL_SERVER_ERROR_500, description = "Upload / store to storage or encryption failed",
+                    content = @Content(mediaType = "application/json", schema = @Schema(hidden = true)))
+    })
+    @PostMapping(value = SOFTWAREMODULES_V1 + "/{softwareModuleId}/artifacts/uploads/{uploadId}",
+            produces = { HAL_JSON_VALUE, APPLICATION_JSON_VALUE })
+    ResponseEntity<MgmtArtifact> completeArtifactUpload(
+            @PathVariable("softwareModuleId") Long softwareModuleId,
+            @PathVariable("uploadId") String uploadId,
+            @RequestParam(value = "md5sum", required = false) String md5Sum,
+            @RequestParam(value = "sha1sum", required = false) String sha1Sum,
+            @RequestParam(value = "sha256sum", required = false) String sha256Sum);
+
+    /**
+     * Handles DELETE request for abort of a resumable artifact upload.
+     *
+     * @param softwareModuleId of the parent SoftwareModule
+     * @param uploadId the id of the upload
+     * @return status No Content if the upload has been aborted
+     */
+    @Operation(summary = "Abort resumable artifact upload", description = "Aborts a resumable artifact upload and removes the received " +
+            "chunks. Required Permission: CREATE_REPOSITORY")
+    @DeleteResponses
+    @DeleteMapping(value = SOFTWAREMODULES_V1 + "/{softwareModuleId}/artifacts/uploads/{uploadId}")
+    ResponseEntity<Void> abortArtifactUpload(
+            @PathVariable("softwareModuleId") Long softwareModuleId,
+            @PathVariable("uploadId") String uploadId);
+
     /**
      * Handles the GET request of retrieving all metadata of artifacts assigned to a software module.
      *
@@ -14,6 +14,7 @@ import static org.eclipse.hawkbit.mgmt.rest.api.MgmtRestConstants.REQUEST_PARAME
 import static org.eclipse.hawkbit.mgmt.rest.api.MgmtRestConstants.REQUEST_PARAMETER_PAGING_LIMIT;
 import static org.eclipse.hawkbit.mgmt.rest.api.MgmtRestConstants.REQUEST_PARAMETER_PAGING_OFFSET;
 import static org.eclipse.hawkbit.mgmt.rest.api.MgmtRestConstants.TARGET_ORDER;
+import static org.eclipse.hawkbit.mgmt.rest.api.MgmtRestConstants.TEXT_CSV_VALUE;
 import static org.eclipse.hawkbit.rest.ApiResponsesConstants.DeleteResponses;
 import static org.eclipse.hawkbit.rest.ApiResponsesConstants.GONE_410;
 import static org.eclipse.hawkbit.rest.ApiResponsesConstants.GetIfExistResponses;
@@ -25,6 +26,7 @@ import static org.eclipse.hawkbit.rest.ApiResponsesConstants.PutNoContentRespons
 import static org.eclipse.hawkbit.rest.ApiResponsesConstants.PutResponses;
 import static org.springframework.hateoas.MediaTypes.HAL_JSON_VALUE;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
 
 import java.util.List;
 
@@ -54,6 +56,7 @@ import org.eclipse.hawkbit.mgmt.json.model.target.MgmtTarget;
 import org.eclipse.hawkbit.mgmt.json.model.target.MgmtTargetAttributes;
 import org.eclipse.hawkbit.mgmt.json.model.target.MgmtTargetAutoConfirm;
 import org.eclipse.hawkbit.mgmt.json.model.target.MgmtTargetAutoConfirmUpdate;
+import org.eclipse.hawkbit.mgmt.json.model.target.MgmtTargetImport;
 import org.eclipse.hawkbit.mgmt.json.model.target.MgmtTargetRequestBody;
 import org.eclipse.hawkbit.rest.ApiResponsesConstants.PostUpdateNoContentResponses;
 import org.eclipse.hawkbit.rest.ApiResponsesConstants.PostUpdateResponses;
@@ -121,6 +124,24 @@ public interface MgmtTargetRestApi {
                     "The sequence of the sort criteria (multiple can be used) defines the sort order of the entities in the result.")
             String sortParam);
 
+    /**
+     * Handles the GET request of exporting all targets as newline delimited JSON (<code>application/x-ndjson</code>), one target per line.
+     *
+     * @param rsqlParam the search parameter in the request URL, syntax {@code q=name==abc}
+     * @return status OK, the targets are streamed (ordered by id) directly to the response. In any failure before the streaming
+     *         has started the JsonResponseExceptionHandler is handling the response.
+     */
+    @Operation(summary = "Export targets", description = "Streams all targets matching the (optional) filter as newline delimited " +
+            "JSON (application/x-ndjson), one target per line ordered by id. In contrast to the paged retrieval no count is made, the " +
+            "server memory footprint doesn't depend on the number of targets and the streaming is stopped if the client disconnects. " +
+            "Suitable for exports of big fleets. Required permission: READ_TARGET")
+    @GetIfExistResponses
+    @GetMapping(value = TARGETS_V1 + "/export", produces = APPLICATION_NDJSON_VALUE)
+    ResponseEntity<Void> exportTargets(
+            @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_SEARCH, required = false)
+            @Schema(description = "Query fields based on the Feed Item Query Language (FIQL). See Entity Definitions for available fields.")
+            String rsqlParam);
+
     /**
      * Handles the POST request of creating new targets. The request body must always be a list of targets.
      *
@@ -134,6 +155,27 @@ public interface MgmtTargetRestApi {
             consumes = { HAL_JSON_VALUE, APPLICATION_JSON_VALUE }, produces = { HAL_JSON_VALUE, APPLICATION_JSON_VALUE })
     ResponseEntity<List<MgmtTarget>> createTargets(@RequestBody List<MgmtTargetRequestBody> targets);
 
+    /**
+     * Handles the POST request of importing targets. The request body is streamed - newline delimited JSON
+     * (<code>application/x-ndjson</code>) with one {@link MgmtTargetImport} per line or CSV (<code>text/csv</code>) with a header row.
+     *
+     * @return status OK, the import result of every line is streamed (as newline delimited JSON) directly to the response. In any failure
+     *         before the streaming has started the JsonResponseExceptionHandler is handling the response.
+     */
+    @Operation(summary = "Import targets", description = "Imports (creates) targets from a streamed body - newline delimited JSON " +
+            "(application/x-ndjson, one target per line) or CSV (text/csv, with header row: controllerId, name, description, " +
+            "securityToken, address, group, targetType, tags as tag ids separated by ';' and attributes.<key> per attribute). The lines " +
+            "are imported in chunks, every chunk in its own transaction. Invalid lines and already existing controller ids are skipped. " +
+            "The result of every line (created, already_exists or invalid) is streamed back as newline delimited JSON. " +
+            "Required Permission: CREATE_TARGET",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(content = {
+                    @Content(mediaType = APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = MgmtTargetImport.class)),
+                    @Content(mediaType = TEXT_CSV_VALUE) }))
+    @PostUpdateResponses
+    @PostMapping(value = TARGETS_V1 + "/import",
+            consumes = { APPLICATION_NDJSON_VALUE, TEXT_CSV_VALUE }, produces = APPLICATION_NDJSON_VALUE)
+    ResponseEntity<Void> importTargets();
+
     /**
      * Handles the PUT request of updating a target. The ID is within the URL path of the request. A given ID in the request body is ignored.
      * It's not possible to set fields to {@code null} values.
@@ -231,6 +273,26 @@ public interface MgmtTargetRestApi {
                     "The sequence of the sort criteria (multiple can be used) defines the sort order of the entities in the result.")
             String sortParam);
 
+    /**
+     * Handles the GET request of exporting the actions of a specific target as newline delimited JSON (<code>application/x-ndjson</code>),
+     * one action per line.
+     *
+     * @param targetId to export actions for
+     * @param rsqlParam the search parameter in the request URL, syntax {@code q=status==pending}
+     * @return status OK, the actions are streamed (ordered by id) directly to the response. In any failure before the streaming
+     *         has started the JsonResponseExceptionHandler is handling the response.
+     */
+    @Operation(summary = "Export actions for a specific target", description = "Streams the full action history of a specific target " +
+            "matching the (optional) filter as newline delimited JSON (application/x-ndjson), one action per line ordered by id. " +
+            "Required Permission: READ_TARGET")
+    @GetResponses
+    @GetMapping(value = TARGETS_V1 + "/{targetId}/actions/export", produces = APPLICATION_NDJSON_VALUE)
+    ResponseEntity<Void> exportActionHistory(
+            @PathVariable("targetId") String targetId,
+            @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_SEARCH, required = false)
+            @Schema(description = "Query fields based on the Feed Item Query Language (FIQL). See Entity Definitions for available fields.")
+            String rsqlParam);
+
     /**
      * Deletes all actions for the provided target by provided action IDs list
      * OR
@@ -20,6 +20,7 @@ import org.eclipse.hawkbit.mgmt.json.model.action.MgmtAction;
 import org.eclipse.hawkbit.mgmt.rest.api.MgmtActionRestApi;
 import org.eclipse.hawkbit.mgmt.rest.api.MgmtRepresentationMode;
 import org.eclipse.hawkbit.mgmt.rest.resource.mapper.MgmtActionMapper;
+import org.eclipse.hawkbit.mgmt.rest.resource.util.NdjsonStreamingUtil;
 import org.eclipse.hawkbit.mgmt.rest.resource.util.PagingUtility;
 import org.eclipse.hawkbit.repository.DeploymentManagement;
 import org.eclipse.hawkbit.repository.exception.EntityNotFoundException;
@@ -30,6 +31,7 @@ import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.ObjectUtils;
 import org.springframework.web.bind.annotation.RestController;
+import tools.jackson.databind.json.JsonMapper;
 
 @Slf4j
 @RestController
@@ -37,9 +39,11 @@ import org.springframework.web.bind.annotation.RestController;
 public class MgmtActionResource implements MgmtActionRestApi {
 
     private final DeploymentManagement deploymentManagement;
+    private final JsonMapper jsonMapper;
 
-    MgmtActionResource(final DeploymentManagement deploymentManagement) {
+    MgmtActionResource(final DeploymentManagement deploymentManagement, final JsonMapper jsonMapper) {
         this.deploymentManagement = deploymentManagement;
+        this.jsonMapper = jsonMapper;
     }
 
     @Override
@@ -62,6 +66,14 @@ public class MgmtActionResource implements MgmtActionRestApi {
         return ResponseEntity.ok(new PagedList<>(MgmtActionMapper.toResponse(actions.getContent(), repMode), totalActionCount));
     }
 
+    @Override
+    public ResponseEntity<Void> exportActions(final String rsqlParam) {
+        return NdjsonStreamingUtil.<Action> writeNdjsonResponse(
+                jsonMapper,
+                chunkConsumer -> deploymentManagement.scanActions(rsqlParam, NdjsonStreamingUtil.CHUNK_SIZE, chunkConsumer),
+                MgmtActionMapper::toExport);
+    }
+
     @Override
     public ResponseEntity<MgmtAction> getAction(final Long actionId) {
         final Action action = deploymentManagement.findAction(actionId)
@@ -19,6 +19,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ValidationException;
 
 import lombok.extern.slf4j.Slf4j;
@@ -27,6 +28,7 @@ import org.eclipse.hawkbit.artifact.urlresolver.ArtifactUrlResolver;
 import org.eclipse.hawkbit.audit.AuditLog;
 import org.eclipse.hawkbit.mgmt.json.model.PagedList;
 import org.eclipse.hawkbit.mgmt.json.model.artifact.MgmtArtifact;
+import org.eclipse.hawkbit.mgmt.json.model.artifact.MgmtArtifactUpload;
 import org.eclipse.hawkbit.mgmt.json.model.softwaremodule.MgmtSoftwareModule;
 import org.eclipse.hawkbit.mgmt.json.model.softwaremodule.MgmtSoftwareModuleMetadata;
 import org.eclipse.hawkbit.mgmt.json.model.softwaremodule.MgmtSoftwareModuleMetadataBodyPut;
@@ -36,6 +38,7 @@ import org.eclipse.hawkbit.mgmt.rest.api.MgmtRepresentationMode;
 import org.eclipse.hawkbit.mgmt.rest.api.MgmtSoftDeletedMode;
 import org.eclipse.hawkbit.mgmt.rest.api.MgmtSoftwareModuleRestApi;
 import org.eclipse.hawkbit.mgmt.rest.resource.mapper.MgmtSoftwareModuleMapper;
+import org.eclipse.hawkbit.mgmt.rest.resource.util.ArtifactUploads;
 import org.eclipse.hawkbit.mgmt.rest.resource.util.PagingUtility;
 import org.eclipse.hawkbit.repository.ArtifactManagement;
 import org.eclipse.hawkbit.repository.SoftDeletedMode;
@@ -43,6 +46,7 @@ import org.eclipse.hawkbit.repository.SoftwareModuleManagement;
 import org.eclipse.hawkbit.repository.SoftwareModuleTypeManagement;
 import org.eclipse.hawkbit.repository.SystemManagement;
 import org.eclipse.hawkbit.repository.exception.EntityNotFoundException;
+import org.eclipse.hawkbit.repository.exception.LockedException;
 import org.eclipse.hawkbit.repository.model.Artifact;
 import org.eclipse.hawkbit.repository.model.ArtifactUpload;
 import org.eclipse.hawkbit.repository.model.SoftwareModule;
@@ -50,6 +54,7 @@ import org.eclipse.hawkbit.repository.model.SoftwareModule.MetadataValue;
 import org.eclipse.hawkbit.repository.model.SoftwareModule.MetadataValueCreate;
 import org.eclipse.hawkbit.repository.model.SoftwareModuleType;
 import org.eclipse.hawkbit.rest.json.model.ResponseList;
+import org.eclipse.hawkbit.rest.util.RequestResponseContextHolder;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
@@ -70,6 +75,7 @@ public class MgmtSoftwareModuleResource implements MgmtSoftwareModuleRestApi {
     private final ArtifactUrlResolver artifactUrlHandler;
     private final MgmtSoftwareModuleMapper mgmtSoftwareModuleMapper;
     private final SystemManagement systemManagement;
+    private final ArtifactUploads artifactUploads;
 
     MgmtSoftwareModuleResource(
             final ArtifactManagement artifactManagement,
@@ -77,13 +83,15 @@ public class MgmtSoftwareModuleResource implements MgmtSoftwareModuleRestApi {
             final SoftwareModuleTypeManagement<? extends SoftwareModuleType> softwareModuleTypeManagement,
             final ArtifactUrlResolver artifactUrlHandler,
             final MgmtSoftwareModuleMapper mgmtSoftwareModuleMapper,
-            final SystemManagement systemManagement) {
+            final SystemManagement systemManagement,
+            final ArtifactUploads artifactUploads) {
         this.artifactManagement = artifactManagement;
         this.softwareModuleManagement = softwareModuleManagement;
         this.softwareModuleTypeManagement = softwareModuleTypeManagement;
         this.artifactUrlHandler = artifactUrlHandler;
         this.mgmtSoftwareModuleMapper = mgmtSoftwareModuleMapper;
         this.systemManagement = systemManagement;
+        this.artifactUploads = artifactUploads;
     }
 
     @Override
@@ -102,10 +110,28 @@ public class MgmtSoftwareModuleResource implements MgmtSoftwareModuleRestApi {
         try (final InputStream in = file.getInputStream()) {
             final Artifact result = artifactManagement.create(new ArtifactUpload(
                     in, file.getContentType(), file.getSize(),
-                    new ArtifactHashes(
-                            sha1Sum == null ? null : sha1Sum.toLowerCase(),
-                            md5Sum == null ? null : md5Sum.toLowerCase(),
-                            sha256Sum == null ? null : sha256Sum.toLowerCase()),
+                    toHashes(md5Sum, sha1Sum, sha256Sum), softwareModuleId, fileName, false));
+
+            final MgmtArtifact response = MgmtSoftwareModuleMapper.toResponse(result);
+            MgmtSoftwareModuleMapper.addLinks(result, response);
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        } catch (final IOException e) {
+            log.error("Failed to store artifact", e);
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @Override
+    public ResponseEntity<MgmtArtifact> uploadArtifactStream(
+            final Long softwareModuleId, final String fileName, final String md5Sum, final String sha1Sum, final String sha256Sum) {
+        final HttpServletRequest request = RequestResponseContextHolder.getHttpServletRequest();
+        if (request.getContentLengthLong() == 0) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        try (final InputStream in = request.getInputStream()) {
+            final Artifact result = artifactManagement.create(new ArtifactUpload(
+                    in, request.getContentType(), request.getContentLengthLong(), toHashes(md5Sum, sha1Sum, sha256Sum),
                     softwareModuleId, fileName, false));
 
             final MgmtArtifact response = MgmtSoftwareModuleMapper.toResponse(result);
@@ -117,6 +143,49 @@ public class MgmtSoftwareModuleResource implements MgmtSoftwareModuleRestApi {
         }
     }
 
+    @Override
+    public ResponseEntity<MgmtArtifactUpload> startArtifactUpload(final Long softwareModuleId, final String fileName, final Long size) {
+        final SoftwareModule module = findSoftwareModuleWithExceptionIfNotFound(softwareModuleId, null);
+        if (module.isLocked()) {
+            throw new LockedException(SoftwareModule.class, softwareModuleId, "ADD_ARTIFACT");
+        }
+        return ResponseEntity.status(HttpStatus.CREATED).body(toResponse(artifactUploads.start(softwareModuleId, fileName, size)));
+    }
+
+    @Override
+    public ResponseEntity<MgmtArtifactUpload> getArtifactUpload(final Long softwareModuleId, final String uploadId) {
+        return ResponseEntity.ok(toResponse(artifactUploads.get(softwareModuleId, uploadId)));
+    }
+
+    @Override
+    public ResponseEntity<MgmtArtifactUpload> appendArtifactUpload(final Long softwareModuleId, final String uploadId, final long offset) {
+        final boolean appended;
+        try (final InputStream in = RequestResponseContextHolder.getHttpServletRequest().getInputStream()) {
+            appended = artifactUploads.append(softwareModuleId, uploadId, offset, in);
+        } catch (final IOException e) {
+            log.debug("Failed to read chunk of upload {}: {}", uploadId, e.getMessage());
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        final MgmtArtifactUpload response = toResponse(artifactUploads.get(softwareModuleId, uploadId));
+        return appended ? ResponseEntity.ok(response) : ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
+    @Override
+    public ResponseEntity<MgmtArtifact> completeArtifactUpload(
+            final Long softwareModuleId, final String uploadId, final String md5Sum, final String sha1Sum, final String sha256Sum) {
+        final Artifact result = artifactUploads.complete(softwareModuleId, uploadId, toHashes(md5Sum, sha1Sum, sha256Sum));
+
+        final MgmtArtifact response = MgmtSoftwareModuleMapper.toResponse(result);
+        MgmtSoftwareModuleMapper.addLinks(result, response);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @Override
+    public ResponseEntity<Void> abortArtifactUpload(final Long softwareModuleId, final String uploadId) {
+        artifactUploads.abort(softwareModuleId, uploadId);
+        return ResponseEntity.noContent().build();
+    }
+
     @Override
     public ResponseEntity<List<MgmtArtifact>> getArtifacts(
             final Long softwareModuleId, final String representationModeParam, final Boolean useArtifactUrlHandler) {
@@ -286,6 +355,22 @@ public class MgmtSoftwareModuleResource implements MgmtSoftwareModuleRestApi {
         });
     }
 
+    private static ArtifactHashes toHashes(final String md5Sum, final String sha1Sum, final String sha256Sum) {
+        return new ArtifactHashes(
+                sha1Sum == null ? null : sha1Sum.toLowerCase(),
+                md5Sum == null ? null : md5Sum.toLowerCase(),
+                sha256Sum == null ? null : sha256Sum.toLowerCase());
+    }
+
+    private static MgmtArtifactUpload toResponse(final ArtifactUploads.Upload upload) {
+        return new MgmtArtifactUpload()
+                .setId(upload.getId())
+                .setFilename(upload.getFilename())
+                .setOffset(upload.getOffset())
+                .setSize(upload.getSize())
+                .setExpiresAt(upload.getExpiresAt());
+    }
+
     private SoftwareModule findSoftwareModuleWithExceptionIfNotFound(final Long softwareModuleId, final Long artifactId) {
         final SoftwareModule module = softwareModuleManagement.find(softwareModuleId)
                 .orElseThrow(() -> new EntityNotFoundException(SoftwareModule.class, softwareModuleId));
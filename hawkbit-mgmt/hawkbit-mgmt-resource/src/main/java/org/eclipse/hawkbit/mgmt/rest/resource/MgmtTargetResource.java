@@ -13,9 +13,12 @@ import static org.eclipse.hawkbit.mgmt.rest.resource.util.PagingUtility.sanitize
 import static org.eclipse.hawkbit.mgmt.rest.resource.util.PagingUtility.sanitizeActionStatusSortParam;
 import static org.eclipse.hawkbit.mgmt.rest.resource.util.PagingUtility.sanitizeTargetSortParam;
 
+import java.io.IOException;
 import java.util.AbstractMap.SimpleEntry;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -24,6 +27,8 @@ import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.ValidationException;
 
 import lombok.extern.slf4j.Slf4j;
@@ -45,17 +50,25 @@ import org.eclipse.hawkbit.mgmt.json.model.target.MgmtTarget;
 import org.eclipse.hawkbit.mgmt.json.model.target.MgmtTargetAttributes;
 import org.eclipse.hawkbit.mgmt.json.model.target.MgmtTargetAutoConfirm;
 import org.eclipse.hawkbit.mgmt.json.model.target.MgmtTargetAutoConfirmUpdate;
+import org.eclipse.hawkbit.mgmt.json.model.target.MgmtTargetImportResult;
 import org.eclipse.hawkbit.mgmt.json.model.target.MgmtTargetRequestBody;
 import org.eclipse.hawkbit.mgmt.rest.api.MgmtTargetRestApi;
+import org.eclipse.hawkbit.mgmt.rest.resource.mapper.MgmtActionMapper;
 import org.eclipse.hawkbit.mgmt.rest.resource.mapper.MgmtDeploymentRequestMapper;
 import org.eclipse.hawkbit.mgmt.rest.resource.mapper.MgmtDistributionSetMapper;
 import org.eclipse.hawkbit.mgmt.rest.resource.mapper.MgmtTagMapper;
 import org.eclipse.hawkbit.mgmt.rest.resource.mapper.MgmtTargetMapper;
+import org.eclipse.hawkbit.mgmt.rest.resource.util.NdjsonStreamingUtil;
 import org.eclipse.hawkbit.mgmt.rest.resource.util.PagingUtility;
+import org.eclipse.hawkbit.mgmt.rest.resource.util.TargetImportReader;
+import org.eclipse.hawkbit.mgmt.rest.resource.util.TargetImportReader.Row;
 import org.eclipse.hawkbit.repository.ConfirmationManagement;
 import org.eclipse.hawkbit.repository.DeploymentManagement;
 import org.eclipse.hawkbit.repository.TargetManagement;
+import org.eclipse.hawkbit.repository.TargetManagement.Import;
+import org.eclipse.hawkbit.repository.TargetManagement.ImportResult;
 import org.eclipse.hawkbit.repository.TargetTypeManagement;
+import org.eclipse.hawkbit.repository.exception.EntityAlreadyExistsException;
 import org.eclipse.hawkbit.repository.exception.EntityNotFoundException;
 import org.eclipse.hawkbit.repository.exception.InvalidConfirmationFeedbackException;
 import org.eclipse.hawkbit.repository.helper.TenantConfigHelper;
@@ -66,6 +79,7 @@ import org.eclipse.hawkbit.repository.model.DistributionSetAssignmentResult;
 import org.eclipse.hawkbit.repository.model.Target;
 import org.eclipse.hawkbit.repository.model.TargetTag;
 import org.eclipse.hawkbit.repository.model.TargetType;
+import org.eclipse.hawkbit.rest.util.RequestResponseContextHolder;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
@@ -73,6 +87,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.ObjectUtils;
 import org.springframework.web.bind.annotation.RestController;
+import tools.jackson.databind.json.JsonMapper;
 
 /**
  * REST Resource handling target CRUD operations.
@@ -89,17 +104,20 @@ public class MgmtTargetResource implements MgmtTargetRestApi {
     private final DeploymentManagement deploymentManagement;
     private final MgmtTargetMapper mgmtTargetMapper;
     private final MgmtDistributionSetMapper mgmtDistributionSetMapper;
+    private final JsonMapper jsonMapper;
 
     MgmtTargetResource(
             final TargetManagement<? extends Target> targetManagement, final TargetTypeManagement<? extends TargetType> targetTypeManagement,
             final DeploymentManagement deploymentManagement, final ConfirmationManagement confirmationManagement,
-            final MgmtTargetMapper mgmtTargetMapper, final MgmtDistributionSetMapper mgmtDistributionSetMapper) {
+            final MgmtTargetMapper mgmtTargetMapper, final MgmtDistributionSetMapper mgmtDistributionSetMapper,
+            final JsonMapper jsonMapper) {
         this.targetManagement = targetManagement;
         this.targetTypeManagement = targetTypeManagement;
         this.deploymentManagement = deploymentManagement;
         this.confirmationManagement = confirmationManagement;
         this.mgmtTargetMapper = mgmtTargetMapper;
         this.mgmtDistributionSetMapper = mgmtDistributionSetMapper;
+        this.jsonMapper = jsonMapper;
     }
 
     @Override
@@ -127,6 +145,14 @@ public class MgmtTargetResource implements MgmtTargetRestApi {
         return ResponseEntity.ok(new PagedList<>(rest, findTargetsAll.getTotalElements()));
     }
 
+    @Override
+    public ResponseEntity<Void> exportTargets(final String rsqlParam) {
+        return NdjsonStreamingUtil.<Target> writeNdjsonResponse(
+                jsonMapper,
+                chunkConsumer -> targetManagement.scanByRsql(rsqlParam, NdjsonStreamingUtil.CHUNK_SIZE, chunkConsumer),
+                MgmtTargetMapper::toExport);
+    }
+
     @Override
     public ResponseEntity<List<MgmtTarget>> createTargets(final List<MgmtTargetRequestBody> targets) {
         log.debug("creating {} targets", targets.size());
@@ -135,6 +161,37 @@ public class MgmtTargetResource implements MgmtTargetRestApi {
         return new ResponseEntity<>(MgmtTargetMapper.toResponse(createdTargets), HttpStatus.CREATED);
     }
 
+    @Override
+    @AuditLog(entity = "Target", type = AuditLog.Type.CREATE, description = "Import Targets")
+    public ResponseEntity<Void> importTargets() {
+        final HttpServletRequest request = RequestResponseContextHolder.getHttpServletRequest();
+        try {
+            final TargetImportReader reader = TargetImportReader.open(jsonMapper, request.getInputStream(), request.getContentType());
+            final HttpServletResponse response = NdjsonStreamingUtil.ndjsonResponse();
+            final long start = System.currentTimeMillis();
+            long lines = 0;
+            List<Row> chunk = new ArrayList<>(NdjsonStreamingUtil.CHUNK_SIZE);
+            for (Row row = reader.next(); row != null; row = reader.next()) {
+                chunk.add(row);
+                lines++;
+                if (chunk.size() == NdjsonStreamingUtil.CHUNK_SIZE) {
+                    if (!NdjsonStreamingUtil.writeChunk(jsonMapper, response, importChunk(chunk), Function.identity())) {
+                        return ResponseEntity.ok().build();
+                    }
+                    chunk = new ArrayList<>(NdjsonStreamingUtil.CHUNK_SIZE);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                NdjsonStreamingUtil.writeChunk(jsonMapper, response, importChunk(chunk), Function.identity());
+            }
+            log.debug("Imported {} lines in {} ms", lines, System.currentTimeMillis() - start);
+        } catch (final IOException e) {
+            // the client has disconnected (or the connection is broken) while uploading - the chunks read so far are imported
+            log.debug("Import cancelled: {}", e.getMessage());
+        }
+        return ResponseEntity.ok().build();
+    }
+
     @Override
     @AuditLog(entity = "Target", type = AuditLog.Type.UPDATE, description = "Update Target")
     public ResponseEntity<MgmtTarget> updateTarget(final String targetId, final MgmtTargetRequestBody targetRest) {
@@ -222,6 +279,15 @@ public class MgmtTargetResource implements MgmtTargetRestApi {
         return ResponseEntity.ok(new PagedList<>(MgmtTargetMapper.toResponse(targetId, activeActions.getContent()), totalActionCount));
     }
 
+    @Override
+    public ResponseEntity<Void> exportActionHistory(final String targetId, final String rsqlParam) {
+        return NdjsonStreamingUtil.<Action> writeNdjsonResponse(
+                jsonMapper,
+                chunkConsumer -> deploymentManagement.scanActionsByTarget(
+                        rsqlParam, targetId, NdjsonStreamingUtil.CHUNK_SIZE, chunkConsumer),
+                MgmtActionMapper::toExport);
+    }
+
     @Override
     @AuditLog(entity = "Target", type = AuditLog.Type.DELETE, description = "Delete Actions For Target")
     public ResponseEntity<Void> deleteActionsForTarget(final String targetId, final int keepLast, final List<Long> actionIds) {
@@ -479,6 +545,43 @@ public class MgmtTargetResource implements MgmtTargetRestApi {
         return Optional.of(action);
     }
 
+    // imports the well-formed rows of the chunk with a single call (and transaction), the results are in the order of the rows
+    private List<MgmtTargetImportResult> importChunk(final List<Row> chunk) {
+        final List<Import> imports = chunk.stream()
+                .filter(row -> row.error() == null)
+                .map(row -> MgmtTargetMapper.fromImport(row.target()))
+                .toList();
+        Iterator<ImportResult> imported = Collections.emptyIterator();
+        if (!imports.isEmpty()) {
+            try {
+                imported = targetManagement.importTargets(imports).iterator();
+            } catch (final EntityAlreadyExistsException e) {
+                // a target of the chunk has been created concurrently - the whole chunk is rolled back, so retry it row by row in order
+                // only the concurrently created targets to fail
+                log.debug("Target of the import chunk created concurrently, import the chunk row by row: {}", e.getMessage());
+                imported = imports.stream().map(this::importRow).iterator();
+            }
+        }
+
+        final List<MgmtTargetImportResult> results = new ArrayList<>(chunk.size());
+        for (final Row row : chunk) {
+            if (row.error() != null) {
+                results.add(new MgmtTargetImportResult().setLine(row.line()).setStatus("invalid").setMessage(row.error()));
+            } else {
+                results.add(MgmtTargetMapper.toResponse(row.line(), imported.next()));
+            }
+        }
+        return results;
+    }
+
+    private ImportResult importRow(final Import target) {
+        try {
+            return targetManagement.importTargets(List.of(target)).get(0);
+        } catch (final EntityAlreadyExistsException e) {
+            return new ImportResult(target.getControllerId(), ImportResult.Status.ALREADY_EXISTS, e.getMessage());
+        }
+    }
+
     private <T, R> R getNullIfEmpty(final T object, final Function<T, R> extractMethod) {
         return ObjectUtils.isEmpty(object) ? null : extractMethod.apply(object);
     }
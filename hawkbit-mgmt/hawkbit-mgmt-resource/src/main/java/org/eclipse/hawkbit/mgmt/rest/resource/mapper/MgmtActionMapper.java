@@ -16,9 +16,13 @@ import java.util.List;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.eclipse.hawkbit.mgmt.json.model.action.MgmtAction;
+import org.eclipse.hawkbit.mgmt.json.model.action.MgmtActionExport;
 import org.eclipse.hawkbit.mgmt.rest.api.MgmtRepresentationMode;
 import org.eclipse.hawkbit.repository.model.Action;
+import org.eclipse.hawkbit.repository.model.Action.ActionType;
+import org.eclipse.hawkbit.repository.model.Rollout;
 import org.eclipse.hawkbit.rest.json.model.ResponseList;
+import org.springframework.util.ObjectUtils;
 
 /**
  * A mapper which maps repository model to RESTful model representation and
@@ -50,4 +54,33 @@ public final class MgmtActionMapper {
         }
         return MgmtTargetMapper.toResponseWithLinks(controllerId, action);
     }
-}
\ No newline at end of file
+
+    // flat representation for exports - the target and distribution set are referenced by controller id and id, no links
+    public static MgmtActionExport toExport(final Action action) {
+        final MgmtActionExport result = new MgmtActionExport()
+                .setId(action.getId())
+                .setTarget(action.getTarget().getControllerId())
+                .setDistributionSet(action.getDistributionSet().getId())
+                .setType(MgmtTargetMapper.getType(action))
+                .setForceType(MgmtRestModelMapper.convertActionType(action.getActionType()))
+                .setActive(action.isActive())
+                .setStatus(action.getStatus().toString().toLowerCase())
+                .setCreatedBy(action.getCreatedBy())
+                .setCreatedAt(action.getCreatedAt())
+                .setLastModifiedBy(action.getLastModifiedBy())
+                .setLastModifiedAt(action.getLastModifiedAt());
+        if (ActionType.TIMEFORCED == action.getActionType()) {
+            result.setForceTime(action.getForcedTime());
+        }
+        action.getWeight().ifPresent(result::setWeight);
+        action.getLastActionStatusCode().ifPresent(result::setLastStatusCode);
+        final Rollout rollout = action.getRollout();
+        if (rollout != null) {
+            result.setRollout(rollout.getId()).setRolloutName(rollout.getName());
+        }
+        if (!ObjectUtils.isEmpty(action.getExternalRef())) {
+            result.setExternalRef(action.getExternalRef());
+        }
+        return result;
+    }
+}
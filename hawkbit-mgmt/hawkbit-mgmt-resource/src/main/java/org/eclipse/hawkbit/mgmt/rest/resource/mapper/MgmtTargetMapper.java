@@ -18,6 +18,7 @@ import java.time.ZoneId;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -32,6 +33,9 @@ import org.eclipse.hawkbit.mgmt.json.model.action.MgmtAction;
 import org.eclipse.hawkbit.mgmt.json.model.action.MgmtActionStatus;
 import org.eclipse.hawkbit.mgmt.json.model.target.MgmtTarget;
 import org.eclipse.hawkbit.mgmt.json.model.target.MgmtTargetAutoConfirm;
+import org.eclipse.hawkbit.mgmt.json.model.target.MgmtTargetExport;
+import org.eclipse.hawkbit.mgmt.json.model.target.MgmtTargetImport;
+import org.eclipse.hawkbit.mgmt.json.model.target.MgmtTargetImportResult;
 import org.eclipse.hawkbit.mgmt.json.model.target.MgmtTargetRequestBody;
 import org.eclipse.hawkbit.mgmt.rest.api.MgmtDistributionSetRestApi;
 import org.eclipse.hawkbit.mgmt.rest.api.MgmtRestConstants;
@@ -41,6 +45,8 @@ import org.eclipse.hawkbit.mgmt.rest.api.MgmtTargetTypeRestApi;
 import org.eclipse.hawkbit.mgmt.rest.api.SortDirection;
 import org.eclipse.hawkbit.repository.DeploymentManagement;
 import org.eclipse.hawkbit.repository.TargetManagement.Create;
+import org.eclipse.hawkbit.repository.TargetManagement.Import;
+import org.eclipse.hawkbit.repository.TargetManagement.ImportResult;
 import org.eclipse.hawkbit.repository.TargetTypeManagement;
 import org.eclipse.hawkbit.repository.exception.EntityNotFoundException;
 import org.eclipse.hawkbit.repository.helper.TenantConfigHelper;
@@ -296,6 +302,48 @@ public final class MgmtTargetMapper {
         return actions.stream().map(action -> toResponse(targetId, action)).toList();
     }
 
+    // flat representation for exports - no links and poll status (which would need per target tenant configuration lookups)
+    public static MgmtTargetExport toExport(final Target target) {
+        final MgmtTargetExport result = new MgmtTargetExport()
+                .setId(target.getId())
+                .setControllerId(target.getControllerId())
+                .setName(target.getName())
+                .setDescription(target.getDescription())
+                .setGroup(target.getGroup())
+                .setUpdateStatus(target.getUpdateStatus().name().toLowerCase())
+                .setLastControllerRequestAt(target.getLastTargetQuery())
+                .setInstalledAt(target.getInstallationDate())
+                .setAddress(target.getAddress())
+                .setRequestAttributes(target.isRequestControllerAttributes())
+                .setCreatedBy(target.getCreatedBy())
+                .setCreatedAt(target.getCreatedAt())
+                .setLastModifiedBy(target.getLastModifiedBy())
+                .setLastModifiedAt(target.getLastModifiedAt());
+        final TargetType targetType = target.getTargetType();
+        if (targetType != null) {
+            result.setTargetType(targetType.getId()).setTargetTypeName(targetType.getName());
+        }
+        return result;
+    }
+
+    public static Import fromImport(final MgmtTargetImport target) {
+        return Import.builder()
+                .controllerId(target.getControllerId()).name(target.getName()).description(target.getDescription())
+                .securityToken(target.getSecurityToken()).address(target.getAddress()).group(target.getGroup())
+                .targetTypeId(target.getTargetType())
+                .tagIds(target.getTags() == null ? null : new HashSet<>(target.getTags()))
+                .controllerAttributes(target.getAttributes())
+                .build();
+    }
+
+    public static MgmtTargetImportResult toResponse(final long line, final ImportResult importResult) {
+        return new MgmtTargetImportResult()
+                .setLine(line)
+                .setControllerId(importResult.controllerId())
+                .setStatus(importResult.status().name().toLowerCase())
+                .setMessage(importResult.message());
+    }
+
     public static MgmtMetadata toResponseMetadata(final String key, final String value) {
         final MgmtMetadata metadataRest = new MgmtMetadata();
         metadataRest.setKey(key);
@@ -334,7 +382,7 @@ public final class MgmtTargetMapper {
                 .build();
     }
 
-    private static String getType(final Action action) {
+    static String getType(final Action action) {
         if (!action.isCancelingOrCanceled()) {
             return MgmtAction.ACTION_UPDATE;
         } else if (action.isCancelingOrCanceled()) {
@@ -0,0 +1,318 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.mgmt.rest.resource.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.validation.ValidationException;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.artifact.AbstractArtifactStorage;
+import org.eclipse.hawkbit.artifact.ArtifactStorage;
+import org.eclipse.hawkbit.artifact.exception.ArtifactStoreException;
+import org.eclipse.hawkbit.artifact.exception.ArtifactUploadFailedException;
+import org.eclipse.hawkbit.artifact.exception.FileSizeQuotaExceededException;
+import org.eclipse.hawkbit.artifact.model.ArtifactHashes;
+import org.eclipse.hawkbit.auth.SpringEvalExpressions;
+import org.eclipse.hawkbit.context.AccessContext;
+import org.eclipse.hawkbit.repository.ArtifactManagement;
+import org.eclipse.hawkbit.repository.QuotaManagement;
+import org.eclipse.hawkbit.repository.exception.EntityNotFoundException;
+import org.eclipse.hawkbit.repository.model.Artifact;
+import org.eclipse.hawkbit.repository.model.StagedArtifactUpload;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resumable (chunked) artifact uploads. The chunks of an upload are appended to a staging file of the artifact storage (see
+ * {@link ArtifactStorage#createStagingFile()}) and hashed while received. When the upload is completed the file is handed over to the
+ * storage (via {@link ArtifactManagement#create(StagedArtifactUpload)}) - for the file system storage it is just renamed, so the
+ * content is written only once. If the artifact creation fails (e.g. hash mismatch or exceeded quota) the upload is kept.
+ * <p/>
+ * The uploads are held by the node that has started them - so they survive broken client connections but not a restart of the node,
+ * and in a cluster the chunks of an upload shall be routed to the same node. Uploads without a chunk for the configured
+ * <code>hawkbit.server.mgmt.artifact-upload.timeout</code> expire and are removed.
+ */
+@Slf4j
+@Component
+public class ArtifactUploads {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ArtifactManagement artifactManagement;
+    private final ArtifactStorage artifactStorage;
+    private final QuotaManagement quotaManagement;
+    private final long timeoutMillis;
+
+    private final Map<String, Upload> uploads = new ConcurrentHashMap<>();
+
+    ArtifactUploads(
+            final ArtifactManagement artifactManagement, final Optional<ArtifactStorage> artifactStorage,
+            final QuotaManagement quotaManagement,
+            @Value("${hawkbit.server.mgmt.artifact-upload.timeout:PT1H}") final Duration timeout) {
+        this.artifactManagement = artifactManagement;
+        this.artifactStorage = artifactStorage.orElse(null);
+        this.quotaManagement = quotaManagement;
+        timeoutMillis = timeout.toMillis();
+    }
+
+    /**
+     * Starts an upload of an artifact.
+     *
+     * @param softwareModuleId the software module the artifact will be created for
+     * @param filename the filename of the artifact
+     * @param size optional total size of the artifact, if set the upload is limited to it
+     * @return the started upload
+     */
+    @PreAuthorize(SpringEvalExpressions.HAS_CREATE_REPOSITORY)
+    public Upload start(final long softwareModuleId, final String filename, final Long size) {
+        removeExpired();
+
+        final long maxArtifactSize = quotaManagement.getMaxArtifactSize();
+        if (size != null && size > maxArtifactSize) {
+            throw new FileSizeQuotaExceededException(maxArtifactSize);
+        }
+
+        final Upload upload = new Upload(
+                UUID.randomUUID().toString(), AccessContext.tenant(), softwareModuleId, filename, size,
+                artifactStorage == null ? AbstractArtifactStorage.createTempFile(false) : artifactStorage.createStagingFile());
+        upload.touch(timeoutMillis);
+        uploads.put(upload.getId(), upload);
+        log.debug("Started upload {} of {} for software module {}", upload.getId(), filename, softwareModuleId);
+        return upload;
+    }
+
+    /**
+     * Returns an upload.
+     *
+     * @param softwareModuleId the software module of the upload
+     * @param uploadId the id of the upload
+     * @return the upload
+     * @throws EntityNotFoundException if there is no such upload (e.g. expired) for the tenant and software module
+     */
+    @PreAuthorize(SpringEvalExpressions.HAS_CREATE_REPOSITORY)
+    public Upload get(final long softwareModuleId, final String uploadId) {
+        removeExpired();
+
+        final Upload upload = uploads.get(uploadId);
+        if (upload == null || !upload.getTenant().equals(AccessContext.tenant()) || upload.getSoftwareModuleId() != softwareModuleId) {
+            throw new EntityNotFoundException("Artifact upload", uploadId);
+        }
+        return upload;
+    }
+
+    /**
+     * Appends a chunk to an upload. If the chunk is broken (e.g. because of a broken connection) the bytes received so far are kept and
+     * the upload could be resumed from its offset.
+     *
+     * @param softwareModuleId the software module of the upload
+     * @param uploadId the id of the upload
+     * @param offset the offset of the chunk, shall be equal to the offset of the upload
+     * @param chunk the chunk content
+     * @return <code>true</code> if appended, <code>false</code> if the offset doesn't match the offset of the upload
+     */
+    @PreAuthorize(SpringEvalExpressions.HAS_CREATE_REPOSITORY)
+    public boolean append(final long softwareModuleId, final String uploadId, final long offset, final InputStream chunk) {
+        final Upload upload = get(softwareModuleId, uploadId);
+        synchronized (upload) {
+            if (offset != upload.getOffset()) {
+                return false;
+            }
+
+            final long limit = upload.getSize() == null
+                    ? quotaManagement.getMaxArtifactSize()
+                    : Math.min(upload.getSize(), quotaManagement.getMaxArtifactSize());
+            try (final FileChannel channel = FileChannel.open(upload.getFile().toPath(), StandardOpenOption.WRITE)) {
+                // drop the rest of a broken chunk, if any
+                channel.truncate(upload.getOffset());
+                channel.position(upload.getOffset());
+                final byte[] buffer = new byte[BUFFER_SIZE];
+                for (int read; (read = chunk.read(buffer)) != -1; ) {
+                    if (upload.getOffset() + read > limit) {
+                        channel.truncate(upload.getOffset());
+                        throw new FileSizeQuotaExceededException(limit);
+                    }
+                    final ByteBuffer byteBuffer = ByteBuffer.wrap(buffer, 0, read);
+                    while (byteBuffer.hasRemaining()) {
+                        channel.write(byteBuffer);
+                    }
+                    // hashed only when fully written, so the hashes match the content up to the offset
+                    upload.hash(buffer, read);
+                    upload.offset = channel.position();
+                }
+            } catch (final IOException e) {
+                // broken chunk - the client could resume from the offset (only fully written buffers are counted)
+                log.debug("Chunk of upload {} broken at offset {}: {}", uploadId, upload.getOffset(), e.getMessage());
+            } finally {
+                upload.touch(timeoutMillis);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Completes an upload - creates the artifact from the received content and removes the upload. If the artifact creation fails the
+     * upload is kept (e.g. to be completed with correct hashes).
+     *
+     * @param softwareModuleId the software module of the upload
+     * @param uploadId the id of the upload
+     * @param hashes the hashes of the artifact to check, might be <code>null</code>
+     * @return the created artifact
+     * @throws ValidationException if the upload has an announced size which is not reached yet
+     */
+    @PreAuthorize(SpringEvalExpressions.HAS_CREATE_REPOSITORY)
+    public Artifact complete(final long softwareModuleId, final String uploadId, final ArtifactHashes hashes) {
+        final Upload upload = get(softwareModuleId, uploadId);
+        synchronized (upload) {
+            if (upload.getSize() != null && upload.getOffset() != upload.getSize()) {
+                throw new ValidationException(
+                        "Upload " + uploadId + " is not complete (" + upload.getOffset() + " of " + upload.getSize() + " bytes received)");
+            }
+
+            try (final FileChannel channel = FileChannel.open(upload.getFile().toPath(), StandardOpenOption.WRITE)) {
+                // drop the rest of a broken chunk, if any
+                channel.truncate(upload.getOffset());
+            } catch (final IOException e) {
+                throw new ArtifactUploadFailedException(e);
+            }
+            try {
+                final Artifact artifact = artifactManagement.create(new StagedArtifactUpload(
+                        upload.getFile(), upload.hashes(), null, hashes, softwareModuleId, upload.getFilename(), false));
+                uploads.remove(uploadId);
+                return artifact;
+            } catch (final RuntimeException e) {
+                if (!upload.getFile().exists()) {
+                    // could happen only if the file is moved into the storage but then the creation has failed - can't be retried
+                    uploads.remove(uploadId);
+                }
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Aborts an upload and removes the received content.
+     *
+     * @param softwareModuleId the software module of the upload
+     * @param uploadId the id of the upload
+     */
+    @PreAuthorize(SpringEvalExpressions.HAS_CREATE_REPOSITORY)
+    public void abort(final long softwareModuleId, final String uploadId) {
+        final Upload upload = get(softwareModuleId, uploadId);
+        synchronized (upload) {
+            uploads.remove(uploadId);
+            delete(upload);
+        }
+    }
+
+    private void removeExpired() {
+        final long now = System.currentTimeMillis();
+        uploads.values().removeIf(upload -> {
+            if (upload.getExpiresAt() < now) {
+                log.debug("Upload {} of {} expired", upload.getId(), upload.getFilename());
+                delete(upload);
+                return true;
+            }
+            return false;
+        });
+    }
+
+    private static void delete(final Upload upload) {
+        try {
+            Files.deleteIfExists(upload.getFile().toPath());
+        } catch (final IOException e) {
+            log.error("Could not delete upload file {} ({})", upload.getFile().getAbsolutePath(), e.getMessage());
+        }
+    }
+
+    /**
+     * A started upload.
+     */
+    @Getter
+    public static final class Upload {
+
+        private final String id;
+        @Getter(AccessLevel.PRIVATE)
+        private final String tenant;
+        private final long softwareModuleId;
+        private final String filename;
+        private final Long size;
+        @Getter(AccessLevel.PRIVATE)
+        private final File file;
+        @Getter(AccessLevel.NONE)
+        private final MessageDigest sha1;
+        @Getter(AccessLevel.NONE)
+        private final MessageDigest md5;
+        @Getter(AccessLevel.NONE)
+        private final MessageDigest sha256;
+        private volatile long offset;
+        private volatile long expiresAt;
+
+        private Upload(
+                final String id, final String tenant, final long softwareModuleId, final String filename, final Long size,
+                final File file) {
+            this.id = id;
+            this.tenant = tenant;
+            this.softwareModuleId = softwareModuleId;
+            this.filename = filename;
+            this.size = size;
+            this.file = file;
+            try {
+                sha1 = MessageDigest.getInstance("SHA1");
+                md5 = MessageDigest.getInstance("MD5");
+                sha256 = MessageDigest.getInstance("SHA-256");
+            } catch (final NoSuchAlgorithmException e) {
+                throw new ArtifactStoreException(e.getMessage(), e);
+            }
+        }
+
+        private void hash(final byte[] buffer, final int length) {
+            sha1.update(buffer, 0, length);
+            md5.update(buffer, 0, length);
+            sha256.update(buffer, 0, length);
+        }
+
+        // the digests are cloned - so they are not reset and the upload could be continued if the completion fails
+        private ArtifactHashes hashes() {
+            final HexFormat hexFormat = HexFormat.of().withLowerCase();
+            return new ArtifactHashes(
+                    hexFormat.formatHex(digest(sha1)), hexFormat.formatHex(digest(md5)), hexFormat.formatHex(digest(sha256)));
+        }
+
+        private static byte[] digest(final MessageDigest messageDigest) {
+            try {
+                return ((MessageDigest) messageDigest.clone()).digest();
+            } catch (final CloneNotSupportedException e) {
+                throw new ArtifactStoreException(e.getMessage(), e);
+            }
+        }
+
+        private void touch(final long timeoutMillis) {
+            expiresAt = System.currentTimeMillis() + timeoutMillis;
+        }
+    }
+}
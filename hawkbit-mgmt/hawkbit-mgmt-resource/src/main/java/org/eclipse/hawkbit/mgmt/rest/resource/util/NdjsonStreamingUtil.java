@@ -0,0 +1,107 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.mgmt.rest.resource.util;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletResponse;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.rest.util.RequestResponseContextHolder;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Utility for streaming of entities as newline delimited JSON (<code>application/x-ndjson</code>) - one JSON object per line.
+ * <p/>
+ * The entities are read by a forward only repository scan in chunks and every chunk is projected, written and flushed directly to the
+ * servlet response before the next chunk is read. So:
+ * <ul>
+ *     <li>the memory footprint doesn't depend on the number of the exported entities</li>
+ *     <li>a slow client slows down the scan (backpressure by the blocking servlet output stream)</li>
+ *     <li>if the client disconnects the failing write stops the scan (cancellation)</li>
+ * </ul>
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class NdjsonStreamingUtil {
+
+    /**
+     * Number of entities read from the repository, and flushed to the client, at once.
+     */
+    public static final int CHUNK_SIZE = 500;
+
+    private static final int NEW_LINE = '\n';
+
+    /**
+     * Streams the entities provided by the scan to the current response.
+     *
+     * @param jsonMapper the (configured) mapper used to write the lines
+     * @param scan the scan of the entities, gets the chunk consumer and returns the number of scanned entities
+     * @param projection maps an entity to the JSON annotated object written as a line
+     * @return response entity with status OK (the body is already written)
+     */
+    public static <T> ResponseEntity<Void> writeNdjsonResponse(
+            final JsonMapper jsonMapper, final ToLongFunction<Predicate<List<T>>> scan, final Function<T, ?> projection) {
+        final HttpServletResponse response = ndjsonResponse();
+        final long start = System.currentTimeMillis();
+        final long scanned = scan.applyAsLong(chunk -> writeChunk(jsonMapper, response, chunk, projection));
+        log.debug("Streamed {} entities in {} ms", scanned, System.currentTimeMillis() - start);
+        return ResponseEntity.ok().build();
+    }
+
+    /**
+     * Prepares the current response for newline delimited JSON.
+     *
+     * @return the current response
+     */
+    public static HttpServletResponse ndjsonResponse() {
+        final HttpServletResponse response = RequestResponseContextHolder.getHttpServletResponse();
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        return response;
+    }
+
+    /**
+     * Writes a chunk of entities, one per line, and flushes the response.
+     *
+     * @param jsonMapper the (configured) mapper used to write the lines
+     * @param response the response prepared by {@link #ndjsonResponse()}
+     * @param chunk the entities to write
+     * @param projection maps an entity to the JSON annotated object written as a line
+     * @return <code>true</code> if written, <code>false</code> if the client has disconnected and the streaming shall be stopped
+     */
+    public static <T> boolean writeChunk(
+            final JsonMapper jsonMapper, final HttpServletResponse response, final List<T> chunk, final Function<T, ?> projection) {
+        try {
+            final ServletOutputStream out = response.getOutputStream();
+            for (final T entity : chunk) {
+                out.write(jsonMapper.writeValueAsBytes(projection.apply(entity)));
+                out.write(NEW_LINE);
+            }
+            // the next chunk is read after this one is sent (or at least buffered for sending) to the client
+            out.flush();
+            return true;
+        } catch (final IOException e) {
+            // the client has disconnected (or the connection is broken) - stop the scan
+            log.debug("Streaming cancelled: {}", e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,191 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.mgmt.rest.resource.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.validation.ValidationException;
+
+import org.eclipse.hawkbit.mgmt.json.model.target.MgmtTargetImport;
+import org.eclipse.hawkbit.mgmt.rest.api.MgmtRestConstants;
+import org.springframework.http.MediaType;
+import org.springframework.util.ObjectUtils;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Reads a streamed target import line by line - newline delimited JSON with one {@link MgmtTargetImport} per line or CSV with a header
+ * row naming the columns (see {@link MgmtTargetImport}). Only the current line is held in memory. Blank lines are skipped, malformed lines
+ * are returned as rows with an error so that they could be reported without stopping the import.
+ */
+public final class TargetImportReader {
+
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType(MgmtRestConstants.TEXT_CSV_VALUE);
+    private static final String CONTROLLER_ID = "controllerId";
+    private static final String ATTRIBUTE_PREFIX = "attributes.";
+    private static final String TAG_SEPARATOR = ";";
+    private static final String BOM = "\uFEFF";
+
+    private final JsonMapper jsonMapper;
+    private final BufferedReader reader;
+    // null for newline delimited JSON
+    private final String[] csvHeader;
+    private long lineNumber;
+
+    /**
+     * A line of the import.
+     *
+     * @param line the line number (1 based, for CSV including the header line)
+     * @param target the parsed target, <code>null</code> if the line is malformed
+     * @param error the reason if the line is malformed, <code>null</code> otherwise
+     */
+    public record Row(long line, MgmtTargetImport target, String error) {}
+
+    private TargetImportReader(final JsonMapper jsonMapper, final BufferedReader reader, final String[] csvHeader, final long lineNumber) {
+        this.jsonMapper = jsonMapper;
+        this.reader = reader;
+        this.csvHeader = csvHeader;
+        this.lineNumber = lineNumber;
+    }
+
+    /**
+     * Opens a reader for the given import stream. For CSV the header row is read.
+     *
+     * @param jsonMapper the (configured) mapper used to read the newline delimited JSON lines
+     * @param in the import stream (UTF-8)
+     * @param contentType the content type of the import, <code>text/csv</code> for CSV, newline delimited JSON otherwise
+     * @return the reader
+     * @throws IOException if the stream could not be read
+     * @throws ValidationException if the CSV header row is missing or has no controllerId column
+     */
+    public static TargetImportReader open(final JsonMapper jsonMapper, final InputStream in, final String contentType) throws IOException {
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        if (contentType == null || !TEXT_CSV.isCompatibleWith(MediaType.parseMediaType(contentType))) {
+            return new TargetImportReader(jsonMapper, reader, null, 0);
+        }
+
+        final String header = reader.readLine();
+        if (header == null) {
+            throw new ValidationException("CSV header row is missing");
+        }
+        final String[] columns = parseCsvLine(header.startsWith(BOM) ? header.substring(BOM.length()) : header).stream()
+                .map(String::trim)
+                .toArray(String[]::new);
+        if (!Arrays.asList(columns).contains(CONTROLLER_ID)) {
+            throw new ValidationException("CSV header row has no " + CONTROLLER_ID + " column");
+        }
+        return new TargetImportReader(jsonMapper, reader, columns, 1);
+    }
+
+    /**
+     * @return the next (non-blank) line or <code>null</code> if the end of the stream is reached
+     * @throws IOException if the stream could not be read
+     */
+    public Row next() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            lineNumber++;
+        } while (line.isBlank());
+
+        try {
+            return new Row(lineNumber, csvHeader == null ? jsonMapper.readValue(line, MgmtTargetImport.class) : fromCsv(line), null);
+        } catch (final JacksonException e) {
+            return new Row(lineNumber, null, "Malformed JSON: " + e.getOriginalMessage());
+        } catch (final IllegalArgumentException e) {
+            return new Row(lineNumber, null, "Malformed CSV: " + e.getMessage());
+        }
+    }
+
+    private MgmtTargetImport fromCsv(final String line) {
+        final List<String> values = parseCsvLine(line);
+        if (values.size() > csvHeader.length) {
+            throw new IllegalArgumentException("More values than header columns");
+        }
+
+        final MgmtTargetImport target = new MgmtTargetImport();
+        final Map<String, String> attributes = new HashMap<>();
+        for (int i = 0; i < values.size(); i++) {
+            final String value = values.get(i);
+            if (ObjectUtils.isEmpty(value)) {
+                continue;
+            }
+            switch (csvHeader[i]) {
+                case CONTROLLER_ID -> target.setControllerId(value);
+                case "name" -> target.setName(value);
+                case "description" -> target.setDescription(value);
+                case "securityToken" -> target.setSecurityToken(value);
+                case "address" -> target.setAddress(value);
+                case "group" -> target.setGroup(value);
+                case "targetType" -> target.setTargetType(Long.valueOf(value.trim()));
+                case "tags" -> target.setTags(Arrays.stream(value.split(TAG_SEPARATOR))
+                        .map(String::trim)
+                        .filter(tagId -> !tagId.isEmpty())
+                        .map(Long::valueOf)
+                        .toList());
+                default -> {
+                    // unknown columns are ignored
+                    if (csvHeader[i].startsWith(ATTRIBUTE_PREFIX)) {
+                        attributes.put(csvHeader[i].substring(ATTRIBUTE_PREFIX.length()), value);
+                    }
+                }
+            }
+        }
+        if (!attributes.isEmpty()) {
+            target.setAttributes(attributes);
+        }
+        return target;
+    }
+
+    // single line subset of RFC 4180 - values separated by comma, optionally in double quotes with "" as escaped quote
+    private static List<String> parseCsvLine(final String line) {
+        final List<String> values = new ArrayList<>();
+        final StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        int i = 0;
+        while (i < line.length()) {
+            final char c = line.charAt(i++);
+            if (quoted) {
+                if (c != '"') {
+                    value.append(c);
+                } else if (i < line.length() && line.charAt(i) == '"') {
+                    value.append(c);
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted value");
+        }
+        values.add(value.toString());
+        return values;
+    }
+}
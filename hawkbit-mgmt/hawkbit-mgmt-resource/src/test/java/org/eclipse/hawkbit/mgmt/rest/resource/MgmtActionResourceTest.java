@@ -19,14 +19,17 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 
+import com.jayway.jsonpath.JsonPath;
 import org.eclipse.hawkbit.mgmt.json.model.target.MgmtTarget;
 import org.eclipse.hawkbit.mgmt.rest.api.MgmtActionRestApi;
 import org.eclipse.hawkbit.mgmt.rest.api.MgmtDistributionSetRestApi;
@@ -41,6 +44,7 @@ import org.eclipse.hawkbit.repository.model.Rollout;
 import org.eclipse.hawkbit.repository.model.Target;
 import org.eclipse.hawkbit.rest.util.MockMvcResultPrinter;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.ResultActions;
 
 /**
@@ -237,6 +241,41 @@ class MgmtActionResourceTest extends AbstractManagementApiIntegrationTest {
                 .andExpect(jsonPath("size", equalTo(0)));
     }
 
+    /**
+     * Verifies that the actions matching the filter are exported as newline delimited JSON - one action per line ordered by id.
+     */
+    @Test
+    void exportActions() throws Exception {
+        final DistributionSet ds = testdataFactory.createDistributionSet("");
+        final List<Action> actions = assignDistributionSet(ds, testdataFactory.createTargets("target1", "target2", "target3"))
+                .getAssignedEntity();
+        controllerManagement.addUpdateActionStatus(Action.ActionStatusCreate.builder()
+                .actionId(actions.get(0).getId()).code(200).messages(List.of("Update succeeded")).status(Status.FINISHED).build());
+
+        final String[] lines = mvc.perform(get(ACTIONS_V1 + "/export").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString().split("\n");
+        assertThat(lines).hasSize(3);
+        assertThat(Arrays.stream(lines).map(line -> JsonPath.<Integer> read(line, "$.id").longValue()).toList())
+                .isEqualTo(actions.stream().map(Action::getId).sorted().toList());
+        assertThat(Arrays.stream(lines).map(line -> JsonPath.<String> read(line, "$.target")))
+                .containsExactlyInAnyOrder("target1", "target2", "target3");
+        for (final String line : lines) {
+            assertThat((Object) JsonPath.read(line, "$.distributionSet")).isEqualTo(ds.getId().intValue());
+            assertThat((Object) JsonPath.read(line, "$.type")).isEqualTo("update");
+        }
+
+        final String[] finished = mvc.perform(get(ACTIONS_V1 + "/export").param(REQUEST_PARAMETER_SEARCH, "status==finished")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString().split("\n");
+        assertThat(finished).hasSize(1);
+        assertThat((Object) JsonPath.read(finished[0], "$.id")).isEqualTo(actions.get(0).getId().intValue());
+        assertThat((Object) JsonPath.read(finished[0], "$.lastStatusCode")).isEqualTo(200);
+        assertThat((Object) JsonPath.read(finished[0], "$.active")).isEqualTo(false);
+    }
+
     /**
      * Verifies that actions can be filtered based on distribution set fields.
      */
@@ -31,6 +31,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -412,6 +413,88 @@ class MgmtSoftwareModuleResourceTest extends AbstractManagementApiIntegrationTes
         assertArtifact(sm, random);
     }
 
+    /**
+     * Verifies that an artifact could be uploaded as raw (application/octet-stream) request body.
+     */
+    @Test
+    void uploadArtifactStream() throws Exception {
+        final SoftwareModule sm = testdataFactory.createSoftwareModuleOs();
+        final byte[] random = randomBytes(5 * 1024);
+
+        mvc.perform(post("/rest/v1/softwaremodules/{smId}/artifacts/stream", sm.getId())
+                        .param("filename", "origFilename")
+                        .param("sha1sum", HashGeneratorUtils.generateSHA1(random))
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM).content(random)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultPrinter.print())
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.hashes.md5", equalTo(HashGeneratorUtils.generateMD5(random))))
+                .andExpect(jsonPath("$.hashes.sha256", equalTo(HashGeneratorUtils.generateSHA256(random))))
+                .andExpect(jsonPath("$.size", equalTo(random.length)))
+                .andExpect(jsonPath("$.providedFilename", equalTo("origFilename")));
+
+        assertArtifact(sm, random);
+    }
+
+    /**
+     * Verifies that an artifact could be uploaded in chunks - a chunk with a wrong offset is rejected with the current offset, so the
+     * upload could be resumed from it. A failed completion keeps the upload.
+     */
+    @Test
+    void uploadArtifactInResumableChunks() throws Exception {
+        final SoftwareModule sm = testdataFactory.createSoftwareModuleOs();
+        final byte[] random = randomBytes(5 * 1024);
+        final byte[] first = Arrays.copyOfRange(random, 0, 2 * 1024);
+        final byte[] second = Arrays.copyOfRange(random, 2 * 1024, random.length);
+
+        final MvcResult started = mvc.perform(post("/rest/v1/softwaremodules/{smId}/artifacts/uploads", sm.getId())
+                        .param("filename", "origFilename").param("size", String.valueOf(random.length)))
+                .andDo(MockMvcResultPrinter.print())
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.offset", equalTo(0)))
+                .andExpect(jsonPath("$.size", equalTo(random.length)))
+                .andReturn();
+        final String uploadId = JsonPath.read(started.getResponse().getContentAsString(), "$.id");
+        final String uploadUri = "/rest/v1/softwaremodules/{smId}/artifacts/uploads/{uploadId}";
+
+        mvc.perform(put(uploadUri, sm.getId(), uploadId).header(MgmtSoftwareModuleRestApi.UPLOAD_OFFSET_HEADER, 0)
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM).content(first))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.offset", equalTo(first.length)));
+        // resend of the first chunk (e.g. after lost response) is rejected with the offset to resume from
+        mvc.perform(put(uploadUri, sm.getId(), uploadId).header(MgmtSoftwareModuleRestApi.UPLOAD_OFFSET_HEADER, 0)
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM).content(first))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.offset", equalTo(first.length)));
+        mvc.perform(get(uploadUri, sm.getId(), uploadId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.offset", equalTo(first.length)));
+        mvc.perform(put(uploadUri, sm.getId(), uploadId).header(MgmtSoftwareModuleRestApi.UPLOAD_OFFSET_HEADER, first.length)
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM).content(second))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.offset", equalTo(random.length)));
+
+        // failed completion (wrong hash) keeps the upload, so it could be completed again
+        mvc.perform(post(uploadUri, sm.getId(), uploadId).param("sha1sum", HashGeneratorUtils.generateSHA1(first)))
+                .andDo(MockMvcResultPrinter.print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode", equalTo(SpServerError.SP_ARTIFACT_UPLOAD_FAILED_SHA1_MATCH.getKey())));
+        assertThat(softwareModuleManagement.find(sm.getId()).orElseThrow().getArtifacts()).isEmpty();
+        mvc.perform(get(uploadUri, sm.getId(), uploadId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.offset", equalTo(random.length)));
+
+        mvc.perform(post(uploadUri, sm.getId(), uploadId).param("sha1sum", HashGeneratorUtils.generateSHA1(random)))
+                .andDo(MockMvcResultPrinter.print())
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.size", equalTo(random.length)))
+                .andExpect(jsonPath("$.providedFilename", equalTo("origFilename")));
+        assertArtifact(sm, random);
+
+        // the completed upload is removed
+        mvc.perform(get(uploadUri, sm.getId(), uploadId)).andExpect(status().isNotFound());
+    }
+
     /**
      * Verifies that artifacts which exceed the configured maximum size cannot be uploaded.
      */
@@ -55,6 +55,7 @@ import org.eclipse.hawkbit.mgmt.json.model.target.MgmtTargetAutoConfirmUpdate;
 import org.eclipse.hawkbit.mgmt.rest.api.MgmtDistributionSetRestApi;
 import org.eclipse.hawkbit.mgmt.rest.api.MgmtRestConstants;
 import org.eclipse.hawkbit.mgmt.rest.api.MgmtTargetRestApi;
+import org.eclipse.hawkbit.mgmt.rest.resource.util.NdjsonStreamingUtil;
 import org.eclipse.hawkbit.mgmt.rest.resource.util.ResourceUtility;
 import org.eclipse.hawkbit.repository.Identifiable;
 import org.eclipse.hawkbit.repository.TargetManagement.Create;
@@ -241,6 +242,112 @@ class MgmtTargetResourceTest extends AbstractManagementApiIntegrationTest {
                 .andDo(MockMvcResultPrinter.print());
     }
 
+    /**
+     * Verifies that the targets matching the filter are exported as newline delimited JSON - one target per line ordered by id, also
+     * if they are more than the streamed chunk.
+     */
+    @Test
+    void exportTargets() throws Exception {
+        final int count = NdjsonStreamingUtil.CHUNK_SIZE + 1;
+        final List<Long> ids = testdataFactory.createTargets(count, "export").stream().map(Target::getId).sorted().toList();
+        testdataFactory.createTarget("other");
+
+        final String[] lines = mvc.perform(get(TARGETS_V1 + "/export").param("q", "controllerId==export*")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString().split("\n");
+        assertThat(lines).hasSize(count);
+        assertThat(Stream.of(lines).map(line -> JsonPath.<Integer> read(line, "$.id").longValue()).toList()).isEqualTo(ids);
+        assertThat((Object) JsonPath.read(lines[0], "$.updateStatus")).isEqualTo("unknown");
+        assertThat(lines[0]).doesNotContain("securityToken", "links");
+
+        // without filter all targets are exported
+        assertThat(mvc.perform(get(TARGETS_V1 + "/export").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString().split("\n")).hasSize(count + 1);
+    }
+
+    /**
+     * Verifies that the action history of a target is exported as newline delimited JSON and that export of not existing target fails.
+     */
+    @Test
+    void exportActionHistory() throws Exception {
+        final Target target = testdataFactory.createTarget("exportActions");
+        final DistributionSet ds1 = testdataFactory.createDistributionSet("1");
+        final DistributionSet ds2 = testdataFactory.createDistributionSet("2");
+        final Long first = getFirstAssignedActionId(assignDistributionSet(ds1.getId(), target.getControllerId()));
+        final Long second = getFirstAssignedActionId(assignDistributionSet(ds2.getId(), target.getControllerId()));
+        assignDistributionSet(ds1, Collections.singletonList(testdataFactory.createTarget("notExported")));
+
+        final String[] lines = mvc.perform(get(TARGETS_V1 + "/{targetId}/actions/export", target.getControllerId())
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString().split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat((Object) JsonPath.read(lines[0], "$.id")).isEqualTo(first.intValue());
+        assertThat((Object) JsonPath.read(lines[0], "$.distributionSet")).isEqualTo(ds1.getId().intValue());
+        assertThat((Object) JsonPath.read(lines[1], "$.id")).isEqualTo(second.intValue());
+        assertThat((Object) JsonPath.read(lines[1], "$.target")).isEqualTo(target.getControllerId());
+
+        mvc.perform(get(TARGETS_V1 + "/{targetId}/actions/export", "notExisting").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(status().isNotFound());
+    }
+
+    /**
+     * Verifies that targets are imported from newline delimited JSON and the result of every line is streamed back in the line order.
+     */
+    @Test
+    void importTargetsFromNdjson() throws Exception {
+        testdataFactory.createTarget("existing");
+        final TargetTag tag = testdataFactory.createTargetTags(1, "import").get(0);
+        final TargetType type = testdataFactory.findOrCreateTargetType("import");
+        final String body = String.join("\n",
+                "{\"controllerId\":\"import1\",\"targetType\":" + type.getId() + ",\"tags\":[" + tag.getId() + "]," +
+                        "\"attributes\":{\"hwRevision\":\"2\"}}",
+                "",
+                "{\"controllerId\":\"existing\"}",
+                "{\"controllerId\":",
+                "{\"controllerId\":\"import2\",\"name\":\"second\"}");
+
+        final String[] lines = mvc.perform(post(TARGETS_V1 + "/import").content(body).contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString().split("\n");
+        assertThat(lines).hasSize(4);
+        assertThat(Stream.of(lines).map(line -> JsonPath.<Integer> read(line, "$.line")).toList()).containsExactly(1, 3, 4, 5);
+        assertThat(Stream.of(lines).map(line -> JsonPath.<String> read(line, "$.status")).toList())
+                .containsExactly("created", "already_exists", "invalid", "created");
+
+        assertThat(targetManagement.getByControllerId("import2").getName()).isEqualTo("second");
+        assertThat(targetManagement.getTags("import1")).extracting(TargetTag::getId).containsExactly(tag.getId());
+        assertThat(targetManagement.getControllerAttributes("import1")).isEqualTo(Map.of("hwRevision", "2"));
+    }
+
+    /**
+     * Verifies that targets are imported from CSV with a header row and that CSV without controller id column is rejected.
+     */
+    @Test
+    void importTargetsFromCsv() throws Exception {
+        final String body = String.join("\n",
+                "controllerId,name,description,attributes.hwRevision",
+                "csv1,first,\"with, comma and \"\"quotes\"\"\",2",
+                "csv2,,,",
+                "csv3,\"unterminated");
+
+        final String[] lines = mvc.perform(post(TARGETS_V1 + "/import").content(body).contentType("text/csv"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString().split("\n");
+        assertThat(Stream.of(lines).map(line -> JsonPath.<String> read(line, "$.status")).toList())
+                .containsExactly("created", "created", "invalid");
+        assertThat(targetManagement.getByControllerId("csv1").getDescription()).isEqualTo("with, comma and \"quotes\"");
+        assertThat(targetManagement.getByControllerId("csv2").getName()).isEqualTo("csv2");
+        assertThat(targetManagement.getControllerAttributes("csv1")).isEqualTo(Map.of("hwRevision", "2"));
+
+        mvc.perform(post(TARGETS_V1 + "/import").content("name,description\nfirst,").contentType("text/csv"))
+                .andExpect(status().isBadRequest());
+    }
+
     /**
      * Handles the POST request to activate auto-confirm on a target. Payload can be provided to specify more details about the operation.
      */
@@ -0,0 +1,97 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.app;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.eclipse.hawkbit.context.AccessContext.asSystemAsTenant;
+import static org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationProperties.TenantConfigurationKey.AUTHENTICATION_GATEWAY_SECURITY_TOKEN_ENABLED;
+import static org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationProperties.TenantConfigurationKey.AUTHENTICATION_GATEWAY_SECURITY_TOKEN_KEY;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.hawkbit.repository.TargetManagement;
+import org.eclipse.hawkbit.repository.TenantConfigurationManagement;
+import org.eclipse.hawkbit.repository.model.Target;
+import org.eclipse.hawkbit.repository.test.util.SharedSqlTestDatabaseExtension;
+import org.eclipse.hawkbit.sdk.HawkbitClient;
+import org.eclipse.hawkbit.sdk.HawkbitServer;
+import org.eclipse.hawkbit.sdk.LatencyStatistics;
+import org.eclipse.hawkbit.sdk.Tenant;
+import org.eclipse.hawkbit.sdk.device.DdiController;
+import org.eclipse.hawkbit.sdk.device.DdiSimulator;
+import org.eclipse.hawkbit.sdk.device.DdiTenant;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Runs the {@link DdiSimulator} of the device SDK against the (embedded) update server - the simulated devices poll via HTTP, with
+ * gateway token authentication, and are registered as targets.
+ * <p/>
+ * Feature: Integration Test - SDK<br/>
+ * Story: DDI device simulator
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        // the SDK (client) auto-configuration and defaults are not for the server
+        properties = "spring.autoconfigure.exclude=org.eclipse.hawkbit.sdk.HawkbitSDKConfiguration")
+@ExtendWith(SharedSqlTestDatabaseExtension.class)
+class DdiSimulatorTest {
+
+    private static final String TENANT = "DEFAULT";
+    private static final String GATEWAY_TOKEN = "simulator-gateway-token";
+    private static final List<String> CONTROLLER_IDS = List.of("simulated-1", "simulated-2", "simulated-3");
+
+    @Value("${local.server.port}")
+    private int port;
+    @Autowired
+    private TenantConfigurationManagement tenantConfigurationManagement;
+    @Autowired
+    private TargetManagement<? extends Target> targetManagement;
+
+    /**
+     * Verifies that the simulated devices poll the server (and are registered as targets) and that the polls are recorded in the
+     * latency statistics.
+     */
+    @Test
+    void simulatedDevicesPollTheServer() {
+        asSystemAsTenant(TENANT, () -> tenantConfigurationManagement.addOrUpdateConfiguration(Map.of(
+                AUTHENTICATION_GATEWAY_SECURITY_TOKEN_ENABLED, true,
+                AUTHENTICATION_GATEWAY_SECURITY_TOKEN_KEY, GATEWAY_TOKEN)));
+
+        final HawkbitServer server = new HawkbitServer();
+        server.setDdiUrl("http://localhost:" + port);
+        server.setMgmtUrl("http://localhost:" + port);
+        final Tenant tenant = new Tenant();
+        tenant.setTenantId(TENANT);
+        tenant.setGatewayToken(GATEWAY_TOKEN);
+
+        try (final DdiSimulator simulator = new DdiSimulator(new DdiTenant(tenant, new HawkbitClient(server)))
+                .setPollMillis(200)
+                .setPollJitter(0)) {
+            CONTROLLER_IDS.forEach(controllerId -> simulator.start(controllerId, null));
+            assertThat(simulator.size()).isEqualTo(CONTROLLER_IDS.size());
+
+            await().atMost(Duration.ofSeconds(30)).untilAsserted(() -> {
+                assertThat(asSystemAsTenant(TENANT, () -> targetManagement.findByControllerId(CONTROLLER_IDS)))
+                        .hasSize(CONTROLLER_IDS.size());
+                final LatencyStatistics.Percentiles polls = simulator.getStatistics().snapshot().get(DdiController.POLL_OPERATION);
+                assertThat(polls).isNotNull();
+                assertThat(polls.count()).isGreaterThanOrEqualTo(2L * CONTROLLER_IDS.size());
+                assertThat(polls.errors()).isZero();
+            });
+        }
+    }
+}
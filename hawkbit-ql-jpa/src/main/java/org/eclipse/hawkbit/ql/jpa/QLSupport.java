@@ -12,11 +12,14 @@ package org.eclipse.hawkbit.ql.jpa;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -63,6 +66,9 @@ import org.springframework.data.jpa.domain.Specification;
  * like this:<br>
  * <em>lastControllerRequestAt=le=${OVERDUE_TS}</em><br>
  * It is possible to escape a macro expression by using a second '$': $${OVERDUE_TS} would prevent the ${OVERDUE_TS} token from being expanded.
+ * <p/>
+ * The parsed queries are cached (bounded, could be switched off with <code>hawkbit.ql.cache.enabled</code>). The node transformations
+ * are applied on each use since they could be time dependent (e.g. the ${OVERDUE_TS} macro).
  */
 @Slf4j
 @Getter
@@ -90,6 +96,9 @@ public class QLSupport implements ApplicationListener<ContextRefreshedEvent> {
     private QueryParser parser;
     private List<NodeTransformer> nodeTransformers = List.of();
     private EntityManager entityManager;
+    // parsed (not transformed) nodes, null if the cache is disabled. the nodes are immutable so they could be shared
+    @Getter(AccessLevel.NONE)
+    private Cache<NodeCacheKey, Node> nodeCache;
 
     /**
      * @return The holder singleton instance.
@@ -101,6 +110,29 @@ public class QLSupport implements ApplicationListener<ContextRefreshedEvent> {
     @Autowired
     public void setQueryParser(final QueryParser parser) {
         this.parser = parser;
+        if (nodeCache != null) {
+            nodeCache.invalidateAll();
+        }
+    }
+
+    /**
+     * Configures the cache of the parsed queries.
+     *
+     * @param enabled if the parsed queries shall be cached
+     * @param maxSize the max number of the cached queries
+     */
+    @Autowired
+    public void setNodeCache(
+            @Value("${hawkbit.ql.cache.enabled:true}") final boolean enabled,
+            @Value("${hawkbit.ql.cache.max-size:10000}") final long maxSize) {
+        nodeCache = enabled ? Caffeine.newBuilder().maximumSize(maxSize).recordStats().build() : null;
+    }
+
+    /**
+     * @return the cache of the parsed queries (e.g. for the hit / miss metrics), empty if the cache is disabled
+     */
+    public Optional<Cache<?, Node>> getNodeCache() {
+        return Optional.ofNullable(nodeCache);
     }
 
     @Override
@@ -122,7 +154,12 @@ public class QLSupport implements ApplicationListener<ContextRefreshedEvent> {
     }
 
     public <A extends Enum<A> & QueryField> Node parse(final String query, final Class<A> queryFieldType) {
-        return parser.parse(ignoreCase || caseInsensitiveDB ? query.toLowerCase() : query, queryFieldType);
+        final boolean lowerCase = ignoreCase || caseInsensitiveDB;
+        final String effectiveQuery = lowerCase ? query.toLowerCase() : query;
+        final Cache<NodeCacheKey, Node> cache = nodeCache;
+        return cache == null
+                ? parser.parse(effectiveQuery, queryFieldType)
+                : cache.get(new NodeCacheKey(effectiveQuery, queryFieldType, lowerCase), key -> parser.parse(key.query(), queryFieldType));
     }
 
     /**
@@ -148,6 +185,10 @@ public class QLSupport implements ApplicationListener<ContextRefreshedEvent> {
         return EntityMatcher.of(transform(parse(query, queryFieldType), queryFieldType), ignoreCase || caseInsensitiveDB);
     }
 
+    public <A extends Enum<A> & QueryField> EntityMatcher entityMatcher(final Node query, final Class<A> queryFieldType) {
+        return EntityMatcher.of(transform(query, queryFieldType), ignoreCase || caseInsensitiveDB);
+    }
+
     /**
      * Validates the query string
      *
@@ -170,6 +211,8 @@ public class QLSupport implements ApplicationListener<ContextRefreshedEvent> {
         return node;
     }
 
+    private record NodeCacheKey(String query, Class<?> queryFieldType, boolean lowerCase) {}
+
     /**
      * By registering a custom {@link QueryParser} (as a {@link org.springframework.context.annotation.Bean}) the entire parsing of the queries
      * could be replaced / customized, e.g. the default query language (RSQL) could be replaced with a custom.
@@ -26,6 +26,7 @@ import org.eclipse.hawkbit.repository.exception.InvalidSha1HashException;
 import org.eclipse.hawkbit.repository.model.Artifact;
 import org.eclipse.hawkbit.repository.model.ArtifactUpload;
 import org.eclipse.hawkbit.repository.model.SoftwareModule;
+import org.eclipse.hawkbit.repository.model.StagedArtifactUpload;
 import org.springframework.security.access.prepost.PreAuthorize;
 
 /**
@@ -54,6 +55,22 @@ public interface ArtifactManagement extends PermissionSupport {
     @PreAuthorize(SpringEvalExpressions.HAS_CREATE_REPOSITORY)
     Artifact create(@NotNull @Valid ArtifactUpload artifactUpload);
 
+    /**
+     * Persists artifact binary staged in a file of the artifact storage. The file is moved into the storage (if the software module is
+     * encrypted - it is streamed through the encryption) and removed only if the artifact is created, otherwise it is kept.
+     *
+     * @param stagedArtifactUpload {@link StagedArtifactUpload} containing the upload information
+     * @return uploaded {@link Artifact}
+     * @throws EntityNotFoundException if given software module does not exist
+     * @throws EntityAlreadyExistsException if File with that name already exists in the Software Module
+     * @throws ArtifactUploadFailedException if upload fails with internal server errors
+     * @throws InvalidMd5HashException if check against provided MD5 checksum failed
+     * @throws InvalidSha1HashException if check against provided SHA1 checksum failed
+     * @throws ConstraintViolationException if {@link StagedArtifactUpload} contains invalid values
+     */
+    @PreAuthorize(SpringEvalExpressions.HAS_CREATE_REPOSITORY)
+    Artifact create(@NotNull @Valid StagedArtifactUpload stagedArtifactUpload);
+
     /**
      * Loads {@link StoredArtifactInfo} from store for given {@link Artifact}.
      *
@@ -31,6 +31,8 @@ import org.eclipse.hawkbit.repository.model.Action.ActionStatusCreate;
 import org.eclipse.hawkbit.repository.model.Action.Status;
 import org.eclipse.hawkbit.repository.model.ActionStatus;
 import org.eclipse.hawkbit.repository.model.AutoConfirmationStatus;
+import org.eclipse.hawkbit.repository.model.DistributionSet;
+import org.eclipse.hawkbit.repository.model.DistributionSetGraph;
 import org.eclipse.hawkbit.repository.model.SoftwareModule;
 import org.eclipse.hawkbit.repository.model.Target;
 import org.eclipse.hawkbit.repository.model.TargetUpdateStatus;
@@ -76,6 +78,17 @@ public interface ControllerManagement {
     @PreAuthorize(SpringEvalExpressions.IS_CONTROLLER)
     Map<Long, Map<String, String>> findTargetVisibleMetaDataBySoftwareModuleId(@NotNull Collection<Long> moduleId);
 
+    /**
+     * Retrieves the {@link DistributionSetGraph} (software modules, artifacts and target visible metadata) of a {@link DistributionSet}.
+     * The graphs of locked distribution sets are served from a tenant aware cache shared by all the device facing API-s.
+     *
+     * @param distributionSetId of the {@link DistributionSet}
+     * @return the {@link DistributionSetGraph} of the distribution set
+     * @throws EntityNotFoundException if distribution set with given ID does not exist
+     */
+    @PreAuthorize(SpringEvalExpressions.IS_CONTROLLER + " or " + SpringEvalExpressions.IS_SYSTEM_CODE)
+    DistributionSetGraph getDistributionSetGraph(long distributionSetId);
+
     /**
      * Simple addition of a new {@link ActionStatus} entry to the {@link Action}. No state changes.
      *
@@ -20,6 +20,7 @@ import java.util.List;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotEmpty;
@@ -213,6 +214,37 @@ public interface DeploymentManagement extends PermissionSupport {
     @PreAuthorize(HAS_READ_REPOSITORY)
     Slice<Action> findActionsByTarget(@NotEmpty String controllerId, @NotNull Pageable pageable);
 
+    /**
+     * Scans (forward only) all {@link Action}s matching the given filter in chunks ordered by id. The chunks are selected by keyset
+     * (<code>id &gt; last id of the previous chunk</code>), with the target, distribution set and rollout fetched, without count
+     * queries and are detached from the persistence context after being consumed, so the memory footprint is bounded by the chunk
+     * size independently of the number of matching actions.
+     *
+     * @param rsql RSQL query string, <code>null</code> for all actions
+     * @param chunkSize the maximum number of actions per chunk
+     * @param chunkConsumer consumer of the consecutive chunks, could return <code>false</code> to stop the scan
+     * @return the number of the scanned actions
+     * @throws RSQLParameterUnsupportedFieldException if a field in the RSQL string is used but not provided by the
+     *         given {@code fieldNameProvider}
+     * @throws RSQLParameterSyntaxException if the RSQL syntax is wrong
+     */
+    @PreAuthorize(HAS_READ_REPOSITORY)
+    long scanActions(String rsql, int chunkSize, @NotNull Predicate<List<Action>> chunkConsumer);
+
+    /**
+     * Scans (forward only) all {@link Action}s of a specific {@link Target} matching the given filter in chunks ordered by id - the
+     * action history of the target. See {@link #scanActions(String, int, Predicate)}.
+     *
+     * @param rsql RSQL query string, <code>null</code> for all actions of the target
+     * @param controllerId the target which must be assigned to the actions
+     * @param chunkSize the maximum number of actions per chunk
+     * @param chunkConsumer consumer of the consecutive chunks, could return <code>false</code> to stop the scan
+     * @return the number of the scanned actions
+     * @throws EntityNotFoundException if target with given controller id does not exist
+     */
+    @PreAuthorize(HAS_READ_REPOSITORY)
+    long scanActionsByTarget(String rsql, @NotEmpty String controllerId, int chunkSize, @NotNull Predicate<List<Action>> chunkConsumer);
+
     /**
      * Retrieves all the {@link ActionStatus} entries of the given {@link Action}.
      *
@@ -9,11 +9,14 @@
  */
 package org.eclipse.hawkbit.repository;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 import lombok.Data;
 import org.eclipse.hawkbit.repository.event.remote.TargetPollEvent;
+import org.eclipse.hawkbit.repository.model.Action;
 import org.eclipse.hawkbit.repository.model.ActionStatus;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -24,6 +27,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties("hawkbit.server.repository")
 public class RepositoryProperties {
 
+    private final ActionStatusPartitioning actionStatusPartitioning = new ActionStatusPartitioning();
+    private final ActionStatusCompaction actionStatusCompaction = new ActionStatusCompaction();
+
     /**
      * Set to <code>true</code> if the repository has to reject
      * {@link ActionStatus} entries for actions that are closed. This is
@@ -78,4 +84,72 @@ public class RepositoryProperties {
      * new targets
      */
     private long dynamicRolloutsMinInvolvePeriodMS = 60_000;
-}
\ No newline at end of file
+
+    /**
+     * Set to <code>true</code> (default) if the static rollout groups shall be filled with set based (INSERT ... SELECT) statements -
+     * with Hibernate the targets are selected by the statement itself, with EclipseLink (no INSERT ... SELECT support) it is executed
+     * per chunk of selected target ids. Set to <code>false</code> to fall back to persisting the group - target relations via JPA (e.g.
+     * for a database that doesn't support the statement).
+     */
+    private boolean setBasedRolloutGroupFill = true;
+
+    /**
+     * Max number of the (limited) delete batches of the action cleanup per tenant and cleanup run. Each batch is deleted in a
+     * separate transaction.
+     */
+    private int actionCleanupMaxBatches = 1;
+
+    /**
+     * Configuration of the time partitioned layout of the action status history (MySQL / PostgreSQL only). The layout itself is
+     * created by the optional flyway migrations in <code>db/partitioning</code>.
+     */
+    @Data
+    public static class ActionStatusPartitioning {
+
+        /**
+         * Set to <code>true</code> to enable the maintenance of the partitions - the partitions are created ahead and the
+         * expired ones are dropped.
+         */
+        private boolean enabled;
+        /**
+         * Number of the days of the history in a partition.
+         */
+        private int partitionDays = 1;
+        /**
+         * Number of the days for which the partitions are created ahead.
+         */
+        private int precreateDays = 7;
+        /**
+         * Number of the days the action status history is kept - the partitions with older history are dropped.
+         */
+        private int retentionDays = 90;
+    }
+
+    /**
+     * Configuration of the compaction of the status history of the actions - chatty devices could send hundreds of intermediate
+     * (e.g. DOWNLOAD / RUNNING progress) status updates per action. The compaction is applied when a new status is added and by a
+     * background cleanup task on the existing history. The first, the last and the not compactable (e.g. terminal) statuses are
+     * always kept. Disabled by default.
+     */
+    @Data
+    public static class ActionStatusCompaction {
+
+        /**
+         * Set to <code>true</code> to merge the consecutive compactable statuses of the same type - only the first and the last of
+         * them are kept.
+         */
+        private boolean mergeConsecutive;
+        /**
+         * Max number of the compactable statuses kept per action (the first and the latest ones), <code>0</code> for no limit.
+         */
+        private int maxIntermediateEntries;
+        /**
+         * The compactable (intermediate) statuses.
+         */
+        private Set<Action.Status> statuses = EnumSet.of(Action.Status.RUNNING, Action.Status.DOWNLOAD, Action.Status.RETRIEVED);
+        /**
+         * Number of the actions compacted in a transaction by the background cleanup task.
+         */
+        private int batchSize = 100;
+    }
+}
@@ -13,17 +13,21 @@ import static org.eclipse.hawkbit.auth.SpringEvalExpressions.HAS_DELETE_REPOSITO
 import static org.eclipse.hawkbit.auth.SpringEvalExpressions.HAS_READ_REPOSITORY;
 import static org.eclipse.hawkbit.auth.SpringEvalExpressions.HAS_UPDATE_REPOSITORY;
 
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.function.Predicate;
 
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 
+import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
@@ -221,6 +225,24 @@ public interface TargetManagement<T extends Target>
     @PreAuthorize(HAS_READ_REPOSITORY)
     Page<Target> findByRsqlAndTag(@NotNull String rsql, long tagId, @NotNull Pageable pageable);
 
+    /**
+     * Scans (forward only) all targets matching the given filter in chunks ordered by id. The chunks are selected by keyset
+     * (<code>id &gt; last id of the previous chunk</code>) without count queries and are detached from the persistence context after
+     * being consumed, so the memory footprint is bounded by the chunk size independently of the number of matching targets. Intended
+     * for exports / streaming of big result sets.
+     *
+     * @param rsql filter definition in RSQL syntax, <code>null</code> for all targets
+     * @param chunkSize the maximum number of targets per chunk
+     * @param chunkConsumer consumer of the consecutive chunks, could return <code>false</code> to stop the scan (e.g. if the client has
+     *         disconnected)
+     * @return the number of the scanned targets
+     * @throws RSQLParameterUnsupportedFieldException if a field in the RSQL string is used but not provided by the
+     *         given {@code fieldNameProvider}
+     * @throws RSQLParameterSyntaxException if the RSQL syntax is wrong
+     */
+    @PreAuthorize(HAS_READ_REPOSITORY)
+    long scanByRsql(String rsql, int chunkSize, @NotNull Predicate<List<Target>> chunkConsumer);
+
     /**
      * Count all targets for given {@link TargetFilterQuery} and that are compatible with the passed {@link DistributionSetType}.
      *
@@ -231,6 +253,22 @@ public interface TargetManagement<T extends Target>
     @PreAuthorize(HAS_READ_REPOSITORY)
     long countByRsqlAndCompatible(@NotEmpty String rsql, @NotNull Long distributionSetIdTypeId);
 
+    /**
+     * Counts, in a single pass, all targets for given {@link TargetFilterQuery} and that are compatible with the passed
+     * {@link DistributionSetType} grouped by the (sub)filters they match. For every target the set of indexes of the matched filters is
+     * calculated and the result contains the number of the targets for every such set. So, for instance, the targets matching the i-th
+     * filter are the sum of the counts of all sets containing i and the targets matching first the i-th filter are the sum of counts of
+     * all sets which first set bit is i.
+     *
+     * @param rsql filter definition in RSQL syntax
+     * @param filters filter definitions in RSQL syntax, an empty (or <code>null</code>) filter matches all targets
+     * @param distributionSetIdTypeId ID of the {@link DistributionSetType} the targets need to be compatible with
+     * @return the number of {@link Target}s per set of indexes of matched filters, sets with no targets are not included
+     */
+    @PreAuthorize(HAS_READ_REPOSITORY)
+    Map<BitSet, Long> countByRsqlAndCompatibleGroupedByFilters(
+            @NotEmpty String rsql, @NotNull List<String> filters, @NotNull Long distributionSetIdTypeId);
+
     /**
      * Count all targets with failed actions for specific Rollout and that are compatible with the passed {@link DistributionSetType} and
      * created after given timestamp
@@ -339,6 +377,122 @@ public interface TargetManagement<T extends Target>
     @PreAuthorize(HAS_UPDATE_REPOSITORY)
     List<Target> unassignTag(@NotEmpty Collection<String> controllerIds, long targetTagId);
 
+    /**
+     * Assigns a {@link TargetTag} to the {@link Target}s with the given controller ids with set based statements, i.e. without loading
+     * the targets. Targets that are already tagged are skipped. Instead of a target updated event per target, a single
+     * {@link org.eclipse.hawkbit.repository.event.remote.TargetsBulkUpdatedEvent} is published (if any target is updated).
+     *
+     * @param controllerIds to assign for
+     * @param targetTagId to assign
+     * @param notFoundHandler if not all targets found - if <code>null</code> - exception, otherwise tag what found and the handler is
+     *         called with what's not found
+     * @return the number of newly tagged targets
+     * @throws EntityNotFoundException if given targetTagId does not exist, or at least one of the targets does not exist and there is no
+     *         not found handler
+     */
+    @PreAuthorize(HAS_UPDATE_REPOSITORY)
+    long assignTagInBulk(@NotEmpty Collection<String> controllerIds, long targetTagId, Consumer<Collection<String>> notFoundHandler);
+
+    /**
+     * Assigns a {@link TargetTag} to the {@link Target}s with the given controller ids with set based statements, see
+     * {@link #assignTagInBulk(Collection, long, Consumer)}.
+     *
+     * @param controllerIds to assign for
+     * @param targetTagId to assign
+     * @return the number of newly tagged targets
+     * @throws EntityNotFoundException if given targetTagId or at least one of the targets do not exist
+     */
+    @PreAuthorize(HAS_UPDATE_REPOSITORY)
+    long assignTagInBulk(@NotEmpty Collection<String> controllerIds, long targetTagId);
+
+    /**
+     * Assigns a {@link TargetTag} to the (updatable) {@link Target}s matching the given filter with set based statements, see
+     * {@link #assignTagInBulk(Collection, long, Consumer)}.
+     *
+     * @param rsql rsql filter for {@link Target}
+     * @param targetTagId to assign
+     * @return the number of newly tagged targets
+     * @throws EntityNotFoundException if given targetTagId does not exist
+     */
+    @PreAuthorize(HAS_UPDATE_REPOSITORY)
+    long assignTagInBulkByRsql(@NotEmpty String rsql, long targetTagId);
+
+    /**
+     * Un-assigns a {@link TargetTag} from the {@link Target}s with the given controller ids with set based statements, see
+     * {@link #assignTagInBulk(Collection, long, Consumer)}.
+     *
+     * @param controllerIds to un-assign for
+     * @param targetTagId to un-assign
+     * @param notFoundHandler if not all targets found - if <code>null</code> - exception, otherwise un-tag what found and the handler is
+     *         called with what's not found
+     * @return the number of un-tagged targets
+     * @throws EntityNotFoundException if given targetTagId does not exist, or at least one of the targets does not exist and there is no
+     *         not found handler
+     */
+    @PreAuthorize(HAS_UPDATE_REPOSITORY)
+    long unassignTagInBulk(@NotEmpty Collection<String> controllerIds, long targetTagId, Consumer<Collection<String>> notFoundHandler);
+
+    /**
+     * Un-assigns a {@link TargetTag} from the {@link Target}s with the given controller ids with set based statements, see
+     * {@link #assignTagInBulk(Collection, long, Consumer)}.
+     *
+     * @param controllerIds to un-assign for
+     * @param targetTagId to un-assign
+     * @return the number of un-tagged targets
+     * @throws EntityNotFoundException if given targetTagId or at least one of the targets do not exist
+     */
+    @PreAuthorize(HAS_UPDATE_REPOSITORY)
+    long unassignTagInBulk(@NotEmpty Collection<String> controllerIds, long targetTagId);
+
+    /**
+     * Un-assigns a {@link TargetTag} from the (updatable) {@link Target}s matching the given filter with set based statements, see
+     * {@link #assignTagInBulk(Collection, long, Consumer)}.
+     *
+     * @param rsql rsql filter for {@link Target}
+     * @param targetTagId to un-assign
+     * @return the number of un-tagged targets
+     * @throws EntityNotFoundException if given targetTagId does not exist
+     */
+    @PreAuthorize(HAS_UPDATE_REPOSITORY)
+    long unassignTagInBulkByRsql(@NotEmpty String rsql, long targetTagId);
+
+    /**
+     * Assigns (or un-assigns) a {@link TargetType} to the {@link Target}s with the given controller ids with a single update statement
+     * per chunk, see {@link #assignTagInBulk(Collection, long, Consumer)}. Targets that don't exist are skipped.
+     *
+     * @param controllerIds to assign for
+     * @param targetTypeId target type id, <code>null</code> to un-assign the target type
+     * @return the number of updated targets
+     * @throws EntityNotFoundException if TargetType with given id does not exist
+     */
+    @PreAuthorize(HAS_UPDATE_REPOSITORY)
+    long assignTypeInBulk(@NotEmpty Collection<String> controllerIds, Long targetTypeId);
+
+    /**
+     * Assigns (or un-assigns) a {@link TargetType} to the (updatable) {@link Target}s matching the given filter, see
+     * {@link #assignTypeInBulk(Collection, Long)}.
+     *
+     * @param rsql rsql filter for {@link Target}
+     * @param targetTypeId target type id, <code>null</code> to un-assign the target type
+     * @return the number of updated targets
+     * @throws EntityNotFoundException if TargetType with given id does not exist
+     */
+    @PreAuthorize(HAS_UPDATE_REPOSITORY)
+    long assignTypeInBulkByRsql(@NotEmpty String rsql, Long targetTypeId);
+
+    /**
+     * Imports (creates) a chunk of targets, e.g. one chunk of a streamed bulk registration. The rows are validated one by one and the
+     * existing controller ids, target types and tags are looked up once for the whole chunk. Invalid rows and rows with controller ids that
+     * already exist (or are duplicated in the chunk) are skipped and reported. All the other rows are persisted, together with their
+     * attributes and tags, in one transaction.
+     *
+     * @param targets the targets to import
+     * @return the import result per row, in the order of the given rows
+     * @throws EntityAlreadyExistsException if a target with one of the controller ids has been created concurrently
+     */
+    @PreAuthorize(SpringEvalExpressions.HAS_CREATE_REPOSITORY)
+    List<ImportResult> importTargets(@NotNull List<Import> targets);
+
     /**
      * Assigns the target group of the targets matching the provided rsql filter.
      *
@@ -348,6 +502,19 @@ public interface TargetManagement<T extends Target>
     @PreAuthorize(HAS_UPDATE_REPOSITORY)
     void assignTargetGroupWithRsql(String group, @NotNull String rsql);
 
+    /**
+     * Assigns the target group of the targets matching the provided rsql filter. Depending on the filter and the JPA vendor, the targets
+     * could be assigned in chunks, each committed in its own transaction - in that case the progress listener is notified after every
+     * chunk. The assignment doesn't join an ongoing transaction.
+     *
+     * @param group target group parameter
+     * @param rsql rsql filter for {@link Target}
+     * @param progressListener notified with the number of the targets assigned so far, could be <code>null</code>
+     * @return the number of assigned targets
+     */
+    @PreAuthorize(HAS_UPDATE_REPOSITORY)
+    long assignTargetGroupWithRsql(String group, @NotNull String rsql, LongConsumer progressListener);
+
     /**
      * Assigns the provided group to the targets which are in the provided list of controllerIds.
      *
@@ -430,6 +597,43 @@ public interface TargetManagement<T extends Target>
     @PreAuthorize(SpringEvalExpressions.HAS_UPDATE_REPOSITORY)
     void deleteMetadata(@NotNull String controllerId, @NotEmpty String key);
 
+    /**
+     * A row of a target import. The target type and tags are referenced by id.
+     */
+    @Builder
+    @Getter
+    @EqualsAndHashCode
+    @ToString
+    final class Import {
+
+        private String controllerId;
+        private String name;
+        private String description;
+        @ToString.Exclude
+        private String securityToken;
+        private String address;
+        private String group;
+        private Long targetTypeId;
+        private Set<Long> tagIds;
+        private Map<String, String> controllerAttributes;
+    }
+
+    /**
+     * Result of the import of a target row.
+     *
+     * @param controllerId the controller id of the row
+     * @param status the import status
+     * @param message reason if the row has not been imported, <code>null</code> otherwise
+     */
+    record ImportResult(String controllerId, Status status, String message) {
+
+        public enum Status {
+            CREATED,
+            ALREADY_EXISTS,
+            INVALID
+        }
+    }
+
     @SuperBuilder
     @Getter
     @EqualsAndHashCode(callSuper = true)
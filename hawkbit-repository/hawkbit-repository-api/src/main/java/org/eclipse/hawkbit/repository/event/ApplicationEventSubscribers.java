@@ -0,0 +1,26 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.event;
+
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Lookup of the (node local) subscribers for hawkBit internal {@link ApplicationEvent}s. Could be used to skip the creation of
+ * frequent events nobody listens to.
+ */
+@FunctionalInterface
+public interface ApplicationEventSubscribers {
+
+    /**
+     * @param event to verify
+     * @return true if there is at least one listener for the event
+     */
+    boolean hasSubscribers(final ApplicationEvent event);
+}
@@ -0,0 +1,59 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.event.remote;
+
+import java.io.Serial;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.eclipse.hawkbit.repository.model.Target;
+
+/**
+ * Single (aggregated) event sent when a set of {@link Target}s is updated with a bulk (set based) operation - e.g. tag or type
+ * assignment by controller ids or filter. Instead of one target updated event per target, just the operation, the referenced entity
+ * (tag or type) id and the number of updated targets are sent, the listeners have to reload what they need.
+ */
+@NoArgsConstructor // for serialization libs like jackson
+@Getter
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+public class TargetsBulkUpdatedEvent extends RemoteTenantAwareEvent {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private Operation operation;
+    private Long referenceId;
+    private long count;
+
+    public enum Operation {
+        TAG_ASSIGNED,
+        TAG_UNASSIGNED,
+        TYPE_ASSIGNED,
+        TYPE_UNASSIGNED
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param tenant the tenant
+     * @param operation the bulk operation
+     * @param referenceId the id of the assigned / unassigned tag or type, <code>null</code> for type un-assignment
+     * @param count the number of updated targets
+     */
+    public TargetsBulkUpdatedEvent(final String tenant, final Operation operation, final Long referenceId, final long count) {
+        super(tenant, tenant); // source is tenant
+        this.operation = operation;
+        this.referenceId = referenceId;
+        this.count = count;
+    }
+}
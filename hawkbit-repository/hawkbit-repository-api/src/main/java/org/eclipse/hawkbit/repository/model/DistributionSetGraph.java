@@ -0,0 +1,84 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.model;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Detached, immutable snapshot of a {@link DistributionSet} with all the data a device needs in order to be served with a deployment -
+ * its {@link SoftwareModule}s, their {@link Artifact}s and the target visible software module metadata. Since it doesn't hold any
+ * entity references it could be safely cached and shared between threads (and API-s) without lazy loading concerns.
+ *
+ * @param id the {@link DistributionSet} id
+ * @param locked if the {@link DistributionSet} was locked when the snapshot has been taken
+ * @param modules the {@link SoftwareModule}s of the distribution set
+ */
+public record DistributionSetGraph(long id, boolean locked, List<Module> modules) implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public DistributionSetGraph {
+        modules = List.copyOf(modules);
+    }
+
+    /**
+     * Snapshot of a {@link SoftwareModule} of the distribution set.
+     *
+     * @param id the software module id
+     * @param typeKey the key of the software module type
+     * @param name the software module name
+     * @param version the software module version
+     * @param encrypted if the software module artifacts are encrypted
+     * @param artifacts the software module artifacts
+     * @param metadata the target visible software module metadata
+     */
+    public record Module(
+            long id, String typeKey, String name, String version, boolean encrypted,
+            List<ModuleArtifact> artifacts, Map<String, String> metadata) implements Serializable {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        public Module {
+            artifacts = List.copyOf(artifacts);
+            metadata = metadata == null ? Collections.emptyMap() : Collections.unmodifiableMap(metadata);
+        }
+    }
+
+    /**
+     * Snapshot of an {@link Artifact} of a software module.
+     *
+     * @param id the artifact id
+     * @param filename the artifact file name
+     * @param sha1Hash the SHA1 hash of the artifact
+     * @param md5Hash the MD5 hash of the artifact
+     * @param sha256Hash the SHA256 hash of the artifact
+     * @param size the artifact size in bytes
+     * @param lastModifiedAt the last modification time of the artifact
+     */
+    public record ModuleArtifact(
+            long id, String filename, String sha1Hash, String md5Hash, String sha256Hash, long size, long lastModifiedAt)
+            implements Serializable {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        public static ModuleArtifact of(final Artifact artifact) {
+            return new ModuleArtifact(
+                    artifact.getId(), artifact.getFilename(), artifact.getSha1Hash(), artifact.getMd5Hash(), artifact.getSha256Hash(),
+                    artifact.getSize(), artifact.getLastModifiedAt());
+        }
+    }
+}
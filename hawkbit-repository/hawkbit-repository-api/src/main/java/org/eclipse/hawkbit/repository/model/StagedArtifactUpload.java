@@ -0,0 +1,35 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.model;
+
+import java.io.File;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import org.eclipse.hawkbit.artifact.model.ArtifactHashes;
+import org.eclipse.hawkbit.repository.ValidString;
+
+/**
+ * Use to create a new artifact from a file staged in the artifact storage (see
+ * {@link org.eclipse.hawkbit.artifact.ArtifactStorage#createStagingFile()}), which content is already hashed.
+ *
+ * @param file the staged file
+ * @param hashes the hashes of the file content
+ * @param hash the hashes to check the file content against, might be <code>null</code>
+ */
+public record StagedArtifactUpload(
+        @NotNull File file,
+        @NotNull ArtifactHashes hashes,
+        String contentType,
+        ArtifactHashes hash,
+        long moduleId,
+        @NotEmpty @ValidString String filename,
+        boolean overrideExisting) {}
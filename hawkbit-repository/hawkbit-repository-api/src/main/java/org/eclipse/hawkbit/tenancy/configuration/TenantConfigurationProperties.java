@@ -136,6 +136,23 @@ public class TenantConfigurationProperties {
          * Switch to enable/disable the implicit locking
          */
         public static final String IMPLICIT_LOCK_ENABLED = "implicit.lock.enabled";
+        /**
+         * Time window (in millis) in which the download progress of an action is aggregated into a single event, 0 - no aggregation
+         */
+        public static final String DOWNLOAD_PROGRESS_AGGREGATION_INTERVAL = "download.progress.aggregation.interval";
+        /**
+         * Max number of the DDI requests per second of a tenant (per node), 0 - unlimited
+         */
+        public static final String DDI_RATE_LIMIT_TENANT = "ddi.rate.limit.tenant";
+        /**
+         * Max number of the DDI requests per minute of a controller (per node), 0 - unlimited
+         */
+        public static final String DDI_RATE_LIMIT_CONTROLLER = "ddi.rate.limit.controller";
+        /**
+         * Switch to enable/disable the asynchronous (accept and queue) processing of the DDI progress feedback of the tenant. Has effect
+         * only if the feedback queue is enabled on the node (hawkbit.ddi.feedback.async.enabled)
+         */
+        public static final String DDI_FEEDBACK_ASYNC_ENABLED = "ddi.feedback.async.enabled";
 
         private static final Map<Class<? extends Serializable>, TenantConfigurationValidator> DEFAULT_TYPE_VALIDATORS = Map.of(
                 Boolean.class, new TenantConfigurationBooleanValidator(),
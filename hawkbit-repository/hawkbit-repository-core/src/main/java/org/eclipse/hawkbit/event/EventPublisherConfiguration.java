@@ -18,6 +18,7 @@ import io.protostuff.ProtostuffIOUtil;
 import io.protostuff.Schema;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.hawkbit.repository.event.ApplicationEventFilter;
+import org.eclipse.hawkbit.repository.event.ApplicationEventSubscribers;
 import org.eclipse.hawkbit.repository.event.EventPublisherHolder;
 import org.eclipse.hawkbit.repository.event.remote.AbstractRemoteEvent;
 import org.eclipse.hawkbit.repository.event.remote.RemoteTenantAwareEvent;
@@ -46,7 +47,8 @@ import tools.jackson.databind.json.JsonMapper;
 public class EventPublisherConfiguration {
 
     /**
-     * Server internal event publisher that allows parallel event processing if the event listener is marked as so.
+     * Server internal event publisher that allows parallel event processing if the event listener is marked as so. It is also the
+     * {@link ApplicationEventSubscribers} of the node.
      *
      * @return publisher bean
      */
@@ -78,7 +80,8 @@ public class EventPublisherConfiguration {
         return e -> false;
     }
 
-    private static class TenantAwareApplicationEventPublisher extends SimpleApplicationEventMulticaster {
+    private static class TenantAwareApplicationEventPublisher extends SimpleApplicationEventMulticaster
+            implements ApplicationEventSubscribers {
 
         private final ApplicationEventFilter applicationEventFilter;
 
@@ -108,6 +111,11 @@ public class EventPublisherConfiguration {
 
             super.multicastEvent(event, eventType);
         }
+
+        @Override
+        public boolean hasSubscribers(final ApplicationEvent event) {
+            return !applicationEventFilter.filter(event) && !getApplicationListeners(event, ResolvableType.forInstance(event)).isEmpty();
+        }
     }
 
     @Bean
@@ -35,6 +35,7 @@ import org.eclipse.hawkbit.repository.event.remote.TargetFilterQueryDeletedEvent
 import org.eclipse.hawkbit.repository.event.remote.TargetPollEvent;
 import org.eclipse.hawkbit.repository.event.remote.TargetTagDeletedEvent;
 import org.eclipse.hawkbit.repository.event.remote.TargetTypeDeletedEvent;
+import org.eclipse.hawkbit.repository.event.remote.TargetsBulkUpdatedEvent;
 import org.eclipse.hawkbit.repository.event.remote.TenantConfigurationDeletedEvent;
 import org.eclipse.hawkbit.repository.event.remote.entity.ActionCreatedEvent;
 import org.eclipse.hawkbit.repository.event.remote.entity.ActionUpdatedEvent;
@@ -176,6 +177,9 @@ public class EventType {
         TYPES.put(48, AutoAssignmentUpdatedEvent.class);
         TYPES.put(49, AutoAssignmentDeletedEvent.class);
 
+        // bulk target update
+        TYPES.put(50, TargetsBulkUpdatedEvent.class);
+
         // processing events - start from 1000 to leave room for future db events
         TYPES.put(1000, TargetCreatedServiceEvent.class);
         TYPES.put(1001, TargetUpdatedServiceEvent.class);
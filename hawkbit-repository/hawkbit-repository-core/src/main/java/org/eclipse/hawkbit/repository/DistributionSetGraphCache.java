@@ -0,0 +1,89 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository;
+
+import static org.eclipse.hawkbit.context.AccessContext.asTenant;
+
+import java.util.Objects;
+import java.util.function.LongFunction;
+
+import jakarta.validation.constraints.NotNull;
+
+import org.eclipse.hawkbit.repository.event.remote.DistributionSetDeletedEvent;
+import org.eclipse.hawkbit.repository.event.remote.SoftwareModuleDeletedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.DistributionSetUpdatedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.SoftwareModuleUpdatedEvent;
+import org.eclipse.hawkbit.repository.model.DistributionSet;
+import org.eclipse.hawkbit.repository.model.DistributionSetGraph;
+import org.eclipse.hawkbit.tenancy.TenantAwareCacheManager;
+import org.springframework.cache.Cache;
+import org.springframework.context.event.EventListener;
+
+/**
+ * Internal (second level) cache for the {@link DistributionSetGraph}s of <b>locked</b> {@link DistributionSet}s. Once locked the software
+ * modules and artifacts of a distribution set could not be changed anymore so, the graph is the same for all the devices it is deployed
+ * to and could be served from the cache instead of being reloaded for every DDI poll / DMF message.
+ * <p/>
+ * The cache is tenant aware (see {@link TenantAwareCacheManager}) and entries are evicted on all nodes via the remote events on
+ * distribution set update (including soft deletion and unlock) or deletion. Since the target visible software module metadata could be
+ * modified even for locked modules, any software module update or delete evicts all the tenant entries.
+ */
+public class DistributionSetGraphCache {
+
+    private static final String CACHE_NAME = "DistributionSetGraph";
+
+    private static final TenantAwareCacheManager CACHE_MANAGER = TenantAwareCacheManager.getInstance();
+
+    /**
+     * Returns the cached {@link DistributionSetGraph} or loads it with the given loader. The loaded graph is put into the cache only if
+     * the distribution set is locked.
+     *
+     * @param distributionSetId the id of the distribution set
+     * @param loader loads the graph if not cached
+     * @return the distribution set graph
+     */
+    public static DistributionSetGraph get(final long distributionSetId, final LongFunction<DistributionSetGraph> loader) {
+        final Cache cache = getCache();
+        final DistributionSetGraph cached = cache.get(distributionSetId, DistributionSetGraph.class);
+        if (cached != null) {
+            return cached;
+        }
+
+        final DistributionSetGraph loaded = loader.apply(distributionSetId);
+        if (loaded.locked()) {
+            cache.put(distributionSetId, loaded);
+        }
+        return loaded;
+    }
+
+    @EventListener(classes = DistributionSetUpdatedEvent.class)
+    public void invalidateOnDistributionSetUpdate(final DistributionSetUpdatedEvent event) {
+        asTenant(event.getTenant(), DistributionSetGraphCache::getCache).evict(event.getEntityId());
+    }
+
+    @EventListener(classes = DistributionSetDeletedEvent.class)
+    public void invalidateOnDistributionSetDelete(final DistributionSetDeletedEvent event) {
+        asTenant(event.getTenant(), DistributionSetGraphCache::getCache).evict(event.getEntityId());
+    }
+
+    @EventListener(classes = SoftwareModuleUpdatedEvent.class)
+    public void invalidateOnSoftwareModuleUpdate(final SoftwareModuleUpdatedEvent event) {
+        asTenant(event.getTenant(), DistributionSetGraphCache::getCache).clear();
+    }
+
+    @EventListener(classes = SoftwareModuleDeletedEvent.class)
+    public void invalidateOnSoftwareModuleDelete(final SoftwareModuleDeletedEvent event) {
+        asTenant(event.getTenant(), DistributionSetGraphCache::getCache).clear();
+    }
+
+    private static @NotNull Cache getCache() {
+        return Objects.requireNonNull(CACHE_MANAGER.getCache(CACHE_NAME), "Cache '" + CACHE_NAME + "' is null!");
+    }
+}
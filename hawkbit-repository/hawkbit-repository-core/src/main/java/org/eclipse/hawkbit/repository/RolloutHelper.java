@@ -142,52 +142,6 @@ public final class RolloutHelper {
                 .map(RolloutGroup::getId).toList();
     }
 
-    /**
-     * Creates an RSQL expression that matches all targets in the provided groups.
-     * Links all target filter queries with OR.
-     *
-     * @param groups the rollout groups
-     * @return RSQL string without base filter of the Rollout. Can be an empty string.
-     */
-    public static String getAllGroupsTargetFilter(final List<RolloutGroup> groups) {
-        if (groups.stream().anyMatch(group -> ObjectUtils.isEmpty(group.getTargetFilterQuery()))) {
-            return "";
-        }
-
-        return "(" + groups.stream().map(RolloutGroup::getTargetFilterQuery).distinct().sorted()
-                .collect(Collectors.joining("),(")) + ")";
-    }
-
-    /**
-     * Creates an RSQL Filter that matches all targets that are in the provided
-     * group and in the provided groups.
-     *
-     * @param baseFilter the base filter from the rollout
-     * @param groups the rollout groups
-     * @param group the target group
-     * @return RSQL string without base filter of the Rollout. Can be an empty string.
-     */
-    public static String getOverlappingWithGroupsTargetFilter(
-            final String baseFilter, final List<RolloutGroup> groups, final RolloutGroup group) {
-        final String groupFilter = group.getTargetFilterQuery();
-        // when any previous group has the same filter as the target group the
-        // overlap is 100%
-        if (isTargetFilterInGroups(groupFilter, groups)) {
-            return concatAndTargetFilters(baseFilter, groupFilter);
-        }
-        final String previousGroupFilters = getAllGroupsTargetFilter(groups);
-        if (!ObjectUtils.isEmpty(previousGroupFilters)) {
-            if (!ObjectUtils.isEmpty(groupFilter)) {
-                return concatAndTargetFilters(baseFilter, groupFilter, previousGroupFilters);
-            }
-            return concatAndTargetFilters(baseFilter, previousGroupFilters);
-        }
-        if (!ObjectUtils.isEmpty(groupFilter)) {
-            return concatAndTargetFilters(baseFilter, groupFilter);
-        }
-        return baseFilter;
-    }
-
     /**
      * @param baseFilter the base filter from the rollout
      * @param group group for which the filter string should be created
@@ -246,11 +200,6 @@ public final class RolloutHelper {
         return targetFilter.substring("failedrollout==".length());
     }
 
-    private static boolean isTargetFilterInGroups(final String groupFilter, final List<RolloutGroup> groups) {
-        return !ObjectUtils.isEmpty(groupFilter)
-                && groups.stream().anyMatch(group -> groupFilter.equals(group.getTargetFilterQuery()));
-    }
-
     private static String concatAndTargetFilters(final String... filters) {
         return "(" + Arrays.stream(filters).collect(Collectors.joining(");(")) + ")";
     }
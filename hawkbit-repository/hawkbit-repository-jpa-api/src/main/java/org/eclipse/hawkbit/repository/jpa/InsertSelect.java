@@ -0,0 +1,36 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa;
+
+import java.util.List;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaQuery;
+
+/**
+ * Set based (criteria) <code>INSERT ... SELECT</code> of entities. It is not part of JPA, so it is provided (as a bean) only by the
+ * JPA vendor modules which support it - the users shall fall back to a vendor independent approach if there is no such bean.
+ */
+public interface InsertSelect {
+
+    /**
+     * Inserts the (up to limit) selected tuples as entities with a single <code>INSERT ... SELECT</code> statement.
+     *
+     * @param entityManager the entity manager
+     * @param entityClass the class of the entities to insert
+     * @param attributes the attributes of the inserted entities, in the order of the selected tuple elements
+     * @param select the select of the inserted tuples
+     * @param limit the max number of entities to insert
+     * @param <T> the type of the entities to insert
+     * @return the number of the inserted entities
+     */
+    <T> int insertSelect(EntityManager entityManager, Class<T> entityClass, List<String> attributes, CriteriaQuery<Tuple> select, int limit);
+}
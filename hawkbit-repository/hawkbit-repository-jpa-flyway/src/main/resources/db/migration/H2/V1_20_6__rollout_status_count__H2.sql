@@ -0,0 +1,31 @@
+-- per rollout group counters of the actions in each status, maintained incrementally on the action status transitions
+-- each counter is split in 8 shards (summed on read), so the concurrent transitions of a group don't serialize on a single row
+CREATE TABLE sp_rollout_status_count (
+    rollout_group BIGINT NOT NULL,
+    rollout BIGINT NOT NULL,
+    status INTEGER NOT NULL,
+    shard INTEGER NOT NULL,
+    action_count BIGINT NOT NULL,
+    PRIMARY KEY (rollout_group, status, shard)
+);
+CREATE INDEX sp_idx_rollout_status_count_rollout ON sp_rollout_status_count (rollout, status);
+ALTER TABLE sp_rollout_status_count
+    ADD CONSTRAINT fk_rollout_status_count_rollout_group FOREIGN KEY (rollout_group) REFERENCES sp_rollout_group (id) ON DELETE CASCADE;
+ALTER TABLE sp_rollout_status_count
+    ADD CONSTRAINT fk_rollout_status_count_rollout FOREIGN KEY (rollout) REFERENCES sp_rollout (id) ON DELETE CASCADE;
+
+-- a row per existing rollout group, action status (see JpaAction.StatusConverter) and shard, the current counts are in shard 0
+INSERT INTO sp_rollout_status_count (rollout_group, rollout, status, shard, action_count)
+SELECT g.id, g.rollout, s.status, h.shard, CASE WHEN h.shard = 0 THEN COALESCE(c.action_count, 0) ELSE 0 END
+FROM sp_rollout_group g
+CROSS JOIN (
+    SELECT 0 AS status UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4 UNION ALL SELECT 5
+    UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9 UNION ALL SELECT 10 UNION ALL SELECT 11
+) s
+CROSS JOIN (
+    SELECT 0 AS shard UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3
+    UNION ALL SELECT 4 UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7
+) h
+LEFT JOIN (
+    SELECT rollout_group, status, COUNT(*) AS action_count FROM sp_action WHERE rollout_group IS NOT NULL GROUP BY rollout_group, status
+) c ON c.rollout_group = g.id AND c.status = s.status;
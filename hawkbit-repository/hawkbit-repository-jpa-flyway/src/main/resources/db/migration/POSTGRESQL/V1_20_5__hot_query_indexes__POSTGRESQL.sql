@@ -0,0 +1,9 @@
+-- active action lookup per target ordered by weight and id (supersedes sp_idx_action_02)
+CREATE INDEX sp_idx_action_target_active_weight ON sp_action (tenant, target, active, weight, id);
+DROP INDEX sp_idx_action_02;
+-- action cleanup by status and last modification, covering the id for the index only scan of the delete sub-select
+CREATE INDEX sp_idx_action_status_last_modified ON sp_action (tenant, status, last_modified_at) INCLUDE (id);
+-- poll overdue queries, targets that never polled are never overdue
+CREATE INDEX sp_idx_target_last_target_query ON sp_target (tenant, last_target_query) WHERE last_target_query IS NOT NULL;
+-- rollout group scheduling by rollout and status
+CREATE INDEX sp_idx_rollout_group_rollout_status ON sp_rollout_group (tenant, rollout, status);
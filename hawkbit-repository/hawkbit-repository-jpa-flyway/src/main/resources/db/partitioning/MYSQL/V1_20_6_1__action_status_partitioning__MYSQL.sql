@@ -0,0 +1,29 @@
+-- OPTIONAL (applied only if db/partitioning is added to the flyway locations, see README.md): time partitioned action status history.
+-- The expired history is removed by dropping whole partitions (see ActionStatusPartitionMaintenance) instead of cascade deletes.
+-- Partitioned InnoDB tables don't support foreign keys - the statuses of the deleted actions are removed with their partitions.
+ALTER TABLE sp_action_status_messages DROP FOREIGN KEY fk_action_status_messages_action_status;
+ALTER TABLE sp_action_status DROP FOREIGN KEY fk_action_status_action;
+
+-- the partition key (created_at) shall be part of the primary key
+UPDATE sp_action_status SET created_at = 0 WHERE created_at IS NULL;
+ALTER TABLE sp_action_status
+    MODIFY created_at BIGINT NOT NULL,
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (id, created_at);
+
+-- the messages get the partition key from the database (they are inserted as element collection), the existing ones from their status
+ALTER TABLE sp_action_status_messages ADD COLUMN created_at BIGINT NOT NULL DEFAULT (FLOOR(UNIX_TIMESTAMP(NOW(3)) * 1000));
+UPDATE sp_action_status_messages m JOIN sp_action_status s ON m.action_status = s.id SET m.created_at = s.created_at;
+
+-- the existing history (and the current day) in a single partition, the daily partitions are created ahead by the maintenance task
+SET @history_end = (FLOOR(UNIX_TIMESTAMP() / 86400) + 1) * 86400000;
+SET @ddl = CONCAT('ALTER TABLE sp_action_status PARTITION BY RANGE (created_at) (',
+    'PARTITION p_history VALUES LESS THAN (', @history_end, '), PARTITION p_max VALUES LESS THAN MAXVALUE)');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+SET @ddl = CONCAT('ALTER TABLE sp_action_status_messages PARTITION BY RANGE (created_at) (',
+    'PARTITION p_history VALUES LESS THAN (', @history_end, '), PARTITION p_max VALUES LESS THAN MAXVALUE)');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,65 @@
+-- OPTIONAL (applied only if db/partitioning is added to the flyway locations, see README.md): time partitioned action status history.
+-- The expired history is removed by dropping whole partitions (see ActionStatusPartitionMaintenance) instead of cascade deletes.
+-- The existing tables are attached as history partitions, the statuses of the deleted actions are removed with their partitions.
+ALTER TABLE sp_action_status_messages DROP CONSTRAINT fk_action_status_messages_action_status;
+ALTER TABLE sp_action_status DROP CONSTRAINT fk_action_status_action;
+
+-- sp_action_status - the partition key (created_at) shall be part of the primary key
+ALTER TABLE sp_action_status RENAME TO sp_action_status_p_history;
+ALTER TABLE sp_action_status_p_history RENAME CONSTRAINT sp_action_status_pkey TO sp_action_status_p_history_pkey;
+ALTER INDEX sp_idx_action_status_prim RENAME TO sp_idx_action_status_prim_p_history;
+ALTER INDEX sp_idx_action_status_02 RENAME TO sp_idx_action_status_02_p_history;
+ALTER INDEX sp_idx_action_status_03 RENAME TO sp_idx_action_status_03_p_history;
+ALTER TABLE sp_action_status_p_history ALTER COLUMN id DROP IDENTITY;
+UPDATE sp_action_status_p_history SET created_at = 0 WHERE created_at IS NULL;
+ALTER TABLE sp_action_status_p_history ALTER COLUMN created_at SET NOT NULL;
+
+CREATE SEQUENCE sp_action_status_id_seq;
+SELECT setval('sp_action_status_id_seq', COALESCE((SELECT MAX(id) FROM sp_action_status_p_history), 0) + 1, false);
+CREATE TABLE sp_action_status (
+    id BIGINT NOT NULL DEFAULT nextval('sp_action_status_id_seq'),
+    created_at BIGINT NOT NULL,
+    created_by VARCHAR(64),
+    last_modified_at BIGINT,
+    last_modified_by VARCHAR(64),
+    optlock_revision BIGINT,
+    tenant VARCHAR(40) NOT NULL,
+    target_occurred_at BIGINT NOT NULL,
+    status INTEGER NOT NULL,
+    action BIGINT NOT NULL,
+    code INTEGER,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+ALTER SEQUENCE sp_action_status_id_seq OWNED BY sp_action_status.id;
+CREATE INDEX sp_idx_action_status_prim ON sp_action_status (tenant, id);
+CREATE INDEX sp_idx_action_status_02 ON sp_action_status (tenant, action, status);
+CREATE INDEX sp_idx_action_status_03 ON sp_action_status (tenant, code);
+
+-- sp_action_status_messages - the messages get the partition key from the database (they are inserted as element collection),
+-- the existing ones from their status
+ALTER TABLE sp_action_status_messages ADD COLUMN created_at BIGINT;
+UPDATE sp_action_status_messages m SET created_at = s.created_at FROM sp_action_status_p_history s WHERE m.action_status = s.id;
+UPDATE sp_action_status_messages SET created_at = 0 WHERE created_at IS NULL;
+ALTER TABLE sp_action_status_messages ALTER COLUMN created_at SET NOT NULL;
+ALTER TABLE sp_action_status_messages RENAME TO sp_action_status_messages_p_history;
+ALTER INDEX fk_action_status_messages_action_status RENAME TO fk_action_status_messages_action_status_p_history;
+
+CREATE TABLE sp_action_status_messages (
+    action_status BIGINT NOT NULL,
+    detail_message VARCHAR(512) NOT NULL,
+    created_at BIGINT NOT NULL DEFAULT (FLOOR(EXTRACT(EPOCH FROM clock_timestamp()) * 1000))::BIGINT
+) PARTITION BY RANGE (created_at);
+CREATE INDEX fk_action_status_messages_action_status ON sp_action_status_messages (action_status);
+
+-- the existing history (and the current day) in a single partition, the daily partitions are created ahead by the maintenance task
+DO $$
+DECLARE
+    history_end BIGINT := (FLOOR(EXTRACT(EPOCH FROM now()) / 86400) + 1)::BIGINT * 86400000;
+BEGIN
+    EXECUTE format('ALTER TABLE sp_action_status ATTACH PARTITION sp_action_status_p_history '
+        'FOR VALUES FROM (MINVALUE) TO (%s)', history_end);
+    EXECUTE format('ALTER TABLE sp_action_status_messages ATTACH PARTITION sp_action_status_messages_p_history '
+        'FOR VALUES FROM (MINVALUE) TO (%s)', history_end);
+END $$;
+CREATE TABLE sp_action_status_p_default PARTITION OF sp_action_status DEFAULT;
+CREATE TABLE sp_action_status_messages_p_default PARTITION OF sp_action_status_messages DEFAULT;
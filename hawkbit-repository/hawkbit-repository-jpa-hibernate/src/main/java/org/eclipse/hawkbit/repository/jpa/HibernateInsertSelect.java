@@ -0,0 +1,38 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa;
+
+import java.util.List;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaQuery;
+
+import org.hibernate.Session;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.query.criteria.JpaCriteriaInsertSelect;
+import org.hibernate.query.criteria.JpaCriteriaQuery;
+
+/**
+ * Hibernate {@link InsertSelect} - executed as a Hibernate criteria insert-select.
+ */
+class HibernateInsertSelect implements InsertSelect {
+
+    @Override
+    public <T> int insertSelect(
+            final EntityManager entityManager, final Class<T> entityClass, final List<String> attributes,
+            final CriteriaQuery<Tuple> select, final int limit) {
+        final JpaCriteriaInsertSelect<T> insert = ((HibernateCriteriaBuilder) entityManager.getCriteriaBuilder())
+                .createCriteriaInsertSelect(entityClass);
+        insert.setInsertionTargetPaths(attributes.stream().map(attribute -> insert.getTarget().get(attribute)).toList());
+        insert.select(((JpaCriteriaQuery<Tuple>) select).fetch(limit));
+        return entityManager.unwrap(Session.class).createMutationQuery(insert).executeUpdate();
+    }
+}
@@ -78,6 +78,11 @@ public class JpaConfiguration extends JpaBaseConfiguration {
         return tenantIdentifier;
     }
 
+    @Bean
+    InsertSelect insertSelect() {
+        return new HibernateInsertSelect();
+    }
+
     @Override
     protected AbstractJpaVendorAdapter createJpaVendorAdapter() {
 
@@ -137,6 +142,9 @@ public class JpaConfiguration extends JpaBaseConfiguration {
                 // do nothing
             }
         }));
+        // Enable batch writing (as for EclipseLink) - the identity generated entities are still inserted one by one
+        properties.put("hibernate.jdbc.batch_size", "500");
+        properties.put("hibernate.order_inserts", "true");
 
         // override with all explicitly configured properties
         properties.putAll(hibernateProperties);
@@ -11,12 +11,18 @@ package org.eclipse.hawkbit.repository.jpa;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.eclipse.hawkbit.repository.jpa.model.AbstractJpaBaseEntity;
+import org.eclipse.hawkbit.repository.jpa.model.AbstractJpaBaseEntity_;
 import org.eclipse.hawkbit.repository.jpa.repository.NoCountSliceRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -82,6 +88,49 @@ public final class JpaManagementHelper {
         return repository.count(combineWithAnd(specList));
     }
 
+    /**
+     * Scans (forward only) the entities matching the specification in chunks ordered by id. Every chunk is selected by keyset
+     * (<code>id &gt; last id of the previous chunk</code>) so, in contrast to offset pagination, the cost per chunk doesn't grow with
+     * the position and no count query is needed. After being consumed, every chunk is detached (persistence context is cleared) so
+     * the memory footprint is bounded by the chunk size - so it shall be called in a (read-only) transaction dedicated to the scan.
+     *
+     * @param entityManager the entity manager
+     * @param entityType the entity type
+     * @param spec the specification (including access rules) the entities shall match
+     * @param fetch applied to the root of every chunk query, e.g. to fetch the relations needed by the consumer
+     * @param chunkSize the maximum number of entities per chunk
+     * @param chunkConsumer consumer of the chunks, returns <code>false</code> if the scan shall be stopped
+     * @return the number of the scanned entities
+     */
+    public static <J extends AbstractJpaBaseEntity> long scanBySpec(
+            final EntityManager entityManager, final Class<J> entityType, final Specification<J> spec, final Consumer<Root<J>> fetch,
+            final int chunkSize, final Predicate<List<J>> chunkConsumer) {
+        final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        long scanned = 0;
+        long lastId = 0;
+        List<J> chunk;
+        boolean proceed;
+        do {
+            final long afterId = lastId;
+            final Specification<J> keysetSpec = combineWithAnd(List.of(
+                    spec, (root, query, keysetCb) -> keysetCb.greaterThan(root.get(AbstractJpaBaseEntity_.id), afterId)));
+            final CriteriaQuery<J> query = cb.createQuery(entityType);
+            final Root<J> root = query.from(entityType);
+            fetch.accept(root);
+            query.select(root).where(keysetSpec.toPredicate(root, query, cb)).orderBy(cb.asc(root.get(AbstractJpaBaseEntity_.id)));
+            chunk = entityManager.createQuery(query).setMaxResults(chunkSize).getResultList();
+            if (chunk.isEmpty()) {
+                break;
+            }
+
+            scanned += chunk.size();
+            lastId = chunk.get(chunk.size() - 1).getId();
+            proceed = chunkConsumer.test(chunk);
+            entityManager.clear();
+        } while (proceed && chunk.size() == chunkSize);
+        return scanned;
+    }
+
     public static <J extends AbstractJpaBaseEntity> J touch(
             final EntityManager entityManager, final CrudRepository<J, ?> repository, final J entity) {
         // merge base entity so optLockRevision gets updated and audit
@@ -20,6 +20,8 @@ import jakarta.persistence.EntityManager;
 import jakarta.validation.Validation;
 
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.aopalliance.intercept.MethodInvocation;
 import org.eclipse.hawkbit.artifact.encryption.ArtifactEncryption;
 import org.eclipse.hawkbit.artifact.encryption.ArtifactEncryptionSecretsStorage;
@@ -32,6 +34,7 @@ import org.eclipse.hawkbit.ql.jpa.QLSupport.QueryParser;
 import org.eclipse.hawkbit.ql.rsql.RsqlParser;
 import org.eclipse.hawkbit.repository.AutoAssignHandler;
 import org.eclipse.hawkbit.repository.DeploymentManagement;
+import org.eclipse.hawkbit.repository.DistributionSetGraphCache;
 import org.eclipse.hawkbit.repository.PropertiesQuotaManagement;
 import org.eclipse.hawkbit.repository.QuotaManagement;
 import org.eclipse.hawkbit.repository.RepositoryConfiguration;
@@ -40,7 +43,6 @@ import org.eclipse.hawkbit.repository.RolloutApprovalStrategy;
 import org.eclipse.hawkbit.repository.RolloutExecutor;
 import org.eclipse.hawkbit.repository.RolloutHandler;
 import org.eclipse.hawkbit.repository.RolloutManagement;
-import org.eclipse.hawkbit.repository.RolloutStatusCache;
 import org.eclipse.hawkbit.repository.SystemManagement;
 import org.eclipse.hawkbit.repository.TenantConfigurationManagement;
 import org.eclipse.hawkbit.repository.event.ApplicationEventFilter;
@@ -50,8 +52,11 @@ import org.eclipse.hawkbit.repository.event.remote.TargetPollEvent;
 import org.eclipse.hawkbit.repository.event.remote.service.TargetPollServiceEvent;
 import org.eclipse.hawkbit.repository.jpa.acm.AccessController;
 import org.eclipse.hawkbit.repository.jpa.aspects.ExceptionMappingAspectHandler;
+import org.eclipse.hawkbit.repository.jpa.autocleanup.AutoActionStatusCompaction;
+import org.eclipse.hawkbit.repository.jpa.autocleanup.ActionStatusPartitionMaintenance;
 import org.eclipse.hawkbit.repository.jpa.autocleanup.AutoActionCleanup;
 import org.eclipse.hawkbit.repository.jpa.autocleanup.AutoCleanupScheduler;
+import org.eclipse.hawkbit.repository.jpa.autocleanup.RolloutStatusCountReconciliation;
 import org.eclipse.hawkbit.repository.jpa.cluster.DistributedLockRepository;
 import org.eclipse.hawkbit.repository.jpa.cluster.LockProperties;
 import org.eclipse.hawkbit.repository.jpa.event.JpaEventEntityManager;
@@ -64,7 +69,9 @@ import org.eclipse.hawkbit.repository.jpa.model.JpaSoftwareModuleType;
 import org.eclipse.hawkbit.repository.jpa.model.JpaTarget;
 import org.eclipse.hawkbit.repository.jpa.model.JpaTargetType;
 import org.eclipse.hawkbit.repository.jpa.model.helper.EntityInterceptorHolder;
+import org.eclipse.hawkbit.repository.jpa.replica.ReadReplicaConfiguration;
 import org.eclipse.hawkbit.repository.jpa.repository.ActionRepository;
+import org.eclipse.hawkbit.repository.jpa.repository.ActionStatusRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.ArtifactRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.DistributionSetRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.DistributionSetTypeRepository;
@@ -73,6 +80,7 @@ import org.eclipse.hawkbit.repository.jpa.repository.SoftwareModuleRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.SoftwareModuleTypeRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.TargetRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.TargetTypeRepository;
+import org.eclipse.hawkbit.repository.jpa.rollout.RolloutStatusCounters;
 import org.eclipse.hawkbit.repository.jpa.rollout.condition.PauseRolloutGroupErrorAction;
 import org.eclipse.hawkbit.repository.jpa.rollout.condition.PauseRolloutGroupSuccessAction;
 import org.eclipse.hawkbit.repository.jpa.rollout.condition.RolloutGroupActionEvaluator;
@@ -99,6 +107,7 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.jdbc.autoconfigure.DataSourceAutoConfiguration;
+import org.springframework.boot.jpa.autoconfigure.JpaProperties;
 import org.springframework.boot.persistence.autoconfigure.EntityScan;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
@@ -139,7 +148,7 @@ import org.springframework.validation.beanvalidation.MethodValidationPostProcess
 @Import({
         RepositoryConfiguration.class,
         JpaConfiguration.class, LockProperties.class, SystemManagementCacheKeyGenerator.class,
-        DataSourceAutoConfiguration.class })
+        DataSourceAutoConfiguration.class, ReadReplicaConfiguration.class })
 @AutoConfigureAfter(DataSourceAutoConfiguration.class)
 public class JpaRepositoryConfiguration {
 
@@ -273,10 +282,18 @@ public class JpaRepositoryConfiguration {
         return new PropertiesQuotaManagement(securityProperties);
     }
 
+    /**
+     * @return the singleton instance of the {@link RolloutStatusCounters}
+     */
+    @Bean
+    RolloutStatusCounters rolloutStatusCounters() {
+        return RolloutStatusCounters.getInstance();
+    }
+
     // register as bean in order to be registered event listeners
     @Bean
-    RolloutStatusCache rolloutStatusCache() {
-        return new RolloutStatusCache();
+    DistributionSetGraphCache distributionSetGraphCache() {
+        return new DistributionSetGraphCache();
     }
 
     @Bean
@@ -367,12 +384,41 @@ public class JpaRepositoryConfiguration {
      *
      * @param deploymentManagement Deployment management service
      * @param configManagement AccessContext configuration service
+     * @param repositoryProperties the repository properties
      * @return a new {@link AutoActionCleanup} bean
      */
     @Bean
     AutoCleanupScheduler.CleanupTask actionCleanup(
-            final DeploymentManagement deploymentManagement, final TenantConfigurationManagement configManagement) {
-        return new AutoActionCleanup(deploymentManagement, configManagement);
+            final DeploymentManagement deploymentManagement, final TenantConfigurationManagement configManagement,
+            final RepositoryProperties repositoryProperties) {
+        return new AutoActionCleanup(deploymentManagement, configManagement, repositoryProperties);
+    }
+
+    /**
+     * {@link AutoActionStatusCompaction} bean.
+     *
+     * @param actionStatusRepository action status repository
+     * @param entityManager entity manager
+     * @param txManager transaction manager
+     * @param repositoryProperties the repository properties
+     * @return a new {@link AutoActionStatusCompaction} bean
+     */
+    @Bean
+    AutoCleanupScheduler.CleanupTask actionStatusCompaction(
+            final ActionStatusRepository actionStatusRepository, final EntityManager entityManager,
+            final PlatformTransactionManager txManager, final RepositoryProperties repositoryProperties) {
+        return new AutoActionStatusCompaction(actionStatusRepository, entityManager, txManager, repositoryProperties);
+    }
+
+    /**
+     * {@link RolloutStatusCountReconciliation} bean.
+     *
+     * @param txManager transaction manager
+     * @return a new {@link RolloutStatusCountReconciliation} bean
+     */
+    @Bean
+    AutoCleanupScheduler.CleanupTask rolloutStatusCountReconciliation(final PlatformTransactionManager txManager) {
+        return new RolloutStatusCountReconciliation(txManager);
     }
 
     @Bean
@@ -385,6 +431,22 @@ public class JpaRepositoryConfiguration {
         return new AutoCleanupScheduler(cleanupTasks, systemManagement, lockRegistry);
     }
 
+    /**
+     * {@link ActionStatusPartitionMaintenance} bean, only if the (optional) time partitioned layout of the action status history
+     * is enabled.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @Profile("!test")
+    @ConditionalOnProperty(prefix = "hawkbit.server.repository.action-status-partitioning", name = "enabled")
+    ActionStatusPartitionMaintenance actionStatusPartitionMaintenance(
+            final EntityManager entityManager, final PlatformTransactionManager txManager,
+            final LockRegistry<? extends Lock> lockRegistry, final RepositoryProperties repositoryProperties,
+            final JpaProperties jpaProperties) {
+        return new ActionStatusPartitionMaintenance(
+                entityManager, txManager, lockRegistry, repositoryProperties, jpaProperties.getDatabase());
+    }
+
     /**
      * {@link RolloutScheduler} bean.
      * <p/>
@@ -435,6 +497,14 @@ public class JpaRepositoryConfiguration {
         return QLSupport.getInstance();
     }
 
+    /**
+     * @return binder of the hit / miss, size and eviction metrics of the parsed queries cache (if enabled) of the {@link QLSupport}
+     */
+    @Bean
+    MeterBinder qlNodeCacheMetrics(final QLSupport qlSupport) {
+        return registry -> qlSupport.getNodeCache().ifPresent(cache -> CaffeineCacheMetrics.monitor(registry, cache, "hawkbit.ql.nodes"));
+    }
+
     /**
      * Default artifact encryption service bean that internally uses {@link ArtifactEncryption} and
      * {@link ArtifactEncryptionSecretsStorage} beans for {@link SoftwareModule} artifacts encryption/decryption
@@ -11,6 +11,7 @@ package org.eclipse.hawkbit.repository.jpa.acm;
 
 import java.io.Serial;
 import java.lang.reflect.Proxy;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -104,6 +105,14 @@ public class AccessControllerConfiguration {
                 targetAccessController.assertOperationAllowed(map(operation), entity.getTarget());
             }
 
+            @Override
+            public void assertOperationAllowed(final Operation operation, final Iterable<? extends JpaAction> entities)
+                    throws InsufficientPermissionException {
+                final List<JpaTarget> targets = new ArrayList<>();
+                entities.forEach(entity -> targets.add(entity.getTarget()));
+                targetAccessController.assertOperationAllowed(map(operation), targets);
+            }
+
             // all CREATE/UPDATE/DELETE action operations are mapped to UPDATE_TARGET permissions / actions
             private static Operation map(final Operation actionOperation) {
                 return switch (actionOperation) {
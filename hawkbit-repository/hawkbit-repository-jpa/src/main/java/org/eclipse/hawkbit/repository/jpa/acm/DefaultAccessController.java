@@ -9,16 +9,25 @@
  */
 package org.eclipse.hawkbit.repository.jpa.acm;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.hawkbit.context.AccessContext;
+import org.eclipse.hawkbit.ql.EntityMatcher;
+import org.eclipse.hawkbit.ql.Node;
 import org.eclipse.hawkbit.ql.QueryField;
 import org.eclipse.hawkbit.ql.jpa.QLSupport;
 import org.eclipse.hawkbit.repository.exception.InsufficientPermissionException;
@@ -32,6 +41,11 @@ public class DefaultAccessController<A extends Enum<A> & QueryField, T> implemen
 
     private final Class<A> queryFieldType;
     private final Map<Operation, List<String>> permissions = new EnumMap<>(Operation.class);
+    // parsed scopes per authorities and operation - the access controller is per entity type, so it is implicitly per entity type too
+    private final Cache<ScopeKey, Scope> scopeCache = Caffeine.newBuilder()
+            .maximumSize(1_000)
+            .expireAfterAccess(Duration.ofMinutes(10))
+            .build();
 
     public DefaultAccessController(final Class<A> queryFieldType, final String... permissionTypes) {
         if (ObjectUtils.isEmpty(permissionTypes)) {
@@ -53,43 +67,66 @@ public class DefaultAccessController<A extends Enum<A> & QueryField, T> implemen
             return Optional.empty();
         }
 
-        return Optional.ofNullable(getScopes(operation)) // if "get scopes" returns null, no scopes return no spec - all entities are accessible
-                .map(scopes -> // to RSQL
-                        scopes.size() == 1
-                                ? scopes.get(0) // single scope
-                                : "(" + String.join(") or (", scopes) + ")") // join multiple scopes with 'or' - union
-                .map(rsql -> QLSupport.getInstance().buildSpec(rsql, queryFieldType));
+        // if scope node is null, no scopes return no spec - all entities are accessible
+        return Optional.ofNullable(getScope(operation).node()).map(node -> QLSupport.getInstance().buildSpec(node, queryFieldType));
     }
 
     @Override
     public void assertOperationAllowed(final Operation operation, final T entity) throws InsufficientPermissionException {
+        assertOperationAllowed(operation, Collections.singletonList(entity));
+    }
+
+    @Override
+    public void assertOperationAllowed(final Operation operation, final Iterable<? extends T> entities)
+            throws InsufficientPermissionException {
         if (AccessContext.isCurrentThreadSystemCode()) {
             // system code - no restrictions. this runs with SYSTEM_ROLE, so no restrictions apply anyway - not scopes, but this way should be faster
             return;
         }
 
-        final List<String> scopes = getScopes(operation);
-        if (scopes != null) {
-            for (final String scope : scopes) {
-                if (QLSupport.getInstance().entityMatcher(scope, queryFieldType).match(entity)) {
-                    return; // at least one scope matches, operation is allowed
+        final Node node = getScope(operation).node();
+        if (node != null) {
+            // one matcher for all entities (transformed once, e.g. the macros are resolved once)
+            final EntityMatcher entityMatcher = QLSupport.getInstance().entityMatcher(node, queryFieldType);
+            for (final T entity : entities) {
+                if (!entityMatcher.match(entity)) { // no scope matches, operation is not allowed
+                    throw new InsufficientPermissionException(String.format("Operation '%s' is not allowed", operation));
                 }
             }
-            throw new InsufficientPermissionException(String.format("Operation '%s' is not allowed", operation));
-        } // else if scopes is null, no scopes are defined, so all entities are accessible
+        } // else if scope node is null, no scopes are defined, so all entities are accessible
+    }
+
+    // returns the scope of the current authorities for the operation, cached per authorities and operation
+    private Scope getScope(final Operation operation) {
+        final Set<String> authorities = SecurityContextHolder.getContext().getAuthentication().getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toUnmodifiableSet());
+        return scopeCache.get(new ScopeKey(authorities, operation), key -> new Scope(parse(getScopes(key))));
+    }
+
+    // the scopes are joined with 'or' (union) and parsed once - the node transformations (e.g. macros) are applied on each use
+    private Node parse(final List<String> scopes) {
+        if (scopes == null) {
+            return null;
+        }
+        return QLSupport.getInstance().parse(
+                scopes.size() == 1
+                        ? scopes.get(0) // single scope
+                        : "(" + String.join(") or (", scopes) + ")", // join multiple scopes with 'or' - union
+                queryFieldType);
     }
 
     // returns null if ALL entities are accessible, otherwise returns a list of scopes
     // throws InsufficientPermissionException if no matching authority found (should not happen - should be already checked with @PreAuthorize)
     @SuppressWarnings("java:S1168") // java:S1168 - returns null with purpose to indicate no scopes, privately used with attention
-    private List<String> getScopes(final Operation operation) {
-        final List<String> operationPermissions = permissions.get(operation);
-        final List<String> scopes = SecurityContextHolder.getContext().getAuthentication().getAuthorities().stream()
-                .map(GrantedAuthority::getAuthority)
+    private List<String> getScopes(final ScopeKey scopeKey) {
+        final List<String> operationPermissions = permissions.get(scopeKey.operation());
+        final List<String> scopes = scopeKey.authorities().stream()
                 .map(Permission::from)
                 .filter(permission -> operationPermissions.contains(permission.name()))
                 .map(Permission::scope)
                 .distinct() // remove duplicates
+                .sorted(Comparator.nullsFirst(Comparator.naturalOrder())) // stable order, for the authorities set
                 .toList();
         if (scopes.isEmpty()) {
             // no matching permission scope found for the operation
@@ -99,7 +136,7 @@ public class DefaultAccessController<A extends Enum<A> & QueryField, T> implemen
             // * in case the entity permission(s) are implied - e.g. there is READ_REPOSITORY which implies READ_DISTRIBUTION_SET
             log.debug(
                     "[{}] No matching authority found for operation {} (expects {}), they shall have already been checked with @PreAuthorize)",
-                    queryFieldType, operation, operationPermissions);
+                    queryFieldType, scopeKey.operation(), operationPermissions);
             return null;
         } else if (scopes.contains(null)) {
             return null; // not scoped at all
@@ -108,6 +145,11 @@ public class DefaultAccessController<A extends Enum<A> & QueryField, T> implemen
         }
     }
 
+    private record ScopeKey(Set<String> authorities, Operation operation) {}
+
+    // node is null if all entities are accessible
+    private record Scope(Node node) {}
+
     private record Permission(String name, String scope) {
 
         private static final Pattern PATTERN = Pattern.compile("^(?<name>[^/]+)(/(?<scope>.+))?$");
@@ -0,0 +1,239 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.autocleanup;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import jakarta.persistence.EntityManager;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.repository.RepositoryProperties;
+import org.eclipse.hawkbit.repository.jpa.Jpa;
+import org.eclipse.hawkbit.repository.jpa.utils.DeploymentHelper;
+import org.springframework.integration.support.locks.LockRegistry;
+import org.springframework.orm.jpa.vendor.Database;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Maintains the daily range partitions (by <code>created_at</code>) of the action status history tables created by the optional
+ * flyway migrations in <code>db/partitioning</code> (MySQL and PostgreSQL only):
+ * <ul>
+ *     <li>creates the partitions ahead (see {@link RepositoryProperties.ActionStatusPartitioning#getPrecreateDays()})</li>
+ *     <li>drops the partitions with history older than the retention (see
+ *     {@link RepositoryProperties.ActionStatusPartitioning#getRetentionDays()}) - instead of deleting the rows one by one</li>
+ * </ul>
+ * The partitions are global (for all tenants), so the maintenance is run once per cluster (guarded by a lock), not per tenant.
+ */
+@Slf4j
+public class ActionStatusPartitionMaintenance {
+
+    private static final List<String> TABLES = List.of("sp_action_status", "sp_action_status_messages");
+
+    private static final String ID = "action-status-partition-maintenance";
+    private static final String PROP_MAINTENANCE_INTERVAL =
+            "${hawkbit.server.repository.action-status-partitioning.fixedDelay:3600000}";
+    private static final long DAY = TimeUnit.DAYS.toMillis(1);
+    private static final DateTimeFormatter PARTITION_DATE =
+            DateTimeFormatter.ofPattern("yyyyMMdd", Locale.ROOT).withZone(ZoneOffset.UTC);
+
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager txManager;
+    private final LockRegistry<? extends Lock> lockRegistry;
+    private final RepositoryProperties.ActionStatusPartitioning properties;
+    private final PartitionDialect dialect;
+
+    public ActionStatusPartitionMaintenance(
+            final EntityManager entityManager, final PlatformTransactionManager txManager,
+            final LockRegistry<? extends Lock> lockRegistry, final RepositoryProperties repositoryProperties, final Database database) {
+        this(entityManager, txManager, lockRegistry, repositoryProperties, switch (database) {
+            case MYSQL -> new MySqlPartitionDialect();
+            case POSTGRESQL -> new PostgreSqlPartitionDialect();
+            default -> null;
+        });
+    }
+
+    ActionStatusPartitionMaintenance(
+            final EntityManager entityManager, final PlatformTransactionManager txManager,
+            final LockRegistry<? extends Lock> lockRegistry, final RepositoryProperties repositoryProperties,
+            final PartitionDialect dialect) {
+        this.entityManager = entityManager;
+        this.txManager = txManager;
+        this.lockRegistry = lockRegistry;
+        this.properties = repositoryProperties.getActionStatusPartitioning();
+        this.dialect = dialect;
+    }
+
+    @Scheduled(initialDelay = 60_000, fixedDelayString = PROP_MAINTENANCE_INTERVAL)
+    public void run() {
+        if (dialect == null) {
+            log.warn("Action status partitioning is supported only for MySQL and PostgreSQL, partition maintenance skipped");
+            return;
+        }
+
+        final Lock lock = lockRegistry.obtain(ID);
+        if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            TABLES.forEach(table -> maintain(table, System.currentTimeMillis()));
+        } catch (final RuntimeException e) {
+            log.error("Action status partition maintenance failed.", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // package private for testing
+    void maintain(final String table, final long now) {
+        final List<Partition> partitions = DeploymentHelper.runInNewTransaction(
+                txManager, ID, status -> dialect.findPartitions(entityManager, table));
+        if (partitions.isEmpty()) {
+            log.warn("Table {} is not partitioned (migration from db/partitioning not applied?), partition maintenance skipped", table);
+            return;
+        }
+
+        // create ahead
+        long upperBound = partitions.stream().filter(partition -> partition.upperBound() != null)
+                .mapToLong(Partition::upperBound).max().orElse(now - now % DAY);
+        final long interval = Math.max(1, properties.getPartitionDays()) * DAY;
+        while (upperBound < now + properties.getPrecreateDays() * DAY) {
+            final long lowerBound = upperBound;
+            final String name = "p" + PARTITION_DATE.format(Instant.ofEpochMilli(lowerBound));
+            upperBound += interval;
+            final long partitionUpperBound = upperBound;
+            DeploymentHelper.runInNewTransaction(txManager, ID, status -> {
+                dialect.createPartition(entityManager, table, name, lowerBound, partitionUpperBound);
+                return null;
+            });
+            log.info("Created partition {} of {} for [{}, {})", name, table, Instant.ofEpochMilli(lowerBound),
+                    Instant.ofEpochMilli(partitionUpperBound));
+        }
+
+        // drop expired
+        final long expiredBefore = now - properties.getRetentionDays() * DAY;
+        partitions.stream()
+                .filter(partition -> partition.upperBound() != null && partition.upperBound() <= expiredBefore)
+                .forEach(partition -> {
+                    DeploymentHelper.runInNewTransaction(txManager, ID, status -> {
+                        dialect.dropPartition(entityManager, table, partition.name());
+                        return null;
+                    });
+                    log.info("Dropped partition {} of {} with history before {}", partition.name(), table,
+                            Instant.ofEpochMilli(partition.upperBound()));
+                });
+    }
+
+    /**
+     * A partition of a table.
+     *
+     * @param name the name of the partition
+     * @param upperBound the (exclusive) upper bound of the partition, <code>null</code> for the catch-all partition
+     */
+    record Partition(String name, Long upperBound) {}
+
+    interface PartitionDialect {
+
+        List<Partition> findPartitions(EntityManager entityManager, String table);
+
+        void createPartition(EntityManager entityManager, String table, String name, long lowerBound, long upperBound);
+
+        void dropPartition(EntityManager entityManager, String table, String name);
+    }
+
+    /**
+     * MySQL - the partitions are created by splitting the (empty) <code>p_max</code> catch-all partition.
+     */
+    static class MySqlPartitionDialect implements PartitionDialect {
+
+        private static final String FIND_PARTITIONS = "SELECT PARTITION_NAME, PARTITION_DESCRIPTION FROM information_schema.PARTITIONS " +
+                "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = " + Jpa.nativeQueryParamPrefix() + "table " +
+                "AND PARTITION_NAME IS NOT NULL ORDER BY PARTITION_ORDINAL_POSITION";
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public List<Partition> findPartitions(final EntityManager entityManager, final String table) {
+            return ((List<Object[]>) entityManager.createNativeQuery(FIND_PARTITIONS)
+                    .setParameter("table", table)
+                    .getResultList())
+                    .stream()
+                    .map(MySqlPartitionDialect::toPartition)
+                    .toList();
+        }
+
+        // row - partition name, partition description (the upper bound or MAXVALUE)
+        static Partition toPartition(final Object[] row) {
+            final String upperBound = String.valueOf(row[1]);
+            return new Partition(String.valueOf(row[0]), "MAXVALUE".equalsIgnoreCase(upperBound) ? null : Long.valueOf(upperBound));
+        }
+
+        @Override
+        public void createPartition(
+                final EntityManager entityManager, final String table, final String name, final long lowerBound, final long upperBound) {
+            entityManager.createNativeQuery("ALTER TABLE " + table + " REORGANIZE PARTITION p_max INTO (" +
+                            "PARTITION " + name + " VALUES LESS THAN (" + upperBound + "), PARTITION p_max VALUES LESS THAN MAXVALUE)")
+                    .executeUpdate();
+        }
+
+        @Override
+        public void dropPartition(final EntityManager entityManager, final String table, final String name) {
+            entityManager.createNativeQuery("ALTER TABLE " + table + " DROP PARTITION " + name).executeUpdate();
+        }
+    }
+
+    /**
+     * PostgreSQL - the partitions are tables named <code>&lt;table&gt;_&lt;partition name&gt;</code>.
+     */
+    static class PostgreSqlPartitionDialect implements PartitionDialect {
+
+        private static final String FIND_PARTITIONS = "SELECT c.relname, pg_get_expr(c.relpartbound, c.oid) FROM pg_inherits i " +
+                "JOIN pg_class c ON c.oid = i.inhrelid WHERE i.inhparent = CAST(" + Jpa.nativeQueryParamPrefix() + "table AS regclass)";
+        private static final Pattern UPPER_BOUND = Pattern.compile("TO \\('?(-?\\d+)'?\\)");
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public List<Partition> findPartitions(final EntityManager entityManager, final String table) {
+            return ((List<Object[]>) entityManager.createNativeQuery(FIND_PARTITIONS)
+                    .setParameter("table", table)
+                    .getResultList())
+                    .stream()
+                    .map(PostgreSqlPartitionDialect::toPartition)
+                    .toList();
+        }
+
+        // row - partition (table) name, partition bound expression (e.g. FOR VALUES FROM ('0') TO ('1700000000000') or DEFAULT)
+        static Partition toPartition(final Object[] row) {
+            final Matcher matcher = UPPER_BOUND.matcher(String.valueOf(row[1]));
+            return new Partition(String.valueOf(row[0]), matcher.find() ? Long.valueOf(matcher.group(1)) : null);
+        }
+
+        @Override
+        public void createPartition(
+                final EntityManager entityManager, final String table, final String name, final long lowerBound, final long upperBound) {
+            entityManager.createNativeQuery("CREATE TABLE " + table + "_" + name + " PARTITION OF " + table +
+                            " FOR VALUES FROM (" + lowerBound + ") TO (" + upperBound + ")")
+                    .executeUpdate();
+        }
+
+        @Override
+        public void dropPartition(final EntityManager entityManager, final String table, final String name) {
+            // the name is the (child) table name
+            entityManager.createNativeQuery("DROP TABLE " + name).executeUpdate();
+        }
+    }
+}
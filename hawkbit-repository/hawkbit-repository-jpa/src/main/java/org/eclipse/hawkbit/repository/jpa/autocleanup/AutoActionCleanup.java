@@ -17,6 +17,7 @@ import java.util.EnumSet;
 
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.hawkbit.repository.DeploymentManagement;
+import org.eclipse.hawkbit.repository.RepositoryProperties;
 import org.eclipse.hawkbit.repository.TenantConfigurationManagement;
 import org.eclipse.hawkbit.repository.jpa.utils.ActionUtils;
 import org.eclipse.hawkbit.repository.model.Action;
@@ -28,6 +29,11 @@ import org.eclipse.hawkbit.repository.model.TenantConfigurationValue;
  * It is recommended to only clean up actions which have terminated already (i.e. actions in status CANCELLED or ERROR).
  * <p/>
  * The cleanup task can be enabled /disabled and configured on a per-tenant basis.
+ * <p/>
+ * The actions are deleted in limited batches, each in a separate transaction, up to
+ * {@link RepositoryProperties#getActionCleanupMaxBatches()} batches per run. With the (optional) time partitioned layout of the
+ * action status history (see {@link ActionStatusPartitionMaintenance}) the deletes don't cascade to the action status history,
+ * which is removed with its partitions.
  */
 @Slf4j
 public class AutoActionCleanup implements AutoCleanupScheduler.CleanupTask {
@@ -36,10 +42,14 @@ public class AutoActionCleanup implements AutoCleanupScheduler.CleanupTask {
 
     private final DeploymentManagement deploymentMgmt;
     private final TenantConfigurationManagement config;
+    private final RepositoryProperties repositoryProperties;
 
-    public AutoActionCleanup(final DeploymentManagement deploymentMgmt, final TenantConfigurationManagement configMgmt) {
+    public AutoActionCleanup(
+            final DeploymentManagement deploymentMgmt, final TenantConfigurationManagement configMgmt,
+            final RepositoryProperties repositoryProperties) {
         this.deploymentMgmt = deploymentMgmt;
         this.config = configMgmt;
+        this.repositoryProperties = repositoryProperties;
     }
 
     @Override
@@ -54,7 +64,14 @@ public class AutoActionCleanup implements AutoCleanupScheduler.CleanupTask {
                 log.debug("Action cleanup is disabled for this tenant...");
             } else {
                 final long lastModified = System.currentTimeMillis() - expiry;
-                final int actionsCount = deploymentMgmt.deleteActionsByStatusAndLastModifiedBefore(status, lastModified);
+                int actionsCount = 0;
+                int batchCount = 0;
+                int deleted;
+                do {
+                    // each batch in a separate transaction
+                    deleted = deploymentMgmt.deleteActionsByStatusAndLastModifiedBefore(status, lastModified);
+                    actionsCount += deleted;
+                } while (deleted > 0 && ++batchCount < repositoryProperties.getActionCleanupMaxBatches());
                 log.debug("Deleted {} actions in status {} which have not been modified since {} ({})",
                         actionsCount, status, Instant.ofEpochMilli(lastModified), lastModified);
             }
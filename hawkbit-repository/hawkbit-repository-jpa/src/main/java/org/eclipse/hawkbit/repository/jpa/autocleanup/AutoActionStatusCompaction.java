@@ -0,0 +1,91 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.autocleanup;
+
+import java.util.List;
+
+import jakarta.persistence.EntityManager;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.repository.RepositoryProperties;
+import org.eclipse.hawkbit.repository.jpa.repository.ActionStatusRepository;
+import org.eclipse.hawkbit.repository.jpa.utils.ActionStatusCompactor;
+import org.eclipse.hawkbit.repository.jpa.utils.DeploymentHelper;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * A cleanup task which applies the {@link RepositoryProperties.ActionStatusCompaction} policy on the existing status history of
+ * the actions of the tenant (e.g. written before the compaction has been enabled). Does nothing if the compaction is disabled.
+ * <p/>
+ * Only the actions with more compactable statuses than could be kept are loaded, in batches (of
+ * {@link RepositoryProperties.ActionStatusCompaction#getBatchSize()} actions), each compacted in a separate transaction.
+ */
+@Slf4j
+public class AutoActionStatusCompaction implements AutoCleanupScheduler.CleanupTask {
+
+    private static final String ID = "action-status-compaction";
+
+    private final ActionStatusRepository actionStatusRepository;
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager txManager;
+    private final RepositoryProperties.ActionStatusCompaction policy;
+    private final ActionStatusCompactor compactor;
+
+    public AutoActionStatusCompaction(
+            final ActionStatusRepository actionStatusRepository, final EntityManager entityManager,
+            final PlatformTransactionManager txManager, final RepositoryProperties repositoryProperties) {
+        this.actionStatusRepository = actionStatusRepository;
+        this.entityManager = entityManager;
+        this.txManager = txManager;
+        this.policy = repositoryProperties.getActionStatusCompaction();
+        this.compactor = new ActionStatusCompactor(policy);
+    }
+
+    @Override
+    public void run() {
+        if (!compactor.isActive() || policy.getStatuses().isEmpty()) {
+            log.debug("Action status compaction is disabled");
+            return;
+        }
+
+        // with merge consecutive an action with 3 compactable statuses could be compacted, otherwise it shall exceed the max
+        final long minCount = policy.isMergeConsecutive() ? 2 : Math.max(2, policy.getMaxIntermediateEntries());
+        int actions = 0;
+        int removed = 0;
+        List<Long> actionIds = findActionIds(0, minCount);
+        while (!actionIds.isEmpty()) {
+            final List<Long> batch = actionIds;
+            removed += DeploymentHelper.runInNewTransaction(txManager, ID, status -> batch.stream().mapToInt(this::compact).sum());
+            actions += batch.size();
+            actionIds = findActionIds(batch.get(batch.size() - 1), minCount);
+        }
+        log.debug("Removed {} status entries of {} actions", removed, actions);
+    }
+
+    @Override
+    public String getId() {
+        return ID;
+    }
+
+    private List<Long> findActionIds(final long afterActionId, final long minCount) {
+        return actionStatusRepository.findActionIdsByStatusCountGreaterThan(
+                afterActionId, policy.getStatuses(), minCount, PageRequest.of(0, policy.getBatchSize()));
+    }
+
+    private int compact(final long actionId) {
+        final List<Long> removable = compactor.findRemovable(
+                actionStatusRepository.findIdAndStatusByActionId(actionId).stream().map(ActionStatusCompactor.Entry::of).toList());
+        if (!removable.isEmpty()) {
+            ActionStatusCompactor.delete(entityManager, removable);
+        }
+        return removable.size();
+    }
+}
@@ -0,0 +1,56 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.autocleanup;
+
+import java.util.List;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.repository.jpa.configuration.Constants;
+import org.eclipse.hawkbit.repository.jpa.rollout.RolloutStatusCounters;
+import org.eclipse.hawkbit.repository.jpa.utils.DeploymentHelper;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * A cleanup task which recounts the {@link RolloutStatusCounters} of all rollout groups of the tenant from the actions. It corrects
+ * the drift of the counters caused by bulk deletes of actions (e.g. the action cleanup) which are not counted incrementally.
+ * <p/>
+ * The rollout groups are reconciled in chunks, each in a separate transaction.
+ */
+@Slf4j
+public class RolloutStatusCountReconciliation implements AutoCleanupScheduler.CleanupTask {
+
+    private static final String ID = "rollout-status-count-reconciliation";
+
+    private final PlatformTransactionManager txManager;
+
+    public RolloutStatusCountReconciliation(final PlatformTransactionManager txManager) {
+        this.txManager = txManager;
+    }
+
+    @Override
+    public void run() {
+        final RolloutStatusCounters counters = RolloutStatusCounters.getInstance();
+        int groups = 0;
+        int updated = 0;
+        List<Long> rolloutGroupIds = counters.findRolloutGroupIds(0, Constants.MAX_ENTRIES_IN_STATEMENT);
+        while (!rolloutGroupIds.isEmpty()) {
+            final List<Long> chunk = rolloutGroupIds;
+            updated += DeploymentHelper.runInNewTransaction(txManager, ID, status -> counters.reconcile(chunk));
+            groups += chunk.size();
+            rolloutGroupIds = counters.findRolloutGroupIds(chunk.get(chunk.size() - 1), Constants.MAX_ENTRIES_IN_STATEMENT);
+        }
+        log.debug("Reconciled {} rollout status counters of {} rollout groups", updated, groups);
+    }
+
+    @Override
+    public String getId() {
+        return ID;
+    }
+}
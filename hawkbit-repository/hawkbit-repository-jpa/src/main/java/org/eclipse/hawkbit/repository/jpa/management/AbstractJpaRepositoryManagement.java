@@ -278,11 +278,7 @@ abstract class AbstractJpaRepositoryManagement<T extends AbstractJpaBaseEntity,
         }
 
         final List<T> toDelete = findAllById(ids, true); // throws EntityNotFoundException if any of these does not exist
-        jpaRepository.getAccessController().ifPresent(ac -> {
-            for (final T entity : toDelete) {
-                ac.assertOperationAllowed(AccessController.Operation.DELETE, entity);
-            }
-        });
+        jpaRepository.getAccessController().ifPresent(ac -> ac.assertOperationAllowed(AccessController.Operation.DELETE, toDelete));
 
         // mark the rest as hard delete
         final Collection<Long> toSoftDelete = softDelete(toDelete).stream().map(T::getId).toList();
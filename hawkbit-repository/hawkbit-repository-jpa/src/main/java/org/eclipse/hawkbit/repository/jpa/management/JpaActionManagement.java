@@ -13,11 +13,14 @@ import static org.eclipse.hawkbit.repository.model.Action.ActionType.DOWNLOAD_ON
 import static org.eclipse.hawkbit.repository.model.Action.Status.ERROR;
 import static org.eclipse.hawkbit.repository.model.Action.Status.FINISHED;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
 
+import jakarta.persistence.EntityManager;
+
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.hawkbit.repository.QuotaManagement;
 import org.eclipse.hawkbit.repository.RepositoryProperties;
@@ -28,6 +31,7 @@ import org.eclipse.hawkbit.repository.jpa.model.JpaAction_;
 import org.eclipse.hawkbit.repository.jpa.repository.ActionRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.ActionStatusRepository;
 import org.eclipse.hawkbit.repository.jpa.specifications.ActionSpecifications;
+import org.eclipse.hawkbit.repository.jpa.utils.ActionStatusCompactor;
 import org.eclipse.hawkbit.repository.jpa.utils.QuotaHelper;
 import org.eclipse.hawkbit.repository.model.Action;
 import org.eclipse.hawkbit.repository.model.Action.ActionStatusCreate;
@@ -46,14 +50,18 @@ public class JpaActionManagement {
     protected final ActionStatusRepository actionStatusRepository;
     protected final QuotaManagement quotaManagement;
     protected final RepositoryProperties repositoryProperties;
+    protected final ActionStatusCompactor actionStatusCompactor;
+    protected final EntityManager entityManager;
 
     protected JpaActionManagement(
             final ActionRepository actionRepository, final ActionStatusRepository actionStatusRepository, final QuotaManagement quotaManagement,
-            final RepositoryProperties repositoryProperties) {
+            final RepositoryProperties repositoryProperties, final EntityManager entityManager) {
         this.actionRepository = actionRepository;
         this.actionStatusRepository = actionStatusRepository;
         this.quotaManagement = quotaManagement;
         this.repositoryProperties = repositoryProperties;
+        this.entityManager = entityManager;
+        this.actionStatusCompactor = new ActionStatusCompactor(repositoryProperties.getActionStatusCompaction());
     }
 
     protected int getWeightConsideringDefault(final Action action) {
@@ -95,6 +103,24 @@ public class JpaActionManagement {
         // can be overwritten to intercept the persistence of the action status
     }
 
+    /**
+     * Compacts the status history of the action (if configured, see {@link RepositoryProperties#getActionStatusCompaction()}) before
+     * a new status is added - so the history of the chatty devices stays bounded (and doesn't hit the quota).
+     */
+    protected void compactActionStatus(final JpaAction action, final Action.Status newStatus) {
+        if (actionStatusCompactor.isActive() && actionStatusCompactor.isCompactable(newStatus)) {
+            final List<ActionStatusCompactor.Entry> history = new ArrayList<>();
+            actionStatusRepository.findIdAndStatusByActionId(action.getId())
+                    .forEach(idAndStatus -> history.add(ActionStatusCompactor.Entry.of(idAndStatus)));
+            history.add(new ActionStatusCompactor.Entry(null, newStatus));
+            final List<Long> removable = actionStatusCompactor.findRemovable(history);
+            if (!removable.isEmpty()) {
+                log.trace("Compacting {} status entries of action {}", removable.size(), action.getId());
+                ActionStatusCompactor.delete(entityManager, removable);
+            }
+        }
+    }
+
     protected void assertActionStatusQuota(final ActionStatusCreate newActionStatus, final JpaAction action) {
         if (isIntermediateStatus(newActionStatus)) {// check for quota only for intermediate statuses
             QuotaHelper.assertAssignmentQuota(action.getId(), 1, quotaManagement.getMaxStatusEntriesPerAction(),
@@ -156,6 +182,7 @@ public class JpaActionManagement {
      * Sets {@link TargetUpdateStatus} based on given {@link ActionStatus}.
      */
     private Action handleAddUpdateActionStatus(final ActionStatusCreate create, final JpaAction action) {
+        compactActionStatus(action, create.getStatus());
         // information status entry - check for a potential DOS attack
         assertActionStatusQuota(create, action);
 
@@ -11,8 +11,12 @@ package org.eclipse.hawkbit.repository.jpa.management;
 
 import static org.eclipse.hawkbit.repository.jpa.executor.AfterTransactionCommitExecutor.afterCommit;
 
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
 import java.util.Optional;
 
 import jakarta.persistence.EntityManager;
@@ -24,7 +28,9 @@ import org.eclipse.hawkbit.artifact.exception.ArtifactBinaryNotFoundException;
 import org.eclipse.hawkbit.artifact.exception.ArtifactDeleteFailedException;
 import org.eclipse.hawkbit.artifact.exception.ArtifactStoreException;
 import org.eclipse.hawkbit.artifact.exception.ArtifactUploadFailedException;
+import org.eclipse.hawkbit.artifact.exception.FileSizeQuotaExceededException;
 import org.eclipse.hawkbit.artifact.exception.HashNotMatchException;
+import org.eclipse.hawkbit.artifact.exception.StorageQuotaExceededException;
 import org.eclipse.hawkbit.artifact.model.ArtifactHashes;
 import org.eclipse.hawkbit.artifact.model.ArtifactStream;
 import org.eclipse.hawkbit.artifact.model.StoredArtifactInfo;
@@ -50,6 +56,7 @@ import org.eclipse.hawkbit.repository.jpa.utils.QuotaHelper;
 import org.eclipse.hawkbit.repository.model.Artifact;
 import org.eclipse.hawkbit.repository.model.ArtifactUpload;
 import org.eclipse.hawkbit.repository.model.SoftwareModule;
+import org.eclipse.hawkbit.repository.model.StagedArtifactUpload;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProperty;
 import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.resilience.annotation.Retryable;
@@ -94,45 +101,62 @@ public class JpaArtifactManagement implements ArtifactManagement {
     @Transactional
     @Retryable(includes = ConcurrencyFailureException.class, maxRetriesString = Constants.RETRY_MAX, delayString = Constants.RETRY_DELAY)
     public Artifact create(final ArtifactUpload artifactUpload) {
-        if (artifactStorage == null) {
-            throw new UnsupportedOperationException();
-        }
+        final JpaSoftwareModule softwareModule = getForArtifactCreate(artifactUpload.moduleId());
+        final String filename = artifactUpload.filename();
+        final Artifact existing = getExisting(softwareModule, filename, artifactUpload.overrideExisting());
 
-        final long moduleId = artifactUpload.moduleId();
-        QuotaHelper.assertAssignmentQuota(
-                moduleId, 1, quotaManagement.getMaxArtifactsPerSoftwareModule(),
-                Artifact.class, SoftwareModule.class,
-                // get all artifacts without user context
-                softwareModuleId -> artifactRepository.count(null, ArtifactSpecifications.bySoftwareModuleId(softwareModuleId)));
+        // touch it to update the lock revision because we are modifying the DS indirectly, it will, also check UPDATE access
+        JpaManagementHelper.touch(entityManager, softwareModuleRepository, softwareModule);
 
-        final JpaSoftwareModule softwareModule = softwareModuleRepository.getById(moduleId);
-        if (softwareModule.isLocked()) {
-            // check in order to:
-            // - on non-existing artifact - skip binary storing before, eventual, failing in new JpaSoftwareModule.addArtifact
-            // - if existing and overriding - no check will be made in new JpaSoftwareModule.addArtifact, so we sh to fail here
-            throw new LockedException(JpaSoftwareModule.class, softwareModule.getId(), "ADD_ARTIFACT");
-        }
+        return storeArtifactAndMetadata(softwareModule, filename, artifactUpload, existing);
+    }
 
-        final String filename = artifactUpload.filename();
-        final Artifact existing = softwareModule.getArtifactByFilename(filename).orElse(null);
-        if (existing != null) {
-            if (artifactUpload.overrideExisting()) {
-                log.debug("overriding existing artifact with new filename {}", filename);
-            } else {
-                throw new EntityAlreadyExistsException("File with that name already exists in the Software Module");
-            }
-        }
+    @Override
+    @Transactional
+    @Retryable(includes = ConcurrencyFailureException.class, maxRetriesString = Constants.RETRY_MAX, delayString = Constants.RETRY_DELAY)
+    public Artifact create(final StagedArtifactUpload stagedArtifactUpload) {
+        final JpaSoftwareModule softwareModule = getForArtifactCreate(stagedArtifactUpload.moduleId());
+        final String filename = stagedArtifactUpload.filename();
+        final Artifact existing = getExisting(softwareModule, filename, stagedArtifactUpload.overrideExisting());
 
         // touch it to update the lock revision because we are modifying the DS indirectly, it will, also check UPDATE access
         JpaManagementHelper.touch(entityManager, softwareModuleRepository, softwareModule);
 
-        final StoredArtifactInfo artifact = storeArtifact(artifactUpload, softwareModule.isEncrypted());
+        final File file = stagedArtifactUpload.file();
+        if (softwareModule.isEncrypted()) {
+            // the content shall be encrypted - so it is streamed (copied) into the storage
+            try (final InputStream in = new BufferedInputStream(new FileInputStream(file))) {
+                final Artifact artifact = storeArtifactAndMetadata(softwareModule, filename, new ArtifactUpload(
+                        in, stagedArtifactUpload.contentType(), file.length(), stagedArtifactUpload.hash(),
+                        stagedArtifactUpload.moduleId(), filename, stagedArtifactUpload.overrideExisting()), existing);
+                Files.deleteIfExists(file.toPath());
+                return artifact;
+            } catch (final IOException e) {
+                throw new ArtifactUploadFailedException(e);
+            }
+        }
+
+        final long fileSize = file.length();
+        final long maxArtifactSize = quotaManagement.getMaxArtifactSize();
+        if (fileSize > maxArtifactSize) {
+            throw new FileSizeQuotaExceededException(maxArtifactSize);
+        }
+        final long storageLeft = quotaManagement.getMaxArtifactStorage() - artifactRepository.sumOfNonDeletedArtifactSize().orElse(0L);
+        if (fileSize > storageLeft) {
+            throw new StorageQuotaExceededException(storageLeft);
+        }
+
+        final ArtifactHashes hashes = stagedArtifactUpload.hashes();
+        // metadata first - the file is moved last, so it is kept (and the upload could be retried) if something fails before
+        final Artifact artifact = storeArtifactMetadata(softwareModule, filename, hashes, fileSize, existing);
         try {
-            return storeArtifactMetadata(softwareModule, filename, artifact.getHashes(), artifact.getSize(), existing);
-        } catch (final Exception e) {
-            artifactStorage.deleteBySha1(AccessContext.tenant(), artifact.getHashes().sha1());
-            throw e;
+            artifactStorage.store(AccessContext.tenant(), file, stagedArtifactUpload.contentType(), hashes, stagedArtifactUpload.hash());
+        } catch (final ArtifactStoreException e) {
+            throw new ArtifactUploadFailedException(e);
+        } catch (final HashNotMatchException e) {
+            throw toInvalidHashException(e);
         }
+        return artifact;
     }
 
     @SuppressWarnings("java:S2201") // java:S2201 - the idea is to just check if the artifact exists
@@ -213,6 +237,50 @@ public class JpaArtifactManagement implements ArtifactManagement {
         });
     }
 
+    private JpaSoftwareModule getForArtifactCreate(final long moduleId) {
+        if (artifactStorage == null) {
+            throw new UnsupportedOperationException();
+        }
+
+        QuotaHelper.assertAssignmentQuota(
+                moduleId, 1, quotaManagement.getMaxArtifactsPerSoftwareModule(),
+                Artifact.class, SoftwareModule.class,
+                // get all artifacts without user context
+                softwareModuleId -> artifactRepository.count(null, ArtifactSpecifications.bySoftwareModuleId(softwareModuleId)));
+
+        final JpaSoftwareModule softwareModule = softwareModuleRepository.getById(moduleId);
+        if (softwareModule.isLocked()) {
+            // check in order to:
+            // - on non-existing artifact - skip binary storing before, eventual, failing in new JpaSoftwareModule.addArtifact
+            // - if existing and overriding - no check will be made in new JpaSoftwareModule.addArtifact, so we sh to fail here
+            throw new LockedException(JpaSoftwareModule.class, softwareModule.getId(), "ADD_ARTIFACT");
+        }
+        return softwareModule;
+    }
+
+    private static Artifact getExisting(final JpaSoftwareModule softwareModule, final String filename, final boolean overrideExisting) {
+        final Artifact existing = softwareModule.getArtifactByFilename(filename).orElse(null);
+        if (existing != null) {
+            if (overrideExisting) {
+                log.debug("overriding existing artifact with new filename {}", filename);
+            } else {
+                throw new EntityAlreadyExistsException("File with that name already exists in the Software Module");
+            }
+        }
+        return existing;
+    }
+
+    private Artifact storeArtifactAndMetadata(
+            final JpaSoftwareModule softwareModule, final String filename, final ArtifactUpload artifactUpload, final Artifact existing) {
+        final StoredArtifactInfo artifact = storeArtifact(artifactUpload, softwareModule.isEncrypted());
+        try {
+            return storeArtifactMetadata(softwareModule, filename, artifact.getHashes(), artifact.getSize(), existing);
+        } catch (final Exception e) {
+            artifactStorage.deleteBySha1(AccessContext.tenant(), artifact.getHashes().sha1());
+            throw e;
+        }
+    }
+
     private StoredArtifactInfo storeArtifact(final ArtifactUpload artifactUpload, final boolean isSmEncrypted) {
         final InputStream stream = artifactUpload.inputStream();
         try (final InputStream wrappedStream = wrapInQuotaStream(
@@ -224,13 +292,17 @@ public class JpaArtifactManagement implements ArtifactManagement {
         } catch (final ArtifactStoreException | IOException e) {
             throw new ArtifactUploadFailedException(e);
         } catch (final HashNotMatchException e) {
-            if (e.getHashFunction().equals(HashNotMatchException.SHA1)) {
-                throw new InvalidSha1HashException(e.getMessage(), e);
-            } else if (e.getHashFunction().equals(HashNotMatchException.SHA256)) {
-                throw new InvalidSha256HashException(e.getMessage(), e);
-            } else {
-                throw new InvalidMd5HashException(e.getMessage(), e);
-            }
+            throw toInvalidHashException(e);
+        }
+    }
+
+    private static RuntimeException toInvalidHashException(final HashNotMatchException e) {
+        if (e.getHashFunction().equals(HashNotMatchException.SHA1)) {
+            return new InvalidSha1HashException(e.getMessage(), e);
+        } else if (e.getHashFunction().equals(HashNotMatchException.SHA256)) {
+            return new InvalidSha256HashException(e.getMessage(), e);
+        } else {
+            return new InvalidMd5HashException(e.getMessage(), e);
         }
     }
 
@@ -21,6 +21,7 @@ import jakarta.persistence.EntityManager;
 
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.hawkbit.repository.ConfirmationManagement;
+import org.eclipse.hawkbit.repository.PrimaryPinned;
 import org.eclipse.hawkbit.repository.QuotaManagement;
 import org.eclipse.hawkbit.repository.RepositoryProperties;
 import org.eclipse.hawkbit.repository.exception.AutoConfirmationAlreadyActiveException;
@@ -54,13 +55,13 @@ import org.springframework.validation.annotation.Validated;
  * JPA implementation for {@link ConfirmationManagement}.
  */
 @Slf4j
+@PrimaryPinned
 @Transactional(readOnly = true)
 @Validated
 @Service
 @ConditionalOnBooleanProperty(prefix = "hawkbit.jpa", name = { "enabled", "confirmation-management" }, matchIfMissing = true)
 public class JpaConfirmationManagement extends JpaActionManagement implements ConfirmationManagement {
 
-    private final EntityManager entityManager;
     private final TargetRepository targetRepository;
 
     protected JpaConfirmationManagement(
@@ -68,9 +69,8 @@ public class JpaConfirmationManagement extends JpaActionManagement implements Co
             final ActionRepository actionRepository, final ActionStatusRepository actionStatusRepository,
             final RepositoryProperties repositoryProperties, final QuotaManagement quotaManagement,
             final EntityManager entityManager) {
-        super(actionRepository, actionStatusRepository, quotaManagement, repositoryProperties);
+        super(actionRepository, actionStatusRepository, quotaManagement, repositoryProperties, entityManager);
         this.targetRepository = targetRepository;
-        this.entityManager = entityManager;
     }
 
     @Override
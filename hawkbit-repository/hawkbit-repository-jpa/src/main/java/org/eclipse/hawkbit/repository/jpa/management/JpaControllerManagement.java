@@ -52,8 +52,10 @@ import org.eclipse.hawkbit.ql.jpa.QLSupport;
 import org.eclipse.hawkbit.repository.ConfirmationManagement;
 import org.eclipse.hawkbit.repository.ControllerManagement;
 import org.eclipse.hawkbit.repository.DeploymentManagement;
+import org.eclipse.hawkbit.repository.DistributionSetGraphCache;
 import org.eclipse.hawkbit.repository.DistributionSetManagement;
 import org.eclipse.hawkbit.repository.MaintenanceScheduleHelper;
+import org.eclipse.hawkbit.repository.PrimaryPinned;
 import org.eclipse.hawkbit.repository.QuotaManagement;
 import org.eclipse.hawkbit.repository.RepositoryConstants;
 import org.eclipse.hawkbit.repository.RepositoryProperties;
@@ -98,6 +100,7 @@ import org.eclipse.hawkbit.repository.model.ActionStatus;
 import org.eclipse.hawkbit.repository.model.AutoConfirmationStatus;
 import org.eclipse.hawkbit.repository.model.DistributionSet;
 import org.eclipse.hawkbit.repository.model.DistributionSetAssignmentResult;
+import org.eclipse.hawkbit.repository.model.DistributionSetGraph;
 import org.eclipse.hawkbit.repository.model.SoftwareModule;
 import org.eclipse.hawkbit.repository.model.Target;
 import org.eclipse.hawkbit.repository.model.TargetType;
@@ -110,6 +113,7 @@ import org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationProperties.T
 import org.eclipse.hawkbit.utils.IpUtil;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProperty;
 import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -127,6 +131,7 @@ import org.springframework.util.StringUtils;
 import org.springframework.validation.annotation.Validated;
 
 @Slf4j
+@PrimaryPinned
 @Transactional(readOnly = true)
 @Validated
 @Service
@@ -145,7 +150,6 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
     private final DistributionSetManagement<? extends DistributionSet> distributionSetManagement;
     private final ControllerPollProperties controllerPollProperties;
     private final PlatformTransactionManager txManager;
-    private final EntityManager entityManager;
 
     private final Duration minPollingTime;
     private final Duration maxPollingTime;
@@ -163,7 +167,7 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
             final ControllerPollProperties controllerPollProperties,
             final PlatformTransactionManager txManager, final EntityManager entityManager,
             final ScheduledExecutorService executorService) {
-        super(actionRepository, actionStatusRepository, quotaManagement, repositoryProperties);
+        super(actionRepository, actionStatusRepository, quotaManagement, repositoryProperties, entityManager);
 
         this.targetRepository = targetRepository;
         this.targetTypeRepository = targetTypeRepository;
@@ -174,7 +178,6 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
         this.distributionSetManagement = distributionSetManagement;
         this.controllerPollProperties = controllerPollProperties;
         this.txManager = txManager;
-        this.entityManager = entityManager;
 
         minPollingTime = controllerPollProperties.getMinPollingTime() == null
                 ? Duration.of(0, ChronoUnit.SECONDS)
@@ -242,11 +245,17 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
         return asSystem(() -> softwareModuleManagement.findMetaDataBySoftwareModuleIdsAndTargetVisible(moduleId));
     }
 
+    @Override
+    public DistributionSetGraph getDistributionSetGraph(final long distributionSetId) {
+        return DistributionSetGraphCache.get(distributionSetId, this::loadDistributionSetGraph);
+    }
+
     @Override
     @Transactional(isolation = Isolation.READ_COMMITTED)
     @Retryable(includes = ConcurrencyFailureException.class, maxRetriesString = Constants.RETRY_MAX, delayString = Constants.RETRY_DELAY)
     public ActionStatus addInformationalActionStatus(final ActionStatusCreate create) {
         final JpaAction action = actionRepository.getById(create.getActionId());
+        compactActionStatus(action, create.getStatus());
         assertActionStatusQuota(create, action);
 
         final JpaActionStatus actionStatus = buildJpaActionStatus(create);
@@ -409,8 +418,6 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
         final JpaTarget jpaTarget = targetRepository.getByControllerId(controllerId);
         final UpdateMode updateMode = mode != null ? mode : UpdateMode.MERGE;
 
-        boolean targetChanged = false;
-
         final Map<String, String> current = jpaTarget.getControllerAttributes();
         final Map<String, String> result = switch (updateMode) {
             case REMOVE -> {
@@ -435,20 +442,28 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
         // - incoming REPLACE attributes are different from current attributes or
         // - incoming MERGE attributes would change current attributes or
         // - request attributes was pending, update the flag - controller has sent its latest attributes.
-        if (!result.equals(current)) {
-            boolean assertQuota = result.size() > current.size();
-            current.clear();
-            current.putAll(result);
-            if (assertQuota) {
-                assertTargetAttributesQuota(jpaTarget);
-            }
-            targetChanged = true;
+        final boolean attributesChanged = !result.equals(current);
+        if (!attributesChanged && !jpaTarget.isRequestControllerAttributes()) {
+            return jpaTarget;
+        }
+        if (result.size() > current.size()) {
+            assertTargetAttributesQuota(jpaTarget.getId(), result.size());
         }
-        if (jpaTarget.isRequestControllerAttributes()) {
-            jpaTarget.setRequestControllerAttributes(false);
-            targetChanged = true;
+
+        // the element collection is not written via the entity (it would be rewritten by the JPA provider) but by the deltas only,
+        // so the target is detached (after flushing its pending changes, if any) and then updated to the written state
+        entityManager.flush();
+        entityManager.detach(jpaTarget);
+        if (attributesChanged) {
+            writeControllerAttributesDelta(jpaTarget.getId(), current, result);
         }
-        return targetChanged ? targetRepository.save(jpaTarget) : jpaTarget;
+        touchTargetForControllerAttributes(jpaTarget);
+
+        jpaTarget.setControllerAttributes(result);
+        jpaTarget.setRequestControllerAttributes(false);
+        jpaTarget.setOptLockRevision(jpaTarget.getOptLockRevision() + 1);
+        afterCommit(jpaTarget::fireUpdateEvent);
+        return jpaTarget;
     }
 
     @Override
@@ -621,7 +636,7 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
         return TargetUpdateStatus.UNKNOWN == statusToUpdate;
     }
 
-    private static boolean isAttributeEntryValid(final Map.Entry<String, String> e) {
+    static boolean isAttributeEntryValid(final Map.Entry<String, String> e) {
         return isAttributeKeyValid(e.getKey()) && isAttributeValueValid(e.getValue());
     }
 
@@ -664,6 +679,21 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
         }
     }
 
+    private DistributionSetGraph loadDistributionSetGraph(final long distributionSetId) {
+        // as system - the controller is not required to have repository read permissions
+        final DistributionSet distributionSet = asSystem(() -> distributionSetManagement.getWithDetails(distributionSetId));
+        final Map<Long, Map<String, String>> metadata = findTargetVisibleMetaDataBySoftwareModuleId(
+                distributionSet.getModules().stream().map(SoftwareModule::getId).toList());
+        return new DistributionSetGraph(
+                distributionSet.getId(), distributionSet.isLocked(),
+                distributionSet.getModules().stream()
+                        .map(module -> new DistributionSetGraph.Module(
+                                module.getId(), module.getType().getKey(), module.getName(), module.getVersion(), module.isEncrypted(),
+                                module.getArtifacts().stream().map(DistributionSetGraph.ModuleArtifact::of).toList(),
+                                metadata.get(module.getId())))
+                        .toList());
+    }
+
     private Target createTarget(final String controllerId, final URI address, final String name, final String type) {
         log.debug("Creating target for thing ID \"{}\".", controllerId);
         final JpaTarget jpaTarget = new JpaTarget();
@@ -889,10 +919,85 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
         return target;
     }
 
-    private void assertTargetAttributesQuota(final JpaTarget target) {
+    private void assertTargetAttributesQuota(final long targetId, final int attributes) {
         final int limit = quotaManagement.getMaxAttributeEntriesPerTarget();
-        QuotaHelper.assertAssignmentQuota(target.getId(), target.getControllerAttributes().size(), limit, "Attribute",
-                Target.class.getSimpleName(), null);
+        QuotaHelper.assertAssignmentQuota(targetId, attributes, limit, "Attribute", Target.class.getSimpleName(), null);
+    }
+
+    /**
+     * Writes only the differences between the current and the new controller attributes to <code>sp_target_attributes</code> - one
+     * DELETE for the removed keys, one UPDATE for the changed values and one (multi row) INSERT for the added keys. Statements without
+     * entries are not executed at all.
+     */
+    private void writeControllerAttributesDelta(final long targetId, final Map<String, String> current, final Map<String, String> result) {
+        final List<String> removed = current.keySet().stream().filter(key -> !result.containsKey(key)).toList();
+        final Map<String, String> changed = new HashMap<>();
+        final Map<String, String> added = new HashMap<>();
+        result.forEach((key, value) -> {
+            if (!current.containsKey(key)) {
+                added.put(key, value);
+            } else if (!value.equals(current.get(key))) {
+                changed.put(key, value);
+            }
+        });
+
+        final char prefix = Jpa.nativeQueryParamPrefix();
+        ListUtils.partition(removed, Constants.MAX_ENTRIES_IN_STATEMENT).forEach(chunk -> {
+            final Query deleteQuery = entityManager.createNativeQuery(
+                    "DELETE FROM sp_target_attributes WHERE target = " + prefix + "target" +
+                            " AND attribute_key IN (" + Jpa.formatNativeQueryInClause("key", chunk) + ")");
+            deleteQuery.setParameter("target", targetId);
+            Jpa.setNativeQueryInParameter(deleteQuery, "key", chunk);
+            deleteQuery.executeUpdate();
+        });
+        ListUtils.partition(List.copyOf(changed.keySet()), Constants.MAX_ENTRIES_IN_STATEMENT / 3).forEach(chunk -> {
+            final StringBuilder sql = new StringBuilder("UPDATE sp_target_attributes SET attribute_value = CASE attribute_key");
+            for (int i = 0; i < chunk.size(); i++) {
+                sql.append(" WHEN ").append(prefix).append("ckey_").append(i).append(" THEN ").append(prefix).append("value_").append(i);
+            }
+            sql.append(" END WHERE target = ").append(prefix).append("target")
+                    .append(" AND attribute_key IN (").append(Jpa.formatNativeQueryInClause("key", chunk)).append(")");
+            final Query updateQuery = entityManager.createNativeQuery(sql.toString());
+            updateQuery.setParameter("target", targetId);
+            for (int i = 0; i < chunk.size(); i++) {
+                updateQuery.setParameter("ckey_" + i, chunk.get(i));
+                updateQuery.setParameter("value_" + i, changed.get(chunk.get(i)));
+            }
+            Jpa.setNativeQueryInParameter(updateQuery, "key", chunk);
+            updateQuery.executeUpdate();
+        });
+        ListUtils.partition(List.copyOf(added.keySet()), Constants.MAX_ENTRIES_IN_STATEMENT / 2).forEach(chunk -> {
+            final StringBuilder sql = new StringBuilder(
+                    "INSERT INTO sp_target_attributes (target, attribute_key, attribute_value) VALUES ");
+            for (int i = 0; i < chunk.size(); i++) {
+                sql.append(i == 0 ? "" : ", ").append('(').append(prefix).append("target, ")
+                        .append(prefix).append("key_").append(i).append(", ").append(prefix).append("value_").append(i).append(')');
+            }
+            final Query insertQuery = entityManager.createNativeQuery(sql.toString());
+            insertQuery.setParameter("target", targetId);
+            for (int i = 0; i < chunk.size(); i++) {
+                insertQuery.setParameter("key_" + i, chunk.get(i));
+                insertQuery.setParameter("value_" + i, added.get(chunk.get(i)));
+            }
+            insertQuery.executeUpdate();
+        });
+    }
+
+    /**
+     * Raises the opt lock revision of the target (as the JPA provider does when the attributes are changed via the entity) and resets
+     * the {@link Target#isRequestControllerAttributes()} flag. Fails if the target has been modified concurrently in between.
+     */
+    private void touchTargetForControllerAttributes(final JpaTarget target) {
+        final char prefix = Jpa.nativeQueryParamPrefix();
+        final Query updateQuery = entityManager.createNativeQuery(
+                "UPDATE sp_target SET optlock_revision = optlock_revision + 1, request_controller_attributes = " + prefix + "request" +
+                        " WHERE id = " + prefix + "id AND optlock_revision = " + prefix + "optlock_revision");
+        updateQuery.setParameter("request", false);
+        updateQuery.setParameter("id", target.getId());
+        updateQuery.setParameter("optlock_revision", target.getOptLockRevision());
+        if (updateQuery.executeUpdate() == 0) {
+            throw new OptimisticLockingFailureException("Target " + target.getControllerId() + " has been modified concurrently");
+        }
     }
 
     /**
@@ -28,6 +28,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import jakarta.persistence.EntityManager;
@@ -65,6 +66,7 @@ import org.eclipse.hawkbit.repository.jpa.acm.AccessController;
 import org.eclipse.hawkbit.repository.jpa.configuration.Constants;
 import org.eclipse.hawkbit.repository.jpa.model.AbstractJpaBaseEntity_;
 import org.eclipse.hawkbit.repository.jpa.model.JpaAction;
+import org.eclipse.hawkbit.repository.jpa.model.JpaAction_;
 import org.eclipse.hawkbit.repository.jpa.model.JpaActionStatus;
 import org.eclipse.hawkbit.repository.jpa.model.JpaDistributionSet;
 import org.eclipse.hawkbit.repository.jpa.model.JpaTarget;
@@ -72,6 +74,7 @@ import org.eclipse.hawkbit.repository.jpa.model.JpaTarget_;
 import org.eclipse.hawkbit.repository.jpa.repository.ActionRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.ActionStatusRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.TargetRepository;
+import org.eclipse.hawkbit.repository.jpa.rollout.RolloutStatusCounters;
 import org.eclipse.hawkbit.repository.jpa.specifications.ActionSpecifications;
 import org.eclipse.hawkbit.repository.jpa.specifications.TargetSpecifications;
 import org.eclipse.hawkbit.repository.jpa.utils.ActionUtils;
@@ -139,7 +142,6 @@ public class JpaDeploymentManagement extends JpaActionManagement implements Depl
 
     private final JpaDistributionSetManagement distributionSetManagement;
     private final TargetRepository targetRepository;
-    private final EntityManager entityManager;
     private final PlatformTransactionManager txManager;
     private final Database database;
 
@@ -156,10 +158,9 @@ public class JpaDeploymentManagement extends JpaActionManagement implements Depl
             final EntityManager entityManager, final PlatformTransactionManager txManager, final JpaProperties jpaProperties,
             final TenantConfigurationManagement tenantConfigurationManagement,
             @Value(Constants.RETRY_MAX) final long maxRetries, @Value(Constants.RETRY_DELAY) final long delay) {
-        super(actionRepository, actionStatusRepository, quotaManagement, repositoryProperties);
+        super(actionRepository, actionStatusRepository, quotaManagement, repositoryProperties, entityManager);
         this.distributionSetManagement = distributionSetManagement;
         this.targetRepository = targetRepository;
-        this.entityManager = entityManager;
         this.txManager = txManager;
         this.database = jpaProperties.getDatabase();
 
@@ -291,6 +292,25 @@ public class JpaDeploymentManagement extends JpaActionManagement implements Depl
         return actionRepository.findAll(ActionSpecifications.byTargetControllerId(controllerId), pageable).map(Action.class::cast);
     }
 
+    @Override
+    public long scanActions(final String rsql, final int chunkSize, final Predicate<List<Action>> chunkConsumer) {
+        return scanActions(rsql == null ? List.of() : List.of(QLSupport.getInstance().buildSpec(rsql, ActionFields.class)), chunkSize,
+                chunkConsumer);
+    }
+
+    @Override
+    public long scanActionsByTarget(
+            final String rsql, final String controllerId, final int chunkSize, final Predicate<List<Action>> chunkConsumer) {
+        assertTargetReadAllowed(controllerId);
+
+        final List<Specification<JpaAction>> specList = new ArrayList<>();
+        specList.add(ActionSpecifications.byTargetControllerId(controllerId));
+        if (rsql != null) {
+            specList.add(QLSupport.getInstance().buildSpec(rsql, ActionFields.class));
+        }
+        return scanActions(specList, chunkSize, chunkConsumer);
+    }
+
     @Override
     public Page<ActionStatus> findActionStatusByAction(final long actionId, final Pageable pageable) {
         assertActionExistsAndAccessible(actionId);
@@ -457,6 +477,8 @@ public class JpaDeploymentManagement extends JpaActionManagement implements Depl
                 throw new EntityNotFoundException(Target.class, targetIds);
             }
         });
+        actionRepository.getStatusCountByRolloutGroupForSwitchStatus(targetIds, false, Status.SCHEDULED).forEach(statusCount ->
+                RolloutStatusCounters.statusChanged(statusCount::getId, Status.SCHEDULED, Status.CANCELED, statusCount.getCount()));
         actionRepository.switchStatus(Status.CANCELED, targetIds, false, Status.SCHEDULED);
     }
 
@@ -522,6 +544,7 @@ public class JpaDeploymentManagement extends JpaActionManagement implements Depl
         // We use a native query here because Spring JPA does not support to specify a LIMIT clause on a DELETE statement.
         // However, for this specific use case (action cleanup), we must specify a row limit to reduce the overall load of
         // the database.
+        // Note: the native delete is not counted in the RolloutStatusCounters, they are corrected by the reconciliation.
         final List<Integer> statusList = status.stream().map(Status::ordinal).toList();
 
         final Query deleteQuery = entityManager.createNativeQuery(
@@ -606,6 +629,7 @@ public class JpaDeploymentManagement extends JpaActionManagement implements Depl
      */
     private void deleteOldestTargetActions(long targetId, int oldestToDelete, boolean deleteOnlyEligible) {
         // Workaround for the case where JPQL or Criteria API do not support LIMIT
+        // Note: the native delete is not counted in the RolloutStatusCounters, they are corrected by the reconciliation.
         log.info("Deleting last {} actions of target {}", oldestToDelete, targetId);
 
         final List<Integer> allowedStatuses = deleteOnlyEligible
@@ -1067,6 +1091,23 @@ public class JpaDeploymentManagement extends JpaActionManagement implements Depl
         return TenantConfigHelper.isUserConfirmationFlowEnabled();
     }
 
+    // target, distribution set and rollout are fetched with the actions since they are needed for the representation of every action
+    private long scanActions(
+            final List<Specification<JpaAction>> specList, final int chunkSize, final Predicate<List<Action>> chunkConsumer) {
+        final Specification<JpaAction> spec = JpaManagementHelper.combineWithAnd(specList);
+        return JpaManagementHelper.scanBySpec(
+                entityManager, JpaAction.class,
+                actionRepository.getAccessController()
+                        .map(accessController -> accessController.appendAccessRules(AccessController.Operation.READ, spec))
+                        .orElse(spec),
+                root -> {
+                    root.fetch(JpaAction_.target);
+                    root.fetch(JpaAction_.distributionSet);
+                    root.fetch(JpaAction_.rollout, JoinType.LEFT);
+                },
+                chunkSize, chunk -> chunkConsumer.test(Collections.unmodifiableList(chunk)));
+    }
+
     private void assertTargetReadAllowed(final Long targetId) {
         if (!targetRepository.existsById(targetId)) {
             throw new EntityNotFoundException(Target.class, targetId);
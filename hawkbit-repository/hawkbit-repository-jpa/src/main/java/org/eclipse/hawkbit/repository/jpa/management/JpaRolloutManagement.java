@@ -12,14 +12,13 @@ package org.eclipse.hawkbit.repository.jpa.management;
 import static org.eclipse.hawkbit.repository.jpa.executor.AfterTransactionCommitExecutor.afterCommit;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.function.Function;
 import java.util.function.UnaryOperator;
-import java.util.stream.Collectors;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.Query;
@@ -40,7 +39,6 @@ import org.eclipse.hawkbit.repository.RepositoryProperties;
 import org.eclipse.hawkbit.repository.RolloutApprovalStrategy;
 import org.eclipse.hawkbit.repository.RolloutHelper;
 import org.eclipse.hawkbit.repository.RolloutManagement;
-import org.eclipse.hawkbit.repository.RolloutStatusCache;
 import org.eclipse.hawkbit.repository.SoftDeletedMode;
 import org.eclipse.hawkbit.repository.TargetManagement;
 import org.eclipse.hawkbit.repository.event.EventPublisherHolder;
@@ -67,6 +65,7 @@ import org.eclipse.hawkbit.repository.jpa.repository.ActionStatusRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.RolloutGroupRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.RolloutRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.TargetRepository;
+import org.eclipse.hawkbit.repository.jpa.rollout.RolloutStatusCounters;
 import org.eclipse.hawkbit.repository.jpa.rollout.condition.RolloutGroupEvaluationManager;
 import org.eclipse.hawkbit.repository.jpa.rollout.condition.StartNextGroupRolloutGroupSuccessAction;
 import org.eclipse.hawkbit.repository.jpa.specifications.ActionSpecifications;
@@ -100,7 +99,6 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.resilience.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.CollectionUtils;
 import org.springframework.validation.annotation.Validated;
 
 /**
@@ -326,13 +324,8 @@ public class JpaRolloutManagement implements RolloutManagement {
         final Rollout rollout = rolloutRepository.findById(rolloutId).map(Rollout.class::cast)
                 .orElseThrow(() -> new EntityNotFoundException(Rollout.class, rolloutId));
 
-        List<TotalTargetCountActionStatus> rolloutStatusCountItems = RolloutStatusCache.getRolloutStatus(rolloutId);
-
-        if (CollectionUtils.isEmpty(rolloutStatusCountItems)) {
-            rolloutStatusCountItems = actionRepository.getStatusCountByRolloutId(rolloutId);
-            RolloutStatusCache.putRolloutStatus(rolloutId, rolloutStatusCountItems);
-        }
-
+        final List<TotalTargetCountActionStatus> rolloutStatusCountItems = RolloutStatusCounters.getInstance()
+                .getRolloutStatus(List.of(rolloutId)).getOrDefault(rolloutId, Collections.emptyList());
         final TotalTargetCountStatus totalTargetCountStatus = new TotalTargetCountStatus(
                 rolloutStatusCountItems, rollout.getTotalTargets(), rollout.getActionType());
         ((JpaRollout) rollout).setTotalTargetCountStatus(totalTargetCountStatus);
@@ -922,20 +915,7 @@ public class JpaRolloutManagement implements RolloutManagement {
             return Collections.emptyMap();
         }
 
-        final Map<Long, List<TotalTargetCountActionStatus>> fromCache = RolloutStatusCache.getRolloutStatus(rollouts);
-
-        final List<Long> rolloutIds = rollouts.stream().filter(id -> !fromCache.containsKey(id)).toList();
-        if (!rolloutIds.isEmpty()) {
-            final List<TotalTargetCountActionStatus> resultList = actionRepository.getStatusCountByRolloutIds(rolloutIds);
-            final Map<Long, List<TotalTargetCountActionStatus>> fromDb = resultList.stream()
-                    .collect(Collectors.groupingBy(TotalTargetCountActionStatus::getId));
-
-            RolloutStatusCache.putRolloutStatus(fromDb);
-
-            fromCache.putAll(fromDb);
-        }
-
-        return fromCache;
+        return RolloutStatusCounters.getInstance().getRolloutStatus(rollouts);
     }
 
     /**
@@ -950,30 +930,27 @@ public class JpaRolloutManagement implements RolloutManagement {
 
     private RolloutGroupsValidation validateTargetsInGroups(
             final List<RolloutGroup> groups, final String baseFilter, final long totalTargets, final Long dsTypeId) {
-        final List<Long> groupTargetCounts = new ArrayList<>(groups.size());
-        Map<String, Long> targetFilterCounts;
-        if (!RolloutHelper.isRolloutRetried(baseFilter)) {
-            targetFilterCounts = groups.stream()
-                    .map(group -> RolloutHelper.getGroupTargetFilter(baseFilter, group)).distinct()
-                    .collect(Collectors.toMap(Function.identity(),
-                            groupTargetFilter -> targetManagement.countByRsqlAndCompatible(groupTargetFilter, dsTypeId)));
-        } else {
-            targetFilterCounts = groups.stream()
-                    .map(group -> RolloutHelper.getGroupTargetFilter(baseFilter, group)).distinct()
-                    .collect(Collectors.toMap(Function.identity(),
-                            groupTargetFilter -> targetManagement.countByFailedInRollout(
-                                    RolloutHelper.getIdFromRetriedTargetFilter(baseFilter), dsTypeId)));
-        }
+        // single pass - the targets counts per set of matched groups
+        final Map<BitSet, Long> targetsByMatchedGroups = countTargetsByMatchedGroups(groups, baseFilter, dsTypeId);
 
+        final List<Long> groupTargetCounts = new ArrayList<>(groups.size());
         long unusedTargetsCount = 0;
 
         for (int i = 0; i < groups.size(); i++) {
             final RolloutGroup group = groups.get(i);
-            final String groupTargetFilter = RolloutHelper.getGroupTargetFilter(baseFilter, group);
             RolloutHelper.verifyRolloutGroupTargetPercentage(group.getTargetPercentage());
 
-            final long targetsInGroupFilter = targetFilterCounts.get(groupTargetFilter);
-            final long overlappingTargets = countOverlappingTargetsWithPreviousGroups(baseFilter, groups, group, i, targetFilterCounts);
+            // targets matching the group filter and, of them, the ones overlapping with (i.e. matching first) some previous group
+            long targetsInGroupFilter = 0;
+            long overlappingTargets = 0;
+            for (final Map.Entry<BitSet, Long> entry : targetsByMatchedGroups.entrySet()) {
+                if (entry.getKey().get(i)) {
+                    targetsInGroupFilter += entry.getValue();
+                    if (entry.getKey().nextSetBit(0) < i) {
+                        overlappingTargets += entry.getValue();
+                    }
+                }
+            }
 
             final long realTargetsInGroup;
             // Assume that targets which were not used in the previous groups
@@ -996,21 +973,16 @@ public class JpaRolloutManagement implements RolloutManagement {
         return new RolloutGroupsValidation(totalTargets, groupTargetCounts);
     }
 
-    private long countOverlappingTargetsWithPreviousGroups(final String baseFilter, final List<RolloutGroup> groups,
-            final RolloutGroup group, final int groupIndex, final Map<String, Long> targetFilterCounts) {
-        // there can't be overlapping targets in the first group
-        if (groupIndex == 0) {
-            return 0;
-        }
-        final List<RolloutGroup> previousGroups = groups.subList(0, groupIndex);
-        final String overlappingTargetsFilter = RolloutHelper.getOverlappingWithGroupsTargetFilter(baseFilter, previousGroups, group);
-
-        if (targetFilterCounts.containsKey(overlappingTargetsFilter)) {
-            return targetFilterCounts.get(overlappingTargetsFilter);
+    private Map<BitSet, Long> countTargetsByMatchedGroups(final List<RolloutGroup> groups, final String baseFilter, final Long dsTypeId) {
+        if (!RolloutHelper.isRolloutRetried(baseFilter)) {
+            return targetManagement.countByRsqlAndCompatibleGroupedByFilters(
+                    baseFilter, groups.stream().map(RolloutGroup::getTargetFilterQuery).toList(), dsTypeId);
         } else {
-            final long overlappingTargets = targetManagement.countByRsql(overlappingTargetsFilter);
-            targetFilterCounts.put(overlappingTargetsFilter, overlappingTargets);
-            return overlappingTargets;
+            // retried rollout - group filters are not applied, all failed targets match all groups
+            final BitSet allGroups = new BitSet(groups.size());
+            allGroups.set(0, groups.size());
+            return Map.of(
+                    allGroups, targetManagement.countByFailedInRollout(RolloutHelper.getIdFromRetriedTargetFilter(baseFilter), dsTypeId));
         }
     }
 
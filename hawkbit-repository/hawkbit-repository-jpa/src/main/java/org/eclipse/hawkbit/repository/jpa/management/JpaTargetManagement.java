@@ -9,10 +9,20 @@
  */
 package org.eclipse.hawkbit.repository.jpa.management;
 
+import static org.eclipse.hawkbit.repository.event.remote.TargetsBulkUpdatedEvent.Operation.TAG_ASSIGNED;
+import static org.eclipse.hawkbit.repository.event.remote.TargetsBulkUpdatedEvent.Operation.TAG_UNASSIGNED;
+import static org.eclipse.hawkbit.repository.event.remote.TargetsBulkUpdatedEvent.Operation.TYPE_ASSIGNED;
+import static org.eclipse.hawkbit.repository.event.remote.TargetsBulkUpdatedEvent.Operation.TYPE_UNASSIGNED;
 import static org.eclipse.hawkbit.repository.jpa.JpaManagementHelper.combineWithAnd;
+import static org.eclipse.hawkbit.repository.jpa.executor.AfterTransactionCommitExecutor.afterCommit;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -22,23 +32,39 @@ import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
 import java.util.stream.Collectors;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.Tuple;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.MapJoin;
 import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.criteria.Subquery;
 import jakarta.persistence.metamodel.MapAttribute;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import jakarta.validation.constraints.NotEmpty;
 
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.context.AccessContext;
+import org.eclipse.hawkbit.exception.GenericSpServerException;
 import org.eclipse.hawkbit.ql.jpa.QLSupport;
 import org.eclipse.hawkbit.repository.QuotaManagement;
 import org.eclipse.hawkbit.repository.TargetManagement;
+import org.eclipse.hawkbit.repository.event.EventPublisherHolder;
+import org.eclipse.hawkbit.repository.event.remote.TargetsBulkUpdatedEvent;
 import org.eclipse.hawkbit.repository.exception.EntityAlreadyExistsException;
 import org.eclipse.hawkbit.repository.exception.EntityNotFoundException;
+import org.eclipse.hawkbit.repository.exception.InsufficientPermissionException;
 import org.eclipse.hawkbit.repository.jpa.Jpa;
 import org.eclipse.hawkbit.repository.jpa.JpaManagementHelper;
 import org.eclipse.hawkbit.repository.jpa.acm.AccessController;
@@ -52,6 +78,7 @@ import org.eclipse.hawkbit.repository.jpa.repository.TargetRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.TargetTagRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.TargetTypeRepository;
 import org.eclipse.hawkbit.repository.jpa.specifications.TargetSpecifications;
+import org.eclipse.hawkbit.repository.jpa.utils.DeploymentHelper;
 import org.eclipse.hawkbit.repository.jpa.utils.QuotaHelper;
 import org.eclipse.hawkbit.repository.model.DistributionSet;
 import org.eclipse.hawkbit.repository.model.Target;
@@ -59,6 +86,9 @@ import org.eclipse.hawkbit.repository.model.TargetTag;
 import org.eclipse.hawkbit.repository.qfields.TargetFields;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProperty;
+import org.springframework.core.retry.RetryException;
+import org.springframework.core.retry.RetryPolicy;
+import org.springframework.core.retry.RetryTemplate;
 import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -66,7 +96,12 @@ import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.resilience.annotation.Retryable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.StringUtils;
 import org.springframework.validation.annotation.Validated;
 
 /**
@@ -85,21 +120,31 @@ public class JpaTargetManagement
     private final QuotaManagement quotaManagement;
     private final TargetTypeRepository targetTypeRepository;
     private final TargetTagRepository targetTagRepository;
+    private final PlatformTransactionManager txManager;
+    private final Validator validator;
 
     @Value("${hawkbit.target-group.assign.chunk-size:1000}")
     private int assignTargetGroupChunkSize;
+    @Value("${hawkbit.target.bulk-update.chunk-size:5000}")
+    private int bulkUpdateChunkSize;
+    @Value(Constants.RETRY_MAX)
+    private long maxRetries;
+    @Value(Constants.RETRY_DELAY)
+    private long retryDelay;
 
     @SuppressWarnings("java:S107")
     protected JpaTargetManagement(
             final TargetRepository jpaRepository, final EntityManager entityManager,
             final JpaDistributionSetManagement distributionSetManagement, final QuotaManagement quotaManagement,
             final TargetTypeRepository targetTypeRepository,
-            final TargetTagRepository targetTagRepository) {
+            final TargetTagRepository targetTagRepository, final PlatformTransactionManager txManager, final Validator validator) {
         super(jpaRepository, entityManager);
         this.distributionSetManagement = distributionSetManagement;
         this.quotaManagement = quotaManagement;
         this.targetTypeRepository = targetTypeRepository;
         this.targetTagRepository = targetTagRepository;
+        this.txManager = txManager;
+        this.validator = validator;
     }
 
     @Override
@@ -218,6 +263,20 @@ public class JpaTargetManagement
         return JpaManagementHelper.findAllWithCountBySpec(jpaRepository, specList, pageable);
     }
 
+    @Override
+    public long scanByRsql(final String rsql, final int chunkSize, final Predicate<List<Target>> chunkConsumer) {
+        final Specification<JpaTarget> spec = rsql == null
+                ? Specification.unrestricted()
+                : QLSupport.getInstance().buildSpec(rsql, TargetFields.class);
+        return JpaManagementHelper.scanBySpec(
+                entityManager, JpaTarget.class,
+                jpaRepository.getAccessController()
+                        .map(accessController -> accessController.appendAccessRules(AccessController.Operation.READ, spec))
+                        .orElse(spec),
+                root -> root.fetch(JpaTarget_.targetType, JoinType.LEFT),
+                chunkSize, chunk -> chunkConsumer.test(Collections.unmodifiableList(chunk)));
+    }
+
     @Override
     public long countByRsqlAndCompatible(final String rsql, final Long distributionSetIdTypeId) {
         final List<Specification<JpaTarget>> specList = List.of(
@@ -226,6 +285,56 @@ public class JpaTargetManagement
         return JpaManagementHelper.countBySpec(jpaRepository, specList);
     }
 
+    @Override
+    public Map<BitSet, Long> countByRsqlAndCompatibleGroupedByFilters(
+            final String rsql, final List<String> filters, final Long distributionSetIdTypeId) {
+        final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<Object[]> query = cb.createQuery(Object[].class);
+        final Root<JpaTarget> root = query.from(JpaTarget.class);
+
+        // one match flag per distinct non-empty filter - CASE WHEN id IN (<filter subquery>) THEN 1 ELSE 0 END. The filters are
+        // evaluated in subqueries so the joins they may need don't multiply the rows of the outer (grouped) query
+        final List<String> distinctFilters = filters.stream().filter(filter -> !ObjectUtils.isEmpty(filter)).distinct().toList();
+        final List<Expression<?>> matchFlags = new ArrayList<>(distinctFilters.size());
+        for (final String filter : distinctFilters) {
+            final Subquery<Long> subquery = query.subquery(Long.class);
+            final Root<JpaTarget> subqueryRoot = subquery.from(JpaTarget.class);
+            subquery.select(subqueryRoot.get(AbstractJpaBaseEntity_.id)).where(QLSupport.getInstance()
+                    .<TargetFields, JpaTarget> buildSpec(filter, TargetFields.class)
+                    .toPredicate(subqueryRoot, query, cb));
+            matchFlags.add(cb.<Integer> selectCase().when(root.get(AbstractJpaBaseEntity_.id).in(subquery), 1).otherwise(0));
+        }
+
+        final Specification<JpaTarget> spec = combineWithAnd(List.of(
+                QLSupport.getInstance().buildSpec(rsql, TargetFields.class),
+                TargetSpecifications.isCompatibleWithDistributionSetType(distributionSetIdTypeId)));
+        final List<Selection<?>> selections = new ArrayList<>(matchFlags);
+        selections.add(cb.countDistinct(root));
+        query.multiselect(selections).where(jpaRepository.getAccessController()
+                .map(accessController -> accessController.appendAccessRules(AccessController.Operation.READ, spec))
+                .orElse(spec)
+                .toPredicate(root, query, cb));
+        if (!matchFlags.isEmpty()) {
+            query.groupBy(matchFlags);
+        }
+
+        final Map<BitSet, Long> counts = new HashMap<>();
+        for (final Object[] row : entityManager.createQuery(query).getResultList()) {
+            final long count = ((Number) row[row.length - 1]).longValue();
+            if (count > 0) {
+                final BitSet matched = new BitSet(filters.size());
+                for (int i = 0; i < filters.size(); i++) {
+                    final String filter = filters.get(i);
+                    if (ObjectUtils.isEmpty(filter) || ((Number) row[distinctFilters.indexOf(filter)]).intValue() == 1) {
+                        matched.set(i);
+                    }
+                }
+                counts.merge(matched, count, Long::sum);
+            }
+        }
+        return counts;
+    }
+
     @Override
     public long countByFailedInRollout(final String rolloutId, final Long dsTypeId) {
         final List<Specification<JpaTarget>> specList = List.of(TargetSpecifications.failedActionsForRollout(rolloutId));
@@ -312,6 +421,145 @@ public class JpaTargetManagement
         });
     }
 
+    @Override
+    @Transactional
+    @Retryable(includes = ConcurrencyFailureException.class, maxRetriesString = Constants.RETRY_MAX, delayString = Constants.RETRY_DELAY)
+    public long assignTagInBulk(
+            final Collection<String> controllerIds, final long targetTagId, final Consumer<Collection<String>> notFoundHandler) {
+        throwEntityNotFoundExceptionIfTagDoesNotExist(targetTagId);
+        return publishBulkUpdated(TAG_ASSIGNED, targetTagId,
+                bulkUpdate(controllerIds, notFoundHandler, ids -> insertTag(ids, targetTagId)));
+    }
+
+    @Override
+    @Transactional
+    @Retryable(includes = ConcurrencyFailureException.class, maxRetriesString = Constants.RETRY_MAX, delayString = Constants.RETRY_DELAY)
+    public long assignTagInBulk(final Collection<String> controllerIds, final long targetTagId) {
+        return assignTagInBulk(controllerIds, targetTagId, null);
+    }
+
+    @Override
+    @Transactional
+    @Retryable(includes = ConcurrencyFailureException.class, maxRetriesString = Constants.RETRY_MAX, delayString = Constants.RETRY_DELAY)
+    public long assignTagInBulkByRsql(final String rsql, final long targetTagId) {
+        throwEntityNotFoundExceptionIfTagDoesNotExist(targetTagId);
+        return publishBulkUpdated(TAG_ASSIGNED, targetTagId,
+                updateInChunks(QLSupport.getInstance().buildSpec(rsql, TargetFields.class), ids -> insertTag(ids, targetTagId)));
+    }
+
+    @Override
+    @Transactional
+    @Retryable(includes = ConcurrencyFailureException.class, maxRetriesString = Constants.RETRY_MAX, delayString = Constants.RETRY_DELAY)
+    public long unassignTagInBulk(
+            final Collection<String> controllerIds, final long targetTagId, final Consumer<Collection<String>> notFoundHandler) {
+        throwEntityNotFoundExceptionIfTagDoesNotExist(targetTagId);
+        return publishBulkUpdated(TAG_UNASSIGNED, targetTagId,
+                bulkUpdate(controllerIds, notFoundHandler, ids -> deleteTag(ids, targetTagId)));
+    }
+
+    @Override
+    @Transactional
+    @Retryable(includes = ConcurrencyFailureException.class, maxRetriesString = Constants.RETRY_MAX, delayString = Constants.RETRY_DELAY)
+    public long unassignTagInBulk(final Collection<String> controllerIds, final long targetTagId) {
+        return unassignTagInBulk(controllerIds, targetTagId, null);
+    }
+
+    @Override
+    @Transactional
+    @Retryable(includes = ConcurrencyFailureException.class, maxRetriesString = Constants.RETRY_MAX, delayString = Constants.RETRY_DELAY)
+    public long unassignTagInBulkByRsql(final String rsql, final long targetTagId) {
+        throwEntityNotFoundExceptionIfTagDoesNotExist(targetTagId);
+        return publishBulkUpdated(TAG_UNASSIGNED, targetTagId,
+                updateInChunks(QLSupport.getInstance().buildSpec(rsql, TargetFields.class), ids -> deleteTag(ids, targetTagId)));
+    }
+
+    @Override
+    @Transactional
+    @Retryable(includes = ConcurrencyFailureException.class, maxRetriesString = Constants.RETRY_MAX, delayString = Constants.RETRY_DELAY)
+    public long assignTypeInBulk(final Collection<String> controllerIds, final Long targetTypeId) {
+        final JpaTargetType targetType = targetTypeId == null ? null : targetTypeRepository.getById(targetTypeId);
+        // not found are skipped
+        return publishBulkUpdated(targetType == null ? TYPE_UNASSIGNED : TYPE_ASSIGNED, targetTypeId,
+                bulkUpdate(controllerIds, notFound -> {}, ids -> updateType(ids, targetType)));
+    }
+
+    @Override
+    @Transactional
+    @Retryable(includes = ConcurrencyFailureException.class, maxRetriesString = Constants.RETRY_MAX, delayString = Constants.RETRY_DELAY)
+    public long assignTypeInBulkByRsql(final String rsql, final Long targetTypeId) {
+        final JpaTargetType targetType = targetTypeId == null ? null : targetTypeRepository.getById(targetTypeId);
+        return publishBulkUpdated(targetType == null ? TYPE_UNASSIGNED : TYPE_ASSIGNED, targetTypeId,
+                updateInChunks(QLSupport.getInstance().buildSpec(rsql, TargetFields.class), ids -> updateType(ids, targetType)));
+    }
+
+    @Override
+    @Transactional
+    public List<ImportResult> importTargets(final List<Import> targets) {
+        final ImportResult[] results = new ImportResult[targets.size()];
+        final Create[] creates = new Create[targets.size()];
+        // validate the rows one by one, the first occurrence of a controller id in the chunk wins
+        final Map<String, Integer> toImport = new LinkedHashMap<>();
+        for (int i = 0; i < targets.size(); i++) {
+            final Import target = targets.get(i);
+            creates[i] = Create.builder()
+                    .controllerId(target.getControllerId()).name(target.getName()).description(target.getDescription())
+                    .securityToken(target.getSecurityToken()).address(target.getAddress()).group(target.getGroup())
+                    .build();
+            final String error = validate(creates[i], target.getControllerAttributes());
+            if (error != null) {
+                results[i] = new ImportResult(target.getControllerId(), ImportResult.Status.INVALID, error);
+            } else if (toImport.putIfAbsent(target.getControllerId(), i) != null) {
+                results[i] = new ImportResult(target.getControllerId(), ImportResult.Status.ALREADY_EXISTS, "Duplicated in the import");
+            }
+        }
+
+        // single lookup of the already existing controller ids, types and tags of the chunk
+        for (final String controllerId : findExistingControllerIds(toImport.keySet())) {
+            final Integer i = toImport.remove(controllerId);
+            if (i != null) {
+                results[i] = new ImportResult(controllerId, ImportResult.Status.ALREADY_EXISTS, "Target already exists");
+            }
+        }
+        final Map<Long, JpaTargetType> targetTypes = targetTypeRepository.findAllById(toImport.values().stream()
+                        .map(i -> targets.get(i).getTargetTypeId()).filter(Objects::nonNull).collect(Collectors.toSet()))
+                .stream().collect(Collectors.toMap(JpaTargetType::getId, Function.identity()));
+        final Map<Long, JpaTargetTag> targetTags = targetTagRepository.findAllById(toImport.values().stream()
+                        .map(i -> targets.get(i).getTagIds()).filter(Objects::nonNull).flatMap(Collection::stream)
+                        .collect(Collectors.toSet()))
+                .stream().collect(Collectors.toMap(JpaTargetTag::getId, Function.identity()));
+
+        final List<JpaTarget> toCreate = new ArrayList<>(toImport.size());
+        toImport.forEach((controllerId, i) -> {
+            final Import target = targets.get(i);
+            final Long targetTypeId = target.getTargetTypeId();
+            final Collection<Long> tagIds = ObjectUtils.isEmpty(target.getTagIds()) ? Collections.emptySet() : target.getTagIds();
+            if (targetTypeId != null && !targetTypes.containsKey(targetTypeId)) {
+                results[i] = new ImportResult(controllerId, ImportResult.Status.INVALID, "Target type " + targetTypeId + " not found");
+            } else if (!targetTags.keySet().containsAll(tagIds)) {
+                results[i] = new ImportResult(controllerId, ImportResult.Status.INVALID, "Target tag(s) " +
+                        tagIds.stream().filter(tagId -> !targetTags.containsKey(tagId)).toList() + " not found");
+            } else {
+                final JpaTarget jpaTarget = jpaEntity(creates[i]);
+                jpaTarget.setTargetType(targetTypeId == null ? null : targetTypes.get(targetTypeId));
+                tagIds.forEach(tagId -> jpaTarget.addTag(targetTags.get(tagId)));
+                if (!ObjectUtils.isEmpty(target.getControllerAttributes())) {
+                    jpaTarget.setControllerAttributes(new HashMap<>(target.getControllerAttributes()));
+                }
+                toCreate.add(jpaTarget);
+                results[i] = new ImportResult(controllerId, ImportResult.Status.CREATED, null);
+            }
+        });
+
+        if (!toCreate.isEmpty()) {
+            jpaRepository.saveAll(AccessController.Operation.CREATE, toCreate);
+            // single (JDBC batched) flush, then detach - the persistence context may span a whole streamed import of many chunks
+            entityManager.flush();
+            entityManager.clear();
+        }
+        log.debug("Imported {} of {} targets", toCreate.size(), targets.size());
+        return Arrays.asList(results);
+    }
+
     @Override
     @Transactional
     @Retryable(includes = ConcurrencyFailureException.class, maxRetriesString = Constants.RETRY_MAX, delayString = Constants.RETRY_DELAY)
@@ -335,11 +583,18 @@ public class JpaTargetManagement
         return jpaRepository.save(target);
     }
 
+    // not transactional - the assignment runs in its own transaction(s), each retried on its own (see assignTargetGroupWithRsql)
     @Override
-    @Transactional
-    @Retryable(includes = ConcurrencyFailureException.class, maxRetriesString = Constants.RETRY_MAX, delayString = Constants.RETRY_DELAY)
-    public void assignTargetGroupWithRsql(String group, String rsql) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void assignTargetGroupWithRsql(final String group, final String rsql) {
+        assignTargetGroupWithRsql(group, rsql, null);
+    }
 
+    // not transactional - so no connection is held during the (long, chunked) assignment. The direct update or every chunk runs in a
+    // new transaction and is retried on its own, so a conflict doesn't replay the already committed chunks
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long assignTargetGroupWithRsql(final String group, final String rsql, final LongConsumer progressListener) {
         // Switch back to UpdateAllQuery if switching back to hibernate. (EclipseLink does not work well with UpdateAllQuery)
         // EclipseLink: using subquery approach — applying predicate directly to the UPDATE root
         // fails for NOT EXISTS due to UpdateAllQuery's @Id resolution bug
@@ -348,10 +603,14 @@ public class JpaTargetManagement
         // NOT EXISTS subqueries correctly in CriteriaUpdate context. So this problem does not exist there.
         if (Jpa.JPA_VENDOR == Jpa.JpaVendor.ECLIPSELINK && containsNegation(rsql)) {
             log.debug("Assigning group {} with rsql {} on chunks.", group, rsql);
-            assignTargetGroupOnChunks(group, rsql);
+            return assignTargetGroupOnChunks(group, rsql, progressListener);
         } else {
             log.debug("Assigning group {} with rsql {} with batch update", group, rsql);
-            assignTargetGroupDirect(group, rsql);
+            final long assigned = runInNewTransactionWithRetry("assignTargetGroup", status -> assignTargetGroupDirect(group, rsql));
+            if (progressListener != null) {
+                progressListener.accept(assigned);
+            }
+            return assigned;
         }
     }
 
@@ -359,42 +618,70 @@ public class JpaTargetManagement
         return rsql.contains("!=") || rsql.contains("=out=") || rsql.contains("=notlike=");
     }
 
-    private void assignTargetGroupDirect(final String group, final String rsql) {
+    private int assignTargetGroupDirect(final String group, final String rsql) {
         final Specification<JpaTarget> rsqlSpecification = QLSupport.getInstance().buildSpec(rsql, TargetFields.class);
         final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
         final CriteriaUpdate<JpaTarget> update = cb.createCriteriaUpdate(JpaTarget.class);
         final Root<JpaTarget> root = update.getRoot();
         update.set("group", group);
         update.where(rsqlSpecification.toPredicate(root, cb.createQuery(JpaTarget.class), cb));
-        entityManager.createQuery(update).executeUpdate();
+        return entityManager.createQuery(update).executeUpdate();
     }
 
-    private void assignTargetGroupOnChunks(final String group, final String rsql) {
-        final Specification<JpaTarget> spec = QLSupport.getInstance().buildSpec(rsql, TargetFields.class);
-        final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
-        // SELECT Target IDs
-        final CriteriaQuery<Long> select = cb.createQuery(Long.class);
-        final Root<JpaTarget> root = select.from(JpaTarget.class);
-        select.select(root.get(AbstractJpaBaseEntity_.ID));
-        select.where(spec.toPredicate(root, select, cb));
+    private <T> T runInNewTransactionWithRetry(final String transactionName, final TransactionCallback<T> action) {
+        final RetryTemplate retryTemplate = new RetryTemplate(RetryPolicy.builder()
+                .includes(ConcurrencyFailureException.class)
+                .maxRetries(maxRetries)
+                .maxDelay(Duration.ofMillis(retryDelay))
+                .build());
+        try {
+            return retryTemplate.execute(() -> DeploymentHelper.runInNewTransaction(txManager, transactionName, action));
+        } catch (final RetryException e) {
+            throw new GenericSpServerException(e);
+        }
+    }
 
+    // Iterates over the matching target ids by keyset (id > last id of the previous chunk, ordered by id) - so, every chunk is an index
+    // range scan and targets which (don't) match anymore after the update of the previous chunks are neither skipped nor re-selected.
+    // Every chunk is selected and updated in its own (short) transaction, i.e. the assigned chunks are committed (and the progress is
+    // visible) even if the assignment fails or is interrupted later on.
+    private long assignTargetGroupOnChunks(final String group, final String rsql, final LongConsumer progressListener) {
+        final Specification<JpaTarget> spec = QLSupport.getInstance().buildSpec(rsql, TargetFields.class);
+        final long start = System.currentTimeMillis();
+        long assigned = 0;
+        long lastId = 0;
         List<Long> chunk;
-        int offset = 0;
         do {
-            chunk = entityManager.createQuery(select)
-                    .setFirstResult(offset)
-                    .setMaxResults(assignTargetGroupChunkSize)
-                    .getResultList();
-
-            if (chunk.isEmpty()) {
-                break;
+            final long afterId = lastId;
+            chunk = runInNewTransactionWithRetry("assignTargetGroupChunk", status -> {
+                final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+                final CriteriaQuery<Long> select = cb.createQuery(Long.class);
+                final Root<JpaTarget> root = select.from(JpaTarget.class);
+                select.select(root.get(AbstractJpaBaseEntity_.id))
+                        .where(cb.and(
+                                spec.toPredicate(root, select, cb),
+                                cb.greaterThan(root.get(AbstractJpaBaseEntity_.id), afterId)))
+                        .orderBy(cb.asc(root.get(AbstractJpaBaseEntity_.id)));
+                final List<Long> ids = entityManager.createQuery(select).setMaxResults(assignTargetGroupChunkSize).getResultList();
+                if (!ids.isEmpty()) {
+                    final CriteriaUpdate<JpaTarget> update = cb.createCriteriaUpdate(JpaTarget.class);
+                    update.set("group", group);
+                    update.where(update.getRoot().get(AbstractJpaBaseEntity_.id).in(ids));
+                    entityManager.createQuery(update).executeUpdate();
+                }
+                return ids;
+            });
+            if (!chunk.isEmpty()) {
+                assigned += chunk.size();
+                lastId = chunk.get(chunk.size() - 1);
+                log.debug("Group {} assigned to {} targets (last id {}) in {} ms",
+                        group, assigned, lastId, System.currentTimeMillis() - start);
+                if (progressListener != null) {
+                    progressListener.accept(assigned);
+                }
             }
-            final CriteriaUpdate<JpaTarget> update = cb.createCriteriaUpdate(JpaTarget.class);
-            update.set("group", group);
-            update.where(update.getRoot().get(AbstractJpaBaseEntity_.ID).in(chunk));
-            entityManager.createQuery(update).executeUpdate();
-            offset += chunk.size();
-        } while (true);
+        } while (chunk.size() == assignTargetGroupChunkSize);
+        return assigned;
     }
 
     @Override
@@ -547,6 +834,179 @@ public class JpaTargetManagement
         }
     }
 
+    // as the entity based updates - the targets that are not found (or not readable) are reported to the not found handler (if null -
+    // EntityNotFoundException is thrown), and it is failed with InsufficientPermissionException if any of the found is not updatable
+    private long bulkUpdate(
+            final Collection<String> controllerIds, final Consumer<Collection<String>> notFoundHandler,
+            final ToIntFunction<List<Long>> chunkUpdate) {
+        final List<String> distinctControllerIds = controllerIds.stream().distinct().toList();
+        final List<String> notFound = new ArrayList<>();
+        final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        long updated = 0;
+        for (int from = 0; from < distinctControllerIds.size(); from += bulkUpdateChunkSize) {
+            final List<String> controllerIdsChunk = distinctControllerIds.subList(from, Math.min(from + bulkUpdateChunkSize,
+                    distinctControllerIds.size()));
+            final Specification<JpaTarget> spec = TargetSpecifications.hasControllerIdIn(controllerIdsChunk);
+            final Specification<JpaTarget> readableSpec = jpaRepository.getAccessController()
+                    .map(accessController -> accessController.appendAccessRules(AccessController.Operation.READ, spec))
+                    .orElse(spec);
+            final CriteriaQuery<Tuple> select = cb.createTupleQuery();
+            final Root<JpaTarget> root = select.from(JpaTarget.class);
+            select.multiselect(root.get(AbstractJpaBaseEntity_.id), root.get(JpaTarget_.controllerId))
+                    .where(readableSpec.toPredicate(root, select, cb));
+            final Map<String, Long> found = entityManager.createQuery(select).getResultStream()
+                    .collect(Collectors.toMap(tuple -> tuple.get(1, String.class), tuple -> tuple.get(0, Long.class)));
+            controllerIdsChunk.stream().filter(controllerId -> !found.containsKey(controllerId)).forEach(notFound::add);
+
+            final List<Long> ids = List.copyOf(found.values());
+            if (!ids.isEmpty()) {
+                if (jpaRepository.getAccessController().isPresent()
+                        && jpaRepository.count(AccessController.Operation.UPDATE, jpaRepository.byIdsSpec(ids)) != ids.size()) {
+                    throw new InsufficientPermissionException("No update access to all targets!");
+                }
+                updated += chunkUpdate.applyAsInt(ids);
+            }
+        }
+        if (!notFound.isEmpty()) {
+            if (notFoundHandler == null) {
+                throw new EntityNotFoundException(Target.class, notFound);
+            } else {
+                notFoundHandler.accept(notFound);
+            }
+        }
+        return updated;
+    }
+
+    // selects the ids of the updatable targets matching the spec in chunks (keyset by id) and applies the update to each of them
+    private long updateInChunks(final Specification<JpaTarget> spec, final ToIntFunction<List<Long>> chunkUpdate) {
+        final Specification<JpaTarget> updatableSpec = jpaRepository.getAccessController()
+                .map(accessController -> accessController.appendAccessRules(AccessController.Operation.UPDATE, spec))
+                .orElse(spec);
+        final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        long updated = 0;
+        long lastId = 0;
+        List<Long> chunk;
+        do {
+            final long afterId = lastId;
+            final Specification<JpaTarget> keysetSpec = combineWithAnd(List.of(
+                    updatableSpec, (root, query, keysetCb) -> keysetCb.greaterThan(root.get(AbstractJpaBaseEntity_.id), afterId)));
+            final CriteriaQuery<Long> select = cb.createQuery(Long.class);
+            final Root<JpaTarget> root = select.from(JpaTarget.class);
+            select.select(root.get(AbstractJpaBaseEntity_.id))
+                    .where(keysetSpec.toPredicate(root, select, cb))
+                    .orderBy(cb.asc(root.get(AbstractJpaBaseEntity_.id)));
+            chunk = entityManager.createQuery(select).setMaxResults(bulkUpdateChunkSize).getResultList();
+            if (!chunk.isEmpty()) {
+                updated += chunkUpdate.applyAsInt(chunk);
+                lastId = chunk.get(chunk.size() - 1);
+            }
+        } while (chunk.size() == bulkUpdateChunkSize);
+        return updated;
+    }
+
+    private int insertTag(final List<Long> targetIds, final long targetTagId) {
+        touchTargets(targetIds, targetTagId, false);
+        final Query insertQuery = entityManager.createNativeQuery(
+                "INSERT INTO sp_target_target_tag (target, tag) " +
+                        "SELECT t.id, g.id FROM sp_target t, sp_target_tag g " +
+                        "WHERE g.id = " + Jpa.nativeQueryParamPrefix() + "tag " +
+                        "AND t.id IN (" + Jpa.formatNativeQueryInClause("tid", targetIds) + ") " +
+                        "AND NOT EXISTS (SELECT 1 FROM sp_target_target_tag tt WHERE tt.target = t.id AND tt.tag = g.id)");
+        insertQuery.setParameter("tag", targetTagId);
+        Jpa.setNativeQueryInParameter(insertQuery, "tid", targetIds);
+        return insertQuery.executeUpdate();
+    }
+
+    private int deleteTag(final List<Long> targetIds, final long targetTagId) {
+        touchTargets(targetIds, targetTagId, true);
+        final Query deleteQuery = entityManager.createNativeQuery(
+                "DELETE FROM sp_target_target_tag " +
+                        "WHERE tag = " + Jpa.nativeQueryParamPrefix() + "tag " +
+                        "AND target IN (" + Jpa.formatNativeQueryInClause("tid", targetIds) + ")");
+        deleteQuery.setParameter("tag", targetTagId);
+        Jpa.setNativeQueryInParameter(deleteQuery, "tid", targetIds);
+        return deleteQuery.executeUpdate();
+    }
+
+    // sets the last modified and bumps the optimistic lock revision of the targets which tags will be changed (i.e. tagged or not), as
+    // the entity based tag updates do
+    private void touchTargets(final List<Long> targetIds, final long targetTagId, final boolean tagged) {
+        final Query updateQuery = entityManager.createNativeQuery(
+                "UPDATE sp_target SET optlock_revision = optlock_revision + 1, " +
+                        "last_modified_at = " + Jpa.nativeQueryParamPrefix() + "at, " +
+                        "last_modified_by = " + Jpa.nativeQueryParamPrefix() + "by " +
+                        "WHERE id IN (" + Jpa.formatNativeQueryInClause("tid", targetIds) + ") " +
+                        "AND " + (tagged ? "" : "NOT ") + "EXISTS (SELECT 1 FROM sp_target_target_tag tt " +
+                        "WHERE tt.target = sp_target.id AND tt.tag = " + Jpa.nativeQueryParamPrefix() + "tag)");
+        updateQuery.setParameter("at", System.currentTimeMillis());
+        updateQuery.setParameter("by", AccessContext.actor());
+        updateQuery.setParameter("tag", targetTagId);
+        Jpa.setNativeQueryInParameter(updateQuery, "tid", targetIds);
+        updateQuery.executeUpdate();
+    }
+
+    private int updateType(final List<Long> targetIds, final JpaTargetType targetType) {
+        final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        final CriteriaUpdate<JpaTarget> update = cb.createCriteriaUpdate(JpaTarget.class);
+        final Root<JpaTarget> root = update.from(JpaTarget.class);
+        if (targetType == null) {
+            update.set(root.get(JpaTarget_.targetType), cb.nullLiteral(JpaTargetType.class));
+        } else {
+            update.set(root.get(JpaTarget_.targetType), targetType);
+        }
+        // as the entity updates would do - so concurrent entity updates of the same targets fail with optimistic lock exception
+        update.set(root.get(AbstractJpaBaseEntity_.optLockRevision), cb.sum(root.get(AbstractJpaBaseEntity_.optLockRevision), 1));
+        update.set(root.get(AbstractJpaBaseEntity_.lastModifiedAt), System.currentTimeMillis());
+        update.set(root.get(AbstractJpaBaseEntity_.lastModifiedBy), AccessContext.actor());
+        update.where(root.get(AbstractJpaBaseEntity_.id).in(targetIds));
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    // a single (aggregated) event per bulk operation, instead of a target updated event per target
+    private static long publishBulkUpdated(final TargetsBulkUpdatedEvent.Operation operation, final Long referenceId, final long updated) {
+        if (updated > 0) {
+            final String tenant = AccessContext.tenant();
+            afterCommit(() -> EventPublisherHolder.getInstance().getEventPublisher().publishEvent(
+                    new TargetsBulkUpdatedEvent(tenant, operation, referenceId, updated)));
+        }
+        return updated;
+    }
+
+    private String validate(final Create create, final Map<String, String> controllerAttributes) {
+        final Set<ConstraintViolation<Create>> violations = validator.validate(create);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+        }
+        if (StringUtils.containsWhitespace(create.getControllerId())) {
+            return "controllerId has whitespaces which are not allowed";
+        }
+        if (!ObjectUtils.isEmpty(controllerAttributes)) {
+            final int limit = quotaManagement.getMaxAttributeEntriesPerTarget();
+            if (controllerAttributes.size() > limit) {
+                return "Number of attributes exceeds the quota of " + limit;
+            }
+            if (controllerAttributes.entrySet().stream().anyMatch(entry -> !JpaControllerManagement.isAttributeEntryValid(entry))) {
+                return "Invalid attribute key or value";
+            }
+        }
+        return null;
+    }
+
+    private List<String> findExistingControllerIds(final Collection<String> controllerIds) {
+        if (controllerIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        // no access rules - the controller id is unique for the whole tenant
+        final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<String> query = cb.createQuery(String.class);
+        final Root<JpaTarget> root = query.from(JpaTarget.class);
+        query.select(root.get(JpaTarget_.controllerId)).where(root.get(JpaTarget_.controllerId).in(controllerIds));
+        return entityManager.createQuery(query).getResultList();
+    }
+
     private void throwEntityNotFoundExceptionIfTagDoesNotExist(final Long tagId) {
         if (!targetTagRepository.existsById(tagId)) {
             throw new EntityNotFoundException(TargetTag.class, tagId);
@@ -33,7 +33,11 @@ import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.NamedEntityGraphs;
 import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreRemove;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
@@ -44,6 +48,7 @@ import org.eclipse.hawkbit.repository.MaintenanceScheduleHelper;
 import org.eclipse.hawkbit.repository.event.EventPublisherHolder;
 import org.eclipse.hawkbit.repository.event.remote.entity.ActionCreatedEvent;
 import org.eclipse.hawkbit.repository.event.remote.entity.ActionUpdatedEvent;
+import org.eclipse.hawkbit.repository.jpa.rollout.RolloutStatusCounters;
 import org.eclipse.hawkbit.repository.jpa.utils.MapAttributeConverter;
 import org.eclipse.hawkbit.repository.model.Action;
 import org.eclipse.hawkbit.repository.model.ActionStatus;
@@ -106,13 +111,16 @@ public class JpaAction extends AbstractJpaTenantAwareBaseEntity implements Actio
     @Max(Action.WEIGHT_MAX)
     private Integer weight;
 
-    @Setter
     @Getter
     @Column(name = "status", nullable = false)
     @Convert(converter = StatusConverter.class)
     @NotNull
     private Status status;
 
+    // if the status of the action is counted by the rollout status counters, i.e. for persisted and loaded actions
+    @Transient
+    private boolean statusCounted;
+
     @OneToMany(mappedBy = "action", targetEntity = JpaActionStatus.class, fetch = FetchType.LAZY, cascade = { CascadeType.REMOVE })
     private List<JpaActionStatus> actionStatus = new ArrayList<>();
 
@@ -121,6 +129,10 @@ public class JpaAction extends AbstractJpaTenantAwareBaseEntity implements Actio
     @JoinColumn(name = "rollout_group", updatable = false)
     private JpaRolloutGroup rolloutGroup;
 
+    // read only mapping of the rollout group foreign key - in order to count the status transitions without loading the group
+    @Column(name = "rollout_group", insertable = false, updatable = false)
+    private Long rolloutGroupId;
+
     @Getter
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "rollout", updatable = false)
@@ -167,6 +179,13 @@ public class JpaAction extends AbstractJpaTenantAwareBaseEntity implements Actio
         this.target = (JpaTarget) target;
     }
 
+    public void setStatus(final Status status) {
+        if (statusCounted && this.status != status && isInRolloutGroup()) {
+            RolloutStatusCounters.statusChanged(this::getRolloutGroupId, this.status, status, 1);
+        }
+        this.status = status;
+    }
+
     @Override
     public Optional<Integer> getWeight() {
         return Optional.ofNullable(weight);
@@ -239,6 +258,26 @@ public class JpaAction extends AbstractJpaTenantAwareBaseEntity implements Actio
                 ",  createdAt=" + getCreatedAt() + ", lastModifiedAt=" + getLastModifiedAt() + ", status=" + getStatus().name() + "]";
     }
 
+    @PostLoad
+    public void postLoadStatus() {
+        statusCounted = true;
+    }
+
+    @PrePersist
+    public void prePersistStatus() {
+        if (isInRolloutGroup()) {
+            RolloutStatusCounters.statusChanged(this::getRolloutGroupId, null, status, 1);
+        }
+        statusCounted = true;
+    }
+
+    @PreRemove
+    public void preRemoveStatus() {
+        if (statusCounted && isInRolloutGroup()) {
+            RolloutStatusCounters.statusChanged(this::getRolloutGroupId, status, null, 1);
+        }
+    }
+
     @Override
     public void fireCreateEvent() {
         EventPublisherHolder.getInstance().getEventPublisher()
@@ -256,6 +295,15 @@ public class JpaAction extends AbstractJpaTenantAwareBaseEntity implements Actio
         // there is no action deletion
     }
 
+    private boolean isInRolloutGroup() {
+        return rolloutGroupId != null || rolloutGroup != null;
+    }
+
+    // for the loaded actions the read only mapping, for the new ones the group (it has an id after the flush)
+    private Long getRolloutGroupId() {
+        return rolloutGroupId == null ? getIdOrNull(rolloutGroup) : rolloutGroupId;
+    }
+
     /**
      * Returns the end time of next available or active maintenance window for
      * the {@link Action} as {@link ZonedDateTime}. If a maintenance window is
@@ -167,6 +167,7 @@ public class JpaTarget extends AbstractJpaNamedEntity implements Target, EventAw
     private Set<TargetTag> tags;
 
     // no cascade option on an ElementCollection, the target objects are always persisted, merged, removed with their parent
+    @Setter
     @Getter
     @ElementCollection
     @CollectionTable(
@@ -0,0 +1,56 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.replica;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.eclipse.hawkbit.repository.PrimaryPinned;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.core.Ordered;
+
+/**
+ * Interceptor that pins the calls of the {@link PrimaryPinned} beans and methods to the primary data source (see
+ * {@link ReadReplicaRoutingDataSource}).
+ */
+public class PrimaryPinnedInterceptor implements MethodInterceptor {
+
+    /**
+     * The bean annotation is matched against the bean class (and its super types), so the inherited methods (e.g. these of
+     * {@code JpaActionManagement}) are pinned too. The advisor is ordered before the transaction interceptor, so the transactions started
+     * by the annotated calls themselves are pinned.
+     *
+     * @return advisor applying the interceptor to the {@link PrimaryPinned} beans and methods
+     */
+    public static Advisor advisor() {
+        final DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+                new ComposablePointcut(new AnnotationMatchingPointcut(PrimaryPinned.class, true))
+                        .union(new AnnotationMatchingPointcut(null, PrimaryPinned.class, true)),
+                new PrimaryPinnedInterceptor());
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+
+    @Override
+    public Object invoke(final MethodInvocation invocation) throws Throwable {
+        if (ReadReplicaRoutingDataSource.isPrimaryPinned()) {
+            return invocation.proceed();
+        }
+
+        ReadReplicaRoutingDataSource.setPrimaryPinned(true);
+        try {
+            return invocation.proceed();
+        } finally {
+            ReadReplicaRoutingDataSource.setPrimaryPinned(false);
+        }
+    }
+}
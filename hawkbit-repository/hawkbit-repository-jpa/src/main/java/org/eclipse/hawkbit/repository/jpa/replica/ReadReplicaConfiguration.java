@@ -0,0 +1,91 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.replica;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.sql.DataSource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NonNull;
+import org.springframework.aop.Advisor;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.DestructionAwareBeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Enables the read replica routing (see {@link ReadReplicaRoutingDataSource}) if {@code hawkbit.repository.datasource.replica.enabled}
+ * is set. The primary {@code dataSource} bean (as configured via {@code spring.datasource.*}) is wrapped, so everything that uses it (JPA,
+ * locks, flyway) goes through the router. The calls of the {@link org.eclipse.hawkbit.repository.PrimaryPinned} beans and methods are
+ * pinned to the primary by the {@link PrimaryPinnedInterceptor}.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = ReadReplicaProperties.PREFIX, name = "enabled", havingValue = "true")
+public class ReadReplicaConfiguration {
+
+    private static final String DATA_SOURCE_BEAN_NAME = "dataSource";
+
+    @Bean
+    static Advisor primaryPinnedAdvisor() {
+        return PrimaryPinnedInterceptor.advisor();
+    }
+
+    @Bean
+    static DestructionAwareBeanPostProcessor readReplicaDataSourcePostProcessor(final Environment environment) {
+        final ReadReplicaProperties properties = Binder.get(environment)
+                .bind(ReadReplicaProperties.PREFIX, ReadReplicaProperties.class)
+                .orElseGet(ReadReplicaProperties::new);
+        final Map<DataSource, ReadReplicaRoutingDataSource> routers = new ConcurrentHashMap<>();
+        return new DestructionAwareBeanPostProcessor() {
+
+            @Override
+            public Object postProcessAfterInitialization(@NonNull final Object bean, @NonNull final String beanName) throws BeansException {
+                if (DATA_SOURCE_BEAN_NAME.equals(beanName) && bean instanceof DataSource primary) {
+                    log.info("Read replica routing enabled, read only transactions are routed to {}", properties.getUrl());
+                    final DataSource replica = DataSourceBuilder.create()
+                            .url(properties.getUrl())
+                            .username(properties.getUsername())
+                            .password(properties.getPassword())
+                            .driverClassName(properties.getDriverClassName())
+                            .build();
+                    final ReadReplicaRoutingDataSource router = new ReadReplicaRoutingDataSource(primary, replica, properties);
+                    final DataSource lazy = router.lazy();
+                    routers.put(lazy, router);
+                    return lazy;
+                }
+                return bean;
+            }
+
+            @Override
+            public void postProcessBeforeDestruction(@NonNull final Object bean, @NonNull final String beanName) throws BeansException {
+                final ReadReplicaRoutingDataSource router = routers.remove(bean);
+                if (router != null) {
+                    try {
+                        router.close();
+                    } catch (final Exception e) {
+                        log.warn("Failed to close read replica routing data source", e);
+                    }
+                }
+            }
+
+            @Override
+            public boolean requiresDestruction(@NonNull final Object bean) {
+                return routers.containsKey(bean);
+            }
+        };
+    }
+}
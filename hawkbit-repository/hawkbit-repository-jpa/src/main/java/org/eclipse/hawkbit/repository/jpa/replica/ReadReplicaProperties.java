@@ -0,0 +1,44 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.replica;
+
+import java.time.Duration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration of the (optional) read replica. If enabled, the read only transactions are routed to the replica while all the others
+ * are served by the primary data source. The device facing paths that must read their own writes are pinned to the primary via
+ * {@link org.eclipse.hawkbit.repository.PrimaryPinned}.
+ */
+@Data
+@ConfigurationProperties(prefix = ReadReplicaProperties.PREFIX)
+public class ReadReplicaProperties {
+
+    public static final String PREFIX = "hawkbit.repository.datasource.replica";
+
+    private boolean enabled;
+
+    private String url;
+    private String username;
+    private String password;
+    private String driverClassName;
+
+    /**
+     * Query returning the replica lag in seconds (single numeric column). If not set, only the replica connectivity is checked.
+     * For instance, for PostgreSQL {@code SELECT COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)}.
+     */
+    private String lagQuery;
+    // if the replica lags more than that, read only transactions fall back to the primary
+    private Duration maxLag = Duration.ofSeconds(5);
+    // period of the replica lag / health check, non-positive disables the periodic check
+    private Duration checkInterval = Duration.ofSeconds(10);
+}
@@ -0,0 +1,160 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.replica;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.repository.PrimaryPinned;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * {@link DataSource} that routes the read only transactions ({@code @Transactional(readOnly = true)}) to a read replica and everything
+ * else to the primary. Read only transactions fall back to the primary if:
+ * <ul>
+ *     <li>the transaction is started within a call pinned to the primary (see {@link PrimaryPinned} and {@link PrimaryPinnedInterceptor}) -
+ *     i.e. it must read its own writes</li>
+ *     <li>the replica is not reachable or lags more than {@link ReadReplicaProperties#getMaxLag()}</li>
+ * </ul>
+ * <p/>
+ * Note: the routing decision is taken on connection acquisition, so the data source shall be wrapped in a
+ * {@link LazyConnectionDataSourceProxy} (see {@link #lazy()}) in order the connection to be obtained after the transaction read only
+ * flag is set.
+ */
+@Slf4j
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    enum Route {
+        PRIMARY, REPLICA
+    }
+
+    private static final ThreadLocal<Boolean> PRIMARY_PINNED = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final String lagQuery;
+    private final long maxLagSeconds;
+    private final ScheduledExecutorService replicaChecker;
+
+    private volatile boolean replicaAvailable = true;
+
+    public ReadReplicaRoutingDataSource(final DataSource primary, final DataSource replica, final ReadReplicaProperties properties) {
+        this.primary = primary;
+        this.replica = replica;
+        lagQuery = properties.getLagQuery();
+        maxLagSeconds = properties.getMaxLag().toSeconds();
+
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+
+        if (properties.getCheckInterval().isPositive()) {
+            replicaChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                final Thread thread = new Thread(runnable, "hawkbit-replica-check");
+                thread.setDaemon(true);
+                return thread;
+            });
+            final long intervalMs = properties.getCheckInterval().toMillis();
+            replicaChecker.scheduleWithFixedDelay(this::checkReplica, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        } else {
+            replicaChecker = null;
+        }
+    }
+
+    /**
+     * @return {@link LazyConnectionDataSourceProxy} wrapping this data source, so that the routing happens on first statement.
+     */
+    public LazyConnectionDataSourceProxy lazy() {
+        return new LazyConnectionDataSourceProxy(this);
+    }
+
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    /**
+     * Checks the replica connectivity and lag and, accordingly, enables or disables the routing of the read only transactions to it.
+     */
+    public void checkReplica() {
+        final boolean available = replicaAvailable0();
+        if (available != replicaAvailable) {
+            if (available) {
+                log.info("Read replica is available again, read only transactions are routed to it");
+            } else {
+                log.warn("Read replica is not available or lags too much, read only transactions fall back to the primary");
+            }
+            replicaAvailable = available;
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (replicaChecker != null) {
+            replicaChecker.shutdownNow();
+        }
+        for (final DataSource dataSource : new DataSource[] { replica, primary }) {
+            if (dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return route();
+    }
+
+    Route route() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || !replicaAvailable || isPrimaryPinned()) {
+            return Route.PRIMARY;
+        }
+        return Route.REPLICA;
+    }
+
+    static boolean isPrimaryPinned() {
+        return PRIMARY_PINNED.get();
+    }
+
+    static void setPrimaryPinned(final boolean pinned) {
+        if (pinned) {
+            PRIMARY_PINNED.set(Boolean.TRUE);
+        } else {
+            PRIMARY_PINNED.remove();
+        }
+    }
+
+    private boolean replicaAvailable0() {
+        try (final Connection connection = replica.getConnection()) {
+            if (ObjectUtils.isEmpty(lagQuery)) {
+                return connection.isValid(5);
+            }
+            try (final Statement statement = connection.createStatement(); final ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                final long lagSeconds = resultSet.next() ? resultSet.getLong(1) : 0;
+                log.trace("Read replica lag is {}s", lagSeconds);
+                return lagSeconds <= maxLagSeconds;
+            }
+        } catch (final SQLException e) {
+            log.debug("Read replica check failed", e);
+            return false;
+        }
+    }
+}
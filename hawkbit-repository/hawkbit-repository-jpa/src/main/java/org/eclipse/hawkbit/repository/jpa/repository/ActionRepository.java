@@ -22,8 +22,6 @@ import org.eclipse.hawkbit.repository.jpa.model.JpaRolloutGroup;
 import org.eclipse.hawkbit.repository.model.Action;
 import org.eclipse.hawkbit.repository.model.Action.Status;
 import org.eclipse.hawkbit.repository.model.DistributionSet;
-import org.eclipse.hawkbit.repository.model.Rollout;
-import org.eclipse.hawkbit.repository.model.RolloutGroup;
 import org.eclipse.hawkbit.repository.model.TotalTargetCountActionStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -78,6 +76,21 @@ public interface ActionRepository extends BaseEntityRepository<JpaAction> {
             @Param("statusToSet") Action.Status statusToSet, @Param("targetsIds") List<Long> targetIds,
             @Param("active") boolean active, @Param("currentStatus") Action.Status currentStatus);
 
+    /**
+     * Counts, per rollout group, the actions which would be switched by {@link #switchStatus(Status, List, boolean, Status)} - in
+     * order to count the bulk status switch in the rollout status counters.
+     * <p/>
+     * No access control applied
+     *
+     * @param targetIds the IDs of targets for the actions
+     * @param active active flag of the actions
+     * @param currentStatus the current status of the actions
+     * @return the count of the actions per rollout group id (actions out of rollouts are not counted)
+     */
+    @Query("SELECT NEW org.eclipse.hawkbit.repository.model.TotalTargetCountActionStatus(a.rolloutGroup.id, a.status, COUNT(a.id)) FROM JpaAction a WHERE a.target.id IN :targetsIds AND a.active = :active AND a.status = :currentStatus AND a.distributionSet.requiredMigrationStep = false GROUP BY a.rolloutGroup.id, a.status")
+    List<TotalTargetCountActionStatus> getStatusCountByRolloutGroupForSwitchStatus(
+            @Param("targetsIds") List<Long> targetIds, @Param("active") boolean active, @Param("currentStatus") Action.Status currentStatus);
+
     /**
      * Counts all {@link Action}s referring to the given target.
      * <p/>
@@ -273,50 +286,6 @@ public interface ActionRepository extends BaseEntityRepository<JpaAction> {
      */
     Page<JpaAction> findByRolloutIdAndStatus(Pageable pageable, Long rolloutId, Status actionStatus);
 
-    /**
-     * Get list of objects which has details of status and count of targets in each status in specified rollout.
-     * <p/>
-     * No access control applied
-     *
-     * @param rolloutId id of {@link Rollout}
-     * @return list of objects with status and target count
-     */
-    @Query("SELECT NEW org.eclipse.hawkbit.repository.model.TotalTargetCountActionStatus(a.rollout.id, a.status, COUNT(a.id)) FROM JpaAction a WHERE a.rollout.id = ?1 GROUP BY a.rollout.id,a.status")
-    List<TotalTargetCountActionStatus> getStatusCountByRolloutId(Long rolloutId);
-
-    /**
-     * Get list of objects which has details of status and count of targets in each status in specified rollout.
-     * <p/>
-     * No access control applied
-     *
-     * @param rolloutId id of {@link Rollout}
-     * @return list of objects with status and target count
-     */
-    @Query("SELECT NEW org.eclipse.hawkbit.repository.model.TotalTargetCountActionStatus(a.rollout.id, a.status, COUNT(a.id)) FROM JpaAction a WHERE a.rollout.id IN ?1 GROUP BY a.rollout.id,a.status")
-    List<TotalTargetCountActionStatus> getStatusCountByRolloutIds(List<Long> rolloutId);
-
-    /**
-     * Get list of objects which has details of status and count of targets in each status in specified rollout group.
-     * <p/>
-     * No access control applied
-     *
-     * @param rolloutGroupId id of {@link RolloutGroup}
-     * @return list of objects with status and target count
-     */
-    @Query("SELECT NEW org.eclipse.hawkbit.repository.model.TotalTargetCountActionStatus(a.rolloutGroup.id, a.status, COUNT(a.id)) FROM JpaAction a WHERE a.rolloutGroup.id = ?1 GROUP BY a.rolloutGroup.id, a.status")
-    List<TotalTargetCountActionStatus> getStatusCountByRolloutGroupId(Long rolloutGroupId);
-
-    /**
-     * Get list of objects which has details of status and count of targets in each status in specified rollout group.
-     * <p/>
-     * No access control applied
-     *
-     * @param rolloutGroupId list of id of {@link RolloutGroup}
-     * @return list of objects with status and target count
-     */
-    @Query("SELECT NEW org.eclipse.hawkbit.repository.model.TotalTargetCountActionStatus(a.rolloutGroup.id, a.status , COUNT(a.id)) FROM JpaAction a WHERE a.rolloutGroup.id IN ?1 GROUP BY a.rolloutGroup.id, a.status")
-    List<TotalTargetCountActionStatus> getStatusCountByRolloutGroupIds(List<Long> rolloutGroupId);
-
     /**
      * Updates the externalRef of an action by its actionId.
      *
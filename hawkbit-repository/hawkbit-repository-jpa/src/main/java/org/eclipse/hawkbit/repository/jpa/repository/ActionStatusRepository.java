@@ -9,6 +9,9 @@
  */
 package org.eclipse.hawkbit.repository.jpa.repository;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.eclipse.hawkbit.repository.jpa.model.JpaActionStatus;
 import org.eclipse.hawkbit.repository.model.Action;
 import org.eclipse.hawkbit.repository.model.ActionStatus;
@@ -59,4 +62,32 @@ public interface ActionStatusRepository extends BaseEntityRepository<JpaActionSt
      */
     @Query("SELECT message FROM JpaActionStatus actionstatus JOIN actionstatus.messages message WHERE actionstatus.action.id = :actionId AND message NOT LIKE :filter")
     Page<String> findMessagesByActionIdAndMessageNotLike(@Param("actionId") Long actionId, @Param("filter") String filter, Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * Retrieves the ids and the statuses of the {@link ActionStatus} entries of given {@link Action}, ordered by id.
+     * <p/>
+     * No access control applied
+     *
+     * @param actionId of the status entries
+     * @return list of id and status pairs
+     */
+    @Query("SELECT actionstatus.id, actionstatus.status FROM JpaActionStatus actionstatus WHERE actionstatus.action.id = :actionId ORDER BY actionstatus.id")
+    List<Object[]> findIdAndStatusByActionId(@Param("actionId") Long actionId);
+
+    /**
+     * Retrieves the ids of the actions, after the given one, having more than the given number of {@link ActionStatus} entries in
+     * the given statuses, ordered by id.
+     * <p/>
+     * No access control applied
+     *
+     * @param actionId the action id after which to search
+     * @param status the statuses of the counted status entries
+     * @param count the number of the status entries to exceed
+     * @param pageable for page configuration
+     * @return list of action ids
+     */
+    @Query("SELECT actionstatus.action.id FROM JpaActionStatus actionstatus WHERE actionstatus.action.id > :actionId AND actionstatus.status IN :status GROUP BY actionstatus.action.id HAVING COUNT(actionstatus.id) > :count ORDER BY actionstatus.action.id")
+    List<Long> findActionIdsByStatusCountGreaterThan(
+            @Param("actionId") long actionId, @Param("status") Collection<Action.Status> status, @Param("count") long count,
+            Pageable pageable);
+}
@@ -12,6 +12,7 @@ package org.eclipse.hawkbit.repository.jpa.repository;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -434,11 +435,13 @@ public class BaseEntityRepositoryProxy<T extends AbstractJpaBaseEntity> implemen
                         if (accessController != null && result != null) {
                             // Iterable, List, Page, Slice
                             if (Iterable.class.isAssignableFrom(method.getReturnType())) {
+                                final List<T> entities = new ArrayList<>();
                                 for (final Object e : (Iterable<?>) result) {
                                     if (repository.getDomainClass().isAssignableFrom(e.getClass())) {
-                                        accessController.assertOperationAllowed(Operation.READ, (T) e);
+                                        entities.add((T) e);
                                     }
                                 }
+                                accessController.assertOperationAllowed(Operation.READ, entities);
                             } else if (Optional.class.isAssignableFrom(method.getReturnType())) {
                                 return ((Optional<T>) result).filter(
                                         t -> {
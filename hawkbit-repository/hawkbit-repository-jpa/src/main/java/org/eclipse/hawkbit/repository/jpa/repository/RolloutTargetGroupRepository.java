@@ -13,7 +13,9 @@ import org.eclipse.hawkbit.repository.jpa.model.JpaRolloutGroup;
 import org.eclipse.hawkbit.repository.jpa.model.RolloutTargetGroup;
 import org.eclipse.hawkbit.repository.jpa.model.RolloutTargetGroupId;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -30,4 +32,13 @@ public interface RolloutTargetGroupRepository
      * @return count of targets in the group
      */
     Long countByRolloutGroup(JpaRolloutGroup rolloutGroup);
+
+    /**
+     * Retrieves the highest id of the targets in the specified rolloutGroup
+     *
+     * @param rolloutGroupId the id of the group to filter for
+     * @return the highest target id or <code>null</code> if the group has no targets
+     */
+    @Query("SELECT MAX(rtg.target.id) FROM RolloutTargetGroup rtg WHERE rtg.rolloutGroup.id = :rolloutGroupId")
+    Long findMaxTargetIdByRolloutGroupId(@Param("rolloutGroupId") long rolloutGroupId);
 }
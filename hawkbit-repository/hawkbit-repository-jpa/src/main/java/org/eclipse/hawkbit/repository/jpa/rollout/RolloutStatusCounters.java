@@ -0,0 +1,269 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.rollout;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections4.ListUtils;
+import org.eclipse.hawkbit.context.AccessContext;
+import org.eclipse.hawkbit.repository.jpa.Jpa;
+import org.eclipse.hawkbit.repository.jpa.configuration.Constants;
+import org.eclipse.hawkbit.repository.jpa.model.JpaAction;
+import org.eclipse.hawkbit.repository.jpa.model.JpaRolloutGroup;
+import org.eclipse.hawkbit.repository.model.Action.Status;
+import org.eclipse.hawkbit.repository.model.TotalTargetCountActionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Counters of the actions per rollout group (and rollout) and action {@link Status}, stored in <code>sp_rollout_status_count</code>.
+ * <p/>
+ * Each counter is split in {@link #SHARDS} rows (shards), created with the group, and is the sum of its shards. The action status
+ * transitions (creation, status change and removal of actions of a rollout group) are collected per transaction and are applied,
+ * just before the commit and as part of the transaction, as increments of the counters - in a randomly selected shard (the same for
+ * all the counters of the transaction, in a fixed order to avoid deadlocks). So the row locks held until the commit are spread over
+ * the shards and the concurrent feedback of the actions of a group (e.g. at the end of a rollout wave) doesn't serialize on a single
+ * row. The counters are consistent in the cluster and the rollout status overview is read in O(groups) instead of grouping the
+ * actions of the rollouts.
+ * <p/>
+ * Bulk deletes of actions which bypass the entity lifecycle are not counted, the counters drift until the next reconciliation
+ * ({@link #reconcile(List)}), run periodically as auto cleanup task, which recounts the counters (into shard 0) from the actions.
+ * These are the native deletes of the action cleanup (<code>deleteActionsByStatusAndLastModifiedBefore</code>) and of the oldest
+ * target actions, and the specification (rsql / target) bulk deletes of actions.
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@SuppressWarnings("java:S6548") // java:S6548 - singleton holder ensures static access to spring resources in some places
+public final class RolloutStatusCounters {
+
+    /**
+     * The number of the shards (rows) of each counter.
+     */
+    public static final int SHARDS = 8;
+
+    private static final RolloutStatusCounters SINGLETON = new RolloutStatusCounters();
+    private static final JpaAction.StatusConverter STATUS_CONVERTER = new JpaAction.StatusConverter();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * @return the rollout status counters singleton instance
+     */
+    public static RolloutStatusCounters getInstance() {
+        return SINGLETON;
+    }
+
+    /**
+     * Registers the creation of a rollout group - the counters of the group are created with it.
+     *
+     * @param rolloutGroup the created (not flushed yet) rollout group
+     */
+    public static void groupCreated(final JpaRolloutGroup rolloutGroup) {
+        transactionCounters().ifPresent(counters -> counters.createdGroups.add(rolloutGroup));
+    }
+
+    /**
+     * Registers a status transition of an action of a rollout group.
+     *
+     * @param rolloutGroupId supplier of the rollout group id, resolved on commit (after the flush) since new groups have no id yet
+     * @param from the previous status, <code>null</code> if the action is created
+     * @param to the new status, <code>null</code> if the action is removed
+     * @param count the number of actions which have made the transition
+     */
+    public static void statusChanged(final Supplier<Long> rolloutGroupId, final Status from, final Status to, final long count) {
+        transactionCounters().ifPresent(counters -> {
+            if (from != null) {
+                counters.deltas.add(new Delta(rolloutGroupId, from, -count));
+            }
+            if (to != null) {
+                counters.deltas.add(new Delta(rolloutGroupId, to, count));
+            }
+        });
+    }
+
+    /**
+     * Returns the action status counts of the given rollouts.
+     *
+     * @param rolloutIds the ids of the rollouts
+     * @return the (non-zero) action status counts per rollout id
+     */
+    public Map<Long, List<TotalTargetCountActionStatus>> getRolloutStatus(final List<Long> rolloutIds) {
+        return get("rollout", rolloutIds,
+                "SELECT rollout, status, SUM(action_count) FROM sp_rollout_status_count WHERE rollout IN (%s) GROUP BY rollout, status");
+    }
+
+    /**
+     * Returns the action status counts of the given rollout groups.
+     *
+     * @param rolloutGroupIds the ids of the rollout groups
+     * @return the (non-zero) action status counts per rollout group id
+     */
+    public Map<Long, List<TotalTargetCountActionStatus>> getRolloutGroupStatus(final List<Long> rolloutGroupIds) {
+        return get("rollout_group", rolloutGroupIds,
+                "SELECT rollout_group, status, SUM(action_count) FROM sp_rollout_status_count WHERE rollout_group IN (%s) " +
+                        "GROUP BY rollout_group, status");
+    }
+
+    /**
+     * Recounts the counters of the rollout groups of the current tenant from the actions - the count is stored in shard 0 and the other
+     * shards are reset (i.e. the shards are folded). Shall be called in a transaction.
+     *
+     * @param rolloutGroupIds the ids of the rollout groups, of the current tenant, to reconcile
+     * @return the number of the updated counters
+     */
+    public int reconcile(final List<Long> rolloutGroupIds) {
+        final char prefix = Jpa.nativeQueryParamPrefix();
+        int updated = 0;
+        for (final List<Long> chunk : ListUtils.partition(rolloutGroupIds, Constants.MAX_ENTRIES_IN_STATEMENT)) {
+            final String inGroups = " AND rollout_group IN (" + Jpa.formatNativeQueryInClause("group", chunk) + ")";
+            final Query reset = entityManager.createNativeQuery(
+                    "UPDATE sp_rollout_status_count SET action_count = 0 WHERE shard <> 0 AND action_count <> 0" + inGroups);
+            Jpa.setNativeQueryInParameter(reset, "group", chunk);
+            reset.executeUpdate();
+
+            final Query recount = entityManager.createNativeQuery(
+                    "UPDATE sp_rollout_status_count SET action_count = (" +
+                            "SELECT COUNT(*) FROM sp_action WHERE sp_action.tenant = " + prefix + "tenant" +
+                            " AND sp_action.rollout_group = sp_rollout_status_count.rollout_group" +
+                            " AND sp_action.status = sp_rollout_status_count.status" +
+                            ") WHERE shard = 0" + inGroups);
+            recount.setParameter("tenant", AccessContext.tenant().toUpperCase());
+            Jpa.setNativeQueryInParameter(recount, "group", chunk);
+            updated += recount.executeUpdate();
+        }
+        return updated;
+    }
+
+    /**
+     * Returns a chunk of the rollout group ids of the current tenant, e.g. for the reconciliation.
+     *
+     * @param afterId the id after which the chunk starts
+     * @param limit the max size of the chunk
+     * @return the rollout group ids, ascending
+     */
+    public List<Long> findRolloutGroupIds(final long afterId, final int limit) {
+        final char prefix = Jpa.nativeQueryParamPrefix();
+        final Query query = entityManager.createNativeQuery(
+                "SELECT id FROM sp_rollout_group WHERE tenant = " + prefix + "tenant AND id > " + prefix + "after ORDER BY id");
+        query.setParameter("tenant", AccessContext.tenant().toUpperCase());
+        query.setParameter("after", afterId);
+        query.setMaxResults(limit);
+        return ((List<?>) query.getResultList()).stream().map(id -> ((Number) id).longValue()).toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, List<TotalTargetCountActionStatus>> get(final String parameter, final List<Long> ids, final String sql) {
+        final Map<Long, List<TotalTargetCountActionStatus>> result = new HashMap<>();
+        for (final List<Long> chunk : ListUtils.partition(ids, Constants.MAX_ENTRIES_IN_STATEMENT)) {
+            final Query query = entityManager.createNativeQuery(String.format(sql, Jpa.formatNativeQueryInClause(parameter, chunk)));
+            Jpa.setNativeQueryInParameter(query, parameter, chunk);
+            for (final Object[] row : (List<Object[]>) query.getResultList()) {
+                final long count = ((Number) row[2]).longValue();
+                if (count > 0) {
+                    final long id = ((Number) row[0]).longValue();
+                    final Status status = STATUS_CONVERTER.convertToEntityAttribute(((Number) row[1]).intValue());
+                    result.computeIfAbsent(id, k -> new ArrayList<>()).add(new TotalTargetCountActionStatus(id, status, count));
+                }
+            }
+        }
+        return result;
+    }
+
+    private void apply(final TransactionCounters counters) {
+        // assigns the ids of the new groups and actions, and creates the group rows (referenced by the counters)
+        entityManager.flush();
+
+        final char prefix = Jpa.nativeQueryParamPrefix();
+        final String groupRows = Arrays.stream(Status.values())
+                .flatMap(status -> IntStream.range(0, SHARDS).mapToObj(shard -> "(" + prefix + "group, " + prefix + "rollout, " +
+                        STATUS_CONVERTER.convertToDatabaseColumn(status) + ", " + shard + ", 0)"))
+                .collect(Collectors.joining(", "));
+        for (final JpaRolloutGroup rolloutGroup : counters.createdGroups) {
+            final Query insert = entityManager.createNativeQuery(
+                    "INSERT INTO sp_rollout_status_count (rollout_group, rollout, status, shard, action_count) VALUES " + groupRows);
+            insert.setParameter("group", rolloutGroup.getId());
+            insert.setParameter("rollout", rolloutGroup.getRollout().getId());
+            insert.executeUpdate();
+        }
+
+        // sorted by group and status, so the rows are locked in the same order by all the transactions
+        final Map<Long, Map<Status, Long>> deltas = new TreeMap<>();
+        counters.deltas.forEach(delta -> {
+            final Long rolloutGroupId = delta.rolloutGroupId().get();
+            if (rolloutGroupId != null) {
+                deltas.computeIfAbsent(rolloutGroupId, k -> new EnumMap<>(Status.class)).merge(delta.status(), delta.count(), Long::sum);
+            }
+        });
+        final int shard = ThreadLocalRandom.current().nextInt(SHARDS);
+        deltas.forEach((rolloutGroupId, groupDeltas) -> groupDeltas.forEach((status, count) -> {
+            if (count != 0) {
+                final Query update = entityManager.createNativeQuery(
+                        "UPDATE sp_rollout_status_count SET action_count = action_count + " + prefix + "count" +
+                                " WHERE rollout_group = " + prefix + "group AND status = " + prefix + "status" +
+                                " AND shard = " + prefix + "shard");
+                update.setParameter("count", count);
+                update.setParameter("group", rolloutGroupId);
+                update.setParameter("status", STATUS_CONVERTER.convertToDatabaseColumn(status));
+                update.setParameter("shard", shard);
+                update.executeUpdate();
+            }
+        }));
+        log.trace("Applied {} rollout status counter deltas ({} groups created)", counters.deltas.size(), counters.createdGroups.size());
+    }
+
+    // the counters of the current transaction - not collected (i.e. left to the reconciliation) if there is no transaction
+    private static Optional<TransactionCounters> transactionCounters() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            log.debug("No active transaction, the rollout status counters are corrected by the reconciliation");
+            return Optional.empty();
+        }
+        return Optional.of(TransactionSynchronizationManager.getSynchronizations().stream()
+                .filter(TransactionCounters.class::isInstance)
+                .map(TransactionCounters.class::cast)
+                .findAny()
+                .orElseGet(() -> {
+                    final TransactionCounters counters = new TransactionCounters();
+                    TransactionSynchronizationManager.registerSynchronization(counters);
+                    return counters;
+                }));
+    }
+
+    private record Delta(Supplier<Long> rolloutGroupId, Status status, long count) {}
+
+    private static class TransactionCounters implements TransactionSynchronization {
+
+        private final List<JpaRolloutGroup> createdGroups = new ArrayList<>();
+        private final List<Delta> deltas = new ArrayList<>();
+
+        @Override
+        public void beforeCommit(final boolean readOnly) {
+            SINGLETON.apply(this);
+        }
+    }
+}
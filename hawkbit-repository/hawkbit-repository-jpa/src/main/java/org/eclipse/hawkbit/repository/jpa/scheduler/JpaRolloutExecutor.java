@@ -25,6 +25,11 @@ import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.StreamSupport;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
 
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.hawkbit.context.AccessContext;
@@ -43,14 +48,18 @@ import org.eclipse.hawkbit.repository.event.remote.entity.RolloutUpdatedEvent;
 import org.eclipse.hawkbit.repository.exception.AssignmentQuotaExceededException;
 import org.eclipse.hawkbit.repository.exception.EntityNotFoundException;
 import org.eclipse.hawkbit.repository.exception.RolloutIllegalStateException;
+import org.eclipse.hawkbit.repository.jpa.InsertSelect;
+import org.eclipse.hawkbit.repository.jpa.Jpa;
 import org.eclipse.hawkbit.repository.jpa.JpaManagementHelper;
 import org.eclipse.hawkbit.repository.jpa.acm.AccessController;
 import org.eclipse.hawkbit.repository.jpa.management.JpaRolloutManagement;
+import org.eclipse.hawkbit.repository.jpa.model.AbstractJpaBaseEntity_;
 import org.eclipse.hawkbit.repository.jpa.model.JpaAction;
 import org.eclipse.hawkbit.repository.jpa.model.JpaRollout;
 import org.eclipse.hawkbit.repository.jpa.model.JpaRolloutGroup;
 import org.eclipse.hawkbit.repository.jpa.model.JpaTarget;
 import org.eclipse.hawkbit.repository.jpa.model.RolloutTargetGroup;
+import org.eclipse.hawkbit.repository.jpa.model.RolloutTargetGroup_;
 import org.eclipse.hawkbit.repository.jpa.repository.ActionRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.RolloutGroupRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.RolloutRepository;
@@ -75,6 +84,7 @@ import org.eclipse.hawkbit.repository.model.RolloutGroup.RolloutGroupStatus;
 import org.eclipse.hawkbit.repository.model.RolloutGroup.RolloutGroupSuccessCondition;
 import org.eclipse.hawkbit.repository.model.Target;
 import org.eclipse.hawkbit.repository.qfields.TargetFields;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
@@ -126,6 +136,7 @@ public class JpaRolloutExecutor implements RolloutExecutor {
     private final EntityManager entityManager;
     private final PlatformTransactionManager txManager;
     private final RepositoryProperties repositoryProperties;
+    private final InsertSelect insertSelect; // null if not supported by the JPA vendor
     private final Map<Long, AtomicLong> lastDynamicGroupFill = new ConcurrentHashMap<>();
 
     @SuppressWarnings("java:S107")
@@ -137,7 +148,7 @@ public class JpaRolloutExecutor implements RolloutExecutor {
             final RolloutManagement rolloutManagement, final QuotaManagement quotaManagement,
             final RolloutGroupEvaluationManager evaluationManager, final RolloutApprovalStrategy rolloutApprovalStrategy,
             final EntityManager entityManager, final PlatformTransactionManager txManager,
-            final RepositoryProperties repositoryProperties) {
+            final RepositoryProperties repositoryProperties, final ObjectProvider<InsertSelect> insertSelect) {
         this.actionRepository = actionRepository;
         this.rolloutGroupRepository = rolloutGroupRepository;
         this.rolloutTargetGroupRepository = rolloutTargetGroupRepository;
@@ -152,6 +163,7 @@ public class JpaRolloutExecutor implements RolloutExecutor {
         this.entityManager = entityManager;
         this.txManager = txManager;
         this.repositoryProperties = repositoryProperties;
+        this.insertSelect = insertSelect.getIfAvailable();
     }
 
     @Override
@@ -584,16 +596,21 @@ public class JpaRolloutExecutor implements RolloutExecutor {
                 "countRolloutTargetGroupByRolloutGroup",
                 count -> rolloutTargetGroupRepository.countByRolloutGroup(group));
         try {
+            final long start = System.currentTimeMillis();
+            long lastTargetId = 0; // keyset - the targets are assigned in ascending id order, so every chunk continues after the previous
             while (targetsLeftToAdd > 0) {
                 // Add up to TRANSACTION_TARGETS of the left targets. In case a TransactionException is thrown this loop aborts
-                final long assigned = assignTargetsToGroupInNewTransaction(
-                        rollout, group, groupTargetFilter, Math.min(TRANSACTION_TARGETS, targetsLeftToAdd));
-                if (assigned == 0) {
+                final AssignedTargets assigned = assignTargetsToGroupInNewTransaction(
+                        rollout, group, groupTargetFilter, lastTargetId, Math.min(TRANSACTION_TARGETS, targetsLeftToAdd));
+                if (assigned.count() == 0) {
                     break; // percent > 100 or some could have disappeared
                 } else {
-                    targetsLeftToAdd -= assigned;
+                    targetsLeftToAdd -= assigned.count();
+                    lastTargetId = assigned.lastTargetId();
                 }
             }
+            log.debug("Rollout group {} filled with {} targets in {} ms",
+                    group.getId(), expectedInGroup - targetsLeftToAdd, System.currentTimeMillis() - start);
 
             group.setStatus(RolloutGroupStatus.READY);
             group.setTotalTargets((int) (expectedInGroup - targetsLeftToAdd));
@@ -604,27 +621,78 @@ public class JpaRolloutExecutor implements RolloutExecutor {
         }
     }
 
-    private int assignTargetsToGroupInNewTransaction(
-            final JpaRollout rollout, final RolloutGroup group, final String targetFilter, final long limit) {
+    // assigns the next (in ascending id order) up to limit targets, returns their count and the highest assigned target id
+    private AssignedTargets assignTargetsToGroupInNewTransaction(
+            final JpaRollout rollout, final RolloutGroup group, final String targetFilter, final long afterTargetId, final long limit) {
         return DeploymentHelper.runInNewTransaction(txManager, "assignTargetsToRolloutGroup", status -> {
-            final PageRequest pageRequest = PageRequest.of(0, Math.toIntExact(limit));
             final List<Long> readyGroups = RolloutHelper.getGroupsByStatusIncludingGroup(
                     rollout.getRolloutGroups(), RolloutGroupStatus.READY, group);
-            final Slice<Target> targets;
+            final Specification<JpaTarget> targets;
             if (!RolloutHelper.isRolloutRetried(rollout.getTargetFilterQuery())) {
-                targets = findByRsqlAndNotInRolloutGroupsAndCompatibleAndUpdatable(
-                        readyGroups, targetFilter, rollout.getDistributionSet().getTypeId(), pageRequest);
+                targets = byRsqlAndNotInRolloutGroupsAndCompatibleAndUpdatable(
+                        readyGroups, targetFilter, rollout.getDistributionSet().getTypeId(), afterTargetId);
             } else {
-                targets = findByFailedRolloutAndNotInRolloutGroups(
-                        RolloutHelper.getIdFromRetriedTargetFilter(rollout.getTargetFilterQuery()), readyGroups, pageRequest);
+                targets = byFailedRolloutAndNotInRolloutGroups(
+                        RolloutHelper.getIdFromRetriedTargetFilter(rollout.getTargetFilterQuery()), readyGroups, afterTargetId);
             }
 
-            rolloutTargetGroupRepository.saveAll(targets.stream().map(target -> new RolloutTargetGroup(group, target)).toList());
+            if (repositoryProperties.isSetBasedRolloutGroupFill() && insertSelect != null) {
+                final int inserted = insertSelectRolloutTargetGroups(group.getId(), targets, Math.toIntExact(limit));
+                if (inserted == 0) {
+                    return new AssignedTargets(0, afterTargetId);
+                }
+                // the targets are inserted in ascending id order - the ones of the previous chunks have lower ids
+                return new AssignedTargets(inserted, rolloutTargetGroupRepository.findMaxTargetIdByRolloutGroupId(group.getId()));
+            }
 
-            return targets.getNumberOfElements();
+            final List<Long> targetIds = findTargetIds(targets, Math.toIntExact(limit));
+            if (targetIds.isEmpty()) {
+                return new AssignedTargets(0, afterTargetId);
+            }
+            insertRolloutTargetGroups(group.getId(), targetIds);
+            return new AssignedTargets(targetIds.size(), targetIds.get(targetIds.size() - 1));
         });
     }
 
+    // Inserts the rollout group - target relations for the selected targets with a single INSERT ... SELECT statement, so the target
+    // ids don't go through the application at all. Only if the JPA vendor supports it (provides an InsertSelect).
+    private int insertSelectRolloutTargetGroups(final long groupId, final Specification<JpaTarget> targets, final int limit) {
+        final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        final Root<JpaRolloutGroup> groupRoot = query.from(JpaRolloutGroup.class);
+        final Root<JpaTarget> root = query.from(JpaTarget.class);
+        query.multiselect(groupRoot, root)
+                .where(cb.equal(groupRoot.get(AbstractJpaBaseEntity_.id), groupId), targets.toPredicate(root, query, cb))
+                .orderBy(cb.asc(root.get(AbstractJpaBaseEntity_.id)));
+        return insertSelect.insertSelect(
+                entityManager, RolloutTargetGroup.class,
+                List.of(RolloutTargetGroup_.rolloutGroup.getName(), RolloutTargetGroup_.target.getName()), query, limit);
+    }
+
+    // Inserts the rollout group - target relations for the given chunk of target ids. By default, with a single (set based)
+    // INSERT ... SELECT statement so the targets are neither loaded nor merged one by one. If disabled, falls back to persisting the
+    // relations with entity references.
+    private void insertRolloutTargetGroups(final long groupId, final List<Long> targetIds) {
+        if (repositoryProperties.isSetBasedRolloutGroupFill()) {
+            final Query insertQuery = entityManager.createNativeQuery(
+                    "INSERT INTO sp_rollout_target_group (rollout_group, target) " +
+                            "SELECT g.id, t.id FROM sp_rollout_group g, sp_target t " +
+                            "WHERE g.id = " + Jpa.nativeQueryParamPrefix() + "rollout_group " +
+                            "AND t.id IN (" + Jpa.formatNativeQueryInClause("tid", targetIds) + ")");
+            insertQuery.setParameter("rollout_group", groupId);
+            Jpa.setNativeQueryInParameter(insertQuery, "tid", targetIds);
+            final int inserted = insertQuery.executeUpdate();
+            if (inserted != targetIds.size()) {
+                log.warn("Inserted {} of {} targets into rollout group {}", inserted, targetIds.size(), groupId);
+            }
+        } else {
+            final JpaRolloutGroup group = entityManager.getReference(JpaRolloutGroup.class, groupId);
+            targetIds.forEach(targetId -> entityManager.persist(
+                    new RolloutTargetGroup(group, entityManager.getReference(JpaTarget.class, targetId))));
+            entityManager.flush();
+        }
+    }
+
     // return if group change is made
     private boolean fillDynamicRolloutGroupsWithTargets(final JpaRollout rollout) {
         final AtomicLong lastFill = lastDynamicGroupFill.computeIfAbsent(rollout.getId(), id -> new AtomicLong(0));
@@ -849,28 +917,51 @@ public class JpaRolloutExecutor implements RolloutExecutor {
                 .map(Target.class::cast);
     }
 
-    // Finds all targets for all the given parameter {@link TargetFilterQuery} and that are not assigned to one of the {@link RolloutGroup}s
-    // and are compatible with the passed {@link DistributionSetType}
-    private Slice<Target> findByRsqlAndNotInRolloutGroupsAndCompatibleAndUpdatable(
-            final Collection<Long> groups, final String rsql, final long dsTypeId, final Pageable pageable) {
-        return targetRepository
-                .findAllWithoutCount(AccessController.Operation.UPDATE,
-                        combineWithAnd(List.of(
-                                QLSupport.getInstance().buildSpec(rsql, TargetFields.class),
-                                TargetSpecifications.isNotInRolloutGroups(groups),
-                                TargetSpecifications.isCompatibleWithDistributionSetType(dsTypeId))),
-                        pageable)
-                .map(Target.class::cast);
+    // Specifies the targets (with id greater than the given one) for all the given parameter {@link TargetFilterQuery} and that
+    // are not assigned to one of the {@link RolloutGroup}s and are compatible with the passed {@link DistributionSetType}
+    private Specification<JpaTarget> byRsqlAndNotInRolloutGroupsAndCompatibleAndUpdatable(
+            final Collection<Long> groups, final String rsql, final long dsTypeId, final long afterTargetId) {
+        return withKeysetAndAccessRules(AccessController.Operation.UPDATE,
+                combineWithAnd(List.of(
+                        QLSupport.getInstance().buildSpec(rsql, TargetFields.class),
+                        TargetSpecifications.isNotInRolloutGroups(groups),
+                        TargetSpecifications.isCompatibleWithDistributionSetType(dsTypeId))),
+                afterTargetId);
     }
 
-    // Finds all targets with failed actions for specific Rollout and that are not assigned to one of the retried {@link RolloutGroup}s and
-    //  are compatible with the passed {@link DistributionSetType}.
-    private Slice<Target> findByFailedRolloutAndNotInRolloutGroups(
-            final String rolloutId, final Collection<Long> groups, final Pageable pageable) {
-        final List<Specification<JpaTarget>> specList = List.of(
-                TargetSpecifications.failedActionsForRollout(rolloutId),
-                TargetSpecifications.isNotInRolloutGroups(groups));
-        return JpaManagementHelper.findAllWithCountBySpec(targetRepository, specList, pageable);
+    // Specifies the targets (with id greater than the given one) with failed actions for specific Rollout and that are not assigned
+    // to one of the retried {@link RolloutGroup}s. As the count (countByFailedRolloutAndNotInRolloutGroups) - without access rules, the
+    // targets of the retried rollout have already been checked when the rollout has been created
+    private static Specification<JpaTarget> byFailedRolloutAndNotInRolloutGroups(
+            final String rolloutId, final Collection<Long> groups, final long afterTargetId) {
+        return withKeyset(
+                combineWithAnd(List.of(
+                        TargetSpecifications.failedActionsForRollout(rolloutId),
+                        TargetSpecifications.isNotInRolloutGroups(groups))),
+                afterTargetId);
+    }
+
+    private Specification<JpaTarget> withKeysetAndAccessRules(
+            final AccessController.Operation operation, final Specification<JpaTarget> spec, final long afterTargetId) {
+        final Specification<JpaTarget> keysetSpec = withKeyset(spec, afterTargetId);
+        return targetRepository.getAccessController()
+                .map(accessController -> accessController.appendAccessRules(operation, keysetSpec))
+                .orElse(keysetSpec);
+    }
+
+    private static Specification<JpaTarget> withKeyset(final Specification<JpaTarget> spec, final long afterTargetId) {
+        return combineWithAnd(List.of(spec, (root, query, cb) -> cb.greaterThan(root.get(AbstractJpaBaseEntity_.id), afterTargetId)));
+    }
+
+    // selects just the target ids (ascending) - no target entities are loaded
+    private List<Long> findTargetIds(final Specification<JpaTarget> targets, final int limit) {
+        final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        final Root<JpaTarget> root = query.from(JpaTarget.class);
+        query.select(root.get(AbstractJpaBaseEntity_.id))
+                .where(targets.toPredicate(root, query, cb))
+                .orderBy(cb.asc(root.get(AbstractJpaBaseEntity_.id)));
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
     }
 
     // Finds all targets of the provided {@link RolloutGroup} that have no Action for the RolloutGroup
@@ -906,4 +997,6 @@ public class JpaRolloutExecutor implements RolloutExecutor {
                 TargetSpecifications.isNotInRolloutGroups(groups));
         return JpaManagementHelper.countBySpec(targetRepository, specList);
     }
-}
\ No newline at end of file
+
+    private record AssignedTargets(int count, long lastTargetId) {}
+}
@@ -0,0 +1,123 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+
+import org.apache.commons.collections4.ListUtils;
+import org.eclipse.hawkbit.repository.RepositoryProperties;
+import org.eclipse.hawkbit.repository.jpa.Jpa;
+import org.eclipse.hawkbit.repository.jpa.configuration.Constants;
+import org.eclipse.hawkbit.repository.model.Action;
+
+/**
+ * Applies the {@link RepositoryProperties.ActionStatusCompaction} policy on the status history of an action. Only the intermediate
+ * (compactable, see {@link RepositoryProperties.ActionStatusCompaction#getStatuses()}) entries are removed:
+ * <ul>
+ *     <li>merge consecutive - of each run of consecutive entries with the same status only the first and the last are kept</li>
+ *     <li>max intermediate entries - if there are more intermediate entries, the first and the latest ones are kept</li>
+ * </ul>
+ * The first, the last and all the other (e.g. terminal) entries are always kept.
+ */
+public class ActionStatusCompactor {
+
+    private final RepositoryProperties.ActionStatusCompaction policy;
+
+    public ActionStatusCompactor(final RepositoryProperties.ActionStatusCompaction policy) {
+        this.policy = policy;
+    }
+
+    public boolean isActive() {
+        return policy.isMergeConsecutive() || policy.getMaxIntermediateEntries() > 0;
+    }
+
+    public boolean isCompactable(final Action.Status status) {
+        return policy.getStatuses().contains(status);
+    }
+
+    /**
+     * Finds the entries to be removed from the status history of an action.
+     *
+     * @param history the status history of the action, ordered by id (i.e. creation), the entries with <code>null</code> id are not
+     *         yet persisted - they count but are never returned
+     * @return the ids of the entries to be removed
+     */
+    public List<Long> findRemovable(final List<Entry> history) {
+        final List<Entry> kept = new ArrayList<>(history.size());
+        final List<Long> removable = new ArrayList<>();
+        for (int i = 0; i < history.size(); i++) {
+            final Entry entry = history.get(i);
+            if (policy.isMergeConsecutive() && i > 0 && i < history.size() - 1 && isCompactable(entry.status())
+                    && entry.status() == history.get(i - 1).status() && entry.status() == history.get(i + 1).status()) {
+                // in the middle of a run
+                remove(entry, removable);
+            } else {
+                kept.add(entry);
+            }
+        }
+
+        final int maxIntermediateEntries = policy.getMaxIntermediateEntries();
+        if (maxIntermediateEntries > 0) {
+            final List<Entry> intermediate = kept.stream().filter(entry -> isCompactable(entry.status())).toList();
+            // keep the first (index 0) and the latest ones
+            for (int i = 1; i <= intermediate.size() - Math.max(2, maxIntermediateEntries); i++) {
+                remove(intermediate.get(i), removable);
+            }
+        }
+        return removable;
+    }
+
+    /**
+     * Deletes the removable entries (and their messages) with bulk deletes, in chunks of {@link Constants#MAX_ENTRIES_IN_STATEMENT}
+     * ids - without loading them one by one.
+     *
+     * @param entityManager the entity manager
+     * @param removable the ids of the entries to be removed
+     */
+    public static void delete(final EntityManager entityManager, final List<Long> removable) {
+        ListUtils.partition(removable, Constants.MAX_ENTRIES_IN_STATEMENT).forEach(chunk -> {
+            // the messages are an element collection, not removed by the bulk delete (and with no foreign key if partitioned)
+            final Query deleteMessages = entityManager.createNativeQuery(
+                    "DELETE FROM sp_action_status_messages WHERE action_status IN (" + Jpa.formatNativeQueryInClause("id", chunk) + ")");
+            Jpa.setNativeQueryInParameter(deleteMessages, "id", chunk);
+            deleteMessages.executeUpdate();
+            entityManager.createQuery("DELETE FROM JpaActionStatus actionstatus WHERE actionstatus.id IN :ids")
+                    .setParameter("ids", chunk)
+                    .executeUpdate();
+        });
+    }
+
+    private static void remove(final Entry entry, final List<Long> removable) {
+        if (entry.id() != null) {
+            removable.add(entry.id());
+        }
+    }
+
+    /**
+     * An entry of the status history of an action.
+     *
+     * @param id the id of the action status, <code>null</code> if not yet persisted
+     * @param status the status
+     */
+    public record Entry(Long id, Action.Status status) {
+
+        /**
+         * @param idAndStatus the id and the status of a persisted action status
+         * @return the entry
+         */
+        public static Entry of(final Object[] idAndStatus) {
+            return new Entry((Long) idAndStatus[0], (Action.Status) idAndStatus[1]);
+        }
+    }
+}
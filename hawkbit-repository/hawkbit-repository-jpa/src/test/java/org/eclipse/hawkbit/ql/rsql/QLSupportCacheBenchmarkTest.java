@@ -0,0 +1,75 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.ql.rsql;
+
+import java.util.List;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.ql.jpa.QLSupport;
+import org.eclipse.hawkbit.repository.jpa.AbstractJpaIntegrationTest;
+import org.eclipse.hawkbit.repository.qfields.TargetFields;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Benchmark of the parse and transform pipeline of the {@link QLSupport} with and without the cache of the
+ * parsed queries, on realistic target filters (UI search, target filter queries, access scopes, auto assignment and rollout filters).
+ * <p/>
+ * The number of iterations could be raised via the <code>hawkbit.test.qlCache.iterations</code> system property. The durations are
+ * only logged, the cached filtering is verified by {@link RsqlTargetFieldTest}. Run with <code>-Pbenchmark</code>.
+ * <p/>
+ * Feature: Component Tests - Repository<br/>
+ * Story: RSQL search utility
+ */
+@Slf4j
+@Tag("benchmark")
+class QLSupportCacheBenchmarkTest extends AbstractJpaIntegrationTest {
+
+    private static final int ITERATIONS = Integer.getInteger("hawkbit.test.qlCache.iterations", 10_000);
+    private static final List<String> FILTERS = List.of(
+            "name==*device* or description==*device*",
+            "controllerId==gw-*;updateStatus==pending",
+            "tag==(red,green) and attribute.hwRevision==2.*",
+            "lastControllerRequestAt=le=${OVERDUE_TS}",
+            "targetType.key==gateway and (installedDS.version=ge=1.0 or assignedDS.name==base)",
+            "metadata.location==berlin;group==eu*;createdAt=gt=1700000000000");
+
+    /**
+     * Measures the parse and transform of the filters with and without the cache.
+     */
+    @Test
+    void parseAndTransformWithAndWithoutCache() {
+        final QLSupport qlSupport = QLSupport.getInstance();
+        try {
+            qlSupport.setNodeCache(false, 0);
+            final long uncachedMs = time(qlSupport);
+
+            qlSupport.setNodeCache(true, 10_000);
+            final long cachedMs = time(qlSupport);
+
+            final Cache<?, ?> cache = qlSupport.getNodeCache().orElseThrow();
+            log.info("Parse and transform of {} filters, {} iterations: {} ms without cache, {} ms with cache ({})",
+                    FILTERS.size(), ITERATIONS, uncachedMs, cachedMs, cache.stats());
+        } finally {
+            qlSupport.setNodeCache(true, 10_000);
+        }
+    }
+
+    private static long time(final QLSupport qlSupport) {
+        final long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            for (final String filter : FILTERS) {
+                qlSupport.entityMatcher(filter, TargetFields.class);
+            }
+        }
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+}
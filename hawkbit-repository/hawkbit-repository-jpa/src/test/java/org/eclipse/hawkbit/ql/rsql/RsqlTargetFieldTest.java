@@ -445,6 +445,27 @@ class RsqlTargetFieldTest extends AbstractJpaIntegrationTest {
                 .isThrownBy(() -> assertRSQLQuery("targettype.description==Description", 0));
     }
 
+    /**
+     * Verifies that the targets are filtered the same with and without the cache of the parsed queries and that a cached query is parsed
+     * once.
+     */
+    @Test
+    void shouldFilterTheSameWithAndWithoutQueryCache() {
+        final QLSupport qlSupport = QLSupport.getInstance();
+        final String rsql = TargetFields.ID.name() + "==targetId123* and tag==Tag3";
+        try {
+            qlSupport.setNodeCache(false, 0);
+            assertRSQLQuery(rsql, 3);
+
+            qlSupport.setNodeCache(true, 10_000);
+            assertRSQLQuery(rsql, 3);
+            assertRSQLQuery(rsql, 3);
+            assertThat(qlSupport.parse(rsql, TargetFields.class)).isSameAs(qlSupport.parse(rsql, TargetFields.class));
+        } finally {
+            qlSupport.setNodeCache(true, 10_000);
+        }
+    }
+
     private void assertRSQLQuery(final String rsql, final long expectedTargets) {
         final Page<? extends Target> findTargetPage = targetManagement.findByRsql(rsql, PAGE);
         assertThat(findTargetPage).isNotNull();
@@ -0,0 +1,281 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.sql.DataSource;
+
+import org.eclipse.hawkbit.repository.model.Action;
+import org.eclipse.hawkbit.repository.model.DistributionSet;
+import org.eclipse.hawkbit.repository.model.Rollout;
+import org.eclipse.hawkbit.repository.model.RolloutGroup.RolloutGroupStatus;
+import org.jspecify.annotations.NonNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.orm.jpa.vendor.Database;
+import org.springframework.test.context.ContextConfiguration;
+
+/**
+ * Query plan regression test for the hot {@code sp_action} / {@code sp_target} / {@code sp_rollout_group} access paths. Seeds a small
+ * dataset, captures the statements (SQL and bound parameters) the repository actually executes for the hot calls and asserts (via
+ * {@code EXPLAIN} of the captured statements) that their plans use the dedicated indexes of the {@code V1_20_5__hot_query_indexes}
+ * migration.
+ * <p/>
+ * The MySQL / PostgreSQL planners are statistics driven and could legitimately prefer full scans on such a small dataset. So, on
+ * PostgreSQL the sequential scans are disabled for the {@code EXPLAIN}, and on MySQL the index shall be at least a possible key.
+ * <p/>
+ * Feature: Component Tests - Repository<br/>
+ * Story: Hot query indexes
+ */
+@ContextConfiguration(classes = HotQueryIndexTest.StatementCaptureConfiguration.class)
+class HotQueryIndexTest extends AbstractJpaIntegrationTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    private Rollout rollout;
+
+    @BeforeEach
+    void seed() {
+        final DistributionSet ds = testdataFactory.createDistributionSet("idx");
+        testdataFactory.createTargets("idx-", 0, 50);
+        rollout = testdataFactory.createRolloutByVariables(
+                "idx", "idx", 5, "controllerid==idx-*", ds, "60", "30", Action.ActionType.FORCED, null, false);
+        assignDistributionSet(ds.getId(), "idx-0");
+        if (getDatabase() == Database.H2 || getDatabase() == Database.POSTGRESQL) {
+            new JdbcTemplate(capturing().getTargetDataSource()).execute("ANALYZE");
+        }
+    }
+
+    /**
+     * Verifies that the active action with the highest weight lookup (per target, ordered by weight and id) uses the
+     * target / active / weight index.
+     */
+    @Test
+    void activeActionWithHighestWeightUsesIndex() {
+        // the action with the highest weight is looked up first, then the oldest without weight
+        final List<CapturedStatement> statements = capturing().capture(
+                () -> controllerManagement.findActiveActionWithHighestWeight("idx-0"));
+        assertThat(explain(statements, "sp_action")).containsIgnoringCase("sp_idx_action_target_active_weight");
+    }
+
+    /**
+     * Verifies that the action cleanup by status and last modification uses the status / last modified index.
+     */
+    @Test
+    void actionCleanupUsesIndex() {
+        final List<CapturedStatement> statements = capturing().capture(
+                () -> deploymentManagement.deleteActionsByStatusAndLastModifiedBefore(
+                        Set.of(Action.Status.CANCELED, Action.Status.ERROR), 1000));
+        assertThat(explain(statements, "sp_action")).containsIgnoringCase("sp_idx_action_status_last_modified");
+    }
+
+    /**
+     * Verifies that the poll overdue queries (by last target query) use the last target query index.
+     */
+    @Test
+    void pollOverdueUsesIndex() {
+        final List<CapturedStatement> statements = capturing().capture(
+                () -> targetManagement.countByRsql("lastcontrollerrequestat=lt=1000"));
+        assertThat(explain(statements, "sp_target")).containsIgnoringCase("sp_idx_target_last_target_query");
+    }
+
+    /**
+     * Verifies that the rollout group scheduling lookup by rollout and status uses the rollout / status index.
+     */
+    @Test
+    void rolloutGroupsByRolloutAndStatusUseIndex() {
+        final List<CapturedStatement> statements = capturing().capture(
+                () -> rolloutGroupRepository.findByRolloutAndStatus(rollout, RolloutGroupStatus.READY));
+        assertThat(explain(statements, "sp_rollout_group")).containsIgnoringCase("sp_idx_rollout_group_rollout_status");
+    }
+
+    private StatementCapturingDataSource capturing() {
+        return (StatementCapturingDataSource) dataSource;
+    }
+
+    // explains the first captured statement on the table
+    private String explain(final List<CapturedStatement> statements, final String table) {
+        final CapturedStatement statement = statements.stream()
+                .filter(captured -> captured.sql().toLowerCase(Locale.ROOT).contains(table))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No statement on " + table + " captured: " + statements));
+        final boolean postgreSql = getDatabase() == Database.POSTGRESQL;
+        try (final Connection connection = capturing().getTargetDataSource().getConnection()) {
+            if (postgreSql) {
+                execute(connection, "SET enable_seqscan = off");
+            }
+            try (final PreparedStatement explain = connection.prepareStatement("EXPLAIN " + statement.sql())) {
+                statement.bind(explain);
+                final StringBuilder plan = new StringBuilder();
+                try (final ResultSet resultSet = explain.executeQuery()) {
+                    while (resultSet.next()) {
+                        for (int i = 1; i <= resultSet.getMetaData().getColumnCount(); i++) {
+                            plan.append(resultSet.getString(i)).append(' ');
+                        }
+                        plan.append('\n');
+                    }
+                }
+                return plan.toString();
+            } finally {
+                if (postgreSql) {
+                    execute(connection, "RESET enable_seqscan");
+                }
+            }
+        } catch (final SQLException e) {
+            throw new IllegalStateException("Failed to explain " + statement, e);
+        }
+    }
+
+    private static void execute(final Connection connection, final String sql) throws SQLException {
+        try (final Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    /**
+     * A statement executed while capturing - the SQL and the parameter setter calls (by parameter index).
+     */
+    record CapturedStatement(String sql, Map<Integer, ParameterSetter> parameters) {
+
+        void bind(final PreparedStatement statement) throws SQLException {
+            for (final ParameterSetter setter : parameters.values()) {
+                try {
+                    setter.method().invoke(statement, setter.args());
+                } catch (final IllegalAccessException | InvocationTargetException e) {
+                    throw new SQLException("Failed to bind parameter via " + setter.method().getName(), e);
+                }
+            }
+        }
+
+        @Override
+        public String toString() {
+            return sql;
+        }
+    }
+
+    record ParameterSetter(Method method, Object[] args) {}
+
+    /**
+     * {@link DataSource} that records the prepared statements executed while capturing.
+     */
+    static class StatementCapturingDataSource extends DelegatingDataSource {
+
+        private final List<CapturedStatement> statements = new CopyOnWriteArrayList<>();
+        private volatile boolean capturing;
+
+        StatementCapturingDataSource(final DataSource target) {
+            super(target);
+        }
+
+        List<CapturedStatement> capture(final Runnable runnable) {
+            statements.clear();
+            capturing = true;
+            try {
+                runnable.run();
+            } finally {
+                capturing = false;
+            }
+            return List.copyOf(statements);
+        }
+
+        @Override
+        @NonNull
+        public Connection getConnection() throws SQLException {
+            return connection(super.getConnection());
+        }
+
+        @Override
+        @NonNull
+        public Connection getConnection(@NonNull final String username, @NonNull final String password) throws SQLException {
+            return connection(super.getConnection(username, password));
+        }
+
+        private Connection connection(final Connection connection) {
+            return proxy(Connection.class, connection, (method, args) -> {
+                final Object result = method.invoke(connection, args);
+                if (result instanceof PreparedStatement preparedStatement && method.getName().startsWith("prepare")) {
+                    return preparedStatement(preparedStatement, (String) args[0]);
+                }
+                return result;
+            });
+        }
+
+        private PreparedStatement preparedStatement(final PreparedStatement preparedStatement, final String sql) {
+            final Map<Integer, ParameterSetter> parameters = new TreeMap<>();
+            return proxy(PreparedStatement.class, preparedStatement, (method, args) -> {
+                if (method.getName().startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                    parameters.put(index, new ParameterSetter(method, args.clone()));
+                } else if ("clearParameters".equals(method.getName())) {
+                    parameters.clear();
+                } else if (capturing && method.getName().startsWith("execute")) {
+                    statements.add(new CapturedStatement(sql, Map.copyOf(parameters)));
+                }
+                return method.invoke(preparedStatement, args);
+            });
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(final Class<T> type, final T target, final Invocation invocation) {
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, (proxy, method, args) -> {
+                try {
+                    return invocation.invoke(method, args);
+                } catch (final InvocationTargetException e) {
+                    throw e.getTargetException();
+                }
+            });
+        }
+
+        @FunctionalInterface
+        private interface Invocation {
+
+            Object invoke(Method method, Object[] args) throws IllegalAccessException, InvocationTargetException;
+        }
+    }
+
+    @Configuration
+    static class StatementCaptureConfiguration {
+
+        @Bean
+        static BeanPostProcessor statementCapturingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+
+                @Override
+                public Object postProcessAfterInitialization(@NonNull final Object bean, @NonNull final String beanName) {
+                    return "dataSource".equals(beanName) && bean instanceof DataSource target
+                            ? new StatementCapturingDataSource(target)
+                            : bean;
+                }
+            };
+        }
+    }
+}
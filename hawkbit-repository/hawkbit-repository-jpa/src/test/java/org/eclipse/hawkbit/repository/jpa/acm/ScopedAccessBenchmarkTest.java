@@ -0,0 +1,80 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.acm;
+
+import static org.eclipse.hawkbit.auth.SpPermission.READ_TARGET;
+import static org.eclipse.hawkbit.auth.SpPermission.UPDATE_TARGET;
+import static org.eclipse.hawkbit.repository.test.util.SecurityContextSwitch.runAs;
+
+import java.util.List;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.repository.model.Target;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+/**
+ * Benchmark of the scoped user operations - listing of targets and bulk tag assignment, which check the
+ * access of each target against the (cached, parsed once) scopes of the user.
+ * <p/>
+ * The number of targets and list rounds could be raised via the <code>hawkbit.test.scopedAccess.targets</code> and
+ * <code>hawkbit.test.scopedAccess.rounds</code> system properties. The durations are only logged, the scoped operations are verified by
+ * {@link TargetManagementTest}. Run with <code>-Pbenchmark</code>.
+ * <p/>
+ * Feature: Component Tests - Access Control<br/>
+ * Story: Test Target Access Controller
+ */
+@Slf4j
+@Tag("benchmark")
+class ScopedAccessBenchmarkTest extends AbstractAccessControllerManagementTest {
+
+    private static final int TARGETS = Integer.getInteger("hawkbit.test.scopedAccess.targets", 2_000);
+    private static final int ROUNDS = Integer.getInteger("hawkbit.test.scopedAccess.rounds", 10);
+    private static final int PAGE_SIZE = 500;
+
+    /**
+     * Measures the scoped listing and bulk tag assignment of the targets.
+     */
+    @Test
+    void scopedListAndBulkAssignment() {
+        final List<String> controllerIds = testdataFactory.createTargets(TARGETS, "scoped").stream().map(Target::getControllerId).toList();
+        targetManagement.assignTypeInBulkByRsql("controllerId==scoped*", targetType1.getId());
+        final Long tagId = testdataFactory.createTargetTags(1, "scoped").get(0).getId();
+        final String scope = "/type.id==" + targetType1.getId();
+
+        runAs(withAuthorities(READ_TARGET + scope), () -> {
+            final long start = System.nanoTime();
+            long count = 0;
+            for (int i = 0; i < ROUNDS; i++) {
+                count = countAll();
+            }
+            log.info("Scoped list of {} targets, {} rounds: {} ms", count, ROUNDS, (System.nanoTime() - start) / 1_000_000);
+        });
+
+        runAs(withAuthorities(READ_TARGET, UPDATE_TARGET + scope), () -> {
+            final long start = System.nanoTime();
+            final int assigned = targetManagement.assignTag(controllerIds, tagId).size();
+            log.info("Scoped bulk tag assignment of {} targets: {} ms", assigned, (System.nanoTime() - start) / 1_000_000);
+        });
+    }
+
+    private long countAll() {
+        long count = 0;
+        Page<? extends Target> page = targetManagement.findAll(PageRequest.of(0, PAGE_SIZE));
+        count += page.getNumberOfElements();
+        while (page.hasNext()) {
+            page = targetManagement.findAll(page.nextPageable());
+            count += page.getNumberOfElements();
+        }
+        return count;
+    }
+}
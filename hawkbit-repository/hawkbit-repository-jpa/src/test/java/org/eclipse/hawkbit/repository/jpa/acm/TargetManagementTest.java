@@ -221,6 +221,11 @@ class TargetManagementTest extends AbstractAccessControllerManagementTest {
                             .isInstanceOf(InsufficientPermissionException.class);
                     assertThatThrownBy(() -> targetManagement.unassignTag(target2Type2ControllerIdList, testTagId))
                             .isInstanceOf(InsufficientPermissionException.class);
+                    // a single target out of scope fails the whole bulk operation
+                    final List<String> mixedControllerIdList = List.of(target1Type1.getControllerId(), target2Type2ControllerId);
+                    assertThatThrownBy(() -> targetManagement.assignTag(mixedControllerIdList, testTagId))
+                            .isInstanceOf(InsufficientPermissionException.class);
+                    assertThat(targetManagement.findByTag(testTagId, UNPAGED)).isEmpty();
 
                     // type
                     final Long targetType2Id = targetType2.getId();
@@ -249,6 +254,21 @@ class TargetManagementTest extends AbstractAccessControllerManagementTest {
                 });
     }
 
+    @Test
+    void verifyBulkUpdateWithMultipleScopes() {
+        final Long testTagId = testdataFactory.createTargetTags(1, "testTag").get(0).getId();
+        final List<String> controllerIds = List.of(target1Type1.getControllerId(), target2Type2.getControllerId());
+        runAs(withAuthorities(
+                        READ_TARGET,
+                        UPDATE_TARGET + "/type.id==" + targetType1.getId(), UPDATE_TARGET + "/type.id==" + targetType2.getId()),
+                () -> {
+                    // the targets are in (different) scopes of the user
+                    assertThat(targetManagement.assignTag(controllerIds, testTagId))
+                            .extracting(Identifiable::getId).containsExactlyInAnyOrder(target1Type1.getId(), target2Type2.getId());
+                    assertThat(targetManagement.unassignTag(controllerIds, testTagId)).hasSize(2);
+                });
+    }
+
     @Test
     void verifyDeletion() {
         runAs(withAuthorities(READ_TARGET, DELETE_TARGET + "/type.id==" + targetType1.getId()), () -> {
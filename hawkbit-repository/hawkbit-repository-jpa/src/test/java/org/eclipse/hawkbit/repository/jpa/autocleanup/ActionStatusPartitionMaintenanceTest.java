@@ -0,0 +1,168 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.autocleanup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+
+import jakarta.persistence.EntityManager;
+
+import org.eclipse.hawkbit.repository.RepositoryProperties;
+import org.eclipse.hawkbit.repository.jpa.autocleanup.ActionStatusPartitionMaintenance.MySqlPartitionDialect;
+import org.eclipse.hawkbit.repository.jpa.autocleanup.ActionStatusPartitionMaintenance.Partition;
+import org.eclipse.hawkbit.repository.jpa.autocleanup.ActionStatusPartitionMaintenance.PartitionDialect;
+import org.eclipse.hawkbit.repository.jpa.autocleanup.ActionStatusPartitionMaintenance.PostgreSqlPartitionDialect;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.integration.support.locks.LockRegistry;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Test class for {@link ActionStatusPartitionMaintenance}.
+ * <p/>
+ * Feature: Unit Tests - Repository<br/>
+ * Story: Action status partition maintenance
+ */
+@ExtendWith(MockitoExtension.class)
+class ActionStatusPartitionMaintenanceTest {
+
+    private static final String TABLE = "sp_action_status";
+    private static final long NOW = millis("2026-01-10T12:00:00Z");
+
+    @Mock
+    private EntityManager entityManager;
+    @Mock
+    private PlatformTransactionManager txManager;
+    @Mock
+    private LockRegistry<Lock> lockRegistry;
+
+    /**
+     * Verifies that the MySQL partition descriptions are parsed to upper bounds - MAXVALUE is the catch-all partition.
+     */
+    @Test
+    void parsesMySqlPartitions() {
+        assertThat(MySqlPartitionDialect.toPartition(new Object[] { "p20260110", "1768089600000" }))
+                .isEqualTo(new Partition("p20260110", 1768089600000L));
+        assertThat(MySqlPartitionDialect.toPartition(new Object[] { "p_max", "MAXVALUE" }))
+                .isEqualTo(new Partition("p_max", null));
+    }
+
+    /**
+     * Verifies that the PostgreSQL partition bound expressions are parsed to upper bounds - DEFAULT is the catch-all partition.
+     */
+    @Test
+    void parsesPostgreSqlPartitions() {
+        assertThat(PostgreSqlPartitionDialect.toPartition(
+                new Object[] { "sp_action_status_p20260110", "FOR VALUES FROM ('1768003200000') TO ('1768089600000')" }))
+                .isEqualTo(new Partition("sp_action_status_p20260110", 1768089600000L));
+        assertThat(PostgreSqlPartitionDialect.toPartition(new Object[] { "sp_action_status_p0", "FOR VALUES FROM (MINVALUE) TO (0)" }))
+                .isEqualTo(new Partition("sp_action_status_p0", 0L));
+        assertThat(PostgreSqlPartitionDialect.toPartition(new Object[] { "sp_action_status_default", "DEFAULT" }))
+                .isEqualTo(new Partition("sp_action_status_default", null));
+    }
+
+    /**
+     * Verifies that the partitions are created ahead (from the highest upper bound on) and only the partitions with history older
+     * than the retention are dropped - never the catch-all partition.
+     */
+    @Test
+    void createsAheadAndDropsExpiredPartitions() {
+        final FakePartitionDialect dialect = new FakePartitionDialect(List.of(
+                new Partition("p20251230", millis("2025-12-31T00:00:00Z")),
+                new Partition("p20260102", millis("2026-01-03T00:00:00Z")),
+                new Partition("p20260103", millis("2026-01-04T00:00:00Z")),
+                new Partition("p20260110", millis("2026-01-11T00:00:00Z")),
+                new Partition("p_max", null)));
+
+        // retention 7 days -> expired before 2026-01-03T12:00, created ahead until 2026-01-13T12:00
+        maintenance(dialect, 1, 3, 7).maintain(TABLE, NOW);
+
+        assertThat(dialect.created).containsExactly(
+                "p20260111 [2026-01-11T00:00:00Z, 2026-01-12T00:00:00Z)",
+                "p20260112 [2026-01-12T00:00:00Z, 2026-01-13T00:00:00Z)",
+                "p20260113 [2026-01-13T00:00:00Z, 2026-01-14T00:00:00Z)");
+        assertThat(dialect.dropped).containsExactly("p20251230", "p20260102");
+    }
+
+    /**
+     * Verifies that if there is only the catch-all partition the partitions are created from the start of the current day on, with
+     * the configured number of days per partition.
+     */
+    @Test
+    void createsFromTheCurrentDayIfThereAreNoBoundedPartitions() {
+        final FakePartitionDialect dialect = new FakePartitionDialect(List.of(new Partition("p_max", null)));
+
+        maintenance(dialect, 2, 3, 7).maintain(TABLE, NOW);
+
+        assertThat(dialect.created).containsExactly(
+                "p20260110 [2026-01-10T00:00:00Z, 2026-01-12T00:00:00Z)",
+                "p20260112 [2026-01-12T00:00:00Z, 2026-01-14T00:00:00Z)");
+        assertThat(dialect.dropped).isEmpty();
+    }
+
+    /**
+     * Verifies that a table which is not partitioned is left untouched.
+     */
+    @Test
+    void skipsNotPartitionedTable() {
+        final FakePartitionDialect dialect = new FakePartitionDialect(List.of());
+
+        maintenance(dialect, 1, 3, 7).maintain(TABLE, NOW);
+
+        assertThat(dialect.created).isEmpty();
+        assertThat(dialect.dropped).isEmpty();
+    }
+
+    private ActionStatusPartitionMaintenance maintenance(
+            final PartitionDialect dialect, final int partitionDays, final int precreateDays, final int retentionDays) {
+        final RepositoryProperties repositoryProperties = new RepositoryProperties();
+        repositoryProperties.getActionStatusPartitioning().setPartitionDays(partitionDays);
+        repositoryProperties.getActionStatusPartitioning().setPrecreateDays(precreateDays);
+        repositoryProperties.getActionStatusPartitioning().setRetentionDays(retentionDays);
+        return new ActionStatusPartitionMaintenance(entityManager, txManager, lockRegistry, repositoryProperties, dialect);
+    }
+
+    private static long millis(final String instant) {
+        return Instant.parse(instant).toEpochMilli();
+    }
+
+    private static class FakePartitionDialect implements PartitionDialect {
+
+        private final List<Partition> partitions;
+        private final List<String> created = new ArrayList<>();
+        private final List<String> dropped = new ArrayList<>();
+
+        private FakePartitionDialect(final List<Partition> partitions) {
+            this.partitions = partitions;
+        }
+
+        @Override
+        public List<Partition> findPartitions(final EntityManager entityManager, final String table) {
+            return partitions;
+        }
+
+        @Override
+        public void createPartition(
+                final EntityManager entityManager, final String table, final String name, final long lowerBound, final long upperBound) {
+            created.add(name + " [" + Instant.ofEpochMilli(lowerBound) + ", " + Instant.ofEpochMilli(upperBound) + ")");
+        }
+
+        @Override
+        public void dropPartition(final EntityManager entityManager, final String table, final String name) {
+            dropped.add(name);
+        }
+    }
+}
@@ -14,11 +14,13 @@ import static org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationPrope
 import static org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationProperties.TenantConfigurationKey.ACTION_CLEANUP_AUTO_STATUS;
 
 import java.util.Arrays;
+import java.util.List;
 import java.util.stream.Collectors;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 
+import org.eclipse.hawkbit.repository.RepositoryProperties;
 import org.eclipse.hawkbit.repository.jpa.AbstractJpaIntegrationTest;
 import org.eclipse.hawkbit.repository.jpa.Jpa;
 import org.eclipse.hawkbit.repository.model.Action;
@@ -49,6 +51,9 @@ class AutoActionCleanupTest extends AbstractJpaIntegrationTest {
     @Autowired
     private PlatformTransactionManager txManager;
 
+    @Autowired
+    private RepositoryProperties repositoryProperties;
+
     /**
      * Verifies that running actions are not cleaned up.
      */
@@ -216,6 +221,38 @@ class AutoActionCleanupTest extends AbstractJpaIntegrationTest {
         assertThat(actionRepository.findById(action3)).isPresent();
     }
 
+    /**
+     * Verifies that the cleanup deletes up to the configured max number of (limited) delete batches per run.
+     */
+    @Test
+    void actionsAreCleanedUpInMoreBatches() {
+        setupCleanupConfiguration(0, Action.Status.CANCELED);
+
+        // a delete batch is limited to 1000 actions
+        final List<String> controllerIds = testdataFactory.createTargets(2001).stream().map(Target::getControllerId).toList();
+        final DistributionSet ds = testdataFactory.createDistributionSet("ds");
+        assignDistributionSet(ds.getId(), controllerIds, Action.ActionType.FORCED);
+        assertThat(actionRepository.count()).isEqualTo(2001);
+        new TransactionTemplate(txManager).executeWithoutResult(status -> entityManager
+                .createNativeQuery("UPDATE sp_action SET status = " + Jpa.nativeQueryParamPrefix() + "status")
+                .setParameter("status", Status.CANCELED.ordinal())
+                .executeUpdate());
+        waitNextMillis();
+
+        final int maxBatches = repositoryProperties.getActionCleanupMaxBatches();
+        try {
+            repositoryProperties.setActionCleanupMaxBatches(1);
+            autoActionCleanup.run();
+            assertThat(actionRepository.count()).isEqualTo(1001);
+
+            repositoryProperties.setActionCleanupMaxBatches(2);
+            autoActionCleanup.run();
+            assertThat(actionRepository.count()).isZero();
+        } finally {
+            repositoryProperties.setActionCleanupMaxBatches(maxBatches);
+        }
+    }
+
     private void setActionToCanceled(final Long id) {
         deploymentManagement.cancelAction(id);
         deploymentManagement.forceQuitAction(id);
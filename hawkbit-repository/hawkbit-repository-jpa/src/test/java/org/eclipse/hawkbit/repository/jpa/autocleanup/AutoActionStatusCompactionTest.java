@@ -0,0 +1,134 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.autocleanup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.eclipse.hawkbit.repository.RepositoryProperties;
+import org.eclipse.hawkbit.repository.jpa.AbstractJpaIntegrationTest;
+import org.eclipse.hawkbit.repository.model.Action.ActionStatusCreate;
+import org.eclipse.hawkbit.repository.model.Action.Status;
+import org.eclipse.hawkbit.repository.model.ActionStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Test class for the action status compaction - on status update and by the {@link AutoActionStatusCompaction}.
+ * <p/>
+ * Feature: Component Tests - Repository<br/>
+ * Story: Action status compaction
+ */
+@SuppressWarnings("java:S6813") // constructor injects are not possible for test classes
+class AutoActionStatusCompactionTest extends AbstractJpaIntegrationTest {
+
+    @Autowired
+    private AutoActionStatusCompaction autoActionStatusCompaction;
+    @Autowired
+    private RepositoryProperties repositoryProperties;
+
+    @AfterEach
+    void resetCompaction() {
+        final RepositoryProperties.ActionStatusCompaction compaction = repositoryProperties.getActionStatusCompaction();
+        compaction.setMergeConsecutive(false);
+        compaction.setMaxIntermediateEntries(0);
+    }
+
+    /**
+     * Verifies that of the consecutive intermediate statuses of the same type only the first and the last are kept.
+     */
+    @Test
+    void consecutiveStatusesAreMerged() {
+        repositoryProperties.getActionStatusCompaction().setMergeConsecutive(true);
+        final Long actionId = createAction();
+        final int initial = history(actionId).size();
+
+        for (int i = 0; i < 10; i++) {
+            addStatus(actionId, Status.DOWNLOAD, "download " + i);
+        }
+        for (int i = 0; i < 10; i++) {
+            addStatus(actionId, Status.RUNNING, "running " + i);
+        }
+        addStatus(actionId, Status.FINISHED, "finished");
+
+        final List<ActionStatus> history = history(actionId);
+        assertThat(history).hasSize(initial + 5);
+        assertThat(history.subList(initial, history.size())).extracting(ActionStatus::getStatus)
+                .containsExactly(Status.DOWNLOAD, Status.DOWNLOAD, Status.RUNNING, Status.RUNNING, Status.FINISHED);
+        assertThat(messages(history.get(initial + 1))).containsExactly("download 9");
+        assertThat(messages(history.get(initial + 3))).containsExactly("running 9");
+    }
+
+    /**
+     * Verifies that only the first and the latest intermediate statuses are kept if the max is exceeded.
+     */
+    @Test
+    void intermediateStatusesAreCapped() {
+        repositoryProperties.getActionStatusCompaction().setMaxIntermediateEntries(5);
+        final Long actionId = createAction();
+        final ActionStatus first = history(actionId).get(0);
+
+        for (int i = 0; i < 20; i++) {
+            addStatus(actionId, i % 2 == 0 ? Status.DOWNLOAD : Status.RUNNING, "progress " + i);
+        }
+        addStatus(actionId, Status.FINISHED, "finished");
+
+        final List<ActionStatus> history = history(actionId);
+        assertThat(history.get(0).getId()).isEqualTo(first.getId());
+        assertThat(history.stream().filter(status -> status.getStatus() == Status.DOWNLOAD || status.getStatus() == Status.RUNNING))
+                .hasSize(5);
+        assertThat(history.get(history.size() - 1).getStatus()).isEqualTo(Status.FINISHED);
+        assertThat(messages(history.get(history.size() - 2))).containsExactly("progress 19");
+    }
+
+    /**
+     * Verifies that the existing history is compacted by the cleanup task and the task does nothing if the compaction is disabled.
+     */
+    @Test
+    void existingHistoryIsCompacted() {
+        final Long actionId = createAction();
+        final int initial = history(actionId).size();
+        for (int i = 0; i < 20; i++) {
+            addStatus(actionId, Status.RUNNING, "running " + i);
+        }
+        assertThat(history(actionId)).hasSize(initial + 20);
+
+        autoActionStatusCompaction.run();
+        assertThat(history(actionId)).hasSize(initial + 20);
+
+        repositoryProperties.getActionStatusCompaction().setMergeConsecutive(true);
+        autoActionStatusCompaction.run();
+        final List<ActionStatus> history = history(actionId);
+        assertThat(history.stream().filter(status -> status.getStatus() == Status.RUNNING)).hasSizeLessThanOrEqualTo(2);
+        assertThat(messages(history.get(history.size() - 1))).containsExactly("running 19");
+    }
+
+    private Long createAction() {
+        return getFirstAssignedActionId(assignDistributionSet(
+                testdataFactory.createDistributionSet().getId(), testdataFactory.createTarget().getControllerId()));
+    }
+
+    private void addStatus(final Long actionId, final Status status, final String message) {
+        controllerManagement.addUpdateActionStatus(
+                ActionStatusCreate.builder().actionId(actionId).status(status).messages(List.of(message)).build());
+    }
+
+    private List<ActionStatus> history(final Long actionId) {
+        return deploymentManagement.findActionStatusByAction(actionId, PageRequest.of(0, 500, Sort.by("id"))).getContent();
+    }
+
+    private List<String> messages(final ActionStatus actionStatus) {
+        return deploymentManagement.findMessagesByActionStatusId(actionStatus.getId(), PAGE).getContent();
+    }
+}
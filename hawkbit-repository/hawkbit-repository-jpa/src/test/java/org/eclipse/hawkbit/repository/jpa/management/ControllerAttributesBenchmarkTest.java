@@ -0,0 +1,97 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.management;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.repository.UpdateMode;
+import org.eclipse.hawkbit.repository.jpa.AbstractJpaIntegrationTest;
+import org.eclipse.hawkbit.repository.test.util.QueryCount;
+import org.eclipse.hawkbit.repository.test.util.QueryCountConfiguration;
+import org.eclipse.hawkbit.repository.test.util.SecurityContextSwitch;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Benchmark of the diff based controller attributes update - reports the executed (non select) statements per update, recorded
+ * by the {@link QueryCount}.
+ * <p/>
+ * The number of updates could be raised via the <code>hawkbit.test.controllerAttributes.updates</code> system property. The
+ * durations and statement counts are only logged, the delta writes are verified by {@link ControllerManagementTest}. Run with
+ * <code>-Pbenchmark</code>.
+ * <p/>
+ * Feature: Component Tests - Repository<br/>
+ * Story: Controller Management
+ */
+@Slf4j
+@Tag("benchmark")
+@Import(QueryCountConfiguration.class)
+class ControllerAttributesBenchmarkTest extends AbstractJpaIntegrationTest {
+
+    private static final int UPDATES = Integer.getInteger("hawkbit.test.controllerAttributes.updates", 500);
+    private static final int ATTRIBUTES = 50;
+    private static final String CONTROLLER_ID = "attributesBenchmark";
+
+    @Autowired
+    private QueryCount queryCount;
+
+    /**
+     * Measures the updates not changing the attributes, changing a single attribute value, adding / removing a single attribute and
+     * replacing all the attribute values.
+     */
+    @Test
+    void updateControllerAttributes() {
+        testdataFactory.createTarget(CONTROLLER_ID);
+        final Map<String, String> attributes = new HashMap<>();
+        for (int i = 0; i < ATTRIBUTES; i++) {
+            attributes.put("key" + i, "value" + i);
+        }
+
+        SecurityContextSwitch.runAs(SecurityContextSwitch.withController(CONTROLLER_ID), () -> {
+            controllerManagement.updateControllerAttributes(CONTROLLER_ID, attributes, UpdateMode.REPLACE);
+
+            measure("Unchanged attributes", i -> attributes, i -> UpdateMode.MERGE);
+            measure("Change of a single value", i -> Map.of("key0", "changed" + i), i -> UpdateMode.MERGE);
+            measure("Alternating add / remove of a single attribute",
+                    i -> Map.of("added", "value"), i -> i % 2 == 0 ? UpdateMode.MERGE : UpdateMode.REMOVE);
+            measure("Replace of all values", i -> replaced(attributes, i), i -> UpdateMode.REPLACE);
+        });
+    }
+
+    private void measure(final String name, final IntFunction<Map<String, String>> update, final IntFunction<UpdateMode> mode) {
+        queryCount.resetQueries();
+        final long start = System.nanoTime();
+        for (int i = 0; i < UPDATES; i++) {
+            controllerManagement.updateControllerAttributes(CONTROLLER_ID, update.apply(i), mode.apply(i));
+        }
+        log.info("{} - {} updates: {} ms, {} statements per update ({} writes)",
+                name, UPDATES, (System.nanoTime() - start) / 1_000_000,
+                (double) queryCount.getAllStatements().size() / UPDATES, (double) writes() / UPDATES);
+    }
+
+    private long writes() {
+        return queryCount.getAllStatements().stream()
+                .map(statement -> statement.stripLeading().toLowerCase(Locale.ROOT))
+                .filter(statement -> !statement.startsWith("select"))
+                .count();
+    }
+
+    private static Map<String, String> replaced(final Map<String, String> attributes, final int i) {
+        final Map<String, String> replaced = new HashMap<>();
+        attributes.forEach((key, value) -> replaced.put(key, value + "-" + i));
+        return replaced;
+    }
+}
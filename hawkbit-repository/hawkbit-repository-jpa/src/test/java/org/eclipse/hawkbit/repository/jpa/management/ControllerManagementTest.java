@@ -23,10 +23,12 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.ByteArrayInputStream;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.IntConsumer;
@@ -35,6 +37,7 @@ import java.util.stream.IntStream;
 import jakarta.validation.ConstraintViolationException;
 
 import org.assertj.core.api.Assertions;
+import org.awaitility.Awaitility;
 import org.eclipse.hawkbit.auth.SpPermission;
 import org.eclipse.hawkbit.repository.RepositoryProperties;
 import org.eclipse.hawkbit.repository.TargetTypeManagement;
@@ -72,17 +75,21 @@ import org.eclipse.hawkbit.repository.model.Artifact;
 import org.eclipse.hawkbit.repository.model.ArtifactUpload;
 import org.eclipse.hawkbit.repository.model.DistributionSet;
 import org.eclipse.hawkbit.repository.model.DistributionSetAssignmentResult;
+import org.eclipse.hawkbit.repository.model.DistributionSetGraph;
 import org.eclipse.hawkbit.repository.model.SoftwareModule;
 import org.eclipse.hawkbit.repository.model.Target;
 import org.eclipse.hawkbit.repository.model.TargetUpdateStatus;
 import org.eclipse.hawkbit.repository.test.matcher.Expect;
 import org.eclipse.hawkbit.repository.test.matcher.ExpectEvents;
+import org.eclipse.hawkbit.repository.test.util.QueryCount;
+import org.eclipse.hawkbit.repository.test.util.QueryCountConfiguration;
 import org.eclipse.hawkbit.repository.test.util.SecurityContextSwitch;
 import org.eclipse.hawkbit.repository.test.util.TargetTestData;
 import org.eclipse.hawkbit.repository.test.util.WithUser;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
 import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.data.jpa.domain.Specification;
 
@@ -90,10 +97,13 @@ import org.springframework.data.jpa.domain.Specification;
  * Feature: Component Tests - Repository<br/>
  * Story: Controller Management
  */
+@Import(QueryCountConfiguration.class)
 class ControllerManagementTest extends AbstractJpaIntegrationTest {
 
     @Autowired
     private RepositoryProperties repositoryProperties;
+    @Autowired
+    private QueryCount queryCount;
 
     /**
      * Ensures that target attribute update fails if quota hits.
@@ -996,6 +1006,32 @@ class ControllerManagementTest extends AbstractJpaIntegrationTest {
         result.forEach((key, value) -> assertThat(value).hasSize(1));
     }
 
+    /**
+     * Verify that the distribution set graph is cached only for locked distribution sets and is evicted on distribution set update
+     */
+    @Test
+    void getDistributionSetGraphIsCachedOnlyIfLocked() {
+        final DistributionSet set = testdataFactory.createDistributionSet();
+        testdataFactory.addSoftwareModuleMetadata(set);
+
+        final DistributionSetGraph notLocked = controllerManagement.getDistributionSetGraph(set.getId());
+        assertThat(notLocked.locked()).isFalse();
+        assertThat(notLocked.modules()).hasSize(3).allSatisfy(module -> assertThat(module.metadata()).hasSize(1));
+        assertThat(controllerManagement.getDistributionSetGraph(set.getId())).isNotSameAs(notLocked);
+
+        final DistributionSet lockedSet = distributionSetManagement.lock(set);
+        final DistributionSetGraph locked = controllerManagement.getDistributionSetGraph(set.getId());
+        assertThat(locked.locked()).isTrue();
+        assertThat(controllerManagement.getDistributionSetGraph(set.getId())).isSameAs(locked);
+
+        // update (unlock) evicts the cached graph (and, since not locked anymore, it is not cached anymore)
+        distributionSetManagement.unlock(lockedSet);
+        Awaitility.await()
+                .atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(controllerManagement.getDistributionSetGraph(set.getId())).isNotSameAs(locked));
+        assertThat(controllerManagement.getDistributionSetGraph(set.getId()).locked()).isFalse();
+    }
+
     /**
      * Verify that controller registration does not result in a TargetPollEvent if feature is disabled
      */
@@ -1202,6 +1238,32 @@ class ControllerManagementTest extends AbstractJpaIntegrationTest {
         updateTargetAttributesWithUpdateModeRemove(controllerId);
     }
 
+    /**
+     * Verifies that an attributes update writes only the changed attributes - nothing if no attribute is changed.
+     */
+    @Test
+    void updateControllerAttributesWritesDeltasOnly() {
+        final String controllerId = "deltaCtrl";
+        testdataFactory.createTarget(controllerId);
+        final Map<String, String> attributes = new HashMap<>();
+        for (int i = 0; i < 10; i++) {
+            attributes.put("key" + i, "value" + i);
+        }
+        controllerManagement.updateControllerAttributes(controllerId, attributes, UpdateMode.REPLACE);
+        final int optLockRevision = targetManagement.getByControllerId(controllerId).getOptLockRevision();
+
+        queryCount.resetQueries();
+        controllerManagement.updateControllerAttributes(controllerId, attributes, UpdateMode.MERGE);
+        assertThat(writesTo("sp_target")).as("Unchanged attributes shall not be written").isEmpty();
+        assertThat(targetManagement.getByControllerId(controllerId).getOptLockRevision()).isEqualTo(optLockRevision);
+
+        queryCount.resetQueries();
+        controllerManagement.updateControllerAttributes(controllerId, Map.of("key0", "changed"), UpdateMode.MERGE);
+        assertThat(writesTo("sp_target_attributes")).as("Only the changed attribute shall be written").hasSize(1);
+        attributes.put("key0", "changed");
+        assertThat(targetManagement.getControllerAttributes(controllerId)).isEqualTo(attributes);
+    }
+
     /**
      * Verifies that a DOWNLOAD_ONLY action is marked complete once the controller reports DOWNLOADED
      */
@@ -1760,6 +1822,14 @@ class ControllerManagementTest extends AbstractJpaIntegrationTest {
         }
     }
 
+    // the non select statements on the table (or on the tables with that prefix)
+    private List<String> writesTo(final String table) {
+        return queryCount.getAllStatements().stream()
+                .map(statement -> statement.stripLeading().toLowerCase(Locale.ROOT))
+                .filter(statement -> !statement.startsWith("select") && statement.contains(table))
+                .toList();
+    }
+
     private void createTargetType(String targetTypeName) {
         asSystem(() -> targetTypeManagement.create(TargetTypeManagement.Create.builder().name(targetTypeName).build()));
     }
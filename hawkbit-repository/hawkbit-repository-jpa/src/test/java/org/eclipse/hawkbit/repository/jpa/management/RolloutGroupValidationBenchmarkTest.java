@@ -0,0 +1,82 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.management;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.repository.jpa.AbstractJpaIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Benchmark of the single pass rollout group target counting
+ * ({@link org.eclipse.hawkbit.repository.TargetManagement#countByRsqlAndCompatibleGroupedByFilters}) against the per group counting -
+ * one count per group filter plus one count per group with the ever-growing OR filter of the previous groups.
+ * <p/>
+ * The number of targets could be raised via the <code>hawkbit.test.rolloutGroupValidation.targets</code> system property. The durations
+ * are only logged, the correctness of the counting is verified by {@link TargetManagementTest}.
+ * <p/>
+ * Feature: Component Tests - Repository<br/>
+ * Story: Rollout Management
+ */
+@Slf4j
+@Tag("benchmark")
+class RolloutGroupValidationBenchmarkTest extends AbstractJpaIntegrationTest {
+
+    private static final String BASE_FILTER = "controllerId==bench-*";
+    private static final int TARGETS = Integer.getInteger("hawkbit.test.rolloutGroupValidation.targets", 1000);
+
+    private long dsTypeId;
+
+    @BeforeEach
+    void setup() {
+        dsTypeId = testdataFactory.createDistributionSet("bench").getType().getId();
+        testdataFactory.createTargets(TARGETS, "bench");
+    }
+
+    /**
+     * Measures the single pass counting and the per group counting for 10, 50 and 200 (overlapping) groups.
+     */
+    @ParameterizedTest
+    @ValueSource(ints = { 10, 50, 200 })
+    void singlePassGroupCountsVsPerGroupCounts(final int groupCount) {
+        final List<String> filters = groupFilters(groupCount);
+
+        long start = System.nanoTime();
+        final Map<BitSet, Long> grouped = targetManagement.countByRsqlAndCompatibleGroupedByFilters(BASE_FILTER, filters, dsTypeId);
+        final long singlePassMs = (System.nanoTime() - start) / 1_000_000;
+
+        start = System.nanoTime();
+        for (int i = 0; i < groupCount; i++) {
+            targetManagement.countByRsqlAndCompatible(BASE_FILTER + ";" + filters.get(i), dsTypeId);
+            if (i > 0) {
+                targetManagement.countByRsqlAndCompatible(
+                        BASE_FILTER + ";" + filters.get(i) + ";(" + String.join(",", filters.subList(0, i)) + ")", dsTypeId);
+            }
+        }
+        final long perGroupMs = (System.nanoTime() - start) / 1_000_000;
+
+        log.info("Rollout group validation with {} groups over {} targets ({} filter match sets): single pass {} ms, per group {} ms",
+                groupCount, TARGETS, grouped.size(), singlePassMs, perGroupMs);
+    }
+
+    // controller id prefix filters (10 targets each, repeated after 100 groups) mixed with description filters overlapping them
+    private static List<String> groupFilters(final int groupCount) {
+        return IntStream.range(0, groupCount)
+                .mapToObj(i -> i % 7 == 3 ? "description==bench" + (i % 10) + "*" : String.format("controllerId==bench-00%02d*", i % 100))
+                .toList();
+    }
+}
@@ -0,0 +1,71 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.management;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.LongSupplier;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.repository.TargetTagManagement;
+import org.eclipse.hawkbit.repository.jpa.AbstractJpaIntegrationTest;
+import org.eclipse.hawkbit.repository.model.Target;
+import org.eclipse.hawkbit.repository.model.TargetTag;
+import org.eclipse.hawkbit.repository.model.TargetType;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Benchmark of the set based (bulk) tag and type assignments against the entity based tag assignment.
+ * <p/>
+ * The number of targets could be raised (e.g. to 100k) via the <code>hawkbit.test.bulkAssignment.targets</code> system property, the
+ * entity based assignment is measured on a sample of {@link #ENTITY_SAMPLE} targets only. The durations are only logged, the bulk
+ * assignments are verified by {@link TargetManagementTest}. Run with <code>-Pbenchmark</code>.
+ * <p/>
+ * Feature: Component Tests - Repository<br/>
+ * Story: Target Management
+ */
+@Slf4j
+@Tag("benchmark")
+class TargetBulkAssignmentBenchmarkTest extends AbstractJpaIntegrationTest {
+
+    private static final int TARGETS = Integer.getInteger("hawkbit.test.bulkAssignment.targets", 10_000);
+    private static final int ENTITY_SAMPLE = 1_000;
+
+    /**
+     * Measures the bulk tag and type assignments of all the targets against the entity based tag assignment.
+     */
+    @Test
+    void bulkTagAndTypeAssignment() {
+        final List<String> controllerIds = testdataFactory.createTargets(TARGETS, "bench").stream().map(Target::getControllerId).toList();
+        final TargetTag bulkTag = targetTagManagement.create(TargetTagManagement.Create.builder().name("bulk").build());
+        final TargetTag entityTag = targetTagManagement.create(TargetTagManagement.Create.builder().name("entity").build());
+        final TargetType type = testdataFactory.createTargetType("bench", Set.of(standardDsType));
+
+        final long entityMs = time(() -> targetManagement.assignTag(controllerIds.subList(0, ENTITY_SAMPLE), entityTag.getId()).size());
+        log.info("Entity based tag assignment of {} targets: {} ms", ENTITY_SAMPLE, entityMs);
+
+        time(() -> targetManagement.assignTagInBulk(controllerIds, bulkTag.getId()), "Bulk tag assignment by controller ids");
+        time(() -> targetManagement.unassignTagInBulkByRsql("controllerId==bench*", bulkTag.getId()), "Bulk tag un-assignment by filter");
+        time(() -> targetManagement.assignTypeInBulkByRsql("controllerId==bench*", type.getId()), "Bulk type assignment by filter");
+    }
+
+    private static long time(final LongSupplier operation, final String name) {
+        final long ms = time(operation);
+        log.info("{} of {} targets: {} ms", name, TARGETS, ms);
+        return ms;
+    }
+
+    private static long time(final LongSupplier operation) {
+        final long start = System.nanoTime();
+        operation.getAsLong();
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+}
@@ -0,0 +1,64 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.management;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.repository.jpa.AbstractJpaIntegrationTest;
+import org.eclipse.hawkbit.repository.model.Target;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Benchmark of the target group assignment by negated filters (<code>!=</code> / <code>=out=</code>) - which,
+ * with EclipseLink, are assigned in keyset iterated chunks. The filters match targets which don't match anymore after the assignment, so
+ * with offset pagination targets would be skipped.
+ * <p/>
+ * The number of targets could be raised (e.g. to 500k) via the <code>hawkbit.test.groupAssignment.targets</code> system property, the
+ * durations are only logged, the correctness of the assignment is verified by {@link TargetGroupAssignmentTest}.
+ * <p/>
+ * Feature: Component Tests - Repository<br/>
+ * Story: Target Management
+ */
+@Slf4j
+@Tag("benchmark")
+@TestPropertySource(properties = { "hawkbit.target-group.assign.chunk-size=500" })
+class TargetGroupAssignmentBenchmarkTest extends AbstractJpaIntegrationTest {
+
+    private static final int TARGETS = Integer.getInteger("hawkbit.test.groupAssignment.targets", 5_000);
+
+    @BeforeEach
+    void setup() {
+        final List<String> controllerIds = testdataFactory.createTargets(TARGETS, "group").stream().map(Target::getControllerId).toList();
+        // half of the targets in group A, the other half in group B
+        targetManagement.assignTargetsWithGroup("A", controllerIds.subList(0, TARGETS / 2));
+        targetManagement.assignTargetsWithGroup("B", controllerIds.subList(TARGETS / 2, TARGETS));
+    }
+
+    /**
+     * Measures the assignment by a <code>!=</code> and by an <code>=out=</code> filter, each matching half of the targets.
+     */
+    @Test
+    void assignGroupByNegatedFilters() {
+        final List<Long> progress = new ArrayList<>();
+        long start = System.nanoTime();
+        final long byNotEqual = targetManagement.assignTargetGroupWithRsql("C", "group!=A", progress::add);
+        log.info("Group assigned to {} of {} targets by != filter ({} progress updates): {} ms",
+                byNotEqual, TARGETS, progress.size(), (System.nanoTime() - start) / 1_000_000);
+
+        start = System.nanoTime();
+        final long byOut = targetManagement.assignTargetGroupWithRsql("C", "group=out=(C)", null);
+        log.info("Group assigned to {} of {} targets by =out= filter: {} ms", byOut, TARGETS, (System.nanoTime() - start) / 1_000_000);
+    }
+}
@@ -0,0 +1,70 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.management;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.hawkbit.repository.jpa.AbstractJpaIntegrationTest;
+import org.eclipse.hawkbit.repository.jpa.Jpa;
+import org.eclipse.hawkbit.repository.model.Target;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Test of the target group assignment by negated filters (<code>!=</code> / <code>=out=</code>) - which, with EclipseLink, are assigned
+ * in keyset iterated chunks, each in its own transaction. The filters match targets which don't match anymore after the assignment, so
+ * with offset pagination targets would be skipped. The chunk size is small, so the assignments span a few chunks.
+ * <p/>
+ * Feature: Component Tests - Repository<br/>
+ * Story: Target Management
+ */
+@TestPropertySource(properties = { "hawkbit.target-group.assign.chunk-size=3" })
+class TargetGroupAssignmentTest extends AbstractJpaIntegrationTest {
+
+    /**
+     * Verifies that all the targets matching negated filters are assigned across the chunk boundaries, and that the progress is
+     * reported after every (already committed) chunk.
+     */
+    @Test
+    void assignGroupByNegatedFiltersOnChunks() {
+        final List<String> controllerIds = testdataFactory.createTargets(12, "chunked").stream().map(Target::getControllerId).toList();
+        targetManagement.assignTargetsWithGroup("A", controllerIds.subList(0, 5));
+        targetManagement.assignTargetsWithGroup("B", controllerIds.subList(5, 12));
+
+        final List<Long> progress = new ArrayList<>();
+        final List<Long> committed = new ArrayList<>();
+        assertThat(targetManagement.assignTargetGroupWithRsql("C", "group!=A", assigned -> {
+            progress.add(assigned);
+            committed.add(countByGroup("C"));
+        })).isEqualTo(7);
+        if (Jpa.JPA_VENDOR == Jpa.JpaVendor.ECLIPSELINK) {
+            assertThat(progress).containsExactly(3L, 6L, 7L);
+        } else {
+            assertThat(progress).containsExactly(7L);
+        }
+        assertThat(committed).isEqualTo(progress);
+        assertThat(countByGroup("A")).isEqualTo(5);
+        assertThat(countByGroup("B")).isZero();
+        assertThat(countByGroup("C")).isEqualTo(7);
+
+        // the assigned targets don't match the filter anymore
+        assertThat(targetManagement.assignTargetGroupWithRsql("C", "group=out=(C)", null)).isEqualTo(5);
+        assertThat(countByGroup("A")).isZero();
+        assertThat(countByGroup("C")).isEqualTo(12);
+        assertThat(targetManagement.assignTargetGroupWithRsql("C", "group=out=(C)", null)).isZero();
+    }
+
+    private long countByGroup(final String group) {
+        return targetManagement.findTargetsByGroup(group, false, PAGE).getTotalElements();
+    }
+}
@@ -0,0 +1,86 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.management;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.repository.TargetManagement.Create;
+import org.eclipse.hawkbit.repository.TargetManagement.Import;
+import org.eclipse.hawkbit.repository.TargetManagement.ImportResult;
+import org.eclipse.hawkbit.repository.TargetTagManagement;
+import org.eclipse.hawkbit.repository.jpa.AbstractJpaIntegrationTest;
+import org.eclipse.hawkbit.repository.model.TargetTag;
+import org.eclipse.hawkbit.repository.model.TargetType;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Benchmark of the chunked target import (with type, tag and attributes) against the creation of the targets one by one.
+ * <p/>
+ * The number of imported targets could be raised (e.g. to 100k) via the <code>hawkbit.test.targetImport.targets</code> system property,
+ * the creation one by one is measured on a sample of {@link #SINGLE_SAMPLE} targets only. The durations are only logged, the
+ * correctness of the import is verified by {@link TargetManagementTest}. Run with <code>-Pbenchmark</code>.
+ * <p/>
+ * Feature: Component Tests - Repository<br/>
+ * Story: Target Management
+ */
+@Slf4j
+@Tag("benchmark")
+class TargetImportBenchmarkTest extends AbstractJpaIntegrationTest {
+
+    private static final int TARGETS = Integer.getInteger("hawkbit.test.targetImport.targets", 10_000);
+    private static final int CHUNK_SIZE = 500;
+    private static final int SINGLE_SAMPLE = 1_000;
+
+    /**
+     * Measures the chunked import of new targets and the repeated (all already existing) import.
+     */
+    @Test
+    void importTargetsInChunks() {
+        final TargetTag tag = targetTagManagement.create(TargetTagManagement.Create.builder().name("import").build());
+        final TargetType type = testdataFactory.createTargetType("import", Set.of(standardDsType));
+
+        long start = System.nanoTime();
+        IntStream.range(0, SINGLE_SAMPLE).forEach(i -> targetManagement.create(Create.builder().controllerId("single" + i).build()));
+        log.info("Creation one by one of {} targets: {} ms", SINGLE_SAMPLE, (System.nanoTime() - start) / 1_000_000);
+
+        start = System.nanoTime();
+        final long created = importInChunks(type, tag);
+        final long ms = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        log.info("Chunked import of {} targets ({} created): {} ms ({} targets/s)", TARGETS, created, ms, TARGETS * 1000L / ms);
+
+        start = System.nanoTime();
+        final long createdAgain = importInChunks(type, tag);
+        log.info("Repeated (all already existing) import of {} targets ({} created): {} ms",
+                TARGETS, createdAgain, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private long importInChunks(final TargetType type, final TargetTag tag) {
+        long created = 0;
+        for (int from = 0; from < TARGETS; from += CHUNK_SIZE) {
+            final List<Import> chunk = new ArrayList<>(CHUNK_SIZE);
+            for (int i = from; i < Math.min(from + CHUNK_SIZE, TARGETS); i++) {
+                chunk.add(Import.builder()
+                        .controllerId("import" + i).targetTypeId(type.getId()).tagIds(Set.of(tag.getId()))
+                        .controllerAttributes(Map.of("serial", String.valueOf(i), "hwRevision", "2"))
+                        .build());
+            }
+            created += targetManagement.importTargets(chunk).stream()
+                    .filter(result -> result.status() == ImportResult.Status.CREATED)
+                    .count();
+        }
+        return created;
+    }
+}
@@ -16,6 +16,7 @@ import static org.eclipse.hawkbit.context.AccessContext.asSystem;
 
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -23,6 +24,7 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.IntStream;
 
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.JoinType;
@@ -37,11 +39,14 @@ import org.eclipse.hawkbit.auth.SpRole;
 import org.eclipse.hawkbit.repository.Identifiable;
 import org.eclipse.hawkbit.repository.MetadataSupport;
 import org.eclipse.hawkbit.repository.TargetManagement.Create;
+import org.eclipse.hawkbit.repository.TargetManagement.Import;
+import org.eclipse.hawkbit.repository.TargetManagement.ImportResult;
 import org.eclipse.hawkbit.repository.TargetManagement.Update;
 import org.eclipse.hawkbit.repository.TargetTagManagement;
 import org.eclipse.hawkbit.repository.event.remote.TargetAssignDistributionSetEvent;
 import org.eclipse.hawkbit.repository.event.remote.TargetAttributesRequestedEvent;
 import org.eclipse.hawkbit.repository.event.remote.TargetPollEvent;
+import org.eclipse.hawkbit.repository.event.remote.TargetsBulkUpdatedEvent;
 import org.eclipse.hawkbit.repository.event.remote.entity.ActionCreatedEvent;
 import org.eclipse.hawkbit.repository.event.remote.entity.ActionUpdatedEvent;
 import org.eclipse.hawkbit.repository.event.remote.entity.DistributionSetCreatedEvent;
@@ -573,6 +578,155 @@ class TargetManagementTest extends AbstractRepositoryManagementWithMetadataTest<
         checkTargetsHaveType(typeBTargets, typeB);
     }
 
+    /**
+     * Verifies the single pass counting of the targets grouped by the (overlapping) filters they match - the incompatible targets and
+     * the targets not matching the base filter are not counted, a filter matching no (compatible) target is in no group and no matching
+     * target results in no groups.
+     */
+    @Test
+    void countByRsqlAndCompatibleGroupedByFilters() {
+        testdataFactory.createTargets("grp-1", "grp-2", "grp-3", "grp-4", "other-1");
+        testdataFactory.createTarget("grp-5", "grp-5", testdataFactory.createTargetType("compatible", Set.of(standardDsType)));
+        testdataFactory.createTarget("grp-6", "grp-6", testdataFactory.createTargetType("incompatible", Set.of()));
+        final List<String> filters = List.of(
+                "controllerId==grp-1,controllerId==grp-2",
+                "controllerId==grp-2,controllerId==grp-3",
+                "", // matches all
+                "controllerId==grp-6"); // incompatible only
+
+        assertThat(targetManagement.countByRsqlAndCompatibleGroupedByFilters("controllerId==grp-*", filters, standardDsType.getId()))
+                .isEqualTo(Map.of(bits(0, 2), 1L, bits(0, 1, 2), 1L, bits(1, 2), 1L, bits(2), 2L));
+        assertThat(targetManagement.countByRsqlAndCompatibleGroupedByFilters("controllerId==none*", filters, standardDsType.getId()))
+                .isEmpty();
+    }
+
+    /**
+     * Verifies the set based (bulk) tag and type assignments by controller ids and by filter - the targets are updated with a single
+     * aggregated event per operation (instead of target updated events) and the not found targets are reported.
+     */
+    @Test
+    @WithUser(authorities = SpRole.TENANT_ADMIN)
+    @ExpectEvents({
+            @Expect(type = TargetCreatedEvent.class, count = 20),
+            @Expect(type = TargetTagCreatedEvent.class, count = 1),
+            @Expect(type = TargetTypeCreatedEvent.class, count = 1),
+            @Expect(type = TargetsBulkUpdatedEvent.class, count = 5) })
+    void tagAndTypeAssignmentsInBulk() {
+        final List<Target> targetsA = testdataFactory.createTargets(10, "bulkA", "bulk");
+        final List<Target> targetsB = testdataFactory.createTargets(10, "bulkB", "bulk");
+        final List<String> controllerIdsA = targetsA.stream().map(Target::getControllerId).toList();
+        final TargetTag tag = targetTagManagement.create(TargetTagManagement.Create.builder().name("bulk").build());
+        final TargetType type = testdataFactory.createTargetType("bulk", Set.of(standardDsType));
+
+        assertThat(targetManagement.assignTagInBulk(controllerIdsA, tag.getId())).isEqualTo(10);
+        // already tagged are skipped
+        assertThat(targetManagement.assignTagInBulkByRsql("controllerId==bulk*", tag.getId())).isEqualTo(10);
+        assertThat(targetManagement.findByTag(tag.getId(), PAGE).getTotalElements()).isEqualTo(20);
+        // tag changes bump the optimistic lock revision (as the entity based updates do), the already tagged are not touched
+        assertThat(targetRepository.findAllById(targetsA.stream().map(Identifiable::getId).toList()))
+                .allSatisfy(target -> assertThat(target.getOptLockRevision()).isEqualTo(2));
+
+        assertThat(targetManagement.unassignTagInBulkByRsql("controllerId==bulkB*", tag.getId())).isEqualTo(10);
+        assertThat(targetManagement.findByTag(tag.getId(), PAGE).map(Target::getControllerId))
+                .containsExactlyInAnyOrderElementsOf(controllerIdsA);
+        // not tagged are skipped, not existing are reported to the handler
+        final List<String> notFound = new ArrayList<>();
+        assertThat(targetManagement.unassignTagInBulk(
+                List.of(targetsB.get(0).getControllerId(), "notExisting"), tag.getId(), notFound::addAll)).isZero();
+        assertThat(notFound).containsExactly("notExisting");
+        // not existing without handler fail the whole operation
+        final List<String> withNotExisting = List.of(targetsB.get(0).getControllerId(), "notExisting");
+        assertThatExceptionOfType(EntityNotFoundException.class)
+                .isThrownBy(() -> targetManagement.assignTagInBulk(withNotExisting, tag.getId()));
+        assertThat(targetManagement.findByTag(tag.getId(), PAGE).getTotalElements()).isEqualTo(10);
+        assertThatExceptionOfType(EntityNotFoundException.class)
+                .isThrownBy(() -> targetManagement.assignTagInBulk(controllerIdsA, NOT_EXIST_IDL));
+
+        assertThat(targetManagement.assignTypeInBulk(controllerIdsA, type.getId())).isEqualTo(10);
+        assertThat(targetRepository.findAllById(targetsA.stream().map(Identifiable::getId).toList()))
+                .allSatisfy(target -> {
+                    assertThat(target.getTargetType().getId()).isEqualTo(type.getId());
+                    assertThat(target.getOptLockRevision()).isEqualTo(3);
+                    assertThat(target.getLastModifiedBy()).isNotNull();
+                    assertThat(target.getLastModifiedAt()).isGreaterThanOrEqualTo(target.getCreatedAt());
+                });
+        assertThat(targetManagement.assignTypeInBulkByRsql("controllerId==bulkA*", null)).isEqualTo(10);
+        assertThat(targetRepository.findAllById(targetsA.stream().map(Identifiable::getId).toList()))
+                .allSatisfy(target -> assertThat(target.getTargetType()).isNull());
+    }
+
+    /**
+     * Verifies the chunk import of targets - the valid rows are created with their type, tags and attributes, the invalid, already
+     * existing and duplicated rows are skipped and reported.
+     */
+    @Test
+    @WithUser(authorities = SpRole.TENANT_ADMIN)
+    @ExpectEvents({
+            @Expect(type = TargetCreatedEvent.class, count = 3),
+            @Expect(type = TargetTagCreatedEvent.class, count = 1),
+            @Expect(type = TargetTypeCreatedEvent.class, count = 1) })
+    void importTargets() {
+        final Target existing = testdataFactory.createTarget("existing");
+        final TargetTag tag = targetTagManagement.create(TargetTagManagement.Create.builder().name("import").build());
+        final TargetType type = testdataFactory.createTargetType("import", Set.of(standardDsType));
+
+        final List<ImportResult> results = targetManagement.importTargets(List.of(
+                Import.builder().controllerId("import1").targetTypeId(type.getId()).tagIds(Set.of(tag.getId()))
+                        .controllerAttributes(Map.of("hwRevision", "2")).build(),
+                Import.builder().controllerId("import2").name("second").group("import").build(),
+                Import.builder().controllerId(existing.getControllerId()).build(),
+                Import.builder().controllerId("import1").build(),
+                Import.builder().controllerId("with whitespace").build(),
+                Import.builder().controllerId("import3").targetTypeId(NOT_EXIST_IDL).build(),
+                Import.builder().controllerId("import4").tagIds(Set.of(NOT_EXIST_IDL)).build()));
+
+        assertThat(results).extracting(ImportResult::controllerId).containsExactly(
+                "import1", "import2", existing.getControllerId(), "import1", "with whitespace", "import3", "import4");
+        assertThat(results).extracting(ImportResult::status).containsExactly(
+                ImportResult.Status.CREATED, ImportResult.Status.CREATED, ImportResult.Status.ALREADY_EXISTS,
+                ImportResult.Status.ALREADY_EXISTS, ImportResult.Status.INVALID, ImportResult.Status.INVALID,
+                ImportResult.Status.INVALID);
+        assertThat(results.get(0).message()).isNull();
+        assertThat(results.subList(2, results.size())).allSatisfy(result -> assertThat(result.message()).isNotBlank());
+
+        assertThat(targetRepository.getByControllerId("import1").getTargetType().getId()).isEqualTo(type.getId());
+        assertThat(getTargetTags("import1")).extracting(TargetTag::getId).containsExactly(tag.getId());
+        assertThat(targetManagement.getControllerAttributes("import1")).isEqualTo(Map.of("hwRevision", "2"));
+        assertThat(targetManagement.getByControllerId("import2"))
+                .satisfies(target -> {
+                    assertThat(target.getName()).isEqualTo("second");
+                    assertThat(target.getGroup()).isEqualTo("import");
+                });
+        assertThat(targetManagement.findByControllerId(List.of("import3", "import4", "with whitespace"))).isEmpty();
+    }
+
+    /**
+     * Verifies the import of several chunks - all the targets are created (with their tag) and a repeated import skips them all as
+     * already existing.
+     */
+    @Test
+    @WithUser(authorities = SpRole.TENANT_ADMIN)
+    void importTargetsInChunks() {
+        final TargetTag tag = targetTagManagement.create(TargetTagManagement.Create.builder().name("chunks").build());
+        final List<List<Import>> chunks = IntStream.range(0, 3)
+                .mapToObj(chunk -> IntStream.range(0, 5)
+                        .mapToObj(i -> Import.builder().controllerId("chunk" + chunk + "-" + i).tagIds(Set.of(tag.getId())).build())
+                        .toList())
+                .toList();
+
+        assertThat(chunks.stream().flatMap(chunk -> targetManagement.importTargets(chunk).stream()))
+                .extracting(ImportResult::status)
+                .hasSize(15)
+                .containsOnly(ImportResult.Status.CREATED);
+        assertThat(targetManagement.findByTag(tag.getId(), PAGE).getTotalElements()).isEqualTo(15);
+
+        assertThat(chunks.stream().flatMap(chunk -> targetManagement.importTargets(chunk).stream()))
+                .extracting(ImportResult::status)
+                .hasSize(15)
+                .containsOnly(ImportResult.Status.ALREADY_EXISTS);
+        assertThat(targetManagement.findByTag(tag.getId(), PAGE).getTotalElements()).isEqualTo(15);
+    }
+
     /**
      * Checks that target type can be unassigned from target.
      */
@@ -1039,6 +1193,14 @@ class TargetManagementTest extends AbstractRepositoryManagementWithMetadataTest<
         assertThat(targetManagement.getMetadata(target.getControllerId())).containsEntry(knownKey, knownValue);
     }
 
+    private static BitSet bits(final int... indexes) {
+        final BitSet bits = new BitSet();
+        for (final int index : indexes) {
+            bits.set(index);
+        }
+        return bits;
+    }
+
     private void checkTargetsHaveType(final List<Target> targets, final TargetType type) {
         final List<JpaTarget> foundTargets = targetRepository
                 .findAllById(targets.stream().map(Identifiable::getId).toList());
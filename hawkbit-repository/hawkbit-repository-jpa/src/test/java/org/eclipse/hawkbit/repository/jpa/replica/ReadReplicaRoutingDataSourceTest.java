@@ -0,0 +1,172 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.replica;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import jakarta.persistence.EntityManager;
+
+import org.eclipse.hawkbit.repository.PrimaryPinned;
+import org.eclipse.hawkbit.repository.jpa.Jpa;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.EclipseLinkJpaVendorAdapter;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Test class for {@link ReadReplicaRoutingDataSource} using two in-memory H2 databases as primary and replica, accessed via JPA (of the
+ * configured vendor) with a {@link JpaTransactionManager}.
+ * <p/>
+ * Feature: Unit Tests - Repository<br/>
+ * Story: Read replica routing
+ */
+class ReadReplicaRoutingDataSourceTest {
+
+    private JdbcTemplate replicaJdbc;
+    private ReadReplicaRoutingDataSource router;
+    private LocalContainerEntityManagerFactoryBean entityManagerFactory;
+    private EntityManager entityManager;
+    private JpaTransactionManager txManager;
+
+    @BeforeEach
+    void setup() {
+        final DataSource primary = h2("primary");
+        final DataSource replica = h2("replica");
+        new JdbcTemplate(primary).execute("CREATE TABLE db_name (name VARCHAR(16)); INSERT INTO db_name VALUES ('primary')");
+        replicaJdbc = new JdbcTemplate(replica);
+        replicaJdbc.execute("CREATE TABLE db_name (name VARCHAR(16)); INSERT INTO db_name VALUES ('replica')");
+        replicaJdbc.execute("CREATE TABLE replica_lag (seconds BIGINT); INSERT INTO replica_lag VALUES (0)");
+
+        final ReadReplicaProperties properties = new ReadReplicaProperties();
+        properties.setLagQuery("SELECT seconds FROM replica_lag");
+        properties.setMaxLag(Duration.ofSeconds(5));
+        properties.setCheckInterval(Duration.ZERO); // checked explicitly by the tests
+        router = new ReadReplicaRoutingDataSource(primary, replica, properties);
+
+        entityManagerFactory = new LocalContainerEntityManagerFactoryBean();
+        entityManagerFactory.setDataSource(router.lazy());
+        entityManagerFactory.setPersistenceUnitName("replica-test");
+        entityManagerFactory.setPackagesToScan(ReadReplicaRoutingDataSourceTest.class.getPackageName()); // no entities, native queries only
+        entityManagerFactory.setJpaVendorAdapter(
+                Jpa.JPA_VENDOR == Jpa.JpaVendor.HIBERNATE ? new HibernateJpaVendorAdapter() : new EclipseLinkJpaVendorAdapter());
+        entityManagerFactory.setJpaPropertyMap(Map.of("eclipselink.weaving", "false"));
+        entityManagerFactory.afterPropertiesSet();
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory.getObject());
+        txManager = new JpaTransactionManager(entityManagerFactory.getObject());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        entityManagerFactory.destroy();
+        router.close();
+    }
+
+    /**
+     * Verifies that read only transactions are served by the replica while the read-write ones by the primary.
+     */
+    @Test
+    void readOnlyTransactionsAreRoutedToReplica() {
+        assertThat(dbName(true)).isEqualTo("replica");
+        assertThat(dbName(false)).isEqualTo("primary");
+        // no transaction at all
+        assertThat(dbName()).isEqualTo("primary");
+    }
+
+    /**
+     * Verifies that the read only transactions started within {@link PrimaryPinned} beans and methods (which must read their own writes)
+     * are served by the primary, and that the pinning ends with the annotated call.
+     */
+    @Test
+    void pinnedReadOnlyTransactionsAreRoutedToPrimary() {
+        final Reader pinnedReader = proxy(new PinnedReader());
+        assertThat(pinnedReader.dbName()).isEqualTo("primary");
+        final Reader reader = proxy(new Reader());
+        assertThat(reader.pinnedDbName()).isEqualTo("primary");
+        assertThat(reader.dbName()).isEqualTo("replica");
+        // the inherited methods of the pinned beans are pinned too, and the nested pinned calls don't unpin the outer one
+        assertThat(pinnedReader.dbNameAfterPinnedCall(reader)).isEqualTo("primary");
+        assertThat(ReadReplicaRoutingDataSource.isPrimaryPinned()).isFalse();
+    }
+
+    /**
+     * Verifies that read only transactions fall back to the primary while the replica lags too much and return to the replica after it
+     * catches up.
+     */
+    @Test
+    void laggingReplicaFallsBackToPrimary() {
+        replicaJdbc.update("UPDATE replica_lag SET seconds = 60");
+        router.checkReplica();
+        assertThat(router.isReplicaAvailable()).isFalse();
+        assertThat(dbName(true, null)).isEqualTo("primary");
+
+        replicaJdbc.update("UPDATE replica_lag SET seconds = 1");
+        router.checkReplica();
+        assertThat(router.isReplicaAvailable()).isTrue();
+        assertThat(dbName(true, null)).isEqualTo("replica");
+    }
+
+    private String dbName(final boolean readOnly) {
+        final TransactionTemplate tx = new TransactionTemplate(txManager);
+        tx.setReadOnly(readOnly);
+        return tx.execute(status -> dbName());
+    }
+
+    private String dbName() {
+        return (String) entityManager.createNativeQuery("SELECT name FROM db_name").getSingleResult();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Reader> T proxy(final T reader) {
+        final ProxyFactory proxyFactory = new ProxyFactory(reader);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvisor(PrimaryPinnedInterceptor.advisor());
+        return (T) proxyFactory.getProxy();
+    }
+
+    class Reader {
+
+        public String dbName() {
+            return ReadReplicaRoutingDataSourceTest.this.dbName(true);
+        }
+
+        @PrimaryPinned
+        public String pinnedDbName() {
+            return dbName();
+        }
+    }
+
+    @PrimaryPinned
+    class PinnedReader extends Reader {
+
+        public String dbNameAfterPinnedCall(final Reader reader) {
+            reader.pinnedDbName();
+            return dbName();
+        }
+    }
+
+    private static DataSource h2(final String name) {
+        final JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + "-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        return dataSource;
+    }
+}
@@ -0,0 +1,114 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.rollout;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import org.eclipse.hawkbit.repository.jpa.AbstractJpaIntegrationTest;
+import org.eclipse.hawkbit.repository.jpa.autocleanup.RolloutStatusCountReconciliation;
+import org.eclipse.hawkbit.repository.model.Action;
+import org.eclipse.hawkbit.repository.model.Action.Status;
+import org.eclipse.hawkbit.repository.model.Rollout;
+import org.eclipse.hawkbit.repository.model.RolloutGroup;
+import org.eclipse.hawkbit.repository.model.TotalTargetCountActionStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Test class for {@link RolloutStatusCounters}.
+ * <p/>
+ * Feature: Component Tests - Repository<br/>
+ * Story: Rollout Management
+ */
+@SuppressWarnings("java:S6813") // constructor injects are not possible for test classes
+class RolloutStatusCountersTest extends AbstractJpaIntegrationTest {
+
+    @Autowired
+    private RolloutStatusCountReconciliation rolloutStatusCountReconciliation;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager txManager;
+
+    /**
+     * Verifies that the counters follow the action status transitions - creation and start of the actions, finishing an action,
+     * deletion of a target and cancellation of the scheduled actions.
+     */
+    @Test
+    void countersFollowActionStatusTransitions() {
+        final Rollout rollout = testdataFactory.createAndStartRollout(15, 0, 3, "100", "80");
+        assertCountersMatchActions(rollout);
+        assertThat(counts(rollout)).containsEntry(Status.RUNNING, 5L).containsEntry(Status.SCHEDULED, 10L);
+
+        final List<Action> running = findActionsByRolloutAndStatus(rollout, Status.RUNNING);
+        finishAction(running.get(0));
+        assertCountersMatchActions(rollout);
+        assertThat(counts(rollout)).containsEntry(Status.FINISHED, 1L).containsEntry(Status.RUNNING, 4L);
+
+        targetManagement.delete(List.of(running.get(1).getTarget().getId()));
+        assertCountersMatchActions(rollout);
+        assertThat(counts(rollout)).containsEntry(Status.RUNNING, 3L);
+
+        final List<Action> scheduled = findActionsByRolloutAndStatus(rollout, Status.SCHEDULED);
+        deploymentManagement.cancelInactiveScheduledActionsForTargets(List.of(scheduled.get(0).getTarget().getId()));
+        assertCountersMatchActions(rollout);
+        assertThat(counts(rollout)).containsEntry(Status.CANCELED, 1L).containsEntry(Status.SCHEDULED, 9L);
+    }
+
+    /**
+     * Verifies that the reconciliation corrects counters which have drifted (e.g. because of bulk deletes of actions).
+     */
+    @Test
+    void reconciliationCorrectsDriftedCounters() {
+        final Rollout rollout = testdataFactory.createAndStartRollout(10, 0, 2, "100", "80");
+        new TransactionTemplate(txManager).executeWithoutResult(status -> entityManager.createNativeQuery(
+                "UPDATE sp_rollout_status_count SET action_count = action_count + 7 WHERE shard = 1 AND rollout = " + rollout.getId())
+                .executeUpdate());
+        // +7 for each status of both groups
+        assertThat(counts(rollout)).containsEntry(Status.RUNNING, 19L).containsEntry(Status.FINISHED, 14L);
+
+        rolloutStatusCountReconciliation.run();
+
+        assertCountersMatchActions(rollout);
+        assertThat(counts(rollout)).containsEntry(Status.RUNNING, 5L).containsEntry(Status.SCHEDULED, 5L).hasSize(2);
+    }
+
+    private void assertCountersMatchActions(final Rollout rollout) {
+        final Map<Status, Long> counts = counts(rollout);
+        Arrays.stream(Status.values()).forEach(status -> assertThat(counts.getOrDefault(status, 0L))
+                .as("Count of the %s actions", status)
+                .isEqualTo(actionRepository.findByRolloutIdAndStatus(PAGE, rollout.getId(), status).getTotalElements()));
+
+        // the (sharded) group counters sum up to the rollout counters
+        final List<Long> groupIds = rolloutGroupManagement.findByRollout(rollout.getId(), PAGE).stream().map(RolloutGroup::getId).toList();
+        final Map<Status, Long> groupCounts = RolloutStatusCounters.getInstance().getRolloutGroupStatus(groupIds).values().stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toMap(TotalTargetCountActionStatus::getStatus, TotalTargetCountActionStatus::getCount, Long::sum));
+        assertThat(groupCounts).isEqualTo(counts);
+    }
+
+    private static Map<Status, Long> counts(final Rollout rollout) {
+        return RolloutStatusCounters.getInstance().getRolloutStatus(List.of(rollout.getId()))
+                .getOrDefault(rollout.getId(), List.of()).stream()
+                .collect(Collectors.toMap(TotalTargetCountActionStatus::getStatus, TotalTargetCountActionStatus::getCount));
+    }
+}
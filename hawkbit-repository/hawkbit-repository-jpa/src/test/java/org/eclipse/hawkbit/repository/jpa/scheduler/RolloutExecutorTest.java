@@ -12,22 +12,31 @@ package org.eclipse.hawkbit.repository.jpa.scheduler;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
+import org.eclipse.hawkbit.repository.Identifiable;
+import org.eclipse.hawkbit.repository.RepositoryProperties;
 import org.eclipse.hawkbit.repository.jpa.AbstractJpaIntegrationTest;
 import org.eclipse.hawkbit.repository.jpa.model.JpaAction;
 import org.eclipse.hawkbit.repository.model.Action;
 import org.eclipse.hawkbit.repository.model.DistributionSet;
 import org.eclipse.hawkbit.repository.model.Rollout;
+import org.eclipse.hawkbit.repository.model.RolloutGroup;
 import org.eclipse.hawkbit.repository.model.Target;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
 
 class RolloutExecutorTest extends AbstractJpaIntegrationTest {
 
     @Autowired
     private JpaRolloutExecutor jpaRolloutExecutor;
+    @Autowired
+    private RepositoryProperties repositoryProperties;
 
     /**
      * Tests action based aspects of the dynamic group assignment filters.
@@ -83,6 +92,45 @@ class RolloutExecutorTest extends AbstractJpaIntegrationTest {
                 .toList()).isEqualTo(expected);
     }
 
+    /**
+     * Verifies the members of the filled static rollout groups - set based (INSERT ... SELECT of the selected targets if supported by
+     * the JPA vendor, otherwise per chunk of selected target ids) and JPA persist fallback. The groups are filled in ascending target id
+     * order, so every group shall contain exactly the next targets.
+     */
+    @ParameterizedTest
+    @ValueSource(booleans = { true, false })
+    void staticRolloutGroupsAreFilledWithTheMatchingTargets(final boolean setBased) {
+        final String prefix = "members-" + setBased + "-";
+        final DistributionSet distributionSet = testdataFactory.createDistributionSet(prefix);
+        final List<Long> targetIds = testdataFactory.createTargets(prefix, 12).stream()
+                .map(Identifiable::getId)
+                .sorted()
+                .toList();
+        // not matching the filter
+        testdataFactory.createTargets("other-" + prefix, 3);
+
+        final boolean setBasedDefault = repositoryProperties.isSetBasedRolloutGroupFill();
+        repositoryProperties.setSetBasedRolloutGroupFill(setBased);
+        final Rollout rollout;
+        try {
+            rollout = testdataFactory.createRolloutByVariables(
+                    prefix + "rollout", "members", 3, "controllerId==" + prefix + "*", distributionSet, "50", "80");
+        } finally {
+            repositoryProperties.setSetBasedRolloutGroupFill(setBasedDefault);
+        }
+
+        assertThat(rollout.getTotalTargets()).isEqualTo(12);
+        final List<RolloutGroup> groups = rolloutGroupManagement.findByRollout(rollout.getId(), PageRequest.of(0, 3)).stream()
+                .sorted(Comparator.comparing(RolloutGroup::getId))
+                .toList();
+        assertThat(groups).hasSize(3);
+        for (int i = 0; i < groups.size(); i++) {
+            assertThat(groups.get(i).getTotalTargets()).isEqualTo(4);
+            assertThat(rolloutGroupManagement.findTargetsOfRolloutGroup(groups.get(i).getId(), PAGE).map(Target::getId))
+                    .containsExactlyInAnyOrderElementsOf(targetIds.subList(i * 4, (i + 1) * 4));
+        }
+    }
+
     private void createAction(
             final Target target, final Rollout rollout, final Integer weight, final Action.Status status,
             final DistributionSet distributionSet) {
@@ -0,0 +1,71 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.scheduler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.repository.RepositoryProperties;
+import org.eclipse.hawkbit.repository.jpa.AbstractJpaIntegrationTest;
+import org.eclipse.hawkbit.repository.model.DistributionSet;
+import org.eclipse.hawkbit.repository.model.Rollout;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Benchmark of the filling of static rollout groups with targets - set based (INSERT ... SELECT, per chunk of
+ * target ids if not supported by the JPA vendor) and JPA persist fallback. The groups are bigger than a transaction chunk so the keyset
+ * continuation is covered as well.
+ * <p/>
+ * The number of targets could be raised (e.g. to 100k or 1M) via the <code>hawkbit.test.rolloutGroupFill.targets</code> system property,
+ * the fill durations are only logged, the group members are verified by {@link RolloutExecutorTest}. Run with <code>-Pbenchmark</code>.
+ * <p/>
+ * Feature: Component Tests - Repository<br/>
+ * Story: Rollout Management
+ */
+@Slf4j
+@Tag("benchmark")
+@TestPropertySource(properties = { "hawkbit.server.security.dos.maxTargetsPerRolloutGroup=1000000" })
+class RolloutGroupFillBenchmarkTest extends AbstractJpaIntegrationTest {
+
+    private static final int TARGETS = Integer.getInteger("hawkbit.test.rolloutGroupFill.targets", 11_000);
+    private static final int GROUPS = 2;
+
+    @Autowired
+    private RepositoryProperties repositoryProperties;
+
+    /**
+     * Measures the creation of a rollout with static groups filled with all the matching targets.
+     */
+    @ParameterizedTest
+    @ValueSource(booleans = { true, false })
+    void fillStaticRolloutGroups(final boolean setBased) {
+        final String prefix = "fill-" + setBased + "-";
+        final DistributionSet distributionSet = testdataFactory.createDistributionSet(prefix);
+        testdataFactory.createTargets(prefix, TARGETS);
+
+        final boolean setBasedDefault = repositoryProperties.isSetBasedRolloutGroupFill();
+        repositoryProperties.setSetBasedRolloutGroupFill(setBased);
+        final Rollout rollout;
+        final long fillMs;
+        try {
+            final long start = System.nanoTime();
+            rollout = testdataFactory.createRolloutByVariables(
+                    prefix + "rollout", "fill benchmark", GROUPS, "controllerId==" + prefix + "*", distributionSet, "50", "80");
+            fillMs = (System.nanoTime() - start) / 1_000_000;
+        } finally {
+            repositoryProperties.setSetBasedRolloutGroupFill(setBasedDefault);
+        }
+
+        log.info("Rollout with {} groups created and filled with {} targets ({}): {} ms",
+                GROUPS, rollout.getTotalTargets(), setBased ? "set based" : "JPA persist", fillMs);
+    }
+}
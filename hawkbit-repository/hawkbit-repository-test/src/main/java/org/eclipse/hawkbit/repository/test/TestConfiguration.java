@@ -28,6 +28,7 @@ import org.eclipse.hawkbit.context.AccessContext;
 import org.eclipse.hawkbit.repository.RepositoryConfiguration;
 import org.eclipse.hawkbit.repository.RolloutApprovalStrategy;
 import org.eclipse.hawkbit.repository.event.ApplicationEventFilter;
+import org.eclipse.hawkbit.repository.event.ApplicationEventSubscribers;
 import org.eclipse.hawkbit.repository.event.EventPublisherHolder;
 import org.eclipse.hawkbit.repository.rsql.VirtualPropertyResolver;
 import org.eclipse.hawkbit.repository.test.util.RolloutTestApprovalStrategy;
@@ -152,7 +153,8 @@ public class TestConfiguration implements AsyncConfigurer {
         return new RolloutTestApprovalStrategy();
     }
 
-    private static class FilterEnabledApplicationEventPublisher extends SimpleApplicationEventMulticaster {
+    private static class FilterEnabledApplicationEventPublisher extends SimpleApplicationEventMulticaster
+            implements ApplicationEventSubscribers {
 
         private final ApplicationEventFilter applicationEventFilter;
 
@@ -168,5 +170,10 @@ public class TestConfiguration implements AsyncConfigurer {
 
             super.multicastEvent(event, eventType);
         }
+
+        @Override
+        public boolean hasSubscribers(final ApplicationEvent event) {
+            return !applicationEventFilter.filter(event) && !getApplicationListeners(event, ResolvableType.forInstance(event)).isEmpty();
+        }
     }
 }
\ No newline at end of file
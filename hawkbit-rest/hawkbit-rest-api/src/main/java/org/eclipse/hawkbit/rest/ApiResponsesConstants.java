@@ -37,6 +37,7 @@ public final class ApiResponsesConstants {
     // Response Codes
     public static final String OK_200 = "200";
     public static final String CREATED_201 = "201";
+    public static final String ACCEPTED_202 = "202";
     public static final String NO_CONTENT_204 = "204";
     public static final String BAD_REQUEST_400 = "400";
     public static final String UNAUTHORIZED_401 = "401";
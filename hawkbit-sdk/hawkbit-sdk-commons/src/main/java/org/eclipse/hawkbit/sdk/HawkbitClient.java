@@ -131,6 +131,9 @@ public class HawkbitClient {
             new DefaultHttpRequestRetryStrategy(
                     Integer.getInteger("hawkbit.sdk.http.maxRetry", 3),
                     TimeValue.ofSeconds(Integer.getInteger("hawkbit.sdk.http.defaultRetryIntervalSec", 10)));
+    // connection pool shared by all services / controllers using the same http client (i.e. same server, client certificate and CA)
+    private static final int MAX_CONN_TOTAL = Integer.getInteger("hawkbit.sdk.http.maxConnTotal", 200);
+    private static final int MAX_CONN_PER_ROUTE = Integer.getInteger("hawkbit.sdk.http.maxConnPerRoute", 200);
     private static final int BUFFER_SIZE = 8096;
 
     private final HawkbitServer hawkBitServer;
@@ -452,19 +455,24 @@ public class HawkbitClient {
             if (client == null) { // create
                 final HttpClientBuilder builder = HttpClients.custom().setRetryStrategy(DEFAULT_HTTP_REQUEST_RETRY_STRATEGY);
 
+                // the client (and its pooled connections) is shared, e.g. by all simulated devices - the default pool limits
+                // (5 connections per route) would serialize them
+                final PoolingHttpClientConnectionManagerBuilder connectionManagerBuilder =
+                        PoolingHttpClientConnectionManagerBuilder.create()
+                                .setMaxConnTotal(MAX_CONN_TOTAL)
+                                .setMaxConnPerRoute(MAX_CONN_PER_ROUTE);
                 if (key.isHttps()) {
                     // mTLS could be used / setup
                     try {
-                        builder.setConnectionManager(
-                                PoolingHttpClientConnectionManagerBuilder.create()
-                                        .setTlsSocketStrategy(getTlsSocketStrategy(key.getClientCertificate(), key.getServerCertificates()))
-                                        .build());
+                        connectionManagerBuilder.setTlsSocketStrategy(
+                                getTlsSocketStrategy(key.getClientCertificate(), key.getServerCertificates()));
                     } catch (final RuntimeException e) {
                         throw e;
                     } catch (final Exception e) {
                         throw new IllegalStateException("Failed to create mTLS client", e);
                     }
                 }
+                builder.setConnectionManager(connectionManagerBuilder.build());
 
                 final CloseableHttpClient newClient = builder.build();
                 HTTP_CLIENTS.put(key, new HttpClientWrapper(key, newClient));
@@ -0,0 +1,133 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.sdk;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Lock free latency statistics for simulations / load tests. Latencies are recorded per operation (e.g. poll, feedback, download) in
+ * millisecond buckets (up to {@link #MAX_TRACKED_MS}, longer latencies are counted in an overflow bucket) so the percentiles are exact
+ * to a millisecond without keeping the individual samples.
+ */
+public class LatencyStatistics {
+
+    public static final int MAX_TRACKED_MS = 60_000;
+
+    private final Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+
+    /**
+     * Records a latency of an operation.
+     *
+     * @param operation the operation name
+     * @param durationNanos the duration in nanoseconds
+     * @param success if the operation has succeeded
+     */
+    public void record(final String operation, final long durationNanos, final boolean success) {
+        histograms.computeIfAbsent(operation, k -> new Histogram()).record(TimeUnit.NANOSECONDS.toMillis(durationNanos), success);
+    }
+
+    /**
+     * Executes and records the latency of an operation. The operation is considered as failed if it throws an exception.
+     *
+     * @param operation the operation name
+     * @param supplier the operation
+     * @return the operation result
+     */
+    public <T> T time(final String operation, final Supplier<T> supplier) {
+        final long start = System.nanoTime();
+        boolean success = false;
+        try {
+            final T result = supplier.get();
+            success = true;
+            return result;
+        } finally {
+            record(operation, System.nanoTime() - start, success);
+        }
+    }
+
+    /**
+     * @return snapshot of the current statistics ordered by operation name
+     */
+    public Map<String, Percentiles> snapshot() {
+        return histograms.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().percentiles(), (a, b) -> a, TreeMap::new));
+    }
+
+    public void reset() {
+        histograms.clear();
+    }
+
+    @Override
+    public String toString() {
+        return snapshot().entrySet().stream()
+                .map(e -> e.getKey() + ": " + e.getValue())
+                .collect(Collectors.joining("\n"));
+    }
+
+    /**
+     * Latency percentiles of an operation in milliseconds.
+     */
+    public record Percentiles(long count, long errors, long p50, long p90, long p99, long p999, long max) {
+
+        @Override
+        public String toString() {
+            return String.format(
+                    "count=%d, errors=%d, p50=%dms, p90=%dms, p99=%dms, p99.9=%dms, max=%dms", count, errors, p50, p90, p99, p999, max);
+        }
+    }
+
+    private static class Histogram {
+
+        private final AtomicLongArray buckets = new AtomicLongArray(MAX_TRACKED_MS + 1);
+        private final LongAdder errors = new LongAdder();
+
+        private void record(final long millis, final boolean success) {
+            buckets.incrementAndGet((int) Math.min(Math.max(millis, 0), MAX_TRACKED_MS));
+            if (!success) {
+                errors.increment();
+            }
+        }
+
+        private Percentiles percentiles() {
+            final long[] counts = new long[buckets.length()];
+            long total = 0;
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = buckets.get(i);
+                total += counts[i];
+            }
+            return new Percentiles(
+                    total, errors.sum(),
+                    percentile(counts, total, 0.5), percentile(counts, total, 0.9), percentile(counts, total, 0.99),
+                    percentile(counts, total, 0.999), percentile(counts, total, 1.0));
+        }
+
+        private static long percentile(final long[] counts, final long total, final double percentile) {
+            if (total == 0) {
+                return 0;
+            }
+            final long rank = Math.max(1, (long) Math.ceil(percentile * total));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return i;
+                }
+            }
+            return MAX_TRACKED_MS;
+        }
+    }
+}
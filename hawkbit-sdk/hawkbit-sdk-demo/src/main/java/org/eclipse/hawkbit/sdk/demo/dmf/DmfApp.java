@@ -9,6 +9,7 @@
  */
 package org.eclipse.hawkbit.sdk.demo.dmf;
 
+import java.time.Duration;
 import java.util.Optional;
 import java.util.concurrent.Executors;
 
@@ -16,6 +17,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.eclipse.hawkbit.sdk.Controller;
 import org.eclipse.hawkbit.sdk.Tenant;
 import org.eclipse.hawkbit.sdk.dmf.DmfController;
+import org.eclipse.hawkbit.sdk.dmf.DmfLoadGenerator;
 import org.eclipse.hawkbit.sdk.dmf.DmfTenant;
 import org.eclipse.hawkbit.sdk.dmf.UpdateHandler;
 import org.eclipse.hawkbit.sdk.dmf.amqp.Amqp;
@@ -57,6 +59,8 @@ public class DmfApp {
         private final DmfTenant dmfTenant;
         private final UpdateHandler updateHandler;
 
+        private DmfLoadGenerator loadGenerator;
+
         Shell(final DmfTenant dmfTenant, final Optional<UpdateHandler> updateHandler) {
             this.dmfTenant = dmfTenant;
             this.updateHandler = updateHandler.orElse(null);
@@ -97,6 +101,37 @@ public class DmfApp {
             }
         }
 
+        @Command(name = "load-start")
+        public void loadStart(
+                @Option(longName = "--prefix", defaultValue = "load-") final String prefix,
+                @Option(longName = "--offset", defaultValue = "0") final int offset,
+                @Option(longName = "--count") final int count,
+                @Option(longName = "--publishers", defaultValue = "4") final int publishers,
+                @Option(longName = "--batch", defaultValue = "500") final int batchSize,
+                @Option(longName = "--min-latency", defaultValue = "1000") final long minLatencyMs,
+                @Option(longName = "--max-latency", defaultValue = "5000") final long maxLatencyMs,
+                @Option(longName = "--failure-rate", defaultValue = "0") final double failureRate) {
+            if (loadGenerator == null) {
+                loadGenerator = new DmfLoadGenerator(dmfTenant).setPublishers(publishers).setBatchSize(batchSize).start();
+            }
+            loadGenerator.setProfile(new DmfLoadGenerator.Profile(
+                    Duration.ofMillis(minLatencyMs), Duration.ofMillis(maxLatencyMs), failureRate, true));
+            loadGenerator.register(prefix, offset, count);
+        }
+
+        @Command(name = "load-stats")
+        public String loadStats() {
+            return loadGenerator == null ? "Load generator is not started!" : loadGenerator.report();
+        }
+
+        @Command(name = "load-stop")
+        public void loadStop() {
+            if (loadGenerator != null) {
+                loadGenerator.close();
+                loadGenerator = null;
+            }
+        }
+
         private static String toId(final String prefix, final int index) {
             return String.format("%s%03d", prefix, index);
         }
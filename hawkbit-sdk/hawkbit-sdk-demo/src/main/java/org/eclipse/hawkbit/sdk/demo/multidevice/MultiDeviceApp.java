@@ -10,14 +10,11 @@
 package org.eclipse.hawkbit.sdk.demo.multidevice;
 
 import java.util.Optional;
-import java.util.concurrent.Executors;
 
-import lombok.extern.slf4j.Slf4j;
-import org.eclipse.hawkbit.sdk.Controller;
 import org.eclipse.hawkbit.sdk.HawkbitClient;
 import org.eclipse.hawkbit.sdk.HawkbitServer;
 import org.eclipse.hawkbit.sdk.Tenant;
-import org.eclipse.hawkbit.sdk.device.DdiController;
+import org.eclipse.hawkbit.sdk.device.DdiSimulator;
 import org.eclipse.hawkbit.sdk.device.DdiTenant;
 import org.eclipse.hawkbit.sdk.device.UpdateHandler;
 import org.eclipse.hawkbit.sdk.mgmt.AuthenticationSetupHelper;
@@ -31,7 +28,6 @@ import org.springframework.stereotype.Component;
 /**
  * Abstract class representing DDI device connecting directly to hawkVit.
  */
-@Slf4j
 @SpringBootApplication
 public class MultiDeviceApp {
 
@@ -50,6 +46,11 @@ public class MultiDeviceApp {
         return new DdiTenant(defaultTenant, hawkbitClient);
     }
 
+    @Bean
+    DdiSimulator ddiSimulator(final DdiTenant ddiTenant, final Optional<UpdateHandler> updateHandler) {
+        return new DdiSimulator(ddiTenant).setPollMillis(10_000).setUpdateHandler(updateHandler.orElse(null));
+    }
+
     @Bean
     AuthenticationSetupHelper mgmtApi(final Tenant defaultTenant, final HawkbitClient hawkbitClient) {
         return new AuthenticationSetupHelper(defaultTenant, hawkbitClient);
@@ -58,16 +59,14 @@ public class MultiDeviceApp {
     @Component
     static class Shell {
 
-        private final DdiTenant ddiTenant;
+        private final DdiSimulator ddiSimulator;
         private final AuthenticationSetupHelper mgmtApi;
-        private final UpdateHandler updateHandler;
 
         private boolean setup;
 
-        Shell(final DdiTenant ddiTenant, final AuthenticationSetupHelper mgmtApi, final Optional<UpdateHandler> updateHandler) {
-            this.ddiTenant = ddiTenant;
+        Shell(final DdiSimulator ddiSimulator, final AuthenticationSetupHelper mgmtApi) {
+            this.ddiSimulator = ddiSimulator;
             this.mgmtApi = mgmtApi;
-            this.updateHandler = updateHandler.orElse(null);
         }
 
         @Command(name = "setup")
@@ -86,31 +85,23 @@ public class MultiDeviceApp {
             }
             // Create device with security token if not yet registered in this execution
             // if already created in this execution of app, just start the poll
-            // for each new device - separate ThreadScheduler
-            ddiTenant.getController(controllerId).ifPresentOrElse(
-                    ddiController -> ddiController.start(Executors.newSingleThreadScheduledExecutor()),
-                    () -> ddiTenant.createController(Controller.builder()
-                                    .controllerId(controllerId)
-                                    .securityToken(securityTargetToken)
-                                    .build(), updateHandler)
-                            .setOverridePollMillis(10_000)
-                            .start(Executors.newSingleThreadScheduledExecutor())
-            );
+            // for each device - separate single (virtual) thread scheduler
+            ddiSimulator.start(controllerId, securityTargetToken);
         }
 
         @Command(name = "stop-one")
         public void stopOne(@Option(longName = "--id") final String controllerId) {
-            ddiTenant.getController(controllerId).ifPresentOrElse(
-                    DdiController::stop,
-                    () -> log.error("Controller with id {} not found!", controllerId));
-
+            ddiSimulator.stop(controllerId);
         }
 
         @Command(name = "start")
         public void start(
                 @Option(longName = "--prefix", defaultValue = "") final String prefix,
                 @Option(longName = "--offset", defaultValue = "0") final int offset,
-                @Option(longName = "--count") final int count) {
+                @Option(longName = "--count") final int count,
+                @Option(longName = "--jitter", defaultValue = "0.1") final double jitter,
+                @Option(longName = "--bandwidth", defaultValue = "-1") final long bandwidth) {
+            ddiSimulator.setPollJitter(jitter).setDownloadBytesPerSecond(bandwidth);
             for (int i = 0; i < count; i++) {
                 startOne(toId(prefix, offset + i));
             }
@@ -126,6 +117,15 @@ public class MultiDeviceApp {
             }
         }
 
+        @Command(name = "stats")
+        public String stats(@Option(longName = "--reset", defaultValue = "false") final boolean reset) {
+            final String stats = "Running devices: " + ddiSimulator.size() + "\n" + ddiSimulator.getStatistics();
+            if (reset) {
+                ddiSimulator.getStatistics().reset();
+            }
+            return stats;
+        }
+
         private static String toId(final String prefix, final int index) {
             return String.format("%s%03d", prefix, index);
         }
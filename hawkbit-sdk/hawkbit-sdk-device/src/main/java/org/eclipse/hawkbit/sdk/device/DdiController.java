@@ -18,7 +18,9 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import lombok.Getter;
 import lombok.Setter;
@@ -39,6 +41,7 @@ import org.eclipse.hawkbit.ddi.rest.api.DdiRootControllerRestApi;
 import org.eclipse.hawkbit.sdk.Certificate;
 import org.eclipse.hawkbit.sdk.Controller;
 import org.eclipse.hawkbit.sdk.HawkbitClient;
+import org.eclipse.hawkbit.sdk.LatencyStatistics;
 import org.eclipse.hawkbit.sdk.Tenant;
 import org.springframework.hateoas.Link;
 import org.springframework.http.HttpStatus;
@@ -51,6 +54,11 @@ import org.springframework.http.ResponseEntity;
 @Getter
 public class DdiController {
 
+    // names of the operations which latencies are recorded (if statistics are set)
+    public static final String POLL_OPERATION = "ddi.poll";
+    public static final String DEPLOYMENT_BASE_OPERATION = "ddi.deploymentBase";
+    public static final String FEEDBACK_OPERATION = "ddi.feedback";
+
     private static final String LOG_PREFIX = "[{}:{}] ";
 
     // TODO - make them configurable
@@ -73,6 +81,12 @@ public class DdiController {
     @Setter
     @Accessors(chain = true)
     private long overridePollMillis = -1; // -1 means disabled
+    @Setter
+    @Accessors(chain = true)
+    private double pollJitter; // 0 means disabled, e.g. 0.2 means that every poll interval is randomized with +/- 20%
+    @Setter
+    @Accessors(chain = true)
+    private LatencyStatistics statistics; // null means disabled
 
     // state
     @SuppressWarnings("java:S3077") // volatile used only for the reference as expected
@@ -112,7 +126,13 @@ public class DdiController {
 
         Objects.requireNonNull(executorService, "Require non null executor!");
         this.executorService = executorService;
-        executorService.submit(this::poll);
+        if (pollJitter > 0) {
+            // spread the first polls (e.g. of simultaneously started devices) over the poll interval
+            executorService.schedule(
+                    this::poll, (long) (ThreadLocalRandom.current().nextDouble() * basePollMillis() * pollJitter), TimeUnit.MILLISECONDS);
+        } else {
+            executorService.submit(this::poll);
+        }
     }
 
     public void stop() {
@@ -139,8 +159,8 @@ public class DdiController {
     public void sendFeedback(final UpdateStatus updateStatus) {
         log.debug(LOG_PREFIX + "Send feedback {} -> {}", getTenantId(), getControllerId(), currentActionId, updateStatus);
         try {
-            getDdiApi().postDeploymentBaseActionFeedback(updateStatus.feedback(), getTenantId(), getControllerId(),
-                    currentActionId);
+            timed(FEEDBACK_OPERATION, () -> getDdiApi().postDeploymentBaseActionFeedback(
+                    updateStatus.feedback(), getTenantId(), getControllerId(), currentActionId));
         } catch (final RuntimeException e) {
             log.error(LOG_PREFIX + "Failed to send feedback {} -> {}", getTenantId(), getControllerId(),
                     currentActionId, updateStatus, e);
@@ -203,7 +223,7 @@ public class DdiController {
                             }
                         },
                         () -> // error has occurred or no controller base hasn't been acquired
-                                executor.schedule(this::poll, DEFAULT_POLL_MS, TimeUnit.MILLISECONDS)));
+                                executor.schedule(this::poll, jitter(DEFAULT_POLL_MS), TimeUnit.MILLISECONDS)));
     }
 
     private void processAction(
@@ -227,7 +247,7 @@ public class DdiController {
         log.trace(LOG_PREFIX + "Polling ...", getTenantId(), getControllerId());
         final ResponseEntity<DdiControllerBase> poll;
         try {
-            poll = getDdiApi().getControllerBase(getTenantId(), getControllerId());
+            poll = timed(POLL_OPERATION, () -> getDdiApi().getControllerBase(getTenantId(), getControllerId()));
         } catch (final RuntimeException ex) {
             log.error(LOG_PREFIX + "Failed base poll", getTenantId(), getControllerId(), ex);
             return Optional.empty();
@@ -266,22 +286,38 @@ public class DdiController {
 
     private long getPollMillis(final DdiControllerBase controllerBase) {
         if (overridePollMillis >= 0) {
-            return overridePollMillis;
+            return jitter(overridePollMillis);
         }
 
         final String pollingTimeFromResponse = controllerBase.getConfig().getPolling().getSleep();
         if (pollingTimeFromResponse == null) {
-            return DEFAULT_POLL_MS;
+            return jitter(DEFAULT_POLL_MS);
         } else {
             final LocalTime localtime = LocalTime.parse(pollingTimeFromResponse);
-            return localtime.getLong(ChronoField.MILLI_OF_DAY);
+            return jitter(localtime.getLong(ChronoField.MILLI_OF_DAY));
         }
     }
 
+    private long basePollMillis() {
+        return overridePollMillis >= 0 ? overridePollMillis : DEFAULT_POLL_MS;
+    }
+
+    // randomizes the poll interval so the polls of many devices doesn't synchronize and hit the server at once
+    private long jitter(final long pollMillis) {
+        if (pollJitter <= 0) {
+            return pollMillis;
+        }
+        return Math.max(0, pollMillis + (long) (pollMillis * pollJitter * (2 * ThreadLocalRandom.current().nextDouble() - 1)));
+    }
+
+    private <T> T timed(final String operation, final Supplier<T> call) {
+        return statistics == null ? call.get() : statistics.time(operation, call);
+    }
+
     private Optional<Map.Entry<Long, DdiDeploymentBase>> getActionWithDeployment(final Link deploymentBaseLink) {
         final long actionId = getActionId(deploymentBaseLink);
-        final ResponseEntity<DdiDeploymentBase> action = getDdiApi()
-                .getControllerDeploymentBaseAction(getTenantId(), getControllerId(), actionId, -1, null);
+        final ResponseEntity<DdiDeploymentBase> action = timed(DEPLOYMENT_BASE_OPERATION, () -> getDdiApi()
+                .getControllerDeploymentBaseAction(getTenantId(), getControllerId(), actionId, -1, null));
         if (action.getStatusCode() != HttpStatus.OK) {
             log.warn(LOG_PREFIX + "Fail to get deployment action: {} -> {}", getTenantId(), getControllerId(), actionId,
                     action.getStatusCode());
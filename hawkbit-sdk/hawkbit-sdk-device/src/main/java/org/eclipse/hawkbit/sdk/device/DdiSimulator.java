@@ -0,0 +1,141 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.sdk.device;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+import org.eclipse.hawkbit.ddi.json.model.DdiChunk;
+import org.eclipse.hawkbit.ddi.json.model.DdiDeployment;
+import org.eclipse.hawkbit.sdk.Controller;
+import org.eclipse.hawkbit.sdk.LatencyStatistics;
+import org.eclipse.hawkbit.sdk.spi.ArtifactHandler;
+
+/**
+ * Scalable DDI device simulator. Every simulated device (a {@link DdiController}) runs on its own single threaded scheduled executor
+ * backed by a <b>virtual</b> thread - so, idle devices (waiting for the next poll) don't hold platform threads and tens of thousands of
+ * devices could be simulated from a single JVM. All devices share the pooled HTTP connections of the tenant
+ * {@link DdiTenant#getHawkbitClient()}.
+ * <p/>
+ * The poll intervals are jittered (see {@link DdiController#setPollJitter(double)}) in order to avoid synchronized polls, and the
+ * artifact downloads are really executed (with size and hash validation) with an optionally limited (simulated) device bandwidth. The
+ * latencies of the polls, deployment base requests, feedbacks and downloads are recorded in the {@link #getStatistics()}.
+ */
+public class DdiSimulator implements AutoCloseable {
+
+    public static final String DOWNLOAD_OPERATION = "ddi.download";
+
+    private final DdiTenant ddiTenant;
+    @Getter
+    private final LatencyStatistics statistics = new LatencyStatistics();
+    private final Set<String> started = ConcurrentHashMap.newKeySet();
+
+    @Setter
+    @Accessors(chain = true)
+    private long pollMillis = -1; // -1 means the poll interval configured by the server
+    @Setter
+    @Accessors(chain = true)
+    private double pollJitter = 0.1;
+    @Setter
+    @Accessors(chain = true)
+    private long downloadBytesPerSecond = -1; // -1 means unlimited
+    @Setter
+    @Accessors(chain = true)
+    private UpdateHandler updateHandler; // null means default update handler with simulated downloads
+
+    public DdiSimulator(final DdiTenant ddiTenant) {
+        this.ddiTenant = ddiTenant;
+    }
+
+    /**
+     * Starts (creates if not created yet) a simulated device.
+     *
+     * @param controllerId the controller id of the device
+     * @param securityToken the target security token, could be <code>null</code> if gateway token or no authentication is used
+     * @return the started device
+     */
+    public DdiController start(final String controllerId, final String securityToken) {
+        final DdiController ddiController = ddiTenant.getController(controllerId).orElseGet(() -> ddiTenant.createController(
+                Controller.builder().controllerId(controllerId).securityToken(securityToken).build(),
+                updateHandler == null ? this::simulatedUpdateProcessor : updateHandler));
+        ddiController
+                .setOverridePollMillis(pollMillis)
+                .setPollJitter(pollJitter)
+                .setStatistics(statistics)
+                .start(Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().name("ddi-device-" + controllerId).factory()));
+        started.add(controllerId);
+        return ddiController;
+    }
+
+    public void stop(final String controllerId) {
+        ddiTenant.getController(controllerId).ifPresent(DdiController::stop);
+        started.remove(controllerId);
+    }
+
+    public int size() {
+        return started.size();
+    }
+
+    @Override
+    public void close() {
+        Set.copyOf(started).forEach(this::stop);
+    }
+
+    private UpdateHandler.UpdateProcessor simulatedUpdateProcessor(
+            final DdiController controller, final DdiDeployment.HandlingType updateType, final List<DdiChunk> modules) {
+        return new UpdateHandler.UpdateProcessor(controller, updateType, modules, url -> new SimulatedDownloadHandler());
+    }
+
+    /**
+     * Drops the downloaded data (after being validated by the update processor) and, if a bandwidth is configured, slows down the reading
+     * in order to simulate real device download times and server connection occupation.
+     */
+    private class SimulatedDownloadHandler implements ArtifactHandler.DownloadHandler {
+
+        private final long start = System.nanoTime();
+        private long read;
+
+        @Override
+        public void read(final byte[] buff, final int off, final int len) {
+            read += len;
+            if (downloadBytesPerSecond > 0) {
+                final long expectedNanos = (long) ((double) read / downloadBytesPerSecond * 1_000_000_000L);
+                final long aheadNanos = expectedNanos - (System.nanoTime() - start);
+                if (aheadNanos > 0) {
+                    try {
+                        // sleeping of virtual thread doesn't block a platform thread
+                        Thread.sleep(Duration.ofNanos(aheadNanos));
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IllegalStateException("Download interrupted", e);
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void finished(final Status status) {
+            statistics.record(DOWNLOAD_OPERATION, System.nanoTime() - start, status == Status.SUCCESS);
+        }
+
+        @Override
+        public Optional<Path> download() {
+            return Optional.empty();
+        }
+    }
+}
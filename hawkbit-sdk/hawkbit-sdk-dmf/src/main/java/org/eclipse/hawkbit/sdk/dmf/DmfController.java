@@ -76,13 +76,23 @@ public class DmfController {
     }
 
     public void start(ScheduledExecutorService executorService) {
-        stop();
-        this.executorService = executorService;
+        attach(executorService);
         log.debug(LOG_PREFIX + "Connecting/Polling ...", getTenantId(), getControllerId());
         dmfSender.createOrUpdateThing(getTenantId(), getControllerId());
         log.debug(LOG_PREFIX + "Done. Create thing sent.", getTenantId(), getControllerId());
     }
 
+    /**
+     * Attaches the executor used to process the updates without sending THING_CREATED - e.g. when the things are registered in batches
+     * (see {@link DmfLoadGenerator}).
+     *
+     * @param executorService the executor to process the updates with
+     */
+    public void attach(final ScheduledExecutorService executorService) {
+        stop();
+        this.executorService = executorService;
+    }
+
     public void unregisterThing() {
         log.debug(LOG_PREFIX + "Removing Controller...", getTenantId(), getControllerId());
         dmfSender.removeThing(getTenantId(), getControllerId());
@@ -0,0 +1,269 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.sdk.dmf;
+
+import static org.eclipse.hawkbit.dmf.amqp.api.AmqpSettings.DMF_EXCHANGE;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.dmf.amqp.api.EventTopic;
+import org.eclipse.hawkbit.dmf.amqp.api.MessageType;
+import org.eclipse.hawkbit.dmf.json.model.DmfActionStatus;
+import org.eclipse.hawkbit.dmf.json.model.DmfDownloadAndUpdateRequest;
+import org.eclipse.hawkbit.sdk.Controller;
+import org.eclipse.hawkbit.sdk.LatencyStatistics;
+import org.eclipse.hawkbit.sdk.dmf.amqp.DmfSender;
+import org.eclipse.hawkbit.sdk.spi.ArtifactHandler;
+import org.springframework.amqp.core.Message;
+
+/**
+ * DMF load generator able to register and drive a large fleet (e.g. 100k) of virtual things of a {@link DmfTenant}.
+ * <p/>
+ * The outgoing THING_CREATED and UPDATE_ACTION_STATUS messages are not sent one by one but put in a bounded queue which is drained, in
+ * batches, by a small number of publisher workers - each of them uses a single channel per batch and, if publisher confirms are enabled
+ * (see {@link org.eclipse.hawkbit.sdk.dmf.amqp.AmqpProperties#isPublisherConfirms()}), waits once per batch for the broker confirms.
+ * The incoming update requests are answered (via a shared scheduler, without downloading the artifacts) according to a configurable
+ * {@link Profile} - latency and failure rate.
+ * <p/>
+ * The publishing is done via a {@link Publisher} which, by default, sends to the {@link DmfSender} of the tenant. In tests, an embedded
+ * stand-in (e.g. directly calling the hawkBit DMF message handler) could be plugged in and the update requests could be fed directly via
+ * {@link #onUpdate(long)} so the throughput of the server side message handling could be measured without a broker.
+ */
+@Slf4j
+public class DmfLoadGenerator implements AutoCloseable {
+
+    public static final String PUBLISH_OPERATION = "dmf.publish";
+    public static final String ACTION_OPERATION = "dmf.action";
+
+    private final DmfTenant dmfTenant;
+    private final DmfSender dmfSender;
+    private final Publisher publisher;
+
+    @Getter
+    private final LatencyStatistics statistics = new LatencyStatistics();
+    private final LongAdder published = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    @Setter
+    @Accessors(chain = true)
+    private Profile profile = Profile.DEFAULT;
+    @Setter
+    @Accessors(chain = true)
+    private int publishers = 4; // number of publisher workers, i.e. of concurrently used channels
+    @Setter
+    @Accessors(chain = true)
+    private int batchSize = 500;
+    @Setter
+    @Accessors(chain = true)
+    private Duration maxBatchDelay = Duration.ofMillis(50);
+
+    private BlockingQueue<Message> queue;
+    private ScheduledExecutorService scheduler;
+    private List<Thread> workers;
+    private volatile boolean running;
+    private long startedAt;
+
+    /**
+     * Batches sent to the update server.
+     */
+    @FunctionalInterface
+    public interface Publisher {
+
+        void publish(List<Message> messages);
+    }
+
+    /**
+     * Behaviour of the virtual things when an update is requested.
+     *
+     * @param minLatency min time between the receiving of the update request and the final status
+     * @param maxLatency max time between the receiving of the update request and the final status
+     * @param failureRate rate (0 to 1) of the updates finished with ERROR
+     * @param intermediateStatuses if to send RUNNING status when the update request is received
+     */
+    public record Profile(Duration minLatency, Duration maxLatency, double failureRate, boolean intermediateStatuses) {
+
+        public static final Profile DEFAULT = new Profile(Duration.ofSeconds(1), Duration.ofSeconds(5), 0, true);
+    }
+
+    public DmfLoadGenerator(final DmfTenant dmfTenant) {
+        this(dmfTenant, messages -> dmfTenant.getDmfSender().sendMessages(DMF_EXCHANGE, messages));
+    }
+
+    public DmfLoadGenerator(final DmfTenant dmfTenant, final Publisher publisher) {
+        this.dmfTenant = dmfTenant;
+        this.dmfSender = dmfTenant.getDmfSender();
+        this.publisher = publisher;
+    }
+
+    public synchronized DmfLoadGenerator start() {
+        if (running) {
+            return this;
+        }
+
+        queue = new ArrayBlockingQueue<>(batchSize * publishers * 4);
+        scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("dmf-load-scheduler").daemon().factory());
+        running = true;
+        startedAt = System.nanoTime();
+        workers = new ArrayList<>(publishers);
+        for (int i = 0; i < publishers; i++) {
+            workers.add(Thread.ofPlatform().name("dmf-load-publisher-" + i).daemon().start(this::publishLoop));
+        }
+        return this;
+    }
+
+    /**
+     * Registers (creates if not created yet) virtual things and enqueues their THING_CREATED messages. Blocks if the publishers don't
+     * keep up.
+     *
+     * @param prefix the controller id prefix
+     * @param offset the index of the first thing
+     * @param count the number of things
+     */
+    public void register(final String prefix, final int offset, final int count) {
+        for (int i = offset; i < offset + count; i++) {
+            final String controllerId = String.format("%s%06d", prefix, i);
+            final DmfController dmfController = dmfTenant.getController(controllerId).orElseGet(() -> dmfTenant.createController(
+                    Controller.builder().controllerId(controllerId).build(), this::updateProcessor));
+            // executors of idle things are cheap - the (virtual) thread is started on the first update only
+            dmfController.attach(
+                    Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().name("dmf-device-" + controllerId).factory()));
+            enqueue(dmfSender.thingMessage(dmfTenant.getTenant().getTenantId(), controllerId, MessageType.THING_CREATED.name()));
+        }
+    }
+
+    /**
+     * Handles an update request - sends (optionally) RUNNING status immediately and schedules the final one according to the
+     * {@link Profile}.
+     *
+     * @param actionId the id of the action to update
+     */
+    public void onUpdate(final long actionId) {
+        final long received = System.nanoTime();
+        final Profile current = profile;
+        final String tenantId = dmfTenant.getTenant().getTenantId();
+        if (current.intermediateStatuses()) {
+            enqueue(dmfSender.actionStatusMessage(tenantId, actionId, DmfActionStatus.RUNNING, List.of("Update begin ...")));
+        }
+
+        final long minMillis = current.minLatency().toMillis();
+        final long delayMillis = minMillis +
+                ThreadLocalRandom.current().nextLong(Math.max(1, current.maxLatency().toMillis() - minMillis + 1));
+        scheduler.schedule(() -> {
+            final boolean success = ThreadLocalRandom.current().nextDouble() >= current.failureRate();
+            enqueue(success ?
+                    dmfSender.actionStatusMessage(tenantId, actionId, DmfActionStatus.FINISHED, List.of("Update complete.")) :
+                    dmfSender.actionStatusMessage(tenantId, actionId, DmfActionStatus.ERROR, List.of("Simulated update failure.")));
+            statistics.record(ACTION_OPERATION, System.nanoTime() - received, success);
+        }, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @return current throughput (messages published per second since start), published / failed messages and latency statistics
+     */
+    public String report() {
+        final long publishedCount = published.sum();
+        final double seconds = Math.max(1, System.nanoTime() - startedAt) / 1_000_000_000.0;
+        return String.format("Things: %d, published: %d, failed: %d, queued: %d, throughput: %.1f msg/s%n%s",
+                dmfTenant.controllers().size(), publishedCount, failed.sum(), queue == null ? 0 : queue.size(),
+                publishedCount / seconds, statistics);
+    }
+
+    /**
+     * Stops the generator. Pending final statuses are dropped, already queued messages are published.
+     */
+    @Override
+    public synchronized void close() {
+        if (!running) {
+            return;
+        }
+
+        scheduler.shutdownNow();
+        running = false;
+        for (final Thread worker : workers) {
+            try {
+                worker.join(maxBatchDelay.multipliedBy(2).toMillis() + TimeUnit.SECONDS.toMillis(30));
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private UpdateHandler.UpdateProcessor updateProcessor(
+            final DmfController dmfController, final EventTopic eventTopic, final DmfDownloadAndUpdateRequest updateRequest) {
+        final long actionId = updateRequest.getActionId();
+        return new UpdateHandler.UpdateProcessor(dmfController, eventTopic, updateRequest, ArtifactHandler.SKIP) {
+
+            @Override
+            public void run() {
+                onUpdate(actionId);
+            }
+        };
+    }
+
+    private void enqueue(final Message message) {
+        if (!running) {
+            throw new IllegalStateException("Load generator is not started!");
+        }
+        try {
+            queue.put(message);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while enqueuing message", e);
+        }
+    }
+
+    private void publishLoop() {
+        final List<Message> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                final Message first = queue.poll(maxBatchDelay.toMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                publish(batch);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void publish(final List<Message> batch) {
+        final long start = System.nanoTime();
+        try {
+            publisher.publish(batch);
+            published.add(batch.size());
+            statistics.record(PUBLISH_OPERATION, System.nanoTime() - start, true);
+        } catch (final RuntimeException e) {
+            // load generation goes on - the failed messages are just counted (and lost)
+            failed.add(batch.size());
+            statistics.record(PUBLISH_OPERATION, System.nanoTime() - start, false);
+            log.warn("Failed to publish batch of {} messages: {}", batch.size(), e.getMessage());
+        }
+    }
+}
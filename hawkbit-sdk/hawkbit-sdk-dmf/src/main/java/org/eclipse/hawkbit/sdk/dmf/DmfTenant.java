@@ -19,6 +19,7 @@ import lombok.Getter;
 import org.eclipse.hawkbit.sdk.Controller;
 import org.eclipse.hawkbit.sdk.Tenant;
 import org.eclipse.hawkbit.sdk.dmf.amqp.Amqp;
+import org.eclipse.hawkbit.sdk.dmf.amqp.DmfSender;
 import org.eclipse.hawkbit.sdk.dmf.amqp.VHost;
 import org.springframework.amqp.core.Message;
 
@@ -70,6 +71,10 @@ public final class DmfTenant {
         return Collections.unmodifiableMap(controllers);
     }
 
+    public DmfSender getDmfSender() {
+        return vHost;
+    }
+
     public void ping(final String correlationId, final BiConsumer<String, Message> listener) {
         vHost.ping(tenant.getTenantId(), correlationId, listener);
     }
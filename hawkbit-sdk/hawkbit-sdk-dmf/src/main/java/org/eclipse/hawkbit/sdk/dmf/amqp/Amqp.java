@@ -65,6 +65,10 @@ public class Amqp {
         connectionFactory.setPassword(
                 dmf == null || ObjectUtils.isEmpty(dmf.getPassword()) ? rabbitProperties.getPassword() : dmf.getPassword());
         connectionFactory.setVirtualHost(vHost);
+        connectionFactory.setChannelCacheSize(amqpProperties.getChannelCacheSize());
+        if (amqpProperties.isPublisherConfirms()) {
+            connectionFactory.setPublisherConfirmType(CachingConnectionFactory.ConfirmType.SIMPLE);
+        }
         return connectionFactory;
     }
 }
\ No newline at end of file
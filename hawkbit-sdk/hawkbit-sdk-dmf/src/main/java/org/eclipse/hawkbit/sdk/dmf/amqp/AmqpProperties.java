@@ -9,6 +9,8 @@
  */
 package org.eclipse.hawkbit.sdk.dmf.amqp;
 
+import java.time.Duration;
+
 import lombok.Data;
 import lombok.ToString;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -40,4 +42,19 @@ public class AmqpProperties {
      * Message time to live (ttl) for the deadletter queue. Default ttl is 1 hour.
      */
     private int deadLetterTtl = 60_000;
+
+    /**
+     * Size of the channel cache of the connection (i.e. max number of concurrently used channels).
+     */
+    private int channelCacheSize = 25;
+
+    /**
+     * If to enable simple publisher confirms. Then the batches sent via {@link DmfSender#sendMessages} are confirmed by the broker.
+     */
+    private boolean publisherConfirms;
+
+    /**
+     * Max time to wait for the publisher confirms of a batch.
+     */
+    private Duration confirmTimeout = Duration.ofSeconds(30);
 }
\ No newline at end of file
@@ -59,6 +59,10 @@ public class DmfSender {
     }
 
     public void sendThingMessage(final String tenant, final String controllerId, String thingStatusChange) {
+        sendMessage(DMF_EXCHANGE, thingMessage(tenant, controllerId, thingStatusChange));
+    }
+
+    public Message thingMessage(final String tenant, final String controllerId, String thingStatusChange) {
         final MessageProperties messagePropertiesForSP = new MessageProperties();
         messagePropertiesForSP.setHeader(MessageHeaderKey.TYPE, thingStatusChange);
         messagePropertiesForSP.setHeader(MessageHeaderKey.TENANT, tenant);
@@ -67,13 +71,13 @@ public class DmfSender {
         messagePropertiesForSP.setContentType(MessageProperties.CONTENT_TYPE_JSON);
         messagePropertiesForSP.setReplyTo(amqpProperties.getSenderForSpExchange());
 
-        sendMessage(DMF_EXCHANGE, new Message(EMPTY_BODY, messagePropertiesForSP));
+        return new Message(EMPTY_BODY, messagePropertiesForSP);
     }
 
     public void finishUpdateProcess(final String tenantId, final long actionId, final List<String> updateResultMessages) {
         sendMessage(
                 DMF_EXCHANGE,
-                createActionStatusMessage(tenantId, actionId, DmfActionStatus.FINISHED, updateResultMessages));
+                actionStatusMessage(tenantId, actionId, DmfActionStatus.FINISHED, updateResultMessages));
     }
 
     /**
@@ -88,14 +92,8 @@ public class DmfSender {
         if (message == null) {
             return;
         }
-        message.getMessageProperties().getHeaders().remove(DefaultJacksonJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME);
-
-        String correlationId = message.getMessageProperties().getCorrelationId();
-        if (ObjectUtils.isEmpty(correlationId)) {
-            correlationId = UUID.randomUUID().toString();
-            message.getMessageProperties().setCorrelationId(correlationId);
-        }
 
+        final String correlationId = prepare(message);
         if (log.isTraceEnabled()) {
             log.trace("Sending message {} to exchange {} with correlationId {}", message, address, correlationId);
         } else {
@@ -105,10 +103,36 @@ public class DmfSender {
         rabbitTemplate.send(address, null, message, new CorrelationData(correlationId));
     }
 
+    /**
+     * Sends a batch of messages over a single (cached) channel. If the connection factory has simple publisher confirms enabled (see
+     * {@link AmqpProperties#isPublisherConfirms()}) waits, once for the whole batch, for the broker to confirm all the messages.
+     *
+     * @param address the exchange name
+     * @param messages the messages to send
+     * @throws org.springframework.amqp.AmqpException if a message is nacked or the confirms are not received in time
+     */
+    public void sendMessages(final String address, final List<Message> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        messages.forEach(this::prepare);
+        log.debug("Sending batch of {} messages to exchange {}", messages.size(), address);
+
+        final boolean confirms = rabbitTemplate.getConnectionFactory().isSimplePublisherConfirms();
+        rabbitTemplate.invoke(operations -> {
+            messages.forEach(message -> operations.send(address, null, message));
+            if (confirms) {
+                operations.waitForConfirmsOrDie(amqpProperties.getConfirmTimeout().toMillis());
+            }
+            return null;
+        });
+    }
+
     public void sendFeedback(
             final String tenant, final Long actionId,
             final UpdateStatus updateStatus) {
-        final Message message = createActionStatusMessage(tenant, actionId, updateStatus.status(), updateStatus.messages());
+        final Message message = actionStatusMessage(tenant, actionId, updateStatus.status(), updateStatus.messages());
         sendMessage(DMF_EXCHANGE, message);
     }
 
@@ -151,11 +175,22 @@ public class DmfSender {
         }
     }
 
+    private String prepare(final Message message) {
+        message.getMessageProperties().getHeaders().remove(DefaultJacksonJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME);
+
+        String correlationId = message.getMessageProperties().getCorrelationId();
+        if (ObjectUtils.isEmpty(correlationId)) {
+            correlationId = UUID.randomUUID().toString();
+            message.getMessageProperties().setCorrelationId(correlationId);
+        }
+        return correlationId;
+    }
+
     private Message convertMessage(final Object object, final MessageProperties messageProperties) {
         return rabbitTemplate.getMessageConverter().toMessage(object, messageProperties);
     }
 
-    private Message createActionStatusMessage(final String tenant, final Long actionId,
+    public Message actionStatusMessage(final String tenant, final Long actionId,
             final DmfActionStatus actionStatus, final List<String> updateResultMessages) {
         final MessageProperties messageProperties = new MessageProperties();
         final Map<String, Object> headers = messageProperties.getHeaders();
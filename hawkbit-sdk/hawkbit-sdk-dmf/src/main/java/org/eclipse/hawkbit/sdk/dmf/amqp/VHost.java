@@ -92,7 +92,7 @@ public final class VHost extends DmfSender implements MessageListener {
         final String controllerId = (String) message.getMessageProperties().getHeaders().get(MessageHeaderKey.THING_ID);
         final String type = (String) message.getMessageProperties().getHeaders().get(MessageHeaderKey.TYPE);
 
-        log.info("Message received for target {}, value : {}", controllerId, message);
+        log.debug("Message received for target {}, value : {}", controllerId, message);
         switch (MessageType.valueOf(type)) {
             case EVENT: {
                 checkContentTypeJson(message);
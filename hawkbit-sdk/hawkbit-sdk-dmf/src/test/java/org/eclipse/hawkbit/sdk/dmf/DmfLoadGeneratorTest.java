@@ -0,0 +1,160 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.sdk.dmf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+import org.eclipse.hawkbit.dmf.DmfMessageConverter;
+import org.eclipse.hawkbit.dmf.amqp.api.MessageHeaderKey;
+import org.eclipse.hawkbit.dmf.amqp.api.MessageType;
+import org.eclipse.hawkbit.dmf.json.model.DmfActionStatus;
+import org.eclipse.hawkbit.dmf.json.model.DmfActionUpdateStatus;
+import org.eclipse.hawkbit.sdk.LatencyStatistics;
+import org.eclipse.hawkbit.sdk.Tenant;
+import org.eclipse.hawkbit.sdk.dmf.amqp.Amqp;
+import org.eclipse.hawkbit.sdk.dmf.amqp.AmqpProperties;
+import org.eclipse.hawkbit.sdk.dmf.amqp.DmfSender;
+import org.eclipse.hawkbit.sdk.dmf.amqp.VHost;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpIOException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+/**
+ * Tests the batching and publishing of the {@link DmfLoadGenerator} with a recording stand-in of the AMQP publisher.
+ * <p/>
+ * Feature: Unit Tests - SDK<br/>
+ * Story: DMF load generator
+ */
+@ExtendWith(MockitoExtension.class)
+class DmfLoadGeneratorTest {
+
+    private static final String TENANT = "load_tenant";
+
+    private final DmfMessageConverter messageConverter = new DmfMessageConverter();
+    private final List<List<Message>> batches = new CopyOnWriteArrayList<>();
+
+    @Mock
+    private Amqp amqp;
+
+    private DmfTenant dmfTenant;
+
+    @BeforeEach
+    void setup() {
+        final RabbitTemplate rabbitTemplate = new RabbitTemplate();
+        rabbitTemplate.setMessageConverter(messageConverter);
+        final DmfSender dmfSender = new DmfSender(rabbitTemplate, new AmqpProperties());
+        // virtual host stand-in without broker connection - the messages are created by a real sender
+        final VHost vHost = mock(VHost.class, invocation -> invocation.getMethod().getDeclaringClass().isInstance(dmfSender)
+                ? invocation.getMethod().invoke(dmfSender, invocation.getArguments())
+                : null);
+        when(amqp.getVhost(null, false)).thenReturn(vHost);
+
+        final Tenant tenant = new Tenant();
+        tenant.setTenantId(TENANT);
+        dmfTenant = new DmfTenant(tenant, amqp, false);
+    }
+
+    /**
+     * Verifies that the THING_CREATED messages of the registered things are all published, in batches of at most the batch size.
+     */
+    @Test
+    void registeredThingsArePublishedInBatches() {
+        final DmfLoadGenerator loadGenerator = new DmfLoadGenerator(dmfTenant, messages -> batches.add(List.copyOf(messages)))
+                .setPublishers(2)
+                .setBatchSize(100)
+                .start();
+        loadGenerator.register("load", 0, 1_000);
+        loadGenerator.close();
+
+        assertThat(dmfTenant.controllers()).hasSize(1_000);
+        assertThat(batches).allMatch(batch -> !batch.isEmpty() && batch.size() <= 100);
+        final List<Message> messages = batches.stream().flatMap(List::stream).toList();
+        assertThat(messages).hasSize(1_000)
+                .allMatch(message -> MessageType.THING_CREATED.name().equals(header(message, MessageHeaderKey.TYPE)))
+                .allMatch(message -> TENANT.equals(header(message, MessageHeaderKey.TENANT)));
+        assertThat(messages.stream().map(message -> header(message, MessageHeaderKey.THING_ID)).distinct()).hasSize(1_000);
+        assertThat(loadGenerator.report()).contains("published: 1000, failed: 0");
+    }
+
+    /**
+     * Verifies that the update requests are answered according to the profile - a RUNNING and a FINISHED or, on failure, ERROR status.
+     */
+    @Test
+    void updatesAreAnsweredAccordingToTheProfile() {
+        // single publisher - the messages are published in order
+        final DmfLoadGenerator loadGenerator = new DmfLoadGenerator(dmfTenant, messages -> batches.add(List.copyOf(messages)))
+                .setPublishers(1)
+                .start();
+        loadGenerator.setProfile(new DmfLoadGenerator.Profile(Duration.ZERO, Duration.ZERO, 0, true)).onUpdate(1);
+        loadGenerator.setProfile(new DmfLoadGenerator.Profile(Duration.ZERO, Duration.ZERO, 1, true)).onUpdate(2);
+        waitFor(() -> actions(loadGenerator) == 2);
+        loadGenerator.close();
+
+        final List<DmfActionUpdateStatus> statuses = batches.stream().flatMap(List::stream)
+                .map(message -> (DmfActionUpdateStatus) messageConverter.fromMessage(message))
+                .toList();
+        assertThat(statuses.stream().filter(status -> status.getActionId() == 1).map(DmfActionUpdateStatus::getActionStatus))
+                .containsExactly(DmfActionStatus.RUNNING, DmfActionStatus.FINISHED);
+        assertThat(statuses.stream().filter(status -> status.getActionId() == 2).map(DmfActionUpdateStatus::getActionStatus))
+                .containsExactly(DmfActionStatus.RUNNING, DmfActionStatus.ERROR);
+        assertThat(loadGenerator.getStatistics().snapshot().get(DmfLoadGenerator.ACTION_OPERATION).errors()).isEqualTo(1);
+    }
+
+    /**
+     * Verifies that the failed batches are counted and the load generation goes on.
+     */
+    @Test
+    void failedBatchesAreCounted() {
+        final DmfLoadGenerator loadGenerator = new DmfLoadGenerator(dmfTenant, messages -> {
+            throw new AmqpIOException(new IOException("Broker not available"));
+        }).start();
+        loadGenerator.register("fail", 0, 10);
+        loadGenerator.close();
+
+        assertThat(loadGenerator.report()).contains("published: 0, failed: 10");
+        final LatencyStatistics.Percentiles publishes = loadGenerator.getStatistics().snapshot().get(DmfLoadGenerator.PUBLISH_OPERATION);
+        assertThat(publishes.errors()).isEqualTo(publishes.count()).isPositive();
+    }
+
+    private static Object header(final Message message, final String key) {
+        return message.getMessageProperties().getHeaders().get(key);
+    }
+
+    private static long actions(final DmfLoadGenerator loadGenerator) {
+        final LatencyStatistics.Percentiles actions = loadGenerator.getStatistics().snapshot().get(DmfLoadGenerator.ACTION_OPERATION);
+        return actions == null ? 0 : actions.count();
+    }
+
+    private static void waitFor(final BooleanSupplier condition) {
+        final long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime() - deadline).as("Condition not met in time").isNegative();
+            try {
+                Thread.sleep(10);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.sdk.dmf.amqp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.hawkbit.dmf.amqp.api.AmqpSettings.DMF_EXCHANGE;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.eclipse.hawkbit.dmf.amqp.api.MessageType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+/**
+ * Feature: Unit Tests - SDK<br/>
+ * Story: DMF sender
+ */
+@ExtendWith(MockitoExtension.class)
+class DmfSenderTest {
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+    @Mock
+    private ConnectionFactory connectionFactory;
+    @Mock
+    private RabbitOperations operations;
+
+    private final AmqpProperties amqpProperties = new AmqpProperties();
+
+    /**
+     * Verifies that a batch is sent over a single channel and, with publisher confirms, the confirms are waited for once per batch.
+     */
+    @Test
+    void sendsBatchOverSingleChannelAndWaitsForConfirmsOnce() {
+        final DmfSender dmfSender = mockChannel(true);
+        final List<Message> messages = thingCreatedMessages(dmfSender, 10);
+
+        dmfSender.sendMessages(DMF_EXCHANGE, messages);
+
+        verify(rabbitTemplate, times(1)).invoke(any());
+        verify(operations, times(messages.size())).send(eq(DMF_EXCHANGE), isNull(), any(Message.class));
+        verify(operations, times(1)).waitForConfirmsOrDie(amqpProperties.getConfirmTimeout().toMillis());
+        assertThat(messages).allMatch(message -> message.getMessageProperties().getCorrelationId() != null);
+    }
+
+    /**
+     * Verifies that without publisher confirms the batch is sent without waiting for confirms.
+     */
+    @Test
+    void sendsBatchWithoutConfirms() {
+        final DmfSender dmfSender = mockChannel(false);
+        final List<Message> messages = thingCreatedMessages(dmfSender, 10);
+
+        dmfSender.sendMessages(DMF_EXCHANGE, messages);
+
+        verify(operations, times(messages.size())).send(eq(DMF_EXCHANGE), isNull(), any(Message.class));
+        verify(operations, never()).waitForConfirmsOrDie(anyLong());
+    }
+
+    /**
+     * Verifies that an empty batch is not sent at all.
+     */
+    @Test
+    void emptyBatchIsNotSent() {
+        new DmfSender(rabbitTemplate, amqpProperties).sendMessages(DMF_EXCHANGE, List.of());
+
+        verifyNoInteractions(rabbitTemplate);
+    }
+
+    private DmfSender mockChannel(final boolean publisherConfirms) {
+        when(rabbitTemplate.getConnectionFactory()).thenReturn(connectionFactory);
+        when(connectionFactory.isSimplePublisherConfirms()).thenReturn(publisherConfirms);
+        when(rabbitTemplate.invoke(any()))
+                .thenAnswer(invocation -> invocation.<RabbitOperations.OperationsCallback<?>> getArgument(0).doInRabbit(operations));
+        return new DmfSender(rabbitTemplate, amqpProperties);
+    }
+
+    private static List<Message> thingCreatedMessages(final DmfSender dmfSender, final int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> dmfSender.thingMessage("tenant", "controller" + i, MessageType.THING_CREATED.name()))
+                .toList();
+    }
+}